@@ -7,6 +7,8 @@ plugins {
     kotlin("plugin.spring") version "1.9.23"
     kotlin("plugin.jpa") version "1.9.23"
     id("org.flywaydb.flyway") version "7.12.0"
+    id("org.graalvm.buildtools.native") version "0.9.28"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "camp.nextstep.edu"
@@ -41,8 +43,37 @@ tasks.withType<KotlinCompile> {
     }
 }
 
-tasks.withType<Test> {
-    useJUnitPlatform()
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("stress")
+    }
+}
+
+val stressTest by tasks.registering(Test::class) {
+    group = "verification"
+    description = "Runs the multithreaded stress suites against the in-memory fakes and H2."
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("stress")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    shouldRunAfter(tasks.test)
+}
+
+tasks.register<org.springframework.boot.gradle.tasks.run.BootRun>("bootRunPerf") {
+    group = "application"
+    description = "Runs the application on H2 in MySQL mode with the Flyway schema and generated perf data."
+    mainClass.set("kitchenpos.Application")
+    classpath = sourceSets.main.get().runtimeClasspath
+    systemProperty("spring.profiles.active", "perf")
+    maxHeapSize = "2g"
+}
+
+jmh {
+    resultFormat.set("JSON")
 }
 
 flyway {
@@ -50,3 +81,72 @@ flyway {
     user = "user"
     password = "password"
 }
+
+val aotToggles = listOf(
+    "spring.profiles.active",
+    "kitchenpos.kitchenriders.enabled",
+    "kitchenpos.order-engine.enabled",
+    "kitchenpos.catalog-snapshot.enabled",
+    "kitchenpos.perf-data.enabled",
+    "kitchenpos.query-counter.response-headers"
+)
+val aotProperties = aotToggles.mapNotNull { key -> providers.gradleProperty(key).orNull?.let { key to it } }.toMap()
+
+tasks.named<JavaExec>("processAot") {
+    inputs.properties(aotProperties)
+    systemProperties(aotProperties)
+}
+
+val aotJar by tasks.registering(Jar::class) {
+    archiveClassifier.set("aot")
+    from(sourceSets.main.map { it.output })
+    from(sourceSets.named("aot").map { it.output })
+}
+
+val launchArgs = layout.buildDirectory.file("cds/application.args")
+val cdsArchive = layout.buildDirectory.file("cds/application.jsa")
+
+val writeLaunchArgs by tasks.registering {
+    group = "application"
+    description = "Writes a java @argfile with the classpath used for the CDS training run and fast startup."
+    val classpath = files(aotJar) + configurations.runtimeClasspath.get()
+    inputs.files(classpath)
+    outputs.file(launchArgs)
+    doLast {
+        launchArgs.get().asFile.parentFile.mkdirs()
+        launchArgs.get().asFile.writeText(
+            "-cp \"" + classpath.joinToString(File.pathSeparator) { it.absolutePath.replace("\\", "/") } + "\""
+        )
+    }
+}
+
+tasks.register<Exec>("cdsArchive") {
+    group = "application"
+    description = "Creates an AppCDS archive from a training run that exits once the AOT-processed context is refreshed."
+    dependsOn(writeLaunchArgs)
+    inputs.file(launchArgs)
+    outputs.file(cdsArchive)
+    commandLine(
+        "java",
+        "-XX:ArchiveClassesAtExit=${cdsArchive.get().asFile}",
+        "-Dspring.aot.enabled=true",
+        "-Dspring.context.exit=onRefresh",
+        *aotProperties.map { (key, value) -> "-D$key=$value" }.toTypedArray(),
+        "@${launchArgs.get().asFile}",
+        "kitchenpos.Application"
+    )
+}
+
+tasks.register<Exec>("bootRunFast") {
+    group = "application"
+    description = "Runs the application with the AOT-processed context and the AppCDS archive."
+    dependsOn("cdsArchive")
+    commandLine(
+        "java",
+        "-XX:SharedArchiveFile=${cdsArchive.get().asFile}",
+        "-Dspring.aot.enabled=true",
+        *aotProperties.map { (key, value) -> "-D$key=$value" }.toTypedArray(),
+        "@${launchArgs.get().asFile}",
+        "kitchenpos.Application"
+    )
+}
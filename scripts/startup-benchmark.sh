@@ -0,0 +1,37 @@
+#!/usr/bin/env bash
+set -euo pipefail
+
+MODE="${1:-default}"
+HOST="${HOST:-http://localhost:8080}"
+BUILD_DIR="$(cd "$(dirname "$0")/.." && pwd)/build/cds"
+ARGS_FILE="$BUILD_DIR/application.args"
+ARCHIVE="$BUILD_DIR/application.jsa"
+BODY='{"type":"TAKEOUT","orderLineItems":[{"menuId":"f59b1e1c-b145-440a-aa6f-6095a0e2d63b","price":16000,"quantity":1}]}'
+
+case "$MODE" in
+  default) JVM_OPTS=(-Dspring.aot.enabled=false) ;;
+  aot) JVM_OPTS=(-Dspring.aot.enabled=true) ;;
+  cds) JVM_OPTS=(-Dspring.aot.enabled=true "-XX:SharedArchiveFile=$ARCHIVE") ;;
+  *) echo "usage: $0 [default|aot|cds]" >&2; exit 1 ;;
+esac
+
+if [ ! -f "$ARGS_FILE" ]; then
+  echo "$ARGS_FILE not found. Run ./gradlew writeLaunchArgs (or cdsArchive for the cds mode) first." >&2
+  exit 1
+fi
+
+start=$(date +%s%N)
+java "${JVM_OPTS[@]}" "@$ARGS_FILE" kitchenpos.Application > "$BUILD_DIR/startup-$MODE.log" 2>&1 &
+pid=$!
+trap 'kill "$pid" 2>/dev/null || true' EXIT
+
+until curl -sf -o /dev/null -X POST "$HOST/api/orders" -H 'Content-Type: application/json' -d "$BODY"; do
+  if ! kill -0 "$pid" 2>/dev/null; then
+    echo "application exited before serving a request, see $BUILD_DIR/startup-$MODE.log" >&2
+    exit 1
+  fi
+  sleep 0.05
+done
+end=$(date +%s%N)
+
+echo "$MODE: $(( (end - start) / 1000000 )) ms to first successful POST /api/orders"
@@ -0,0 +1,68 @@
+package kitchenpos.common.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MoneyBenchmark {
+    @Param({"2", "8", "32"})
+    private int menuProducts;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private long[] quantities;
+    private BigDecimal decimalMenuPrice;
+    private Money moneyMenuPrice;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        decimalPrices = new BigDecimal[menuProducts];
+        moneyPrices = new Money[menuProducts];
+        quantities = new long[menuProducts];
+        for (int i = 0; i < menuProducts; i++) {
+            final long price = 1_000L * (1 + random.nextInt(30));
+            decimalPrices[i] = BigDecimal.valueOf(price).setScale(2);
+            moneyPrices[i] = Money.of(price);
+            quantities[i] = 1 + random.nextInt(3);
+        }
+        decimalMenuPrice = BigDecimal.valueOf(19_000L).setScale(2);
+        moneyMenuPrice = Money.of(19_000L);
+    }
+
+    @Benchmark
+    public boolean bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < menuProducts; i++) {
+            sum = sum.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return decimalMenuPrice.compareTo(sum) > 0;
+    }
+
+    @Benchmark
+    public boolean money() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < menuProducts; i++) {
+            sum = sum.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return moneyMenuPrice.isGreaterThan(sum);
+    }
+}
@@ -0,0 +1,105 @@
+package kitchenpos.common.event;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RingBufferDomainEventPublisherBenchmark {
+    private static final DomainEvent EVENT = new NoOpEvent();
+
+    @Param({"1024", "4096"})
+    private int bufferSize;
+
+    private RingBufferDomainEventPublisher publisher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        publisher = new RingBufferDomainEventPublisher(List.of(new NoOpHandler()), bufferSize, Duration.ofSeconds(1L));
+        publisher.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        publisher.stop();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void publish(final PublisherCounters counters) {
+        publisher.publish(EVENT);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void publishContended(final PublisherCounters counters) {
+        publisher.publish(EVENT);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class PublisherCounters {
+        public long dispatched;
+        public long overflowed;
+        public long failed;
+
+        private boolean reporting;
+        private DomainEventMetrics started;
+
+        @Setup(Level.Iteration)
+        public void start(final RingBufferDomainEventPublisherBenchmark benchmark, final ThreadParams threadParams) {
+            reporting = threadParams.getThreadIndex() == 0;
+            started = benchmark.publisher.metrics();
+            dispatched = 0L;
+            overflowed = 0L;
+            failed = 0L;
+        }
+
+        @TearDown(Level.Iteration)
+        public void stop(final RingBufferDomainEventPublisherBenchmark benchmark) {
+            if (!reporting) {
+                return;
+            }
+            final DomainEventMetrics stopped = benchmark.publisher.metrics();
+            dispatched = stopped.dispatched() - started.dispatched();
+            overflowed = stopped.overflowed() - started.overflowed();
+            failed = stopped.failed() - started.failed();
+        }
+    }
+
+    private record NoOpEvent() implements DomainEvent {
+    }
+
+    private static class NoOpHandler implements DomainEventHandler<NoOpEvent> {
+        @Override
+        public Class<NoOpEvent> eventType() {
+            return NoOpEvent.class;
+        }
+
+        @Override
+        public void handle(final NoOpEvent event) {
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package kitchenpos.common.metrics;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlidingHeavyHittersBenchmark {
+    private static final Duration WINDOW = Duration.ofHours(1L);
+    private static final int KEYS = 10_000;
+    private static final int STREAM_LENGTH = 1 << 20;
+    private static final int TOP = 20;
+
+    @Param({"64", "256", "1024"})
+    private int capacity;
+
+    private SlidingHeavyHitters<Integer> heavyHitters;
+    private Integer[] keys;
+    private int recalled;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42L);
+        keys = new Integer[STREAM_LENGTH];
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            keys[i] = (int) Math.min(KEYS - 1, Math.floor(Math.pow(KEYS, random.nextDouble())) - 1);
+        }
+        heavyHitters = new SlidingHeavyHitters<>(WINDOW, 12, capacity);
+        final Map<Integer, Long> exact = new HashMap<>();
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            heavyHitters.add(keys[i], 1L, (long) i * WINDOW.toMillis() / STREAM_LENGTH);
+            exact.merge(keys[i], 1L, Long::sum);
+        }
+        final Set<Integer> expected = exact.entrySet()
+            .stream()
+            .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed())
+            .limit(TOP)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+        final Set<Integer> actual = heavyHitters.top(TOP, WINDOW.toMillis() - 1L)
+            .stream()
+            .map(HeavyHitter::key)
+            .collect(Collectors.toSet());
+        actual.retainAll(expected);
+        recalled = actual.size();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void add(final Recall recall) {
+        final int i = cursor.getAndIncrement() & (STREAM_LENGTH - 1);
+        heavyHitters.add(keys[i], 1L, WINDOW.toMillis() - 1L);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void addContended(final Recall recall) {
+        final int i = cursor.getAndIncrement() & (STREAM_LENGTH - 1);
+        heavyHitters.add(keys[i], 1L, WINDOW.toMillis() - 1L);
+    }
+
+    @Benchmark
+    public List<HeavyHitter<Integer>> top(final Recall recall) {
+        return heavyHitters.top(TOP, WINDOW.toMillis() - 1L);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Recall {
+        public long recalled;
+        public long expected;
+
+        @Setup(Level.Iteration)
+        public void setUp(final SlidingHeavyHittersBenchmark benchmark, final ThreadParams threadParams) {
+            final boolean reporting = threadParams.getThreadIndex() == 0;
+            recalled = reporting ? benchmark.recalled : 0L;
+            expected = reporting ? TOP : 0L;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package kitchenpos.common.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+    private static final String ENDPOINT = "PUT /api/order-tables/{orderTableId}/number-of-guests";
+
+    @Param({"100", "10000"})
+    private int terminals;
+
+    private RateLimiter rateLimiter;
+    private String[] terminalIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rateLimiter = new RateLimiter(
+            new RateLimit(20.0, 40),
+            Map.of(ENDPOINT, new RateLimit(2.0, 5)),
+            terminals * 2,
+            System::nanoTime
+        );
+        terminalIds = new String[terminals];
+        for (int i = 0; i < terminals; i++) {
+            terminalIds[i] = "terminal-" + i;
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long tryAcquire(final Cursor cursor) {
+        return rateLimiter.tryAcquire(terminalIds[cursor.next(terminals)], "POST /api/orders");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long tryAcquireContended(final Cursor cursor) {
+        return rateLimiter.tryAcquire(terminalIds[cursor.next(terminals)], "POST /api/orders");
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long tryAcquireEndpoint(final Cursor cursor) {
+        return rateLimiter.tryAcquire(terminalIds[cursor.next(terminals)], ENDPOINT);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position;
+
+        public int next(final int bound) {
+            position = position + 1 == bound ? 0 : position + 1;
+            return position;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package kitchenpos.exports.infra;
+
+import kitchenpos.common.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+@State(Scope.Benchmark)
+public class ColumnarWriterBenchmark {
+    private static final int LINE_ITEMS = 10_000_000;
+    private static final int MENUS = 2_000;
+    private static final List<ExportColumn> COLUMNS = List.of(
+        ExportColumn.of("order_id", ColumnType.UUID),
+        ExportColumn.dictionary("menu_id", "menu"),
+        ExportColumn.of("quantity", ColumnType.INT64),
+        ExportColumn.of("price", ColumnType.MONEY)
+    );
+
+    @Param({"0", "1", "6"})
+    private int compressionLevel;
+
+    private UUID[] menuIds;
+    private Money[] prices;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42L);
+        menuIds = new UUID[MENUS];
+        prices = new Money[MENUS];
+        for (int i = 0; i < MENUS; i++) {
+            menuIds[i] = UUID.randomUUID();
+            prices[i] = Money.of(1_000L * (10 + random.nextInt(30)));
+        }
+    }
+
+    @Benchmark
+    public long writeLineItems() {
+        final Random random = new Random(7L);
+        final ColumnarWriter writer = new ColumnarWriter(OutputStream.nullOutputStream(), 65_536, compressionLevel);
+        final ColumnarWriter.Table table = writer.table("order_line_items", COLUMNS);
+        UUID orderId = UUID.randomUUID();
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            if (i % 3 == 0) {
+                orderId = new UUID(random.nextLong(), random.nextLong());
+            }
+            final int menu = random.nextInt(MENUS);
+            table.uuid(orderId)
+                .dictionary(menuIds[menu])
+                .int64(1 + random.nextInt(3))
+                .money(prices[menu])
+                .endRow();
+        }
+        writer.finish();
+        return writer.bytes();
+    }
+}
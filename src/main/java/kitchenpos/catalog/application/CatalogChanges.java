@@ -0,0 +1,17 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.products.domain.Product;
+
+import java.util.List;
+import java.util.UUID;
+
+public record CatalogChanges(
+    long version,
+    List<Product> products,
+    List<MenuGroup> menuGroups,
+    List<Menu> menus,
+    List<UUID> hiddenMenuIds
+) {
+}
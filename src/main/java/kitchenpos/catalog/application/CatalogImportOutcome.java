@@ -0,0 +1,23 @@
+package kitchenpos.catalog.application;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record CatalogImportOutcome(long line, UUID id, CatalogImportStatus status, String reason) {
+    static CatalogImportOutcome created(final long line, final UUID id) {
+        return new CatalogImportOutcome(line, id, CatalogImportStatus.CREATED, null);
+    }
+
+    static CatalogImportOutcome duplicate(final long line, final UUID id) {
+        return new CatalogImportOutcome(line, id, CatalogImportStatus.DUPLICATE, null);
+    }
+
+    static CatalogImportOutcome rejected(final long line, final UUID id, final RuntimeException cause) {
+        return new CatalogImportOutcome(line, id, CatalogImportStatus.REJECTED, reasonOf(cause));
+    }
+
+    private static String reasonOf(final RuntimeException cause) {
+        final String message = cause.getMessage();
+        return Objects.isNull(message) ? cause.getClass().getSimpleName() : message;
+    }
+}
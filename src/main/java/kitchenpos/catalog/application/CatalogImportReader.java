@@ -0,0 +1,7 @@
+package kitchenpos.catalog.application;
+
+public interface CatalogImportReader {
+    CatalogImportRow read();
+
+    long line();
+}
@@ -0,0 +1,6 @@
+package kitchenpos.catalog.application;
+
+import java.util.List;
+
+public record CatalogImportResult(long created, long duplicates, long rejected, List<CatalogImportOutcome> errors) {
+}
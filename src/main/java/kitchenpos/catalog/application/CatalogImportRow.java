@@ -0,0 +1,60 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.MenuProduct;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+public record CatalogImportRow(
+    long line,
+    CatalogImportType type,
+    UUID id,
+    String name,
+    Money price,
+    UUID menuGroupId,
+    boolean displayed,
+    List<MenuProduct> menuProducts
+) {
+    public static CatalogImportRow of(
+        final long line,
+        final String type,
+        final String id,
+        final String name,
+        final String price,
+        final String menuGroupId,
+        final String displayed,
+        final List<MenuProduct> menuProducts
+    ) {
+        if (isBlank(type)) {
+            throw new IllegalArgumentException("Missing type");
+        }
+        return new CatalogImportRow(
+            line,
+            CatalogImportType.valueOf(type.trim().toUpperCase(Locale.ROOT)),
+            isBlank(id) ? null : UUID.fromString(id.trim()),
+            isBlank(name) ? null : name,
+            isBlank(price) ? null : Money.from(new BigDecimal(price.trim())),
+            isBlank(menuGroupId) ? null : UUID.fromString(menuGroupId.trim()),
+            !isBlank(displayed) && Boolean.parseBoolean(displayed.trim()),
+            menuProducts
+        );
+    }
+
+    public static MenuProduct menuProduct(final String productId, final String quantity) {
+        if (isBlank(productId) || isBlank(quantity)) {
+            throw new IllegalArgumentException("Missing menu product id or quantity");
+        }
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(UUID.fromString(productId.trim()));
+        menuProduct.setQuantity(Long.parseLong(quantity.trim()));
+        return menuProduct;
+    }
+
+    private static boolean isBlank(final String value) {
+        return Objects.isNull(value) || value.isBlank();
+    }
+}
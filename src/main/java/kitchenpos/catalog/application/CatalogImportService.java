@@ -0,0 +1,269 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.catalog.domain.CatalogImportRepository;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import kitchenpos.products.infra.PurgomalumClient;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class CatalogImportService {
+    private final CatalogImportRepository catalogImportRepository;
+    private final ProductRepository productRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final PurgomalumClient purgomalumClient;
+    private final CatalogVersionService catalogVersionService;
+
+    public CatalogImportService(
+        final CatalogImportRepository catalogImportRepository,
+        final ProductRepository productRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final PurgomalumClient purgomalumClient,
+        final CatalogVersionService catalogVersionService
+    ) {
+        this.catalogImportRepository = catalogImportRepository;
+        this.productRepository = productRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.purgomalumClient = purgomalumClient;
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    @Transactional
+    public List<CatalogImportOutcome> importChunk(final List<CatalogImportRow> rows) {
+        if (Objects.isNull(rows) || rows.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, Product> productsById = findProductsById(rows);
+        final Map<UUID, MenuGroup> menuGroupsById = findMenuGroupsById(rows);
+        final Set<UUID> menuIds = findMenuIds(rows);
+        final Set<String> profanities = findProfanities(rows);
+        final List<CatalogImportOutcome> outcomes = new ArrayList<>();
+        final List<Product> products = new ArrayList<>();
+        final List<MenuGroup> menuGroups = new ArrayList<>();
+        final List<Menu> menus = new ArrayList<>();
+        for (final CatalogImportRow row : rows) {
+            final UUID id = Objects.isNull(row.id()) ? UUID.randomUUID() : row.id();
+            try {
+                switch (row.type()) {
+                    case PRODUCT -> {
+                        if (productsById.containsKey(id)) {
+                            outcomes.add(CatalogImportOutcome.duplicate(row.line(), id));
+                            continue;
+                        }
+                        final Product product = newProduct(id, row, profanities);
+                        productsById.put(id, product);
+                        products.add(product);
+                    }
+                    case MENU_GROUP -> {
+                        if (menuGroupsById.containsKey(id)) {
+                            outcomes.add(CatalogImportOutcome.duplicate(row.line(), id));
+                            continue;
+                        }
+                        final MenuGroup menuGroup = newMenuGroup(id, row);
+                        menuGroupsById.put(id, menuGroup);
+                        menuGroups.add(menuGroup);
+                    }
+                    case MENU -> {
+                        if (menuIds.contains(id)) {
+                            outcomes.add(CatalogImportOutcome.duplicate(row.line(), id));
+                            continue;
+                        }
+                        menus.add(newMenu(id, row, productsById, menuGroupsById, profanities));
+                        menuIds.add(id);
+                    }
+                }
+                outcomes.add(CatalogImportOutcome.created(row.line(), id));
+            } catch (final IllegalArgumentException | NoSuchElementException | ArithmeticException e) {
+                outcomes.add(CatalogImportOutcome.rejected(row.line(), row.id(), e));
+            }
+        }
+        if (products.isEmpty() && menuGroups.isEmpty() && menus.isEmpty()) {
+            return outcomes;
+        }
+        final long version = catalogVersionService.next();
+        products.forEach(product -> product.setChangeVersion(version));
+        menuGroups.forEach(menuGroup -> menuGroup.setChangeVersion(version));
+        menus.forEach(menu -> menu.setChangeVersion(version));
+        catalogImportRepository.saveAll(products, menuGroups, menus);
+        return outcomes;
+    }
+
+    private Product newProduct(final UUID id, final CatalogImportRow row, final Set<String> profanities) {
+        final Money price = price(row);
+        final String name = name(row, profanities);
+        final Product product = new Product();
+        product.setId(id);
+        product.setName(name);
+        product.setPrice(price);
+        return product;
+    }
+
+    private MenuGroup newMenuGroup(final UUID id, final CatalogImportRow row) {
+        final String name = row.name();
+        if (Objects.isNull(name) || name.isEmpty()) {
+            throw new IllegalArgumentException("Missing name");
+        }
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(id);
+        menuGroup.setName(name);
+        return menuGroup;
+    }
+
+    private Menu newMenu(
+        final UUID id,
+        final CatalogImportRow row,
+        final Map<UUID, Product> productsById,
+        final Map<UUID, MenuGroup> menuGroupsById,
+        final Set<String> profanities
+    ) {
+        final Money price = price(row);
+        final MenuGroup menuGroup = menuGroupsById.get(row.menuGroupId());
+        if (Objects.isNull(menuGroup)) {
+            throw new NoSuchElementException("Unknown menu group " + row.menuGroupId());
+        }
+        final List<MenuProduct> menuProductRequests = row.menuProducts();
+        if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
+            throw new IllegalArgumentException("Missing menu products");
+        }
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        Money sum = Money.ZERO;
+        for (final MenuProduct menuProductRequest : menuProductRequests) {
+            final long quantity = menuProductRequest.getQuantity();
+            if (quantity < 0) {
+                throw new IllegalArgumentException("Negative quantity " + quantity);
+            }
+            final Product product = productsById.get(menuProductRequest.getProductId());
+            if (Objects.isNull(product)) {
+                throw new NoSuchElementException("Unknown product " + menuProductRequest.getProductId());
+            }
+            sum = sum.plus(
+                product.getPrice()
+                    .times(quantity)
+            );
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProduct(product);
+            menuProduct.setQuantity(quantity);
+            menuProducts.add(menuProduct);
+        }
+        if (price.isGreaterThan(sum)) {
+            throw new IllegalArgumentException("Price " + price + " is above the product sum " + sum);
+        }
+        final String name = name(row, profanities);
+        final Menu menu = new Menu();
+        menu.setId(id);
+        menu.setName(name);
+        menu.setPrice(price);
+        menu.setMenuGroup(menuGroup);
+        menu.setDisplayed(row.displayed());
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+
+    private static Money price(final CatalogImportRow row) {
+        final Money price = row.price();
+        if (Objects.isNull(price)) {
+            throw new IllegalArgumentException("Missing price");
+        }
+        if (price.isNegative()) {
+            throw new IllegalArgumentException("Negative price " + price);
+        }
+        return price;
+    }
+
+    private static String name(final CatalogImportRow row, final Set<String> profanities) {
+        final String name = row.name();
+        if (Objects.isNull(name)) {
+            throw new IllegalArgumentException("Missing name");
+        }
+        if (profanities.contains(name)) {
+            throw new IllegalArgumentException("Profane name");
+        }
+        return name;
+    }
+
+        private Map<UUID, Product> findProductsById(final List<CatalogImportRow> rows) {
+        final List<UUID> productIds = Stream.concat(
+                ids(rows, CatalogImportType.PRODUCT).stream(),
+                rows.stream()
+                    .filter(row -> row.type() == CatalogImportType.MENU)
+                    .map(CatalogImportRow::menuProducts)
+                    .filter(Objects::nonNull)
+                    .flatMap(List::stream)
+                    .map(MenuProduct::getProductId)
+                    .filter(Objects::nonNull)
+            )
+            .distinct()
+            .toList();
+        final Map<UUID, Product> productsById = new HashMap<>();
+        if (!productIds.isEmpty()) {
+            productRepository.findAllByIdIn(productIds)
+                .forEach(product -> productsById.put(product.getId(), product));
+        }
+        return productsById;
+    }
+
+    private Map<UUID, MenuGroup> findMenuGroupsById(final List<CatalogImportRow> rows) {
+        final List<UUID> menuGroupIds = Stream.concat(
+                ids(rows, CatalogImportType.MENU_GROUP).stream(),
+                rows.stream()
+                    .filter(row -> row.type() == CatalogImportType.MENU)
+                    .map(CatalogImportRow::menuGroupId)
+                    .filter(Objects::nonNull)
+            )
+            .distinct()
+            .toList();
+        final Map<UUID, MenuGroup> menuGroupsById = new HashMap<>();
+        if (!menuGroupIds.isEmpty()) {
+            menuGroupRepository.findAllByIdIn(menuGroupIds)
+                .forEach(menuGroup -> menuGroupsById.put(menuGroup.getId(), menuGroup));
+        }
+        return menuGroupsById;
+    }
+
+    private Set<UUID> findMenuIds(final List<CatalogImportRow> rows) {
+        final List<UUID> menuIds = ids(rows, CatalogImportType.MENU);
+        if (menuIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(catalogImportRepository.findAllMenuIdsByIdIn(menuIds));
+    }
+
+    private Set<String> findProfanities(final List<CatalogImportRow> rows) {
+        final List<String> names = rows.stream()
+            .filter(row -> row.type() != CatalogImportType.MENU_GROUP)
+            .map(CatalogImportRow::name)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (names.isEmpty()) {
+            return Set.of();
+        }
+        return purgomalumClient.findProfanities(names);
+    }
+
+    private static List<UUID> ids(final List<CatalogImportRow> rows, final CatalogImportType type) {
+        return rows.stream()
+            .filter(row -> row.type() == type)
+            .map(CatalogImportRow::id)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    }
+}
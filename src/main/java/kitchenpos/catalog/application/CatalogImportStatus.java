@@ -0,0 +1,7 @@
+package kitchenpos.catalog.application;
+
+public enum CatalogImportStatus {
+    CREATED,
+    DUPLICATE,
+    REJECTED
+}
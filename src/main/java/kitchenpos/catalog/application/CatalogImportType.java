@@ -0,0 +1,7 @@
+package kitchenpos.catalog.application;
+
+public enum CatalogImportType {
+    PRODUCT,
+    MENU_GROUP,
+    MENU
+}
@@ -0,0 +1,73 @@
+package kitchenpos.catalog.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class CatalogImporter {
+    private static final Logger log = LoggerFactory.getLogger(CatalogImporter.class);
+
+    private final CatalogImportService catalogImportService;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public CatalogImporter(
+        final CatalogImportService catalogImportService,
+        @Value("${kitchenpos.catalog-import.chunk-size:500}") final int chunkSize,
+        @Value("${kitchenpos.catalog-import.max-reported-errors:1000}") final int maxReportedErrors
+    ) {
+        this.catalogImportService = catalogImportService;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public CatalogImportResult importAll(final CatalogImportReader reader) {
+        final long[] counts = new long[CatalogImportStatus.values().length];
+        final List<CatalogImportOutcome> errors = new ArrayList<>();
+        List<CatalogImportRow> chunk = new ArrayList<>(chunkSize);
+        while (true) {
+            final CatalogImportRow row;
+            try {
+                row = reader.read();
+            } catch (final IllegalArgumentException e) {
+                record(CatalogImportOutcome.rejected(reader.line(), null, e), counts, errors);
+                continue;
+            }
+            if (Objects.isNull(row)) {
+                break;
+            }
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                catalogImportService.importChunk(chunk)
+                    .forEach(outcome -> record(outcome, counts, errors));
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            catalogImportService.importChunk(chunk)
+                .forEach(outcome -> record(outcome, counts, errors));
+        }
+        final CatalogImportResult result = new CatalogImportResult(
+            counts[CatalogImportStatus.CREATED.ordinal()],
+            counts[CatalogImportStatus.DUPLICATE.ordinal()],
+            counts[CatalogImportStatus.REJECTED.ordinal()],
+            errors
+        );
+        log.info("Imported catalog: {} created, {} duplicates, {} rejected",
+            result.created(), result.duplicates(), result.rejected());
+        return result;
+    }
+
+    private void record(final CatalogImportOutcome outcome, final long[] counts, final List<CatalogImportOutcome> errors) {
+        counts[outcome.status().ordinal()]++;
+        if (outcome.status() == CatalogImportStatus.REJECTED && errors.size() < maxReportedErrors) {
+            errors.add(outcome);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.ProductRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+public class CatalogSyncService {
+    private final CatalogVersionService catalogVersionService;
+    private final ProductRepository productRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final MenuRepository menuRepository;
+
+    public CatalogSyncService(
+        final CatalogVersionService catalogVersionService,
+        final ProductRepository productRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final MenuRepository menuRepository
+    ) {
+        this.catalogVersionService = catalogVersionService;
+        this.productRepository = productRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public CatalogChanges findChangesSince(final long version) {
+        if (version < 0L) {
+            throw new IllegalArgumentException();
+        }
+        final long current = catalogVersionService.current();
+        final long since = version > current ? 0L : version;
+        if (since == current) {
+            return new CatalogChanges(current, List.of(), List.of(), List.of(), List.of());
+        }
+        final Map<Boolean, List<Menu>> menus = menuRepository.findAllByChangeVersionBetween(since + 1L, current)
+            .stream()
+            .collect(Collectors.partitioningBy(Menu::isDisplayed));
+        return new CatalogChanges(
+            current,
+            productRepository.findAllByChangeVersionBetween(since + 1L, current),
+            menuGroupRepository.findAllByChangeVersionBetween(since + 1L, current),
+            menus.get(true),
+            menus.get(false)
+                .stream()
+                .map(Menu::getId)
+                .toList()
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.catalog.domain.CatalogVersion;
+import kitchenpos.catalog.domain.CatalogVersionRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class CatalogVersionService {
+    static final int CATALOG_VERSION_ID = 1;
+
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    public CatalogVersionService(final CatalogVersionRepository catalogVersionRepository) {
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    @Transactional
+    public long next() {
+        final CatalogVersion catalogVersion = catalogVersionRepository.findByIdForUpdate(CATALOG_VERSION_ID)
+            .orElseThrow(IllegalStateException::new);
+        final long next = catalogVersion.getVersion() + 1L;
+        catalogVersion.setVersion(next);
+        return next;
+    }
+
+    @Transactional(readOnly = true)
+    public long current() {
+        return catalogVersionRepository.findById(CATALOG_VERSION_ID)
+            .map(CatalogVersion::getVersion)
+            .orElseThrow(IllegalStateException::new);
+    }
+}
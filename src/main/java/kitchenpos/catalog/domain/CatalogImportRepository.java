@@ -0,0 +1,14 @@
+package kitchenpos.catalog.domain;
+
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.products.domain.Product;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface CatalogImportRepository {
+    List<UUID> findAllMenuIdsByIdIn(List<UUID> ids);
+
+    void saveAll(List<Product> products, List<MenuGroup> menuGroups, List<Menu> menus);
+}
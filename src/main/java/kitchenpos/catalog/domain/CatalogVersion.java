@@ -0,0 +1,36 @@
+package kitchenpos.catalog.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Table(name = "catalog_version")
+@Entity
+public class CatalogVersion {
+    @Column(name = "id")
+    @Id
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public CatalogVersion() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(final Integer id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+}
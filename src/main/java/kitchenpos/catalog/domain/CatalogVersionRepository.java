@@ -0,0 +1,9 @@
+package kitchenpos.catalog.domain;
+
+import java.util.Optional;
+
+public interface CatalogVersionRepository {
+    Optional<CatalogVersion> findById(Integer id);
+
+    Optional<CatalogVersion> findByIdForUpdate(Integer id);
+}
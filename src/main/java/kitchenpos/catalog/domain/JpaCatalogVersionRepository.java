@@ -0,0 +1,16 @@
+package kitchenpos.catalog.domain;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface JpaCatalogVersionRepository extends CatalogVersionRepository, JpaRepository<CatalogVersion, Integer> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select v from CatalogVersion v where v.id = :id")
+    @Override
+    Optional<CatalogVersion> findByIdForUpdate(@Param("id") Integer id);
+}
@@ -0,0 +1,269 @@
+package kitchenpos.catalog.infra;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.products.domain.Product;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.CRC32;
+
+public class CatalogSnapshot {
+    private static final int MAGIC = 0x4B504353;
+    private static final int FORMAT = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 6 + Long.BYTES;
+
+    private final ByteBuffer buffer;
+    private final long version;
+    private final int[] productOffsets;
+    private final int[] menuGroupOffsets;
+    private final Map<UUID, Integer> menuOffsets;
+
+    private CatalogSnapshot(final ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT) {
+            throw new IllegalArgumentException("Not a catalog snapshot");
+        }
+        this.buffer = buffer;
+        this.version = buffer.getLong(8);
+        final int productCount = buffer.getInt(16);
+        final int menuGroupCount = buffer.getInt(20);
+        final int menuCount = buffer.getInt(24);
+        final int checksum = buffer.getInt(28);
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(HEADER_BYTES));
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalArgumentException("Corrupt catalog snapshot");
+        }
+        final ByteBuffer reader = buffer.duplicate().position(HEADER_BYTES);
+        this.productOffsets = new int[productCount];
+        for (int i = 0; i < productCount; i++) {
+            productOffsets[i] = reader.position();
+            skipProduct(reader);
+        }
+        this.menuGroupOffsets = new int[menuGroupCount];
+        for (int i = 0; i < menuGroupCount; i++) {
+            menuGroupOffsets[i] = reader.position();
+            skipMenuGroup(reader);
+        }
+        this.menuOffsets = new HashMap<>(menuCount * 2);
+        for (int i = 0; i < menuCount; i++) {
+            final int offset = reader.position();
+            menuOffsets.put(readUuid(reader), offset);
+            skipMenu(reader);
+        }
+    }
+
+    public static CatalogSnapshot open(final Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            return new CatalogSnapshot(mapped);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static void write(
+        final Path path,
+        final long version,
+        final List<Product> products,
+        final List<MenuGroup> menuGroups,
+        final List<Menu> menus
+    ) {
+        final Map<UUID, Integer> productIndexes = new LinkedHashMap<>();
+        final Map<UUID, Product> productsById = new LinkedHashMap<>();
+        for (final Product product : products) {
+            productsById.put(product.getId(), product);
+        }
+        final Map<UUID, MenuGroup> menuGroupsById = new LinkedHashMap<>();
+        for (final MenuGroup menuGroup : menuGroups) {
+            menuGroupsById.put(menuGroup.getId(), menuGroup);
+        }
+        for (final Menu menu : menus) {
+            menuGroupsById.putIfAbsent(menu.getMenuGroup().getId(), menu.getMenuGroup());
+            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+                productsById.putIfAbsent(menuProduct.getProduct().getId(), menuProduct.getProduct());
+            }
+        }
+        final Map<UUID, Integer> menuGroupIndexes = new LinkedHashMap<>();
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream output = new DataOutputStream(bytes);
+            for (final Product product : productsById.values()) {
+                productIndexes.put(product.getId(), productIndexes.size());
+                writeUuid(output, product.getId());
+                writeString(output, product.getName());
+                output.writeLong(product.getPrice().getAmount());
+            }
+            for (final MenuGroup menuGroup : menuGroupsById.values()) {
+                menuGroupIndexes.put(menuGroup.getId(), menuGroupIndexes.size());
+                writeUuid(output, menuGroup.getId());
+                writeString(output, menuGroup.getName());
+            }
+            for (final Menu menu : menus) {
+                writeUuid(output, menu.getId());
+                writeString(output, menu.getName());
+                output.writeLong(menu.getPrice().getAmount());
+                output.writeBoolean(menu.isDisplayed());
+                output.writeInt(menuGroupIndexes.get(menu.getMenuGroup().getId()));
+                output.writeInt(menu.getMenuProducts().size());
+                for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+                    output.writeLong(Objects.isNull(menuProduct.getSeq()) ? 0L : menuProduct.getSeq());
+                    output.writeInt(productIndexes.get(menuProduct.getProduct().getId()));
+                    output.writeLong(menuProduct.getQuantity());
+                }
+            }
+            output.flush();
+            final byte[] body = bytes.toByteArray();
+            final CRC32 crc = new CRC32();
+            crc.update(body);
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT)
+                .putLong(version)
+                .putInt(productsById.size())
+                .putInt(menuGroupsById.size())
+                .putInt(menus.size())
+                .putInt((int) crc.getValue())
+                .flip();
+            if (Objects.nonNull(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            final Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(
+                temporary,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )) {
+                final ByteBuffer content = ByteBuffer.wrap(body);
+                while (header.hasRemaining() || content.hasRemaining()) {
+                    channel.write(new ByteBuffer[]{header, content});
+                }
+                channel.force(true);
+            }
+            Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int menuCount() {
+        return menuOffsets.size();
+    }
+
+    public Menu findMenu(final UUID id) {
+        final Integer offset = menuOffsets.get(id);
+        if (Objects.isNull(offset)) {
+            return null;
+        }
+        final ByteBuffer reader = buffer.duplicate().position(offset);
+        final Menu menu = new Menu();
+        menu.setId(readUuid(reader));
+        menu.setName(readString(reader));
+        menu.setPrice(Money.of(reader.getLong()));
+        menu.setDisplayed(reader.get() != 0);
+        final MenuGroup menuGroup = menuGroup(reader.getInt());
+        menu.setMenuGroup(menuGroup);
+        menu.setMenuGroupId(menuGroup.getId());
+        final int size = reader.getInt();
+        final List<MenuProduct> menuProducts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            final long seq = reader.getLong();
+            menuProduct.setSeq(seq == 0L ? null : seq);
+            final Product product = product(reader.getInt());
+            menuProduct.setProduct(product);
+            menuProduct.setProductId(product.getId());
+            menuProduct.setQuantity(reader.getLong());
+            menuProducts.add(menuProduct);
+        }
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+
+    private Product product(final int index) {
+        final ByteBuffer reader = buffer.duplicate().position(productOffsets[index]);
+        final Product product = new Product();
+        product.setId(readUuid(reader));
+        product.setName(readString(reader));
+        product.setPrice(Money.of(reader.getLong()));
+        return product;
+    }
+
+    private MenuGroup menuGroup(final int index) {
+        final ByteBuffer reader = buffer.duplicate().position(menuGroupOffsets[index]);
+        final MenuGroup menuGroup = new MenuGroup();
+        menuGroup.setId(readUuid(reader));
+        menuGroup.setName(readString(reader));
+        return menuGroup;
+    }
+
+    private static void skipProduct(final ByteBuffer reader) {
+        skip(reader, Long.BYTES * 2);
+        skip(reader, Short.toUnsignedInt(reader.getShort()));
+        skip(reader, Long.BYTES);
+    }
+
+    private static void skipMenuGroup(final ByteBuffer reader) {
+        skip(reader, Long.BYTES * 2);
+        skip(reader, Short.toUnsignedInt(reader.getShort()));
+    }
+
+    private static void skipMenu(final ByteBuffer reader) {
+        skip(reader, Short.toUnsignedInt(reader.getShort()));
+        skip(reader, Long.BYTES + 1 + Integer.BYTES);
+        final int size = reader.getInt();
+        skip(reader, size * (Long.BYTES * 2 + Integer.BYTES));
+    }
+
+    private static void skip(final ByteBuffer reader, final int bytes) {
+        reader.position(reader.position() + bytes);
+    }
+
+    private static void writeUuid(final DataOutputStream output, final UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(final ByteBuffer reader) {
+        return new UUID(reader.getLong(), reader.getLong());
+    }
+
+    private static void writeString(final DataOutputStream output, final String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException();
+        }
+        output.writeShort(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final ByteBuffer reader) {
+        final byte[] bytes = new byte[Short.toUnsignedInt(reader.getShort())];
+        reader.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,106 @@
+package kitchenpos.catalog.infra;
+
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.menus.domain.JpaMenuRepository;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+@ConditionalOnProperty(name = "kitchenpos.catalog-snapshot.enabled", havingValue = "true")
+@Component
+public class CatalogSnapshotManager {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotManager.class);
+
+    private final CatalogVersionService catalogVersionService;
+    private final ProductRepository productRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final MenuRepository menuRepository;
+    private final Path path;
+    private volatile CatalogSnapshot snapshot;
+
+    @Autowired
+    public CatalogSnapshotManager(
+        final CatalogVersionService catalogVersionService,
+        final ProductRepository productRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final JpaMenuRepository menuRepository,
+        @Value("${kitchenpos.catalog-snapshot.path:data/catalog.snapshot}") final Path path
+    ) {
+        this(catalogVersionService, productRepository, menuGroupRepository, (MenuRepository) menuRepository, path);
+    }
+
+    CatalogSnapshotManager(
+        final CatalogVersionService catalogVersionService,
+        final ProductRepository productRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final MenuRepository menuRepository,
+        final Path path
+    ) {
+        this.catalogVersionService = catalogVersionService;
+        this.productRepository = productRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.menuRepository = menuRepository;
+        this.path = path;
+        this.snapshot = load();
+    }
+
+    public CatalogSnapshot current() {
+        final CatalogSnapshot current = snapshot;
+        if (Objects.isNull(current) || current.version() != catalogVersionService.current()) {
+            return null;
+        }
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.catalog-snapshot.refresh-interval:PT5S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        final long version = catalogVersionService.current();
+        final CatalogSnapshot current = snapshot;
+        if (Objects.nonNull(current) && current.version() == version) {
+            return;
+        }
+        CatalogSnapshot.write(
+            path,
+            version,
+            productRepository.findAll(),
+            menuGroupRepository.findAll(),
+            menuRepository.findAll()
+        );
+        final CatalogSnapshot refreshed = CatalogSnapshot.open(path);
+        snapshot = refreshed;
+        log.info("Wrote catalog snapshot version {} with {} menus", refreshed.version(), refreshed.menuCount());
+    }
+
+    private CatalogSnapshot load() {
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            final CatalogSnapshot loaded = CatalogSnapshot.open(path);
+            final long version = catalogVersionService.current();
+            if (loaded.version() != version) {
+                log.info("Ignoring catalog snapshot version {} because the catalog is at version {}", loaded.version(), version);
+                return null;
+            }
+            log.info("Loaded catalog snapshot version {} with {} menus", loaded.version(), loaded.menuCount());
+            return loaded;
+        } catch (final IllegalArgumentException | UncheckedIOException e) {
+            log.warn("Ignoring unreadable catalog snapshot {}", path, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package kitchenpos.catalog.infra;
+
+import kitchenpos.catalog.application.CatalogImportReader;
+import kitchenpos.catalog.application.CatalogImportRow;
+import kitchenpos.menus.domain.MenuProduct;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class CsvCatalogImportReader implements CatalogImportReader {
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final String MENU_PRODUCT_SEPARATOR = ";";
+    private static final String QUANTITY_SEPARATOR = ":";
+
+    private final BufferedReader reader;
+    private Map<String, Integer> columns;
+    private long line;
+
+    public CsvCatalogImportReader(final BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public CatalogImportRow read() {
+        final String text = nextLine();
+        if (Objects.isNull(text)) {
+            return null;
+        }
+        if (Objects.isNull(columns)) {
+            columns = header(text);
+            return read();
+        }
+        final List<String> fields = split(text);
+        if (fields.size() != columns.size()) {
+            throw new IllegalArgumentException("Expected " + columns.size() + " fields but found " + fields.size());
+        }
+        return CatalogImportRow.of(
+            line,
+            field(fields, "type"),
+            field(fields, "id"),
+            field(fields, "name"),
+            field(fields, "price"),
+            field(fields, "menuGroupId"),
+            field(fields, "displayed"),
+            menuProducts(field(fields, "menuProducts"))
+        );
+    }
+
+    @Override
+    public long line() {
+        return line;
+    }
+
+    private String nextLine() {
+        try {
+            String text;
+            do {
+                text = reader.readLine();
+                if (Objects.isNull(text)) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+            return text;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Map<String, Integer> header(final String text) {
+        final List<String> names = split(text.charAt(0) == BYTE_ORDER_MARK ? text.substring(1) : text);
+        final Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim(), i);
+        }
+        if (!columns.containsKey("type")) {
+            throw new IllegalStateException("Catalog import header has no type column");
+        }
+        return columns;
+    }
+
+    private String field(final List<String> fields, final String column) {
+        final Integer index = columns.get(column);
+        if (Objects.isNull(index)) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private static List<MenuProduct> menuProducts(final String value) {
+        if (Objects.isNull(value) || value.isBlank()) {
+            return null;
+        }
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final String entry : value.split(MENU_PRODUCT_SEPARATOR)) {
+            final String[] parts = entry.split(QUANTITY_SEPARATOR);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Malformed menu product " + entry);
+            }
+            menuProducts.add(CatalogImportRow.menuProduct(parts[0], parts[1]));
+        }
+        return menuProducts;
+    }
+
+    private static List<String> split(final String text) {
+        final List<String> fields = new ArrayList<>();
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append(c);
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.catalog.infra;
+
+import kitchenpos.catalog.domain.CatalogImportRepository;
+import kitchenpos.common.domain.MoneyConverter;
+import kitchenpos.common.infra.Uuids;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.products.domain.Product;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Repository
+public class JdbcCatalogImportRepository implements CatalogImportRepository {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_PRODUCT_SQL = "insert into product "
+        + "(id, name, price, change_version) values (?, ?, ?, ?)";
+    private static final String INSERT_MENU_GROUP_SQL = "insert into menu_group "
+        + "(id, name, change_version) values (?, ?, ?)";
+    private static final String INSERT_MENU_SQL = "insert into menu "
+        + "(id, displayed, name, price, menu_group_id, change_version) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MENU_PRODUCT_SQL = "insert into menu_product "
+        + "(quantity, product_id, menu_id) values (?, ?, ?)";
+    private static final String SELECT_MENU_IDS_SQL = "select id from menu where id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MoneyConverter moneyConverter = new MoneyConverter();
+
+    public JdbcCatalogImportRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UUID> findAllMenuIdsByIdIn(final List<UUID> ids) {
+        final List<UUID> found = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            final List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            found.addAll(jdbcTemplate.query(
+                SELECT_MENU_IDS_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))),
+                (resultSet, rowNum) -> Uuids.fromBytes(resultSet.getBytes("id")),
+                chunk.stream()
+                    .map(Uuids::toBytes)
+                    .toArray()
+            ));
+        }
+        return found;
+    }
+
+    @Override
+    public void saveAll(final List<Product> products, final List<MenuGroup> menuGroups, final List<Menu> menus) {
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, products, BATCH_SIZE, (statement, product) -> {
+            statement.setBytes(1, Uuids.toBytes(product.getId()));
+            statement.setString(2, product.getName());
+            statement.setBigDecimal(3, moneyConverter.convertToDatabaseColumn(product.getPrice()));
+            statement.setLong(4, product.getChangeVersion());
+        });
+        jdbcTemplate.batchUpdate(INSERT_MENU_GROUP_SQL, menuGroups, BATCH_SIZE, (statement, menuGroup) -> {
+            statement.setBytes(1, Uuids.toBytes(menuGroup.getId()));
+            statement.setString(2, menuGroup.getName());
+            statement.setLong(3, menuGroup.getChangeVersion());
+        });
+        jdbcTemplate.batchUpdate(INSERT_MENU_SQL, menus, BATCH_SIZE, (statement, menu) -> {
+            statement.setBytes(1, Uuids.toBytes(menu.getId()));
+            statement.setBoolean(2, menu.isDisplayed());
+            statement.setString(3, menu.getName());
+            statement.setBigDecimal(4, moneyConverter.convertToDatabaseColumn(menu.getPrice()));
+            statement.setBytes(5, Uuids.toBytes(menu.getMenuGroup().getId()));
+            statement.setLong(6, menu.getChangeVersion());
+        });
+        final List<Map.Entry<UUID, MenuProduct>> menuProducts = menus.stream()
+            .flatMap(menu -> menu.getMenuProducts()
+                .stream()
+                .map(menuProduct -> Map.entry(menu.getId(), menuProduct)))
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_MENU_PRODUCT_SQL, menuProducts, BATCH_SIZE, (statement, entry) -> {
+            statement.setLong(1, entry.getValue().getQuantity());
+            statement.setBytes(2, Uuids.toBytes(entry.getValue().getProduct().getId()));
+            statement.setBytes(3, Uuids.toBytes(entry.getKey()));
+        });
+    }
+}
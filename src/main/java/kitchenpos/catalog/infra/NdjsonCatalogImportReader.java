@@ -0,0 +1,96 @@
+package kitchenpos.catalog.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.catalog.application.CatalogImportReader;
+import kitchenpos.catalog.application.CatalogImportRow;
+import kitchenpos.menus.domain.MenuProduct;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class NdjsonCatalogImportReader implements CatalogImportReader {
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long line;
+
+    public NdjsonCatalogImportReader(final BufferedReader reader, final ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public CatalogImportRow read() {
+        final String text = nextLine();
+        if (Objects.isNull(text)) {
+            return null;
+        }
+        final JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Not a JSON object");
+        }
+        return CatalogImportRow.of(
+            line,
+            text(node, "type"),
+            text(node, "id"),
+            text(node, "name"),
+            text(node, "price"),
+            text(node, "menuGroupId"),
+            text(node, "displayed"),
+            menuProducts(node.get("menuProducts"))
+        );
+    }
+
+    @Override
+    public long line() {
+        return line;
+    }
+
+    private String nextLine() {
+        try {
+            String text;
+            do {
+                text = reader.readLine();
+                if (Objects.isNull(text)) {
+                    return null;
+                }
+                line++;
+            } while (text.isBlank());
+            return text;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String text(final JsonNode node, final String field) {
+        final JsonNode value = node.get(field);
+        if (Objects.isNull(value) || value.isNull()) {
+            return null;
+        }
+        return value.asText();
+    }
+
+    private static List<MenuProduct> menuProducts(final JsonNode node) {
+        if (Objects.isNull(node) || node.isNull()) {
+            return null;
+        }
+        if (!node.isArray()) {
+            throw new IllegalArgumentException("Menu products are not an array");
+        }
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (final JsonNode menuProduct : node) {
+            menuProducts.add(CatalogImportRow.menuProduct(text(menuProduct, "productId"), text(menuProduct, "quantity")));
+        }
+        return menuProducts;
+    }
+}
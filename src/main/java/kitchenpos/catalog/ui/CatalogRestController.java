@@ -0,0 +1,57 @@
+package kitchenpos.catalog.ui;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.catalog.application.CatalogChanges;
+import kitchenpos.catalog.application.CatalogImportResult;
+import kitchenpos.catalog.application.CatalogImporter;
+import kitchenpos.catalog.application.CatalogSyncService;
+import kitchenpos.catalog.infra.CsvCatalogImportReader;
+import kitchenpos.catalog.infra.NdjsonCatalogImportReader;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@RequestMapping("/api/catalog")
+@RestController
+public class CatalogRestController {
+    private final CatalogSyncService catalogSyncService;
+    private final CatalogImporter catalogImporter;
+    private final ObjectMapper objectMapper;
+
+    public CatalogRestController(
+        final CatalogSyncService catalogSyncService,
+        final CatalogImporter catalogImporter,
+        final ObjectMapper objectMapper
+    ) {
+        this.catalogSyncService = catalogSyncService;
+        this.catalogImporter = catalogImporter;
+        this.objectMapper = objectMapper;
+    }
+
+    @GetMapping("/changes-since")
+    public ResponseEntity<CatalogChanges> findChangesSince(@RequestParam(defaultValue = "0") final long version) {
+        return ResponseEntity.ok(catalogSyncService.findChangesSince(version));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<CatalogImportResult> importCsv(final InputStream body) {
+        return ResponseEntity.ok(catalogImporter.importAll(new CsvCatalogImportReader(reader(body))));
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<CatalogImportResult> importNdjson(final InputStream body) {
+        return ResponseEntity.ok(catalogImporter.importAll(new NdjsonCatalogImportReader(reader(body), objectMapper)));
+    }
+
+    private static BufferedReader reader(final InputStream body) {
+        return new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.common.admission;
+
+public class AdaptiveConcurrencyLimit {
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_WINDOW = 600.0;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSamples;
+    private double limit;
+    private double longRtt;
+    private long windowRttTotal;
+    private int windowCount;
+    private int windowMaxInFlight;
+
+    public AdaptiveConcurrencyLimit(
+        final int initialLimit,
+        final int minLimit,
+        final int maxLimit,
+        final int windowSamples
+    ) {
+        if (minLimit <= 0 || minLimit > initialLimit || initialLimit > maxLimit || windowSamples <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.windowSamples = windowSamples;
+        this.limit = initialLimit;
+    }
+
+    public synchronized int limit() {
+        return (int) limit;
+    }
+
+    public synchronized void onSample(final long rttNanos, final int inFlight) {
+        windowRttTotal += Math.max(rttNanos, 1L);
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlight);
+        if (++windowCount < windowSamples) {
+            return;
+        }
+        final double shortRtt = (double) windowRttTotal / windowCount;
+        final boolean applicationLimited = windowMaxInFlight < limit / 2.0;
+        windowRttTotal = 0L;
+        windowCount = 0;
+        windowMaxInFlight = 0;
+        if (longRtt == 0.0) {
+            longRtt = shortRtt;
+            return;
+        }
+        longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        if (longRtt / shortRtt > 2.0) {
+            longRtt *= 0.95;
+        }
+        if (applicationLimited) {
+            return;
+        }
+        final double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+        final double target = limit * gradient + Math.sqrt(limit);
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1.0 - SMOOTHING) + target * SMOOTHING));
+    }
+}
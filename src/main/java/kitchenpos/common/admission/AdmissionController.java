@@ -0,0 +1,175 @@
+package kitchenpos.common.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class AdmissionController {
+    private final AdaptiveConcurrencyLimit limit;
+    private final double reservedRatio;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Waiter> highQueue = new ArrayDeque<>();
+    private final Deque<Waiter> lowQueue = new ArrayDeque<>();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private int inFlight;
+
+    public AdmissionController(
+        @Value("${kitchenpos.admission.initial-limit:20}") final int initialLimit,
+        @Value("${kitchenpos.admission.min-limit:4}") final int minLimit,
+        @Value("${kitchenpos.admission.max-limit:200}") final int maxLimit,
+        @Value("${kitchenpos.admission.window-samples:50}") final int windowSamples,
+        @Value("${kitchenpos.admission.reserved-ratio:0.2}") final double reservedRatio,
+        @Value("${kitchenpos.admission.queue-capacity:100}") final int queueCapacity,
+        @Value("${kitchenpos.admission.max-wait:PT0.5S}") final Duration maxWait
+    ) {
+        if (reservedRatio < 0.0 || reservedRatio >= 1.0 || queueCapacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.limit = new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, windowSamples);
+        this.reservedRatio = reservedRatio;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    public Permit tryAcquire(final AdmissionPriority priority) {
+        final Waiter waiter;
+        lock.lock();
+        try {
+            if (canAdmit(priority)) {
+                return admit();
+            }
+            if (highQueue.size() + lowQueue.size() >= queueCapacity) {
+                rejected.increment();
+                return null;
+            }
+            waiter = new Waiter();
+            queueOf(priority).addLast(waiter);
+            queued.increment();
+        } finally {
+            lock.unlock();
+        }
+        boolean interrupted = false;
+        try {
+            waiter.latch.await(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            interrupted = true;
+        }
+        lock.lock();
+        try {
+            if (Objects.nonNull(waiter.permit) && !interrupted) {
+                return waiter.permit;
+            }
+            if (Objects.nonNull(waiter.permit)) {
+                free();
+            } else {
+                queueOf(priority).remove(waiter);
+            }
+            rejected.increment();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public AdmissionMetrics metrics() {
+        lock.lock();
+        try {
+            return new AdmissionMetrics(
+                limit.limit(),
+                inFlight,
+                highQueue.size(),
+                lowQueue.size(),
+                admitted.sum(),
+                queued.sum(),
+                rejected.sum()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean canAdmit(final AdmissionPriority priority) {
+        final int current = limit.limit();
+        if (priority == AdmissionPriority.HIGH) {
+            return inFlight < current;
+        }
+        return highQueue.isEmpty() && lowQueue.isEmpty() && inFlight < lowLimit(current);
+    }
+
+    private int lowLimit(final int current) {
+        return Math.max(1, (int) (current * (1.0 - reservedRatio)));
+    }
+
+    private Permit admit() {
+        inFlight++;
+        admitted.increment();
+        return new Permit(inFlight);
+    }
+
+    private void release(final Permit permit, final long rttNanos) {
+        limit.onSample(rttNanos, permit.inFlight);
+        lock.lock();
+        try {
+            free();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void free() {
+        inFlight--;
+        final int current = limit.limit();
+        while (!highQueue.isEmpty() && inFlight < current) {
+            grant(highQueue.pollFirst());
+        }
+        while (!lowQueue.isEmpty() && highQueue.isEmpty() && inFlight < lowLimit(current)) {
+            grant(lowQueue.pollFirst());
+        }
+    }
+
+    private void grant(final Waiter waiter) {
+        waiter.permit = admit();
+        waiter.latch.countDown();
+    }
+
+    private Deque<Waiter> queueOf(final AdmissionPriority priority) {
+        return priority == AdmissionPriority.HIGH ? highQueue : lowQueue;
+    }
+
+    public final class Permit {
+        private final int inFlight;
+        private final long startNanos = System.nanoTime();
+        private boolean released;
+
+        private Permit(final int inFlight) {
+            this.inFlight = inFlight;
+        }
+
+        public void release() {
+            if (released) {
+                return;
+            }
+            released = true;
+            AdmissionController.this.release(this, System.nanoTime() - startNanos);
+        }
+    }
+
+    private static final class Waiter {
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private Permit permit;
+    }
+}
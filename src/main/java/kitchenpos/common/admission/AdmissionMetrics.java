@@ -0,0 +1,12 @@
+package kitchenpos.common.admission;
+
+public record AdmissionMetrics(
+    int limit,
+    int inFlight,
+    int queuedHigh,
+    int queuedLow,
+    long admitted,
+    long queued,
+    long rejected
+) {
+}
@@ -0,0 +1,6 @@
+package kitchenpos.common.admission;
+
+public enum AdmissionPriority {
+    HIGH,
+    LOW
+}
@@ -0,0 +1,88 @@
+package kitchenpos.common.domain;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0L);
+
+    private final long amount;
+
+    private Money(final long amount) {
+        this.amount = amount;
+    }
+
+    public static Money of(final long amount) {
+        if (amount == 0L) {
+            return ZERO;
+        }
+        return new Money(amount);
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money from(final BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            return of(amount.setScale(0, RoundingMode.UNNECESSARY).longValueExact());
+        } catch (final ArithmeticException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    public Money plus(final Money other) {
+        return of(Math.addExact(amount, other.amount));
+    }
+
+    public Money times(final long quantity) {
+        return of(Math.multiplyExact(amount, quantity));
+    }
+
+    public boolean isNegative() {
+        return amount < 0L;
+    }
+
+    public boolean isGreaterThan(final Money other) {
+        return amount > other.amount;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    @JsonValue
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount);
+    }
+
+    @Override
+    public int compareTo(final Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money money)) {
+            return false;
+        }
+        return amount == money.amount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return String.valueOf(amount);
+    }
+}
@@ -0,0 +1,28 @@
+package kitchenpos.common.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    private static final int COLUMN_SCALE = 2;
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Money money) {
+        if (Objects.isNull(money)) {
+            return null;
+        }
+        return BigDecimal.valueOf(money.getAmount(), 0).setScale(COLUMN_SCALE);
+    }
+
+    @Override
+    public Money convertToEntityAttribute(final BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            return null;
+        }
+        return Money.from(amount);
+    }
+}
@@ -0,0 +1,4 @@
+package kitchenpos.common.event;
+
+public interface DomainEvent {
+}
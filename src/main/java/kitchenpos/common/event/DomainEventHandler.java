@@ -0,0 +1,11 @@
+package kitchenpos.common.event;
+
+public interface DomainEventHandler<E extends DomainEvent> {
+    Class<E> eventType();
+
+    void handle(E event);
+
+    default boolean isTransactional() {
+        return false;
+    }
+}
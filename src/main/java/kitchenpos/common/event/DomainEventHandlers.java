@@ -0,0 +1,32 @@
+package kitchenpos.common.event;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DomainEventHandlers {
+    private final List<DomainEventHandler<?>> handlers;
+    private final Map<Class<?>, List<DomainEventHandler<?>>> handlersByType = new ConcurrentHashMap<>();
+
+    public DomainEventHandlers(final List<DomainEventHandler<?>> handlers) {
+        this.handlers = List.copyOf(handlers);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void dispatch(final DomainEvent event, final boolean transactional) {
+        for (final DomainEventHandler handler : matched(event)) {
+            if (handler.isTransactional() == transactional) {
+                handler.handle(event);
+            }
+        }
+    }
+
+    private List<DomainEventHandler<?>> matched(final DomainEvent event) {
+        return handlersByType.computeIfAbsent(
+            event.getClass(),
+            type -> handlers.stream()
+                .filter(handler -> handler.eventType().isAssignableFrom(type))
+                .toList()
+        );
+    }
+}
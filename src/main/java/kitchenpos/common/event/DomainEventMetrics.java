@@ -0,0 +1,15 @@
+package kitchenpos.common.event;
+
+public record DomainEventMetrics(
+    long published,
+    long dispatched,
+    long failed,
+    long overflowed,
+    long backlog,
+    int capacity,
+    long meanLagMicros,
+    long p50LagMicros,
+    long p99LagMicros,
+    long maxLagMicros
+) {
+}
@@ -0,0 +1,5 @@
+package kitchenpos.common.event;
+
+public interface DomainEventPublisher {
+    void publish(DomainEvent event);
+}
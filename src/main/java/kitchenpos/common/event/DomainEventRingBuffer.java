@@ -0,0 +1,70 @@
+package kitchenpos.common.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class DomainEventRingBuffer {
+    private final int capacity;
+    private final int mask;
+    private final DomainEvent[] events;
+    private final long[] publishedNanos;
+    private final AtomicLongArray sequences;
+    private final AtomicLong claimed = new AtomicLong(-1L);
+    private final AtomicLong consumed = new AtomicLong(-1L);
+
+    public DomainEventRingBuffer(final int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.events = new DomainEvent[capacity];
+        this.publishedNanos = new long[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, -1L);
+        }
+    }
+
+    public boolean offer(final DomainEvent event) {
+        long sequence;
+        do {
+            sequence = claimed.get() + 1L;
+            if (sequence - consumed.get() > capacity) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence - 1L, sequence));
+        final int index = (int) (sequence & mask);
+        events[index] = event;
+        publishedNanos[index] = System.nanoTime();
+        sequences.lazySet(index, sequence);
+        return true;
+    }
+
+    public boolean poll(final Consumer consumer) {
+        final long sequence = consumed.get() + 1L;
+        final int index = (int) (sequence & mask);
+        if (sequences.get(index) != sequence) {
+            return false;
+        }
+        final DomainEvent event = events[index];
+        final long nanos = publishedNanos[index];
+        events[index] = null;
+        consumed.lazySet(sequence);
+        consumer.accept(event, nanos);
+        return true;
+    }
+
+    public long backlog() {
+        return Math.max(0L, claimed.get() - consumed.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    @FunctionalInterface
+    public interface Consumer {
+        void accept(DomainEvent event, long publishedNanos);
+    }
+}
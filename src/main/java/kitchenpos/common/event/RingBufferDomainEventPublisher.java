@@ -0,0 +1,152 @@
+package kitchenpos.common.event;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kitchenpos.common.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+@Component
+public class RingBufferDomainEventPublisher implements DomainEventPublisher {
+    private static final Logger log = LoggerFactory.getLogger(RingBufferDomainEventPublisher.class);
+    private static final int SPINS_BEFORE_PARK = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50L);
+
+    private final DomainEventHandlers handlers;
+    private final DomainEventRingBuffer ringBuffer;
+    private final long offerTimeoutNanos;
+    private final LatencyHistogram lag = new LatencyHistogram();
+    private final LongAdder published = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder overflowed = new LongAdder();
+    private final Thread dispatcher;
+    private volatile boolean running = true;
+
+    public RingBufferDomainEventPublisher(
+        final List<DomainEventHandler<?>> handlers,
+        @Value("${kitchenpos.domain-events.buffer-size:4096}") final int bufferSize,
+        @Value("${kitchenpos.domain-events.offer-timeout:PT1S}") final Duration offerTimeout
+    ) {
+        this.handlers = new DomainEventHandlers(handlers);
+        this.ringBuffer = new DomainEventRingBuffer(bufferSize);
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.dispatcher = new Thread(this::run, "domain-event-dispatcher");
+        this.dispatcher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        dispatcher.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(dispatcher);
+        dispatcher.join(TimeUnit.SECONDS.toMillis(10L));
+    }
+
+    @Override
+    public void publish(final DomainEvent event) {
+        handlers.dispatch(event, true);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().add(event);
+            return;
+        }
+        enqueue(event);
+    }
+
+    public DomainEventMetrics metrics() {
+        return new DomainEventMetrics(
+            published.sum(),
+            dispatched.sum(),
+            failed.sum(),
+            overflowed.sum(),
+            ringBuffer.backlog(),
+            ringBuffer.capacity(),
+            lag.mean(),
+            lag.percentile(50.0),
+            lag.percentile(99.0),
+            lag.max()
+        );
+    }
+
+    private void enqueue(final DomainEvent event) {
+        published.increment();
+        if (Thread.currentThread() == dispatcher) {
+            dispatch(event, System.nanoTime());
+            return;
+        }
+        final long deadline = System.nanoTime() + offerTimeoutNanos;
+        while (!ringBuffer.offer(event)) {
+            if (System.nanoTime() - deadline > 0L) {
+                overflowed.increment();
+                dispatch(event, System.nanoTime());
+                return;
+            }
+            LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+    }
+
+    private void run() {
+        int idle = 0;
+        while (running || ringBuffer.backlog() > 0L) {
+            if (ringBuffer.poll(this::dispatch)) {
+                idle = 0;
+                continue;
+            }
+            if (++idle < SPINS_BEFORE_PARK) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void dispatch(final DomainEvent event, final long publishedNanos) {
+        lag.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - publishedNanos));
+        try {
+            handlers.dispatch(event, false);
+        } catch (final RuntimeException e) {
+            failed.increment();
+            log.error("Failed to handle {}", event, e);
+        } finally {
+            dispatched.increment();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DomainEvent> pending() {
+        final List<DomainEvent> bound = (List<DomainEvent>) TransactionSynchronizationManager.getResource(this);
+        if (Objects.nonNull(bound)) {
+            return bound;
+        }
+        final List<DomainEvent> events = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                events.forEach(RingBufferDomainEventPublisher.this::enqueue);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RingBufferDomainEventPublisher.this);
+            }
+        });
+        return events;
+    }
+}
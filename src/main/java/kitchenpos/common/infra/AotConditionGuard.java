@@ -0,0 +1,56 @@
+package kitchenpos.common.infra;
+
+import kitchenpos.catalog.infra.CatalogSnapshotManager;
+import kitchenpos.common.ui.QueryCountResponseHeaderAdvice;
+import kitchenpos.deliveryorders.infra.HttpKitchenridersClient;
+import kitchenpos.eatinorders.infra.WriteBehindOrderRepository;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Component
+public class AotConditionGuard implements SmartInitializingSingleton {
+    private static final Map<String, Class<?>> CONDITIONAL_BEANS = new TreeMap<>(Map.of(
+        "kitchenpos.kitchenriders.enabled", HttpKitchenridersClient.class,
+        "kitchenpos.order-engine.enabled", WriteBehindOrderRepository.class,
+        "kitchenpos.catalog-snapshot.enabled", CatalogSnapshotManager.class,
+        "kitchenpos.perf-data.enabled", PerfDataGenerator.class,
+        "kitchenpos.query-counter.response-headers", QueryCountResponseHeaderAdvice.class
+    ));
+
+    private final ListableBeanFactory beanFactory;
+    private final Environment environment;
+
+    public AotConditionGuard(final ListableBeanFactory beanFactory, final Environment environment) {
+        this.beanFactory = beanFactory;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        final List<String> mismatches = new ArrayList<>();
+        for (final Map.Entry<String, Class<?>> entry : CONDITIONAL_BEANS.entrySet()) {
+            final boolean enabled = environment.getProperty(entry.getKey(), Boolean.class, false);
+            final boolean processed = beanFactory.getBeanNamesForType(entry.getValue(), true, false).length > 0;
+            if (enabled != processed) {
+                mismatches.add(entry.getKey() + "=" + enabled + " (processAot saw " + processed + ")");
+            }
+        }
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException(
+                "AOT-processed context was built with different toggles, rerun processAot with the same -P values: "
+                    + String.join(", ", mismatches)
+            );
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kitchenpos.common.infra;
+
+public record EndpointQueryMetric(
+    String endpoint,
+    long requests,
+    long statements,
+    long rows,
+    long jdbcMillis,
+    long maxStatements
+) {
+}
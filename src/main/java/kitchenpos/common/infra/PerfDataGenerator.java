@@ -0,0 +1,335 @@
+package kitchenpos.common.infra;
+
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+
+@ConditionalOnProperty(name = "kitchenpos.perf-data.enabled", havingValue = "true")
+@Component
+public class PerfDataGenerator implements ApplicationRunner {
+    private static final Logger log = LoggerFactory.getLogger(PerfDataGenerator.class);
+    private static final int BATCH_SIZE = 500;
+    private static final int ORDER_CHUNK_SIZE = 10_000;
+    private static final int ACTIVE_ORDER_PERCENT = 1;
+    private static final long CHANGE_VERSION = 1L;
+    private static final String INSERT_PRODUCT_SQL = "insert into product "
+        + "(id, name, price, change_version) values (?, ?, ?, ?)";
+    private static final String INSERT_MENU_GROUP_SQL = "insert into menu_group "
+        + "(id, name, change_version) values (?, ?, ?)";
+    private static final String INSERT_MENU_SQL = "insert into menu "
+        + "(id, displayed, name, price, menu_group_id, change_version) values (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_MENU_PRODUCT_SQL = "insert into menu_product "
+        + "(quantity, product_id, menu_id) values (?, ?, ?)";
+    private static final String INSERT_ORDER_TABLE_SQL = "insert into order_table "
+        + "(id, occupied, name, number_of_guests) values (?, ?, ?, ?)";
+    private static final String INSERT_ORDER_SQL = "insert into orders "
+        + "(id, type, status, order_date_time, status_changed_date_time, delivery_address, order_table_id) "
+        + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_LINE_ITEM_SQL = "insert into order_line_item "
+        + "(order_id, menu_id, menu_name, quantity, price) values (?, ?, ?, ?, ?)";
+    private static final String COUNT_COMPLETED_RUNS_SQL = "select count(*) from perf_data_run where seed = ? and orders = ?";
+    private static final String INSERT_COMPLETED_RUN_SQL = "insert into perf_data_run "
+        + "(seed, orders, completed_date_time) values (?, ?, ?)";
+    private static final List<String> CLEAR_SQLS = List.of(
+        "delete from perf_data_run",
+        "delete from order_line_item",
+        "delete from orders",
+        "delete from order_table",
+        "delete from menu_product",
+        "delete from menu",
+        "delete from menu_group",
+        "delete from product"
+    );
+    private static final OrderStatus[] DELIVERY_STATUSES = {
+        OrderStatus.WAITING, OrderStatus.ACCEPTED, OrderStatus.SERVED, OrderStatus.DELIVERING, OrderStatus.DELIVERED
+    };
+    private static final OrderStatus[] IN_STORE_STATUSES = {
+        OrderStatus.WAITING, OrderStatus.ACCEPTED, OrderStatus.SERVED
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int products;
+    private final int menuGroups;
+    private final int menus;
+    private final int orderTables;
+    private final int orders;
+    private final int days;
+    private final long seed;
+
+    @Autowired
+    public PerfDataGenerator(
+        final JdbcTemplate jdbcTemplate,
+        @Value("${kitchenpos.perf-data.products:2000}") final int products,
+        @Value("${kitchenpos.perf-data.menu-groups:50}") final int menuGroups,
+        @Value("${kitchenpos.perf-data.menus:10000}") final int menus,
+        @Value("${kitchenpos.perf-data.order-tables:200}") final int orderTables,
+        @Value("${kitchenpos.perf-data.orders:1000000}") final int orders,
+        @Value("${kitchenpos.perf-data.days:365}") final int days,
+        @Value("${kitchenpos.perf-data.seed:42}") final long seed
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.products = products;
+        this.menuGroups = menuGroups;
+        this.menus = menus;
+        this.orderTables = orderTables;
+        this.orders = orders;
+        this.days = days;
+        this.seed = seed;
+    }
+
+    @Override
+    public void run(final ApplicationArguments args) {
+        final Long completed = jdbcTemplate.queryForObject(COUNT_COMPLETED_RUNS_SQL, Long.class, seed, orders);
+        if (Objects.nonNull(completed) && completed > 0L) {
+            log.info("perf data already present: seed={} orders={}", seed, orders);
+            return;
+        }
+        final long started = System.nanoTime();
+        clear();
+        final Random random = new Random(seed);
+        final List<GeneratedProduct> generatedProducts = insertProducts(random);
+        final List<UUID> menuGroupIds = insertMenuGroups(random);
+        final List<GeneratedMenu> generatedMenus = insertMenus(random, generatedProducts, menuGroupIds);
+        final List<GeneratedOrderTable> generatedOrderTables = insertOrderTables(random);
+        insertOrders(random, generatedMenus, generatedOrderTables);
+        jdbcTemplate.update(INSERT_COMPLETED_RUN_SQL, seed, orders, Timestamp.valueOf(LocalDateTime.now()));
+        log.info(
+            "perf data generated: products={} menuGroups={} menus={} orderTables={} orders={} in {}ms",
+            products, menuGroups, menus, orderTables, orders, (System.nanoTime() - started) / 1_000_000L
+        );
+    }
+
+    private void clear() {
+        for (final String sql : CLEAR_SQLS) {
+            final int deleted = jdbcTemplate.update(sql);
+            if (deleted > 0) {
+                log.info("perf data cleared before regeneration: {} ({} rows)", sql, deleted);
+            }
+        }
+    }
+
+    private List<GeneratedProduct> insertProducts(final Random random) {
+        final List<GeneratedProduct> generated = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            generated.add(new GeneratedProduct(uuid(random), "상품 " + (i + 1), price(random, 1, 30)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, generated, BATCH_SIZE, (statement, product) -> {
+            statement.setBytes(1, Uuids.toBytes(product.id()));
+            statement.setString(2, product.name());
+            statement.setBigDecimal(3, product.price());
+            statement.setLong(4, CHANGE_VERSION);
+        });
+        return generated;
+    }
+
+    private List<UUID> insertMenuGroups(final Random random) {
+        final List<GeneratedMenuGroup> generated = new ArrayList<>(menuGroups);
+        for (int i = 0; i < menuGroups; i++) {
+            generated.add(new GeneratedMenuGroup(uuid(random), "메뉴 그룹 " + (i + 1)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_MENU_GROUP_SQL, generated, BATCH_SIZE, (statement, menuGroup) -> {
+            statement.setBytes(1, Uuids.toBytes(menuGroup.id()));
+            statement.setString(2, menuGroup.name());
+            statement.setLong(3, CHANGE_VERSION);
+        });
+        return generated.stream()
+            .map(GeneratedMenuGroup::id)
+            .toList();
+    }
+
+    private List<GeneratedMenu> insertMenus(
+        final Random random,
+        final List<GeneratedProduct> generatedProducts,
+        final List<UUID> menuGroupIds
+    ) {
+        final List<GeneratedMenu> generated = new ArrayList<>(menus);
+        final List<GeneratedMenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < menus; i++) {
+            final UUID menuId = uuid(random);
+            final int size = 1 + random.nextInt(3);
+            BigDecimal sum = BigDecimal.ZERO;
+            for (int j = 0; j < size; j++) {
+                final GeneratedProduct product = generatedProducts.get(random.nextInt(generatedProducts.size()));
+                final long quantity = 1L + random.nextInt(2);
+                menuProducts.add(new GeneratedMenuProduct(menuId, product.id(), quantity));
+                sum = sum.add(product.price().multiply(BigDecimal.valueOf(quantity)));
+            }
+            final BigDecimal price = sum.subtract(BigDecimal.valueOf(1_000L * random.nextInt(2)))
+                .max(BigDecimal.valueOf(1_000L));
+            generated.add(new GeneratedMenu(
+                menuId,
+                "메뉴 " + (i + 1),
+                price,
+                menuGroupIds.get(random.nextInt(menuGroupIds.size())),
+                random.nextInt(100) < 95
+            ));
+        }
+        jdbcTemplate.batchUpdate(INSERT_MENU_SQL, generated, BATCH_SIZE, (statement, menu) -> {
+            statement.setBytes(1, Uuids.toBytes(menu.id()));
+            statement.setBoolean(2, menu.displayed());
+            statement.setString(3, menu.name());
+            statement.setBigDecimal(4, menu.price());
+            statement.setBytes(5, Uuids.toBytes(menu.menuGroupId()));
+            statement.setLong(6, CHANGE_VERSION);
+        });
+        jdbcTemplate.batchUpdate(INSERT_MENU_PRODUCT_SQL, menuProducts, BATCH_SIZE, (statement, menuProduct) -> {
+            statement.setLong(1, menuProduct.quantity());
+            statement.setBytes(2, Uuids.toBytes(menuProduct.productId()));
+            statement.setBytes(3, Uuids.toBytes(menuProduct.menuId()));
+        });
+        return generated;
+    }
+
+    private List<GeneratedOrderTable> insertOrderTables(final Random random) {
+        final List<GeneratedOrderTable> generated = new ArrayList<>(orderTables);
+        for (int i = 0; i < orderTables; i++) {
+            final boolean occupied = i % 2 == 0;
+            generated.add(new GeneratedOrderTable(uuid(random), (i + 1) + "번", occupied, occupied ? 1 + random.nextInt(6) : 0));
+        }
+        jdbcTemplate.batchUpdate(INSERT_ORDER_TABLE_SQL, generated, BATCH_SIZE, (statement, orderTable) -> {
+            statement.setBytes(1, Uuids.toBytes(orderTable.id()));
+            statement.setBoolean(2, orderTable.occupied());
+            statement.setString(3, orderTable.name());
+            statement.setInt(4, orderTable.numberOfGuests());
+        });
+        return generated;
+    }
+
+    private void insertOrders(
+        final Random random,
+        final List<GeneratedMenu> generatedMenus,
+        final List<GeneratedOrderTable> generatedOrderTables
+    ) {
+        final List<GeneratedMenu> displayedMenus = generatedMenus.stream()
+            .filter(GeneratedMenu::displayed)
+            .toList();
+        final List<GeneratedOrderTable> occupiedOrderTables = generatedOrderTables.stream()
+            .filter(GeneratedOrderTable::occupied)
+            .toList();
+        final LocalDateTime now = LocalDateTime.now();
+        final long spanSeconds = days * 86_400L;
+        final int activeFrom = orders - orders * ACTIVE_ORDER_PERCENT / 100;
+        for (int from = 0; from < orders; from += ORDER_CHUNK_SIZE) {
+            final int to = Math.min(from + ORDER_CHUNK_SIZE, orders);
+            final List<GeneratedOrder> chunk = new ArrayList<>(to - from);
+            final List<GeneratedOrderLineItem> orderLineItems = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                final boolean active = i >= activeFrom;
+                final LocalDateTime orderDateTime = now.minusSeconds(spanSeconds * (orders - i) / orders);
+                final GeneratedOrder order = order(random, active, orderDateTime, generatedOrderTables, occupiedOrderTables);
+                chunk.add(order);
+                final int size = 1 + random.nextInt(3);
+                for (int j = 0; j < size; j++) {
+                    final GeneratedMenu menu = displayedMenus.get(random.nextInt(displayedMenus.size()));
+                    orderLineItems.add(new GeneratedOrderLineItem(order.id(), menu, 1L + random.nextInt(3)));
+                }
+            }
+            jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, chunk, BATCH_SIZE, (statement, order) -> {
+                statement.setBytes(1, Uuids.toBytes(order.id()));
+                statement.setString(2, order.type().name());
+                statement.setString(3, order.status().name());
+                statement.setTimestamp(4, Timestamp.valueOf(order.orderDateTime()));
+                statement.setTimestamp(5, Timestamp.valueOf(order.statusChangedDateTime()));
+                statement.setString(6, order.deliveryAddress());
+                statement.setBytes(7, Objects.isNull(order.orderTableId()) ? null : Uuids.toBytes(order.orderTableId()));
+            });
+            jdbcTemplate.batchUpdate(INSERT_ORDER_LINE_ITEM_SQL, orderLineItems, BATCH_SIZE, (statement, orderLineItem) -> {
+                statement.setBytes(1, Uuids.toBytes(orderLineItem.orderId()));
+                statement.setBytes(2, Uuids.toBytes(orderLineItem.menu().id()));
+                statement.setString(3, orderLineItem.menu().name());
+                statement.setLong(4, orderLineItem.quantity());
+                statement.setBigDecimal(5, orderLineItem.menu().price());
+            });
+            if (to % (ORDER_CHUNK_SIZE * 10) == 0 || to == orders) {
+                log.info("perf data orders: {}/{}", to, orders);
+            }
+        }
+    }
+
+    private GeneratedOrder order(
+        final Random random,
+        final boolean active,
+        final LocalDateTime orderDateTime,
+        final List<GeneratedOrderTable> generatedOrderTables,
+        final List<GeneratedOrderTable> occupiedOrderTables
+    ) {
+        final int dice = random.nextInt(100);
+        final OrderType type = dice < 50 ? OrderType.EAT_IN : dice < 80 ? OrderType.DELIVERY : OrderType.TAKEOUT;
+        final OrderStatus status;
+        if (!active) {
+            status = OrderStatus.COMPLETED;
+        } else if (type == OrderType.DELIVERY) {
+            status = DELIVERY_STATUSES[random.nextInt(DELIVERY_STATUSES.length)];
+        } else {
+            status = IN_STORE_STATUSES[random.nextInt(IN_STORE_STATUSES.length)];
+        }
+        UUID orderTableId = null;
+        if (type == OrderType.EAT_IN) {
+            final List<GeneratedOrderTable> candidates = active ? occupiedOrderTables : generatedOrderTables;
+            orderTableId = candidates.get(random.nextInt(candidates.size())).id();
+        }
+        return new GeneratedOrder(
+            uuid(random),
+            type,
+            status,
+            orderDateTime,
+            orderDateTime.plusMinutes(5L + random.nextInt(55)),
+            type == OrderType.DELIVERY ? "서울시 송파구 위례성대로 " + (1 + random.nextInt(500)) : null,
+            orderTableId
+        );
+    }
+
+    private static UUID uuid(final Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private static BigDecimal price(final Random random, final int minThousands, final int maxThousands) {
+        return BigDecimal.valueOf(1_000L * (minThousands + random.nextInt(maxThousands - minThousands + 1)));
+    }
+
+    private record GeneratedProduct(UUID id, String name, BigDecimal price) {
+    }
+
+    private record GeneratedMenuGroup(UUID id, String name) {
+    }
+
+    private record GeneratedMenu(UUID id, String name, BigDecimal price, UUID menuGroupId, boolean displayed) {
+    }
+
+    private record GeneratedMenuProduct(UUID menuId, UUID productId, long quantity) {
+    }
+
+    private record GeneratedOrderTable(UUID id, String name, boolean occupied, int numberOfGuests) {
+    }
+
+    private record GeneratedOrder(
+        UUID id,
+        OrderType type,
+        OrderStatus status,
+        LocalDateTime orderDateTime,
+        LocalDateTime statusChangedDateTime,
+        String deliveryAddress,
+        UUID orderTableId
+    ) {
+    }
+
+    private record GeneratedOrderLineItem(UUID orderId, GeneratedMenu menu, long quantity) {
+    }
+}
@@ -0,0 +1,38 @@
+package kitchenpos.common.infra;
+
+public final class QueryCounter {
+    private static final ThreadLocal<QueryStatistics> STATISTICS = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static QueryStatistics start() {
+        final QueryStatistics statistics = new QueryStatistics();
+        STATISTICS.set(statistics);
+        return statistics;
+    }
+
+    public static QueryStatistics stop() {
+        final QueryStatistics statistics = STATISTICS.get();
+        STATISTICS.remove();
+        return statistics;
+    }
+
+    public static QueryStatistics current() {
+        return STATISTICS.get();
+    }
+
+    public static void recordStatement(final String sql, final long nanos) {
+        final QueryStatistics statistics = STATISTICS.get();
+        if (statistics != null) {
+            statistics.recordStatement(sql, nanos);
+        }
+    }
+
+    public static void recordRows(final long rows) {
+        final QueryStatistics statistics = STATISTICS.get();
+        if (statistics != null) {
+            statistics.recordRows(rows);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package kitchenpos.common.infra;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class QueryCountingDataSource extends DelegatingDataSource {
+    public QueryCountingDataSource(final DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        return connection(super.getConnection(username, password));
+    }
+
+    private static Connection connection(final Connection target) {
+        return (Connection) proxy(Connection.class, (proxy, method, args) -> {
+            final Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                final String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                return statement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private static Statement statement(final Statement target, final String preparedSql) {
+        final Class<? extends Statement> type;
+        if (target instanceof CallableStatement) {
+            type = CallableStatement.class;
+        } else if (target instanceof PreparedStatement) {
+            type = PreparedStatement.class;
+        } else {
+            type = Statement.class;
+        }
+        return (Statement) proxy(type, (proxy, method, args) -> {
+            final String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return resultSet(invoke(target, method, args));
+            }
+            final String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            final long startedAt = System.nanoTime();
+            final Object result = invoke(target, method, args);
+            QueryCounter.recordStatement(sql, System.nanoTime() - startedAt);
+            if (result instanceof Integer count && count > 0) {
+                QueryCounter.recordRows(count);
+            }
+            if (result instanceof Long count && count > 0) {
+                QueryCounter.recordRows(count);
+            }
+            if (result instanceof int[] counts) {
+                for (final int count : counts) {
+                    if (count > 0) {
+                        QueryCounter.recordRows(count);
+                    }
+                }
+            }
+            return resultSet(result);
+        });
+    }
+
+    private static Object resultSet(final Object result) {
+        if (!(result instanceof ResultSet target)) {
+            return result;
+        }
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            final Object next = invoke(target, method, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(next)) {
+                QueryCounter.recordRows(1L);
+            }
+            return next;
+        });
+    }
+
+    private static Object proxy(final Class<?> type, final InvocationHandler handler) {
+        return Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
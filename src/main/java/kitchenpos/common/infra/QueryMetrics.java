@@ -0,0 +1,47 @@
+package kitchenpos.common.infra;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class QueryMetrics {
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+
+    public void record(final String endpoint, final QueryStatistics statistics) {
+        final Counters endpointCounters = counters.computeIfAbsent(endpoint, key -> new Counters());
+        endpointCounters.requests.increment();
+        endpointCounters.statements.add(statistics.getStatements());
+        endpointCounters.rows.add(statistics.getRows());
+        endpointCounters.nanos.add(statistics.getNanos());
+        endpointCounters.maxStatements.accumulateAndGet(statistics.getStatements(), Math::max);
+    }
+
+    public List<EndpointQueryMetric> findAll() {
+        return counters.entrySet()
+            .stream()
+            .map(entry -> new EndpointQueryMetric(
+                entry.getKey(),
+                entry.getValue().requests.sum(),
+                entry.getValue().statements.sum(),
+                entry.getValue().rows.sum(),
+                entry.getValue().nanos.sum() / 1_000_000L,
+                entry.getValue().maxStatements.get()
+            ))
+            .sorted(Comparator.comparing(EndpointQueryMetric::endpoint))
+            .toList();
+    }
+
+    private static class Counters {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+    }
+}
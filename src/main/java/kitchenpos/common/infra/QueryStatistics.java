@@ -0,0 +1,58 @@
+package kitchenpos.common.infra;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class QueryStatistics {
+    private final Map<String, Integer> executions = new HashMap<>();
+    private long statements;
+    private long reads;
+    private long rows;
+    private long nanos;
+
+    public void recordStatement(final String sql, final long nanos) {
+        this.statements++;
+        this.nanos += nanos;
+        if (sql != null) {
+            executions.merge(sql, 1, Integer::sum);
+            if (sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                this.reads++;
+            }
+        }
+    }
+
+    public void recordRows(final long rows) {
+        this.rows += rows;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public long getReads() {
+        return reads;
+    }
+
+    public long getWrites() {
+        return statements - reads;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public long getMillis() {
+        return nanos / 1_000_000L;
+    }
+
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        return executions.entrySet()
+            .stream()
+            .max(Map.Entry.comparingByValue())
+            .orElse(null);
+    }
+}
@@ -0,0 +1,4 @@
+package kitchenpos.common.metrics;
+
+public record HeavyHitter<K>(K key, long count, long error) {
+}
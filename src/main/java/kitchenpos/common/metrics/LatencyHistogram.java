@@ -0,0 +1,109 @@
+package kitchenpos.common.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    public static final long MAX_VALUE = (1L << MAX_EXPONENT) - 1;
+    public static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(final long value) {
+        final long clamped = Math.min(Math.max(value, 0L), MAX_VALUE);
+        counts.incrementAndGet(indexOf(clamped));
+        total.addAndGet(clamped);
+        max.accumulateAndGet(clamped, Math::max);
+    }
+
+    public void add(final long[] counts, final long total, final long max) {
+        if (counts.length != BUCKET_COUNT) {
+            throw new IllegalArgumentException();
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0L) {
+                this.counts.addAndGet(i, counts[i]);
+            }
+        }
+        this.total.addAndGet(total);
+        this.max.accumulateAndGet(max, Math::max);
+    }
+
+    public long[] counts() {
+        final long[] snapshot = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+        }
+        return snapshot;
+    }
+
+    public long count() {
+        long count = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    public long total() {
+        return total.get();
+    }
+
+    public long max() {
+        return max.get();
+    }
+
+    public long mean() {
+        final long count = count();
+        if (count == 0L) {
+            return 0L;
+        }
+        return total.get() / count;
+    }
+
+    public long percentile(final double percentile) {
+        if (percentile < 0.0 || percentile > 100.0) {
+            throw new IllegalArgumentException();
+        }
+        final long[] snapshot = counts();
+        long count = 0L;
+        for (final long bucket : snapshot) {
+            count += bucket;
+        }
+        if (count == 0L) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    static int indexOf(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long upperBoundOf(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = index / SUB_BUCKET_COUNT - 1;
+        final long subBucket = SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
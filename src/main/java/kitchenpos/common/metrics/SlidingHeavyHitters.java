@@ -0,0 +1,60 @@
+package kitchenpos.common.metrics;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SlidingHeavyHitters<K> {
+    private final long slotMillis;
+    private final SpaceSavingSketch<K>[] sketches;
+    private final long[] epochs;
+
+    @SuppressWarnings("unchecked")
+    public SlidingHeavyHitters(final Duration window, final int slots, final int capacity) {
+        if (slots <= 0 || window.toMillis() < slots) {
+            throw new IllegalArgumentException();
+        }
+        this.slotMillis = window.toMillis() / slots;
+        this.sketches = new SpaceSavingSketch[slots];
+        this.epochs = new long[slots];
+        for (int i = 0; i < slots; i++) {
+            sketches[i] = new SpaceSavingSketch<>(capacity);
+            epochs[i] = -1L;
+        }
+    }
+
+    public synchronized void add(final K key, final long weight, final long nowMillis) {
+        final long epoch = nowMillis / slotMillis;
+        final int slot = (int) (epoch % sketches.length);
+        if (epochs[slot] != epoch) {
+            sketches[slot].clear();
+            epochs[slot] = epoch;
+        }
+        sketches[slot].add(key, weight);
+    }
+
+    public List<HeavyHitter<K>> top(final int limit, final long nowMillis) {
+        final Map<K, long[]> merged = new HashMap<>();
+        synchronized (this) {
+            final long epoch = nowMillis / slotMillis;
+            for (int slot = 0; slot < sketches.length; slot++) {
+                if (epochs[slot] <= epoch - sketches.length || epochs[slot] > epoch) {
+                    continue;
+                }
+                for (final HeavyHitter<K> entry : sketches[slot].entries()) {
+                    final long[] sums = merged.computeIfAbsent(entry.key(), key -> new long[2]);
+                    sums[0] += entry.count();
+                    sums[1] += entry.error();
+                }
+            }
+        }
+        return merged.entrySet()
+            .stream()
+            .map(entry -> new HeavyHitter<>(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+            .sorted(Comparator.comparingLong(HeavyHitter<K>::count).reversed())
+            .limit(limit)
+            .toList();
+    }
+}
@@ -0,0 +1,128 @@
+package kitchenpos.common.metrics;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SpaceSavingSketch<K> {
+    private final int capacity;
+    private final Map<K, Counter<K>> counters;
+    private final Counter<K>[] heap;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public SpaceSavingSketch(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    public void add(final K key, final long weight) {
+        if (weight <= 0L) {
+            throw new IllegalArgumentException();
+        }
+        final Counter<K> counter = counters.get(key);
+        if (counter != null) {
+            counter.count += weight;
+            siftDown(counter.index);
+            return;
+        }
+        if (size < capacity) {
+            final Counter<K> created = new Counter<>(key, weight, 0L, size);
+            heap[size++] = created;
+            counters.put(key, created);
+            siftUp(created.index);
+            return;
+        }
+        final Counter<K> min = heap[0];
+        counters.remove(min.key);
+        min.key = key;
+        min.error = min.count;
+        min.count += weight;
+        counters.put(key, min);
+        siftDown(0);
+    }
+
+    public List<HeavyHitter<K>> entries() {
+        final List<HeavyHitter<K>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new HeavyHitter<>(heap[i].key, heap[i].count, heap[i].error));
+        }
+        return entries;
+    }
+
+    public List<HeavyHitter<K>> top(final int limit) {
+        return entries().stream()
+            .sorted(Comparator.comparingLong(HeavyHitter<K>::count).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            heap[i] = null;
+        }
+        counters.clear();
+        size = 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private void siftUp(int index) {
+        final Counter<K> counter = heap[index];
+        while (index > 0) {
+            final int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        final Counter<K> counter = heap[index];
+        while (true) {
+            int child = (index << 1) + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(final Counter<K> counter, final int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter<K> {
+        private K key;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(final K key, final long count, final long error, final int index) {
+            this.key = key;
+            this.count = count;
+            this.error = error;
+            this.index = index;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package kitchenpos.common.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+
+public record RateLimit(double permitsPerSecond, int burst) {
+    public RateLimit {
+        if (permitsPerSecond <= 0.0 || burst <= 0) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static RateLimit parse(final String value) {
+        final String[] tokens = value.trim().split(":");
+        if (tokens.length != 2) {
+            throw new IllegalArgumentException();
+        }
+        return new RateLimit(Double.parseDouble(tokens[0]), Integer.parseInt(tokens[1]));
+    }
+
+    public long intervalNanos() {
+        return Math.max(1L, (long) (TimeUnit.SECONDS.toNanos(1L) / permitsPerSecond));
+    }
+}
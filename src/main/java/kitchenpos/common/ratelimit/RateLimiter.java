@@ -0,0 +1,102 @@
+package kitchenpos.common.ratelimit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+@Component
+public class RateLimiter {
+    private final RateLimit defaultRateLimit;
+    private final Map<String, RateLimit> endpointRateLimits;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final TokenBucket overflow;
+    private final AtomicBoolean purging = new AtomicBoolean();
+
+    @Autowired
+    public RateLimiter(
+        @Value("${kitchenpos.rate-limit.default:20:40}") final String defaultRateLimit,
+        @Value("${kitchenpos.rate-limit.endpoints:}") final String endpointRateLimits,
+        @Value("${kitchenpos.rate-limit.max-keys:10000}") final int maxKeys
+    ) {
+        this(RateLimit.parse(defaultRateLimit), parseEndpoints(endpointRateLimits), maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(
+        final RateLimit defaultRateLimit,
+        final Map<String, RateLimit> endpointRateLimits,
+        final int maxKeys,
+        final LongSupplier nanoClock
+    ) {
+        if (maxKeys <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.defaultRateLimit = defaultRateLimit;
+        this.endpointRateLimits = Map.copyOf(endpointRateLimits);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.overflow = new TokenBucket(defaultRateLimit, nanoClock.getAsLong());
+    }
+
+    public long tryAcquire(final String terminalId, final String endpoint) {
+        final RateLimit endpointRateLimit = endpointRateLimits.get(endpoint);
+        final String key = Objects.isNull(endpointRateLimit) ? terminalId : terminalId + ' ' + endpoint;
+        final long now = nanoClock.getAsLong();
+        TokenBucket bucket = buckets.get(key);
+        if (Objects.isNull(bucket)) {
+            bucket = bucketOf(key, Objects.isNull(endpointRateLimit) ? defaultRateLimit : endpointRateLimit, now);
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.rate-limit.purge-interval:PT1M}")
+    public void purge() {
+        if (!purging.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            final long now = nanoClock.getAsLong();
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        } finally {
+            purging.set(false);
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private TokenBucket bucketOf(final String key, final RateLimit rateLimit, final long now) {
+        if (buckets.size() >= maxKeys) {
+            purge();
+            if (buckets.size() >= maxKeys) {
+                return overflow;
+            }
+        }
+        return buckets.computeIfAbsent(key, ignored -> new TokenBucket(rateLimit, now));
+    }
+
+    private static Map<String, RateLimit> parseEndpoints(final String value) {
+        final Map<String, RateLimit> rateLimits = new HashMap<>();
+        for (final String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            final int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException();
+            }
+            rateLimits.put(entry.substring(0, separator).trim(), RateLimit.parse(entry.substring(separator + 1)));
+        }
+        return rateLimits;
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.common.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(final RateLimit rateLimit, final long nowNanos) {
+        this.intervalNanos = rateLimit.intervalNanos();
+        this.toleranceNanos = intervalNanos * (rateLimit.burst() - 1L);
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    public long tryAcquire(final long nowNanos) {
+        while (true) {
+            final long theoreticalArrival = theoreticalArrivalNanos.get();
+            final long start = theoreticalArrival - nowNanos > 0L ? theoreticalArrival : nowNanos;
+            final long waitNanos = start - toleranceNanos - nowNanos;
+            if (waitNanos > 0L) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, start + intervalNanos)) {
+                return 0L;
+            }
+        }
+    }
+
+    public boolean isFull(final long nowNanos) {
+        return theoreticalArrivalNanos.get() - nowNanos <= 0L;
+    }
+}
@@ -0,0 +1,114 @@
+package kitchenpos.common.resilience;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class CircuitBreaker {
+    private final boolean[] outcomes;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier nanoClock;
+    private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+    private int recorded;
+    private int position;
+    private int failures;
+    private long openedNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(
+        final int windowSize,
+        final int minimumCalls,
+        final double failureRateThreshold,
+        final Duration openDuration,
+        final int halfOpenCalls,
+        final LongSupplier nanoClock
+    ) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0
+            || failureRateThreshold <= 0.0 || failureRateThreshold > 1.0) {
+            throw new IllegalArgumentException();
+        }
+        this.outcomes = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.nanoClock = nanoClock;
+    }
+
+    public synchronized boolean tryAcquire() {
+        if (state == CircuitBreakerState.OPEN) {
+            if (nanoClock.getAsLong() - openedNanos < openDurationNanos) {
+                return false;
+            }
+            state = CircuitBreakerState.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            if (++halfOpenSuccesses == halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == CircuitBreakerState.CLOSED) {
+            record(false);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == CircuitBreakerState.HALF_OPEN) {
+            open();
+            return;
+        }
+        if (state == CircuitBreakerState.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    public synchronized CircuitBreakerState state() {
+        return state;
+    }
+
+    private void record(final boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[position] = failure;
+        if (failure) {
+            failures++;
+        }
+        position = (position + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = CircuitBreakerState.OPEN;
+        openedNanos = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        state = CircuitBreakerState.CLOSED;
+        recorded = 0;
+        position = 0;
+        failures = 0;
+    }
+}
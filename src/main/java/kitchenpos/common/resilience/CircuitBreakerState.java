@@ -0,0 +1,7 @@
+package kitchenpos.common.resilience;
+
+public enum CircuitBreakerState {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+}
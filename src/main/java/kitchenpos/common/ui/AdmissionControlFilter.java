@@ -0,0 +1,64 @@
+package kitchenpos.common.ui;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kitchenpos.common.admission.AdmissionController;
+import kitchenpos.common.admission.AdmissionPriority;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Component
+public class AdmissionControlFilter extends OncePerRequestFilter {
+    private static final String ORDERS_PATH = "/api/orders";
+
+    private final AdmissionController admissionController;
+    private final String retryAfterSeconds;
+
+    public AdmissionControlFilter(
+        final AdmissionController admissionController,
+        @Value("${kitchenpos.admission.retry-after:PT1S}") final Duration retryAfter
+    ) {
+        this.admissionController = admissionController;
+        this.retryAfterSeconds = String.valueOf(Math.max(1L, retryAfter.toSeconds()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        final String uri = request.getRequestURI();
+        return !(uri.equals(ORDERS_PATH) || uri.startsWith(ORDERS_PATH + "/"));
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final AdmissionController.Permit permit = admissionController.tryAcquire(priorityOf(request));
+        if (Objects.isNull(permit)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permit.release();
+        }
+    }
+
+    private AdmissionPriority priorityOf(final HttpServletRequest request) {
+        return "PUT".equals(request.getMethod()) ? AdmissionPriority.HIGH : AdmissionPriority.LOW;
+    }
+}
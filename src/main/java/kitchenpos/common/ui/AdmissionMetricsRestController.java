@@ -0,0 +1,23 @@
+package kitchenpos.common.ui;
+
+import kitchenpos.common.admission.AdmissionController;
+import kitchenpos.common.admission.AdmissionMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/api/admission-metrics")
+@RestController
+public class AdmissionMetricsRestController {
+    private final AdmissionController admissionController;
+
+    public AdmissionMetricsRestController(final AdmissionController admissionController) {
+        this.admissionController = admissionController;
+    }
+
+    @GetMapping
+    public ResponseEntity<AdmissionMetrics> findAll() {
+        return ResponseEntity.ok(admissionController.metrics());
+    }
+}
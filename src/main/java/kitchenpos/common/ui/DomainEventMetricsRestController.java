@@ -0,0 +1,23 @@
+package kitchenpos.common.ui;
+
+import kitchenpos.common.event.DomainEventMetrics;
+import kitchenpos.common.event.RingBufferDomainEventPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/api/domain-event-metrics")
+@RestController
+public class DomainEventMetricsRestController {
+    private final RingBufferDomainEventPublisher domainEventPublisher;
+
+    public DomainEventMetricsRestController(final RingBufferDomainEventPublisher domainEventPublisher) {
+        this.domainEventPublisher = domainEventPublisher;
+    }
+
+    @GetMapping
+    public ResponseEntity<DomainEventMetrics> findAll() {
+        return ResponseEntity.ok(domainEventPublisher.metrics());
+    }
+}
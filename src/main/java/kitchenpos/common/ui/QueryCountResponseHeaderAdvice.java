@@ -0,0 +1,44 @@
+package kitchenpos.common.ui;
+
+import kitchenpos.common.infra.QueryCounter;
+import kitchenpos.common.infra.QueryStatistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Objects;
+
+@ConditionalOnProperty(name = "kitchenpos.query-counter.response-headers", havingValue = "true")
+@RestControllerAdvice
+public class QueryCountResponseHeaderAdvice implements ResponseBodyAdvice<Object> {
+    @Override
+    public boolean supports(
+        final MethodParameter returnType,
+        final Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+        final Object body,
+        final MethodParameter returnType,
+        final MediaType selectedContentType,
+        final Class<? extends HttpMessageConverter<?>> selectedConverterType,
+        final ServerHttpRequest request,
+        final ServerHttpResponse response
+    ) {
+        final QueryStatistics statistics = QueryCounter.current();
+        if (Objects.nonNull(statistics)) {
+            response.getHeaders().set("X-Query-Count", String.valueOf(statistics.getStatements()));
+            response.getHeaders().set("X-Query-Rows", String.valueOf(statistics.getRows()));
+            response.getHeaders().set("X-Query-Time-Millis", String.valueOf(statistics.getMillis()));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,60 @@
+package kitchenpos.common.ui;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kitchenpos.common.infra.QueryCounter;
+import kitchenpos.common.infra.QueryMetrics;
+import kitchenpos.common.infra.QueryStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+
+@Component
+public class QueryCountingFilter extends OncePerRequestFilter {
+    private static final Logger log = LoggerFactory.getLogger(QueryCountingFilter.class);
+
+    private final QueryMetrics queryMetrics;
+    private final int repeatedStatementThreshold;
+
+    public QueryCountingFilter(
+        final QueryMetrics queryMetrics,
+        @Value("${kitchenpos.query-counter.repeated-statement-threshold:5}") final int repeatedStatementThreshold
+    ) {
+        this.queryMetrics = queryMetrics;
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final QueryStatistics statistics = QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCounter.stop();
+            final String endpoint = endpointOf(request);
+            queryMetrics.record(endpoint, statistics);
+            final Map.Entry<String, Integer> repeated = statistics.mostRepeatedStatement();
+            if (Objects.nonNull(repeated) && repeated.getValue() >= repeatedStatementThreshold) {
+                log.warn("Possible N+1 in {}: statement executed {} times: {}", endpoint, repeated.getValue(), repeated.getKey());
+            }
+        }
+    }
+
+    private String endpointOf(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (Objects.isNull(pattern) ? request.getRequestURI() : pattern);
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.common.ui;
+
+import kitchenpos.common.infra.EndpointQueryMetric;
+import kitchenpos.common.infra.QueryMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequestMapping("/api/query-metrics")
+@RestController
+public class QueryMetricsRestController {
+    private final QueryMetrics queryMetrics;
+
+    public QueryMetricsRestController(final QueryMetrics queryMetrics) {
+        this.queryMetrics = queryMetrics;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<EndpointQueryMetric>> findAll() {
+        return ResponseEntity.ok(queryMetrics.findAll());
+    }
+}
@@ -0,0 +1,49 @@
+package kitchenpos.common.ui;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import kitchenpos.common.ratelimit.RateLimiter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private static final String TERMINAL_ID_HEADER = "X-Terminal-Id";
+    private static final int MAX_TERMINAL_ID_LENGTH = 64;
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(final RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+        final long waitNanos = rateLimiter.tryAcquire(terminalIdOf(request), endpointOf(request));
+        if (waitNanos == 0L) {
+            return true;
+        }
+        final long retryAfterSeconds = Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1L) - 1L));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setStatus(HttpServletResponse.SC_TOO_MANY_REQUESTS);
+        return false;
+    }
+
+    private String terminalIdOf(final HttpServletRequest request) {
+        final String terminalId = request.getHeader(TERMINAL_ID_HEADER);
+        if (Objects.isNull(terminalId) || terminalId.isBlank()) {
+            return request.getRemoteAddr();
+        }
+        return terminalId.length() > MAX_TERMINAL_ID_LENGTH ? terminalId.substring(0, MAX_TERMINAL_ID_LENGTH) : terminalId;
+    }
+
+    private String endpointOf(final HttpServletRequest request) {
+        final Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (Objects.isNull(pattern) ? request.getRequestURI() : pattern);
+    }
+}
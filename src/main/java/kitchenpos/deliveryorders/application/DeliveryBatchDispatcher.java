@@ -0,0 +1,333 @@
+package kitchenpos.deliveryorders.application;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.common.metrics.LatencyHistogram;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxEntry;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxRepository;
+import kitchenpos.deliveryorders.infra.DeliveryRequest;
+import kitchenpos.deliveryorders.infra.DeliveryResult;
+import kitchenpos.deliveryorders.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+@Component
+public class DeliveryBatchDispatcher {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryBatchDispatcher.class);
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+    private final int maxSize;
+    private final long windowNanos;
+    private final Duration claimTimeout;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final LongSupplier nanoClock;
+    private final Executor executor;
+    private final List<PendingDelivery> pending = new ArrayList<>();
+    private final LatencyHistogram batchSizes = new LatencyHistogram();
+    private final LatencyHistogram addedLatency = new LatencyHistogram();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder swept = new LongAdder();
+
+    @Autowired
+    public DeliveryBatchDispatcher(
+        final KitchenridersClient kitchenridersClient,
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        @Value("${kitchenpos.delivery-batch.max-size:20}") final int maxSize,
+        @Value("${kitchenpos.delivery-batch.window:PT0.2S}") final Duration window,
+        @Value("${kitchenpos.delivery-batch.claim-timeout:PT1M}") final Duration claimTimeout,
+        @Value("${kitchenpos.delivery-batch.retry-backoff:PT1S}") final Duration retryBackoff,
+        @Value("${kitchenpos.delivery-batch.max-retry-backoff:PT5M}") final Duration maxRetryBackoff,
+        @Value("${kitchenpos.delivery-batch.threads:2}") final int threads
+    ) {
+        this(
+            kitchenridersClient, deliveryOutboxRepository, maxSize, window, claimTimeout, retryBackoff, maxRetryBackoff,
+            System::nanoTime,
+            Executors.newFixedThreadPool(threads, runnable -> {
+                final Thread thread = new Thread(runnable, "delivery-batch-dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            })
+        );
+    }
+
+    DeliveryBatchDispatcher(
+        final KitchenridersClient kitchenridersClient,
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        final int maxSize,
+        final Duration window,
+        final Duration claimTimeout,
+        final Duration retryBackoff,
+        final Duration maxRetryBackoff,
+        final LongSupplier nanoClock,
+        final Executor executor
+    ) {
+        if (maxSize <= 0 || window.isNegative() || claimTimeout.isNegative() || claimTimeout.isZero() || retryBackoff.isNegative()
+            || maxRetryBackoff.compareTo(retryBackoff) < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+        this.maxSize = maxSize;
+        this.windowNanos = window.toNanos();
+        this.claimTimeout = claimTimeout;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.nanoClock = nanoClock;
+        this.executor = executor;
+    }
+
+    public void add(final DeliveryRequest request) {
+        final long now = nanoClock.getAsLong();
+        final List<PendingDelivery> batch;
+        synchronized (this) {
+            pending.add(new PendingDelivery(request, now, 0));
+            if (pending.size() < maxSize) {
+                return;
+            }
+            batch = take();
+        }
+        submit(batch);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery-batch.tick:PT0.05S}")
+    public void dispatchExpired() {
+        List<PendingDelivery> batch;
+        while (!(batch = takeExpired(nanoClock.getAsLong())).isEmpty()) {
+            submit(batch);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery-batch.sweep-interval:PT5S}")
+    public void sweep() {
+        int claimed;
+        do {
+            final String claimedBy = UUID.randomUUID().toString();
+            final List<PendingDelivery> batch = claimDue(claimedBy);
+            claimed = batch.size();
+            swept.add(claimed);
+            send(batch, claimedBy);
+        } while (claimed == maxSize);
+    }
+
+    @PreDestroy
+    public void dispatchAll() throws InterruptedException {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+            executorService.awaitTermination(10L, TimeUnit.SECONDS);
+        }
+        List<PendingDelivery> batch;
+        while (!(batch = takeAll()).isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    public synchronized int pending() {
+        return pending.size();
+    }
+
+    public DeliveryBatchMetrics metrics() {
+        return new DeliveryBatchMetrics(
+            pending(),
+            batches.sum(),
+            delivered.sum(),
+            retried.sum(),
+            swept.sum(),
+            batchSizes.mean(),
+            batchSizes.max(),
+            addedLatency.mean(),
+            addedLatency.percentile(99.0),
+            addedLatency.max()
+        );
+    }
+
+    private synchronized List<PendingDelivery> takeExpired(final long now) {
+        if (pending.isEmpty() || pending.size() < maxSize && now - pending.get(0).enqueuedNanos() < windowNanos) {
+            return Collections.emptyList();
+        }
+        return take();
+    }
+
+    private synchronized List<PendingDelivery> takeAll() {
+        if (pending.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return take();
+    }
+
+    private List<PendingDelivery> take() {
+        final List<PendingDelivery> head = pending.subList(0, Math.min(maxSize, pending.size()));
+        final List<PendingDelivery> batch = new ArrayList<>(head);
+        head.clear();
+        return batch;
+    }
+
+    private void submit(final List<PendingDelivery> batch) {
+        try {
+            executor.execute(() -> dispatch(batch));
+        } catch (final RejectedExecutionException e) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(final List<PendingDelivery> batch) {
+        final long now = nanoClock.getAsLong();
+        for (final PendingDelivery delivery : batch) {
+            addedLatency.record(TimeUnit.NANOSECONDS.toMicros(now - delivery.enqueuedNanos()));
+        }
+        final String claimedBy = UUID.randomUUID().toString();
+        final Set<UUID> claimed = claim(batch, claimedBy);
+        send(
+            batch.stream()
+                .filter(delivery -> claimed.contains(delivery.request().orderId()))
+                .toList(),
+            claimedBy
+        );
+    }
+
+    private void send(final List<PendingDelivery> batch, final String claimedBy) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final List<DeliveryRequest> requests = new ArrayList<>(batch.size());
+        for (final PendingDelivery delivery : batch) {
+            requests.add(delivery.request());
+        }
+        batches.increment();
+        batchSizes.record(batch.size());
+        final Set<UUID> accepted = accepted(requests);
+        final List<PendingDelivery> rejected = new ArrayList<>();
+        for (final PendingDelivery delivery : batch) {
+            if (accepted.contains(delivery.request().orderId())) {
+                delivered.increment();
+            } else {
+                retried.increment();
+                rejected.add(delivery);
+            }
+        }
+        forget(accepted);
+        release(rejected, claimedBy);
+    }
+
+    private List<PendingDelivery> claimDue(final String claimedBy) {
+        final LocalDateTime now = LocalDateTime.now();
+        try {
+            final List<UUID> due = deliveryOutboxRepository.findAllOrderIdsByNextAttemptDateTimeNotAfter(
+                now, PageRequest.of(0, maxSize)
+            );
+            if (due.isEmpty()) {
+                return Collections.emptyList();
+            }
+            deliveryOutboxRepository.claim(due, now, claimedBy, now.plus(claimTimeout));
+            final long enqueuedNanos = nanoClock.getAsLong();
+            return deliveryOutboxRepository.findAllByClaimedBy(claimedBy)
+                .stream()
+                .map(entry -> new PendingDelivery(request(entry), enqueuedNanos, entry.getAttempts()))
+                .toList();
+        } catch (final RuntimeException e) {
+            log.warn("Failed to claim due delivery requests from the outbox: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    private Set<UUID> claim(final List<PendingDelivery> batch, final String claimedBy) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<UUID> orderIds = batch.stream()
+            .map(delivery -> delivery.request().orderId())
+            .toList();
+        try {
+            deliveryOutboxRepository.claim(orderIds, now, claimedBy, now.plus(claimTimeout));
+            return deliveryOutboxRepository.findAllByClaimedBy(claimedBy)
+                .stream()
+                .map(DeliveryOutboxEntry::getOrderId)
+                .collect(Collectors.toSet());
+        } catch (final RuntimeException e) {
+            log.warn("Failed to claim {} delivery requests, leaving them to the outbox sweep: {}", orderIds.size(), e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    private void forget(final Set<UUID> accepted) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            deliveryOutboxRepository.deleteAllByOrderIdIn(accepted);
+        } catch (final RuntimeException e) {
+            log.warn("Failed to remove {} delivered requests from the outbox: {}", accepted.size(), e.getMessage());
+        }
+    }
+
+    private void release(final List<PendingDelivery> rejected, final String claimedBy) {
+        final LocalDateTime now = LocalDateTime.now();
+        final Map<Integer, List<UUID>> orderIdsByAttempts = rejected.stream()
+            .collect(Collectors.groupingBy(
+                delivery -> delivery.attempts() + 1,
+                Collectors.mapping(delivery -> delivery.request().orderId(), Collectors.toList())
+            ));
+        for (final Map.Entry<Integer, List<UUID>> entry : orderIdsByAttempts.entrySet()) {
+            final LocalDateTime nextAttemptDateTime = now.plus(backoff(entry.getKey()));
+            try {
+                deliveryOutboxRepository.release(entry.getValue(), claimedBy, entry.getKey(), nextAttemptDateTime);
+                log.warn("{} delivery requests were not accepted on attempt {}, retrying at {}", entry.getValue().size(), entry.getKey(), nextAttemptDateTime);
+            } catch (final RuntimeException e) {
+                log.warn("Failed to reschedule {} delivery requests, they retry once the claim expires: {}", entry.getValue().size(), e.getMessage());
+            }
+        }
+    }
+
+    private Duration backoff(final int attempts) {
+        final Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+    }
+
+    private Set<UUID> accepted(final List<DeliveryRequest> requests) {
+        final List<DeliveryResult> results;
+        try {
+            results = kitchenridersClient.requestDeliveries(requests);
+        } catch (final RuntimeException e) {
+            log.warn("Failed to request {} deliveries: {}", requests.size(), e.getMessage());
+            return Collections.emptySet();
+        }
+        final Set<UUID> accepted = new HashSet<>();
+        for (final DeliveryResult result : results) {
+            if (result.accepted()) {
+                accepted.add(result.orderId());
+            }
+        }
+        return accepted;
+    }
+
+    private static DeliveryRequest request(final DeliveryOutboxEntry entry) {
+        return new DeliveryRequest(entry.getOrderId(), entry.getAmount(), entry.getDeliveryAddress());
+    }
+
+    private record PendingDelivery(DeliveryRequest request, long enqueuedNanos, int attempts) {
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.deliveryorders.application;
+
+public record DeliveryBatchMetrics(
+    int pending,
+    long batches,
+    long delivered,
+    long retried,
+    long swept,
+    long meanBatchSize,
+    long maxBatchSize,
+    long meanAddedLatencyMicros,
+    long p99AddedLatencyMicros,
+    long maxAddedLatencyMicros
+) {
+}
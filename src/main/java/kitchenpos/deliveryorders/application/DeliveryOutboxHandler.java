@@ -0,0 +1,42 @@
+package kitchenpos.deliveryorders.application;
+
+import kitchenpos.common.event.DomainEventHandler;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxEntry;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxRepository;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxStatus;
+import kitchenpos.eatinorders.domain.DeliveryOrderAcceptedEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class DeliveryOutboxHandler implements DomainEventHandler<DeliveryOrderAcceptedEvent> {
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+
+    public DeliveryOutboxHandler(final DeliveryOutboxRepository deliveryOutboxRepository) {
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+    }
+
+    @Override
+    public Class<DeliveryOrderAcceptedEvent> eventType() {
+        return DeliveryOrderAcceptedEvent.class;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Override
+    public void handle(final DeliveryOrderAcceptedEvent event) {
+        final DeliveryOutboxEntry entry = new DeliveryOutboxEntry();
+        entry.setOrderId(event.orderId());
+        entry.setAmount(event.amount().toBigDecimal());
+        entry.setDeliveryAddress(event.deliveryAddress());
+        final LocalDateTime now = LocalDateTime.now();
+        entry.setStatus(DeliveryOutboxStatus.PENDING);
+        entry.setNextAttemptDateTime(now);
+        entry.setCreatedDateTime(now);
+        deliveryOutboxRepository.insert(entry);
+    }
+}
@@ -0,0 +1,27 @@
+package kitchenpos.deliveryorders.application;
+
+import kitchenpos.common.event.DomainEventHandler;
+import kitchenpos.deliveryorders.infra.DeliveryRequest;
+import kitchenpos.eatinorders.domain.DeliveryOrderAcceptedEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DeliveryRequestHandler implements DomainEventHandler<DeliveryOrderAcceptedEvent> {
+    private final DeliveryBatchDispatcher deliveryBatchDispatcher;
+
+    public DeliveryRequestHandler(final DeliveryBatchDispatcher deliveryBatchDispatcher) {
+        this.deliveryBatchDispatcher = deliveryBatchDispatcher;
+    }
+
+    @Override
+    public Class<DeliveryOrderAcceptedEvent> eventType() {
+        return DeliveryOrderAcceptedEvent.class;
+    }
+
+    @Override
+    public void handle(final DeliveryOrderAcceptedEvent event) {
+        deliveryBatchDispatcher.add(
+            new DeliveryRequest(event.orderId(), event.amount().toBigDecimal(), event.deliveryAddress())
+        );
+    }
+}
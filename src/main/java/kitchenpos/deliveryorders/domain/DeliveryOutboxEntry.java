@@ -0,0 +1,109 @@
+package kitchenpos.deliveryorders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "delivery_outbox")
+@Entity
+public class DeliveryOutboxEntry {
+    @Column(name = "order_id", columnDefinition = "binary(16)")
+    @Id
+    private UUID orderId;
+
+    @Column(name = "amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "delivery_address", nullable = false)
+    private String deliveryAddress;
+
+    @Column(name = "status", nullable = false, columnDefinition = "varchar(255)")
+    @Enumerated(EnumType.STRING)
+    private DeliveryOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_date_time", nullable = false)
+    private LocalDateTime nextAttemptDateTime;
+
+    @Column(name = "claimed_by")
+    private String claimedBy;
+
+    @Column(name = "created_date_time", nullable = false)
+    private LocalDateTime createdDateTime;
+
+    public DeliveryOutboxEntry() {
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(final UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(final BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public void setDeliveryAddress(final String deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public DeliveryOutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final DeliveryOutboxStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptDateTime() {
+        return nextAttemptDateTime;
+    }
+
+    public void setNextAttemptDateTime(final LocalDateTime nextAttemptDateTime) {
+        this.nextAttemptDateTime = nextAttemptDateTime;
+    }
+
+    public String getClaimedBy() {
+        return claimedBy;
+    }
+
+    public void setClaimedBy(final String claimedBy) {
+        this.claimedBy = claimedBy;
+    }
+
+    public LocalDateTime getCreatedDateTime() {
+        return createdDateTime;
+    }
+
+    public void setCreatedDateTime(final LocalDateTime createdDateTime) {
+        this.createdDateTime = createdDateTime;
+    }
+}
@@ -0,0 +1,22 @@
+package kitchenpos.deliveryorders.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface DeliveryOutboxRepository {
+    void insert(DeliveryOutboxEntry deliveryOutboxEntry);
+
+    List<UUID> findAllOrderIdsByNextAttemptDateTimeNotAfter(LocalDateTime dateTime, Pageable pageable);
+
+    List<DeliveryOutboxEntry> findAllByClaimedBy(String claimedBy);
+
+    int claim(Collection<UUID> orderIds, LocalDateTime now, String claimedBy, LocalDateTime claimedUntil);
+
+    int release(Collection<UUID> orderIds, String claimedBy, int attempts, LocalDateTime nextAttemptDateTime);
+
+    int deleteAllByOrderIdIn(Collection<UUID> orderIds);
+}
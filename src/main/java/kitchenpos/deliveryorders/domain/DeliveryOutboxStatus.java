@@ -0,0 +1,5 @@
+package kitchenpos.deliveryorders.domain;
+
+public enum DeliveryOutboxStatus {
+    PENDING, CLAIMED
+}
@@ -0,0 +1,65 @@
+package kitchenpos.deliveryorders.domain;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface JpaDeliveryOutboxRepository extends DeliveryOutboxRepository, JpaRepository<DeliveryOutboxEntry, UUID> {
+    @Modifying
+    @Query(
+        value = "insert into delivery_outbox "
+            + "(order_id, amount, delivery_address, status, attempts, next_attempt_date_time, created_date_time) "
+            + "values (:#{#entry.orderId}, :#{#entry.amount}, :#{#entry.deliveryAddress}, :#{#entry.status.name()}, "
+            + ":#{#entry.attempts}, :#{#entry.nextAttemptDateTime}, :#{#entry.createdDateTime})",
+        nativeQuery = true
+    )
+    @Override
+    void insert(@Param("entry") DeliveryOutboxEntry deliveryOutboxEntry);
+
+    @Query("select e.orderId from DeliveryOutboxEntry e where e.nextAttemptDateTime <= :dateTime order by e.nextAttemptDateTime")
+    @Override
+    List<UUID> findAllOrderIdsByNextAttemptDateTimeNotAfter(@Param("dateTime") LocalDateTime dateTime, Pageable pageable);
+
+    @Override
+    List<DeliveryOutboxEntry> findAllByClaimedBy(String claimedBy);
+
+    @Transactional
+    @Modifying
+    @Query("update DeliveryOutboxEntry e set e.status = kitchenpos.deliveryorders.domain.DeliveryOutboxStatus.CLAIMED, "
+        + "e.claimedBy = :claimedBy, e.nextAttemptDateTime = :claimedUntil "
+        + "where e.orderId in :orderIds and e.nextAttemptDateTime <= :now")
+    @Override
+    int claim(
+        @Param("orderIds") Collection<UUID> orderIds,
+        @Param("now") LocalDateTime now,
+        @Param("claimedBy") String claimedBy,
+        @Param("claimedUntil") LocalDateTime claimedUntil
+    );
+
+    @Transactional
+    @Modifying
+    @Query("update DeliveryOutboxEntry e set e.status = kitchenpos.deliveryorders.domain.DeliveryOutboxStatus.PENDING, "
+        + "e.claimedBy = null, e.attempts = :attempts, e.nextAttemptDateTime = :nextAttemptDateTime "
+        + "where e.orderId in :orderIds and e.claimedBy = :claimedBy")
+    @Override
+    int release(
+        @Param("orderIds") Collection<UUID> orderIds,
+        @Param("claimedBy") String claimedBy,
+        @Param("attempts") int attempts,
+        @Param("nextAttemptDateTime") LocalDateTime nextAttemptDateTime
+    );
+
+    @Transactional
+    @Modifying
+    @Query("delete from DeliveryOutboxEntry e where e.orderId in :orderIds")
+    @Override
+    int deleteAllByOrderIdIn(@Param("orderIds") Collection<UUID> orderIds);
+}
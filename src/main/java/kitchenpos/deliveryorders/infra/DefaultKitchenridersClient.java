@@ -1,13 +1,23 @@
 package kitchenpos.deliveryorders.infra;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
+@ConditionalOnProperty(name = "kitchenpos.kitchenriders.enabled", havingValue = "false", matchIfMissing = true)
 @Component
 public class DefaultKitchenridersClient implements KitchenridersClient {
     @Override
     public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
     }
+
+    @Override
+    public List<DeliveryResult> requestDeliveries(final List<DeliveryRequest> requests) {
+        return requests.stream()
+            .map(request -> new DeliveryResult(request.orderId(), true))
+            .toList();
+    }
 }
@@ -0,0 +1,7 @@
+package kitchenpos.deliveryorders.infra;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record DeliveryRequest(UUID orderId, BigDecimal amount, String deliveryAddress) {
+}
@@ -0,0 +1,6 @@
+package kitchenpos.deliveryorders.infra;
+
+import java.util.UUID;
+
+public record DeliveryResult(UUID orderId, boolean accepted) {
+}
@@ -0,0 +1,198 @@
+package kitchenpos.deliveryorders.infra;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.common.metrics.LatencyHistogram;
+import kitchenpos.common.resilience.CircuitBreaker;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@ConditionalOnProperty(name = "kitchenpos.kitchenriders.enabled", havingValue = "true")
+@Component
+public class HttpKitchenridersClient implements KitchenridersClient {
+    private static final String DELIVERIES_PATH = "/api/deliveries";
+    private static final String DELIVERIES_BATCH_PATH = "/api/deliveries/batch";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI deliveriesUri;
+    private final URI deliveriesBatchUri;
+    private final Duration requestTimeout;
+    private final int maxConcurrentCalls;
+    private final Semaphore bulkhead;
+    private final long maxWaitNanos;
+    private final CircuitBreaker circuitBreaker;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rejectedByBulkhead = new LongAdder();
+    private final LongAdder rejectedByCircuitBreaker = new LongAdder();
+
+    public HttpKitchenridersClient(
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.kitchenriders.base-url}") final String baseUrl,
+        @Value("${kitchenpos.kitchenriders.connect-timeout:PT1S}") final Duration connectTimeout,
+        @Value("${kitchenpos.kitchenriders.request-timeout:PT2S}") final Duration requestTimeout,
+        @Value("${kitchenpos.kitchenriders.max-concurrent-calls:20}") final int maxConcurrentCalls,
+        @Value("${kitchenpos.kitchenriders.max-wait:PT0.1S}") final Duration maxWait,
+        @Value("${kitchenpos.kitchenriders.circuit-breaker.window-size:20}") final int windowSize,
+        @Value("${kitchenpos.kitchenriders.circuit-breaker.minimum-calls:10}") final int minimumCalls,
+        @Value("${kitchenpos.kitchenriders.circuit-breaker.failure-rate-threshold:0.5}") final double failureRateThreshold,
+        @Value("${kitchenpos.kitchenriders.circuit-breaker.open-duration:PT10S}") final Duration openDuration,
+        @Value("${kitchenpos.kitchenriders.circuit-breaker.half-open-calls:3}") final int halfOpenCalls
+    ) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(connectTimeout)
+            .build();
+        this.objectMapper = objectMapper;
+        this.deliveriesUri = URI.create(baseUrl).resolve(DELIVERIES_PATH);
+        this.deliveriesBatchUri = URI.create(baseUrl).resolve(DELIVERIES_BATCH_PATH);
+        this.requestTimeout = requestTimeout;
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.circuitBreaker = new CircuitBreaker(
+            windowSize,
+            minimumCalls,
+            failureRateThreshold,
+            openDuration,
+            halfOpenCalls,
+            System::nanoTime
+        );
+    }
+
+    @Override
+    public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+        call(post(deliveriesUri, new DeliveryRequest(orderId, amount, deliveryAddress)), HttpResponse.BodyHandlers.discarding());
+    }
+
+    @Override
+    public List<DeliveryResult> requestDeliveries(final List<DeliveryRequest> requests) {
+        if (requests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final byte[] body = call(post(deliveriesBatchUri, requests), HttpResponse.BodyHandlers.ofByteArray());
+        try {
+            final DeliveryResult[] results = objectMapper.readValue(body, DeliveryResult[].class);
+            return Objects.isNull(results) ? Collections.emptyList() : Arrays.asList(results);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Kitchenriders returned an unreadable batch response", e);
+        }
+    }
+
+    public KitchenridersMetrics metrics() {
+        return new KitchenridersMetrics(
+            circuitBreaker.state(),
+            maxConcurrentCalls - bulkhead.availablePermits(),
+            succeeded.sum(),
+            failed.sum(),
+            timedOut.sum(),
+            rejectedByBulkhead.sum(),
+            rejectedByCircuitBreaker.sum(),
+            latency.mean(),
+            latency.percentile(50.0),
+            latency.percentile(99.0),
+            latency.max()
+        );
+    }
+
+    private HttpRequest post(final URI uri, final Object payload) {
+        return HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(payload)))
+            .build();
+    }
+
+    private <T> T call(final HttpRequest request, final HttpResponse.BodyHandler<T> bodyHandler) {
+        acquireBulkhead();
+        try {
+            if (!circuitBreaker.tryAcquire()) {
+                rejectedByCircuitBreaker.increment();
+                throw new IllegalStateException("Kitchenriders circuit breaker is open");
+            }
+            return send(request, bodyHandler);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    private <T> T send(final HttpRequest request, final HttpResponse.BodyHandler<T> bodyHandler) {
+        final long start = System.nanoTime();
+        final HttpResponse<T> response;
+        try {
+            response = httpClient.send(request, bodyHandler);
+        } catch (final HttpTimeoutException e) {
+            latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+            timedOut.increment();
+            circuitBreaker.onFailure();
+            throw new IllegalStateException("Kitchenriders timed out", e);
+        } catch (final IOException e) {
+            failed.increment();
+            circuitBreaker.onFailure();
+            throw new IllegalStateException("Kitchenriders request failed", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onFailure();
+            throw new IllegalStateException(e);
+        } catch (final RuntimeException e) {
+            failed.increment();
+            circuitBreaker.onFailure();
+            throw e;
+        }
+        latency.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        final int status = response.statusCode();
+        if (status / 100 == 2) {
+            succeeded.increment();
+            circuitBreaker.onSuccess();
+            return response.body();
+        }
+        failed.increment();
+        if (status >= 500 || status == 429) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+        throw new IllegalStateException("Kitchenriders responded " + status);
+    }
+
+    private void acquireBulkhead() {
+        try {
+            if (bulkhead.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedByBulkhead.increment();
+        throw new IllegalStateException("Kitchenriders bulkhead is full");
+    }
+
+    private byte[] toJson(final Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
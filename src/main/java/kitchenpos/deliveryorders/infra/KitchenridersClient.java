@@ -1,8 +1,11 @@
 package kitchenpos.deliveryorders.infra;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public interface KitchenridersClient {
     void requestDelivery(UUID orderId, BigDecimal amount, String deliveryAddress);
+
+    List<DeliveryResult> requestDeliveries(List<DeliveryRequest> requests);
 }
@@ -0,0 +1,18 @@
+package kitchenpos.deliveryorders.infra;
+
+import kitchenpos.common.resilience.CircuitBreakerState;
+
+public record KitchenridersMetrics(
+    CircuitBreakerState circuitBreakerState,
+    int inFlight,
+    long succeeded,
+    long failed,
+    long timedOut,
+    long rejectedByBulkhead,
+    long rejectedByCircuitBreaker,
+    long meanLatencyMicros,
+    long p50LatencyMicros,
+    long p99LatencyMicros,
+    long maxLatencyMicros
+) {
+}
@@ -0,0 +1,23 @@
+package kitchenpos.deliveryorders.ui;
+
+import kitchenpos.deliveryorders.application.DeliveryBatchDispatcher;
+import kitchenpos.deliveryorders.application.DeliveryBatchMetrics;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequestMapping("/api/delivery-batch-metrics")
+@RestController
+public class DeliveryBatchMetricsRestController {
+    private final DeliveryBatchDispatcher deliveryBatchDispatcher;
+
+    public DeliveryBatchMetricsRestController(final DeliveryBatchDispatcher deliveryBatchDispatcher) {
+        this.deliveryBatchDispatcher = deliveryBatchDispatcher;
+    }
+
+    @GetMapping
+    public ResponseEntity<DeliveryBatchMetrics> findAll() {
+        return ResponseEntity.ok(deliveryBatchDispatcher.metrics());
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.deliveryorders.ui;
+
+import kitchenpos.deliveryorders.infra.HttpKitchenridersClient;
+import kitchenpos.deliveryorders.infra.KitchenridersMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@ConditionalOnProperty(name = "kitchenpos.kitchenriders.enabled", havingValue = "true")
+@RequestMapping("/api/kitchenriders-metrics")
+@RestController
+public class KitchenridersMetricsRestController {
+    private final HttpKitchenridersClient kitchenridersClient;
+
+    public KitchenridersMetricsRestController(final HttpKitchenridersClient kitchenridersClient) {
+        this.kitchenridersClient = kitchenridersClient;
+    }
+
+    @GetMapping
+    public ResponseEntity<KitchenridersMetrics> findAll() {
+        return ResponseEntity.ok(kitchenridersClient.metrics());
+    }
+}
@@ -0,0 +1,47 @@
+package kitchenpos.eatinorders.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Component
+public class OrderArchiveScheduler {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiveScheduler.class);
+
+    private final OrderArchiveService orderArchiveService;
+    private final Duration age;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public OrderArchiveScheduler(
+        final OrderArchiveService orderArchiveService,
+        @Value("${kitchenpos.order-archive.age:P90D}") final Duration age,
+        @Value("${kitchenpos.order-archive.batch-size:500}") final int batchSize,
+        @Value("${kitchenpos.order-archive.max-batches:200}") final int maxBatches
+    ) {
+        this.orderArchiveService = orderArchiveService;
+        this.age = age;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    @Scheduled(cron = "${kitchenpos.order-archive.cron:0 0 4 * * *}")
+    public int archive() {
+        final LocalDateTime before = LocalDateTime.now().minus(age);
+        int archived = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            final int count = orderArchiveService.archive(before, batchSize);
+            archived += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        log.info("Archived {} orders completed before {}", archived, before);
+        return archived;
+    }
+}
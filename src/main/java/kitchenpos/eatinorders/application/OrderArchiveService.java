@@ -0,0 +1,103 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.ArchivedOrder;
+import kitchenpos.eatinorders.domain.ArchivedOrderLineItem;
+import kitchenpos.eatinorders.domain.ArchivedOrderRepository;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderBatchRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class OrderArchiveService {
+    private final OrderRepository orderRepository;
+    private final OrderBatchRepository orderBatchRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public OrderArchiveService(
+        final OrderRepository orderRepository,
+        final OrderBatchRepository orderBatchRepository,
+        final ArchivedOrderRepository archivedOrderRepository
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderBatchRepository = orderBatchRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    @Transactional
+    public int archive(final LocalDateTime before, final int batchSize) {
+        if (Objects.isNull(before) || batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final List<UUID> orderIds = orderRepository.findAllIdsByStatusAndOrderDateTimeBefore(
+            OrderStatus.COMPLETED,
+            before,
+            PageRequest.of(0, batchSize)
+        );
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        final List<Order> orders = orderRepository.findAllByIdIn(orderIds);
+        final LocalDateTime archivedDateTime = LocalDateTime.now();
+        archivedOrderRepository.saveAll(
+            orders.stream()
+                .map(order -> archive(order, archivedDateTime))
+                .toList()
+        );
+        orderBatchRepository.deleteAllByIdIn(orderIds);
+        return orders.size();
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedOrder findById(final UUID archivedOrderId) {
+        return archivedOrderRepository.findById(archivedOrderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedOrder> findAll(final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        return archivedOrderRepository.findAllByOrderDateTimeBetween(from, to);
+    }
+
+    private ArchivedOrder archive(final Order order, final LocalDateTime archivedDateTime) {
+        final ArchivedOrder archivedOrder = new ArchivedOrder();
+        archivedOrder.setId(order.getId());
+        archivedOrder.setType(order.getType());
+        archivedOrder.setOrderDateTime(order.getOrderDateTime());
+        archivedOrder.setCompletedDateTime(order.getStatusChangedDateTime());
+        archivedOrder.setArchivedDateTime(archivedDateTime);
+        archivedOrder.setDeliveryAddress(order.getDeliveryAddress());
+        if (Objects.nonNull(order.getOrderTable())) {
+            archivedOrder.setOrderTableId(order.getOrderTable().getId());
+        }
+        archivedOrder.setOrderLineItems(
+            order.getOrderLineItems()
+                .stream()
+                .map(this::archive)
+                .toList()
+        );
+        return archivedOrder;
+    }
+
+    private ArchivedOrderLineItem archive(final OrderLineItem orderLineItem) {
+        final ArchivedOrderLineItem archivedOrderLineItem = new ArchivedOrderLineItem();
+        archivedOrderLineItem.setMenuId(orderLineItem.getMenuId());
+        archivedOrderLineItem.setMenuName(orderLineItem.getMenuName());
+        archivedOrderLineItem.setQuantity(orderLineItem.getQuantity());
+        archivedOrderLineItem.setPrice(orderLineItem.getPrice());
+        return archivedOrderLineItem;
+    }
+}
@@ -0,0 +1,17 @@
+package kitchenpos.eatinorders.application;
+
+import java.util.UUID;
+
+public record OrderBatchOutcome(UUID orderId, OrderBatchStatus status, String reason) {
+    static OrderBatchOutcome created(final UUID orderId) {
+        return new OrderBatchOutcome(orderId, OrderBatchStatus.CREATED, null);
+    }
+
+    static OrderBatchOutcome duplicate(final UUID orderId) {
+        return new OrderBatchOutcome(orderId, OrderBatchStatus.DUPLICATE, null);
+    }
+
+    static OrderBatchOutcome rejected(final UUID orderId, final RuntimeException cause) {
+        return new OrderBatchOutcome(orderId, OrderBatchStatus.REJECTED, cause.getClass().getSimpleName());
+    }
+}
@@ -0,0 +1,114 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderBatchRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderBatchService {
+    private final OrderService orderService;
+    private final OrderBatchRepository orderBatchRepository;
+    private final MenuRepository menuRepository;
+    private final OrderTableRepository orderTableRepository;
+    private final int maxBatchSize;
+
+    public OrderBatchService(
+        final OrderService orderService,
+        final OrderBatchRepository orderBatchRepository,
+        final MenuRepository menuRepository,
+        final OrderTableRepository orderTableRepository,
+        @Value("${kitchenpos.order-batch.max-size:1000}") final int maxBatchSize
+    ) {
+        this.orderService = orderService;
+        this.orderBatchRepository = orderBatchRepository;
+        this.menuRepository = menuRepository;
+        this.orderTableRepository = orderTableRepository;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Transactional
+    public List<OrderBatchOutcome> createAll(final List<Order> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty() || requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException();
+        }
+        final Set<UUID> existingIds = new HashSet<>(orderBatchRepository.findAllIdsByIdIn(
+            requests.stream()
+                .map(Order::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList()
+        ));
+        final Map<UUID, Menu> menusById = findMenusById(requests);
+        final Map<UUID, OrderTable> orderTablesById = findOrderTablesById(requests);
+        final List<OrderBatchOutcome> outcomes = new ArrayList<>();
+        final List<Order> orders = new ArrayList<>();
+        for (final Order request : requests) {
+            final UUID orderId = request.getId();
+            if (Objects.isNull(orderId)) {
+                outcomes.add(OrderBatchOutcome.rejected(null, new IllegalArgumentException()));
+                continue;
+            }
+            if (existingIds.contains(orderId)) {
+                outcomes.add(OrderBatchOutcome.duplicate(orderId));
+                continue;
+            }
+            try {
+                orders.add(orderService.newOrder(orderId, request, menusById, orderTablesById));
+                existingIds.add(orderId);
+                outcomes.add(OrderBatchOutcome.created(orderId));
+            } catch (final IllegalArgumentException | IllegalStateException | NoSuchElementException e) {
+                outcomes.add(OrderBatchOutcome.rejected(orderId, e));
+            }
+        }
+        orderBatchRepository.saveAll(orders);
+        orders.forEach(orderService::recordCreated);
+        return outcomes;
+    }
+
+    private Map<UUID, Menu> findMenusById(final List<Order> requests) {
+        final List<UUID> menuIds = requests.stream()
+            .map(Order::getOrderLineItems)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .map(OrderLineItem::getMenuId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        return menuRepository.findAllForOrderByIdIn(menuIds)
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+    }
+
+    private Map<UUID, OrderTable> findOrderTablesById(final List<Order> requests) {
+        final List<UUID> orderTableIds = requests.stream()
+            .map(Order::getOrderTableId)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (orderTableIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findAllByIdInForUpdate(orderTableIds)
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,7 @@
+package kitchenpos.eatinorders.application;
+
+public enum OrderBatchStatus {
+    CREATED,
+    DUPLICATE,
+    REJECTED
+}
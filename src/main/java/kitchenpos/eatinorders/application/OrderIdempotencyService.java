@@ -0,0 +1,185 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class OrderIdempotencyService {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final OrderService orderService;
+    private final OrderRepository orderRepository;
+    private final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final Map<String, OrderIdempotencyKey> cache;
+    private final Map<String, CompletableFuture<UUID>> executions = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(
+        final OrderService orderService,
+        final OrderRepository orderRepository,
+        final OrderIdempotencyKeyRepository orderIdempotencyKeyRepository,
+        final TransactionTemplate transactionTemplate,
+        @Value("${kitchenpos.idempotency.ttl:PT24H}") final Duration ttl,
+        @Value("${kitchenpos.idempotency.cache-size:10000}") final int cacheSize
+    ) {
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.orderIdempotencyKeyRepository = orderIdempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.ttl = ttl;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, OrderIdempotencyKey> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    public Order create(final String idempotencyKey, final Order request) {
+        if (Objects.isNull(idempotencyKey)) {
+            return orderService.create(request);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final String requestHash = requestHash(request);
+        final OrderIdempotencyKey stored = findKey(idempotencyKey);
+        if (Objects.nonNull(stored)) {
+            return replay(stored, requestHash);
+        }
+        final CompletableFuture<UUID> execution = new CompletableFuture<>();
+        final CompletableFuture<UUID> running = executions.putIfAbsent(idempotencyKey, execution);
+        if (Objects.nonNull(running)) {
+            await(running);
+            return replay(findKey(idempotencyKey), requestHash);
+        }
+        try {
+            final Order order = execute(idempotencyKey, requestHash, request);
+            execution.complete(order.getId());
+            return order;
+        } catch (final RuntimeException e) {
+            execution.completeExceptionally(e);
+            throw e;
+        } finally {
+            executions.remove(idempotencyKey, execution);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.idempotency.purge-interval:PT10M}")
+    @Transactional
+    public void purgeExpired() {
+        final LocalDateTime now = LocalDateTime.now();
+        synchronized (cache) {
+            cache.values().removeIf(key -> key.isExpired(now));
+        }
+        orderIdempotencyKeyRepository.deleteAllByExpiresDateTimeBefore(now);
+    }
+
+    private Order execute(final String idempotencyKey, final String requestHash, final Order request) {
+        final OrderIdempotencyKey key = new OrderIdempotencyKey();
+        key.setIdempotencyKey(idempotencyKey);
+        key.setOrderId(UUID.randomUUID());
+        key.setRequestHash(requestHash);
+        final Order order;
+        try {
+            order = transactionTemplate.execute(status -> {
+                final LocalDateTime now = LocalDateTime.now();
+                key.setExpiresDateTime(now.plus(ttl));
+                orderIdempotencyKeyRepository.deleteExpired(idempotencyKey, now);
+                orderIdempotencyKeyRepository.insert(key);
+                return orderService.create(key.getOrderId(), request);
+            });
+        } catch (final DataIntegrityViolationException e) {
+            return replay(findKey(idempotencyKey), requestHash);
+        }
+        cache.put(idempotencyKey, key);
+        return order;
+    }
+
+    private OrderIdempotencyKey findKey(final String idempotencyKey) {
+        final LocalDateTime now = LocalDateTime.now();
+        final OrderIdempotencyKey cached = cache.get(idempotencyKey);
+        if (Objects.nonNull(cached)) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            cache.remove(idempotencyKey, cached);
+        }
+        final OrderIdempotencyKey stored = orderIdempotencyKeyRepository.findById(idempotencyKey)
+            .filter(key -> !key.isExpired(now))
+            .orElse(null);
+        if (Objects.nonNull(stored)) {
+            cache.put(idempotencyKey, stored);
+        }
+        return stored;
+    }
+
+    private Order replay(final OrderIdempotencyKey key, final String requestHash) {
+        if (Objects.isNull(key)) {
+            throw new NoSuchElementException();
+        }
+        if (!key.matches(requestHash)) {
+            throw new IllegalStateException();
+        }
+        return orderRepository.findById(key.getOrderId())
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    private static String requestHash(final Order request) {
+        final StringBuilder payload = new StringBuilder()
+            .append(request.getType()).append('|')
+            .append(request.getOrderTableId()).append('|')
+            .append(request.getDeliveryAddress());
+        if (Objects.nonNull(request.getOrderLineItems())) {
+            for (final OrderLineItem orderLineItem : request.getOrderLineItems()) {
+                payload.append('|')
+                    .append(orderLineItem.getMenuId()).append(':')
+                    .append(orderLineItem.getQuantity()).append(':')
+                    .append(Objects.isNull(orderLineItem.getPrice()) ? null : orderLineItem.getPrice().getAmount());
+            }
+        }
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(payload.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void await(final CompletableFuture<UUID> execution) {
+        try {
+            execution.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
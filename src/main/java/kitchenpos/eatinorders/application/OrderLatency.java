@@ -0,0 +1,16 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+
+public record OrderLatency(
+    OrderType type,
+    OrderStatus status,
+    long count,
+    long meanMillis,
+    long p50Millis,
+    long p90Millis,
+    long p99Millis,
+    long maxMillis
+) {
+}
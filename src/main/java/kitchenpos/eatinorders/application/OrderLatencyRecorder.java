@@ -0,0 +1,147 @@
+package kitchenpos.eatinorders.application;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kitchenpos.common.metrics.LatencyHistogram;
+import kitchenpos.eatinorders.domain.OrderLatencySnapshot;
+import kitchenpos.eatinorders.domain.OrderLatencySnapshotRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+public class OrderLatencyRecorder {
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final OrderLatencySnapshotRepository orderLatencySnapshotRepository;
+    private final String instanceId;
+    private final Duration staleAfter;
+    private final LatencyHistogram[][] histograms = newHistograms();
+    private volatile LatencyHistogram[][] otherInstances = newHistograms();
+
+    public OrderLatencyRecorder(
+        final OrderLatencySnapshotRepository orderLatencySnapshotRepository,
+        @Value("${kitchenpos.instance-id:${HOSTNAME:local}}") final String instanceId,
+        @Value("${kitchenpos.order-latency.stale-after:PT1H}") final Duration staleAfter
+    ) {
+        this.orderLatencySnapshotRepository = orderLatencySnapshotRepository;
+        this.instanceId = instanceId;
+        this.staleAfter = staleAfter;
+    }
+
+    public void record(final OrderType type, final OrderStatus status, final LocalDateTime enteredAt, final LocalDateTime leftAt) {
+        if (Objects.isNull(enteredAt)) {
+            return;
+        }
+        histograms[type.ordinal()][status.ordinal()].record(ChronoUnit.MILLIS.between(enteredAt, leftAt));
+    }
+
+    public List<OrderLatency> findAll() {
+        final List<OrderLatency> latencies = new ArrayList<>();
+        final LatencyHistogram[][] others = otherInstances;
+        for (final OrderType type : TYPES) {
+            for (final OrderStatus status : STATUSES) {
+                final LatencyHistogram histogram = new LatencyHistogram();
+                merge(histogram, histograms[type.ordinal()][status.ordinal()]);
+                merge(histogram, others[type.ordinal()][status.ordinal()]);
+                final long count = histogram.count();
+                if (count == 0L) {
+                    continue;
+                }
+                latencies.add(new OrderLatency(
+                    type,
+                    status,
+                    count,
+                    histogram.mean(),
+                    histogram.percentile(50.0),
+                    histogram.percentile(90.0),
+                    histogram.percentile(99.0),
+                    histogram.max()
+                ));
+            }
+        }
+        return latencies;
+    }
+
+    @PostConstruct
+    public void load() {
+        final List<OrderLatencySnapshot> snapshots = freshSnapshots(LocalDateTime.now());
+        for (final OrderLatencySnapshot snapshot : snapshots) {
+            if (instanceId.equals(snapshot.getInstanceId())) {
+                add(histograms, snapshot);
+            }
+        }
+        otherInstances = otherInstances(snapshots);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${kitchenpos.order-latency.flush-interval:PT1M}")
+    public void flush() {
+        final LocalDateTime now = LocalDateTime.now();
+        for (final OrderType type : TYPES) {
+            for (final OrderStatus status : STATUSES) {
+                final LatencyHistogram histogram = histograms[type.ordinal()][status.ordinal()];
+                if (histogram.count() == 0L) {
+                    continue;
+                }
+                final OrderLatencySnapshot snapshot = new OrderLatencySnapshot();
+                snapshot.setId(OrderLatencySnapshot.idOf(instanceId, type, status));
+                snapshot.setInstanceId(instanceId);
+                snapshot.setType(type);
+                snapshot.setStatus(status);
+                snapshot.setCounts(histogram.counts());
+                snapshot.setTotalMillis(histogram.total());
+                snapshot.setMaxMillis(histogram.max());
+                snapshot.setUpdatedDateTime(now);
+                orderLatencySnapshotRepository.save(snapshot);
+            }
+        }
+        otherInstances = otherInstances(freshSnapshots(now));
+    }
+
+    private List<OrderLatencySnapshot> freshSnapshots(final LocalDateTime now) {
+        orderLatencySnapshotRepository.deleteAllByUpdatedDateTimeBefore(now.minus(staleAfter));
+        return orderLatencySnapshotRepository.findAll();
+    }
+
+    private LatencyHistogram[][] otherInstances(final List<OrderLatencySnapshot> snapshots) {
+        final LatencyHistogram[][] others = newHistograms();
+        for (final OrderLatencySnapshot snapshot : snapshots) {
+            if (!instanceId.equals(snapshot.getInstanceId())) {
+                add(others, snapshot);
+            }
+        }
+        return others;
+    }
+
+    private static void add(final LatencyHistogram[][] histograms, final OrderLatencySnapshot snapshot) {
+        histograms[snapshot.getType().ordinal()][snapshot.getStatus().ordinal()]
+            .add(snapshot.getCounts(), snapshot.getTotalMillis(), snapshot.getMaxMillis());
+    }
+
+    private static void merge(final LatencyHistogram target, final LatencyHistogram source) {
+        if (source.count() > 0L) {
+            target.add(source.counts(), source.total(), source.max());
+        }
+    }
+
+    private static LatencyHistogram[][] newHistograms() {
+        final LatencyHistogram[][] histograms = new LatencyHistogram[TYPES.length][STATUSES.length];
+        for (final OrderType type : TYPES) {
+            for (final OrderStatus status : STATUSES) {
+                histograms[type.ordinal()][status.ordinal()] = new LatencyHistogram();
+            }
+        }
+        return histograms;
+    }
+}
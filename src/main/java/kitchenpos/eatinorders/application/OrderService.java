@@ -1,47 +1,87 @@
 package kitchenpos.eatinorders.application;
 
-import kitchenpos.deliveryorders.infra.KitchenridersClient;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.DomainEventPublisher;
+import kitchenpos.eatinorders.domain.DeliveryOrderAcceptedEvent;
 import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderCompletedEvent;
 import kitchenpos.eatinorders.domain.OrderLineItem;
 import kitchenpos.eatinorders.domain.OrderRepository;
 import kitchenpos.eatinorders.domain.OrderStatus;
 import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
 import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.application.MenuSalesRanking;
 import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.sales.application.SalesRollupService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final OrderLatencyRecorder orderLatencyRecorder;
+    private final SalesRollupService salesRollupService;
+    private final MenuSalesRanking menuSalesRanking;
+    private final OrderStatusHistoryRecorder orderStatusHistoryRecorder;
+    private final DomainEventPublisher domainEventPublisher;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final OrderLatencyRecorder orderLatencyRecorder,
+        final SalesRollupService salesRollupService,
+        final MenuSalesRanking menuSalesRanking,
+        final OrderStatusHistoryRecorder orderStatusHistoryRecorder,
+        final DomainEventPublisher domainEventPublisher
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.orderLatencyRecorder = orderLatencyRecorder;
+        this.salesRollupService = salesRollupService;
+        this.menuSalesRanking = menuSalesRanking;
+        this.orderStatusHistoryRecorder = orderStatusHistoryRecorder;
+        this.domainEventPublisher = domainEventPublisher;
     }
 
     @Transactional
     public Order create(final Order request) {
+        return create(UUID.randomUUID(), request);
+    }
+
+    @Transactional
+    Order create(final UUID orderId, final Order request) {
+        final Order order = newOrder(orderId, request, findMenusById(request), findOrderTablesById(request));
+        final Order saved = orderRepository.save(order);
+        recordCreated(saved);
+        return saved;
+    }
+
+    Order newOrder(
+        final UUID orderId,
+        final Order request,
+        final Map<UUID, Menu> menusById,
+        final Map<UUID, OrderTable> orderTablesById
+    ) {
         final OrderType type = request.getType();
         if (Objects.isNull(type)) {
             throw new IllegalArgumentException();
@@ -50,12 +90,12 @@ public class OrderService {
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .toList()
-        );
-        if (menus.size() != orderLineItemRequests.size()) {
+        final long menuCount = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .filter(menusById::containsKey)
+            .distinct()
+            .count();
+        if (menuCount != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
@@ -66,24 +106,30 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
+            final Menu menu = menusById.get(orderLineItemRequest.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new NoSuchElementException();
+            }
             if (!menu.isDisplayed()) {
                 throw new IllegalStateException();
             }
-            if (menu.getPrice().compareTo(orderLineItemRequest.getPrice()) != 0) {
+            if (!menu.getPrice().equals(orderLineItemRequest.getPrice())) {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
             orderLineItem.setMenu(menu);
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setMenuName(menu.getName());
+            orderLineItem.setPrice(menu.getPrice());
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
         }
         Order order = new Order();
-        order.setId(UUID.randomUUID());
+        order.setId(orderId);
         order.setType(type);
         order.setStatus(OrderStatus.WAITING);
         order.setOrderDateTime(LocalDateTime.now());
+        order.setStatusChangedDateTime(order.getOrderDateTime());
         order.setOrderLineItems(orderLineItems);
         if (type == OrderType.DELIVERY) {
             final String deliveryAddress = request.getDeliveryAddress();
@@ -93,14 +139,36 @@ public class OrderService {
             order.setDeliveryAddress(deliveryAddress);
         }
         if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = orderTableRepository.findById(request.getOrderTableId())
-                .orElseThrow(NoSuchElementException::new);
+            final OrderTable orderTable = orderTablesById.get(request.getOrderTableId());
+            if (Objects.isNull(orderTable)) {
+                throw new NoSuchElementException();
+            }
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        return order;
+    }
+
+    void recordCreated(final Order order) {
+        orderStatusHistoryRecorder.record(order, null);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordSales(order);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recordSales(order);
+            }
+        });
+    }
+
+    private void recordSales(final Order order) {
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            menuSalesRanking.record(orderLineItem.getMenuId(), orderLineItem.getQuantity());
+        }
     }
 
     @Transactional
@@ -111,15 +179,16 @@ public class OrderService {
             throw new IllegalStateException();
         }
         if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
+            Money sum = Money.ZERO;
             for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
+                sum = sum.plus(
+                    orderLineItem.getPrice()
+                        .times(orderLineItem.getQuantity())
+                );
             }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
+            domainEventPublisher.publish(new DeliveryOrderAcceptedEvent(orderId, sum, order.getDeliveryAddress()));
         }
-        order.setStatus(OrderStatus.ACCEPTED);
+        changeStatus(order, OrderStatus.ACCEPTED);
         return order;
     }
 
@@ -130,7 +199,7 @@ public class OrderService {
         if (order.getStatus() != OrderStatus.ACCEPTED) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.SERVED);
+        changeStatus(order, OrderStatus.SERVED);
         return order;
     }
 
@@ -144,7 +213,7 @@ public class OrderService {
         if (order.getStatus() != OrderStatus.SERVED) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.DELIVERING);
+        changeStatus(order, OrderStatus.DELIVERING);
         return order;
     }
 
@@ -155,11 +224,11 @@ public class OrderService {
         if (order.getStatus() != OrderStatus.DELIVERING) {
             throw new IllegalStateException();
         }
-        order.setStatus(OrderStatus.DELIVERED);
+        changeStatus(order, OrderStatus.DELIVERED);
         return order;
     }
 
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Order complete(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
@@ -175,14 +244,10 @@ public class OrderService {
                 throw new IllegalStateException();
             }
         }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
-            final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
-                orderTable.setNumberOfGuests(0);
-                orderTable.setOccupied(false);
-            }
-        }
+        changeStatus(order, OrderStatus.COMPLETED);
+        salesRollupService.record(order);
+        final UUID orderTableId = Objects.isNull(order.getOrderTable()) ? null : order.getOrderTable().getId();
+        domainEventPublisher.publish(new OrderCompletedEvent(orderId, type, orderTableId));
         return order;
     }
 
@@ -190,4 +255,37 @@ public class OrderService {
     public List<Order> findAll() {
         return orderRepository.findAll();
     }
+
+    private void changeStatus(final Order order, final OrderStatus status) {
+        final LocalDateTime now = LocalDateTime.now();
+        final OrderStatus fromStatus = order.getStatus();
+        orderLatencyRecorder.record(order.getType(), fromStatus, order.getStatusChangedDateTime(), now);
+        order.setStatus(status);
+        order.setStatusChangedDateTime(now);
+        orderRepository.save(order);
+        orderStatusHistoryRecorder.record(order, fromStatus);
+    }
+
+    private Map<UUID, Menu> findMenusById(final Order request) {
+        final List<OrderLineItem> orderLineItemRequests = request.getOrderLineItems();
+        if (Objects.isNull(orderLineItemRequests)) {
+            return Collections.emptyMap();
+        }
+        return menuRepository.findAllForOrderByIdIn(
+                orderLineItemRequests.stream()
+                    .map(OrderLineItem::getMenuId)
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+    }
+
+    private Map<UUID, OrderTable> findOrderTablesById(final Order request) {
+        if (request.getType() != OrderType.EAT_IN || Objects.isNull(request.getOrderTableId())) {
+            return Collections.emptyMap();
+        }
+        return orderTableRepository.findByIdForUpdate(request.getOrderTableId())
+            .map(orderTable -> Collections.singletonMap(orderTable.getId(), orderTable))
+            .orElse(Collections.emptyMap());
+    }
 }
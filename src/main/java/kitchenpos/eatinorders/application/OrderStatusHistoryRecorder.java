@@ -0,0 +1,64 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class OrderStatusHistoryRecorder {
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    public OrderStatusHistoryRecorder(final OrderStatusHistoryRepository orderStatusHistoryRepository) {
+        this.orderStatusHistoryRepository = orderStatusHistoryRepository;
+    }
+
+    public void record(final Order order, final OrderStatus fromStatus) {
+        final UUID orderTableId = Objects.isNull(order.getOrderTable()) ? null : order.getOrderTable().getId();
+        final OrderStatusHistory history = new OrderStatusHistory(
+            0L,
+            order.getId(),
+            orderTableId,
+            order.getType(),
+            fromStatus,
+            order.getStatus(),
+            order.getStatusChangedDateTime(),
+            Objects.isNull(fromStatus) ? order.getDeliveryAddress() : null
+        );
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderStatusHistoryRepository.saveAll(List.of(history));
+            return;
+        }
+        pending().add(history);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OrderStatusHistory> pending() {
+        final List<OrderStatusHistory> bound = (List<OrderStatusHistory>) TransactionSynchronizationManager.getResource(this);
+        if (Objects.nonNull(bound)) {
+            return bound;
+        }
+        final List<OrderStatusHistory> histories = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, histories);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                orderStatusHistoryRepository.saveAll(histories);
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OrderStatusHistoryRecorder.this);
+            }
+        });
+        return histories;
+    }
+}
@@ -0,0 +1,87 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class OrderStatusHistoryService {
+    private static final int MAX_LIMIT = 10_000;
+
+    private final OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    public OrderStatusHistoryService(final OrderStatusHistoryRepository orderStatusHistoryRepository) {
+        this.orderStatusHistoryRepository = orderStatusHistoryRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderStatusHistory> findAllByOrderId(final UUID orderId) {
+        return orderStatusHistoryRepository.findAllByOrderId(orderId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderStatusHistory> findAllByOrderTableId(final UUID orderTableId, final LocalDate date, final int limit) {
+        if (Objects.isNull(orderTableId) || Objects.isNull(date)) {
+            throw new IllegalArgumentException();
+        }
+        validateLimit(limit);
+        return orderStatusHistoryRepository.findAllByOrderTableIdAndChangedDateTimeBetween(
+            orderTableId,
+            date.atStartOfDay(),
+            date.atTime(LocalTime.MAX),
+            limit
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderStatusHistory> findAll(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final long afterSeq,
+        final int limit
+    ) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        validateLimit(limit);
+        return orderStatusHistoryRepository.findAllByChangedDateTimeBetween(from, to, afterSeq, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public Order reconstruct(final UUID orderId) {
+        final List<OrderStatusHistory> histories = orderStatusHistoryRepository.findAllByOrderId(orderId);
+        if (histories.isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        final OrderStatusHistory created = histories.get(0);
+        if (Objects.nonNull(created.fromStatus())) {
+            throw new IllegalStateException();
+        }
+        final OrderStatusHistory last = histories.get(histories.size() - 1);
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setType(created.type());
+        order.setOrderDateTime(created.changedDateTime());
+        order.setDeliveryAddress(created.deliveryAddress());
+        order.setStatus(last.toStatus());
+        order.setStatusChangedDateTime(last.changedDateTime());
+        order.setOrderTableId(created.orderTableId());
+        return order;
+    }
+
+    private void validateLimit(final int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
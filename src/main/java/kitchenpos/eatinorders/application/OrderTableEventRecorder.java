@@ -0,0 +1,106 @@
+package kitchenpos.eatinorders.application;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableEvent;
+import kitchenpos.eatinorders.domain.OrderTableEventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+@Component
+public class OrderTableEventRecorder {
+    private final OrderTableOccupancyService orderTableOccupancyService;
+    private final BlockingQueue<OrderTableEvent> events;
+    private final int batchSize;
+
+    public OrderTableEventRecorder(
+        final OrderTableOccupancyService orderTableOccupancyService,
+        @Value("${kitchenpos.table-occupancy.queue-capacity:10000}") final int queueCapacity,
+        @Value("${kitchenpos.table-occupancy.batch-size:500}") final int batchSize
+    ) {
+        this.orderTableOccupancyService = orderTableOccupancyService;
+        this.events = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+    }
+
+    public void record(final OrderTable orderTable, final OrderTableEventType type) {
+        final OrderTableEvent event = new OrderTableEvent(
+            orderTable.getId(),
+            type,
+            orderTable.getNumberOfGuests(),
+            LocalDateTime.now()
+        );
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (!events.offer(event)) {
+                orderTableOccupancyService.append(List.of(event));
+            }
+            return;
+        }
+        pendingEvents().add(event);
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${kitchenpos.table-occupancy.flush-interval:PT1S}")
+    public synchronized void flush() {
+        final List<OrderTableEvent> batch = new ArrayList<>(batchSize);
+        while (events.drainTo(batch, batchSize) > 0) {
+            orderTableOccupancyService.append(batch);
+            batch.clear();
+        }
+    }
+
+    public int pending() {
+        return events.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<OrderTableEvent> pendingEvents() {
+        final List<OrderTableEvent> bound = (List<OrderTableEvent>) TransactionSynchronizationManager.getResource(this);
+        if (Objects.nonNull(bound)) {
+            return bound;
+        }
+        final List<OrderTableEvent> recorded = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, recorded);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean appended;
+
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                if (events.remainingCapacity() < recorded.size()) {
+                    orderTableOccupancyService.append(recorded);
+                    appended = true;
+                }
+            }
+
+            @Override
+            public void afterCommit() {
+                if (appended) {
+                    return;
+                }
+                try {
+                    for (final OrderTableEvent event : recorded) {
+                        events.put(event);
+                    }
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(OrderTableEventRecorder.this);
+            }
+        });
+        return recorded;
+    }
+}
@@ -0,0 +1,117 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderTableEvent;
+import kitchenpos.eatinorders.domain.OrderTableEventRepository;
+import kitchenpos.eatinorders.domain.OrderTableOccupancy;
+import kitchenpos.eatinorders.domain.OrderTableOccupancyRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class OrderTableOccupancyService {
+    private final OrderTableEventRepository orderTableEventRepository;
+    private final OrderTableOccupancyRepository orderTableOccupancyRepository;
+
+    public OrderTableOccupancyService(
+        final OrderTableEventRepository orderTableEventRepository,
+        final OrderTableOccupancyRepository orderTableOccupancyRepository
+    ) {
+        this.orderTableEventRepository = orderTableEventRepository;
+        this.orderTableOccupancyRepository = orderTableOccupancyRepository;
+    }
+
+    @Transactional
+    public void append(final List<OrderTableEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        orderTableEventRepository.saveAll(events);
+        final Map<UUID, OrderTableOccupancy> occupancies = orderTableOccupancyRepository.findAllByOrderTableIdIn(
+                events.stream()
+                    .map(OrderTableEvent::orderTableId)
+                    .distinct()
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(OrderTableOccupancy::getOrderTableId, Function.identity()));
+        for (final OrderTableEvent event : events) {
+            final OrderTableOccupancy occupancy = occupancies.computeIfAbsent(event.orderTableId(), orderTableId -> {
+                final OrderTableOccupancy created = new OrderTableOccupancy();
+                created.setOrderTableId(orderTableId);
+                return created;
+            });
+            apply(occupancy, event);
+        }
+        orderTableOccupancyRepository.saveAll(occupancies.values());
+    }
+
+    @Transactional(readOnly = true)
+    public OrderTableUtilization findById(final UUID orderTableId) {
+        return orderTableOccupancyRepository.findById(orderTableId)
+            .map(this::utilizationOf)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderTableUtilization> findAll() {
+        return orderTableOccupancyRepository.findAll()
+            .stream()
+            .map(this::utilizationOf)
+            .toList();
+    }
+
+    private void apply(final OrderTableOccupancy occupancy, final OrderTableEvent event) {
+        switch (event.type()) {
+            case SAT -> {
+                if (Objects.isNull(occupancy.getSeatedDateTime())) {
+                    occupancy.setSeatedDateTime(event.occurredDateTime());
+                    occupancy.setCurrentGuests(0);
+                }
+                if (Objects.isNull(occupancy.getFirstSeatedDateTime())) {
+                    occupancy.setFirstSeatedDateTime(event.occurredDateTime());
+                }
+            }
+            case GUESTS_CHANGED -> occupancy.setCurrentGuests(event.numberOfGuests());
+            case CLEARED -> {
+                final LocalDateTime seatedDateTime = occupancy.getSeatedDateTime();
+                if (Objects.isNull(seatedDateTime)) {
+                    return;
+                }
+                final long dwellMillis = Duration.between(seatedDateTime, event.occurredDateTime()).toMillis();
+                occupancy.setSeatings(occupancy.getSeatings() + 1L);
+                occupancy.setTotalDwellMillis(occupancy.getTotalDwellMillis() + Math.max(0L, dwellMillis));
+                occupancy.setTotalGuests(occupancy.getTotalGuests() + occupancy.getCurrentGuests());
+                occupancy.setSeatedDateTime(null);
+                occupancy.setCurrentGuests(0);
+            }
+        }
+    }
+
+    private OrderTableUtilization utilizationOf(final OrderTableOccupancy occupancy) {
+        final long seatings = occupancy.getSeatings();
+        final LocalDateTime firstSeatedDateTime = occupancy.getFirstSeatedDateTime();
+        final long days = Objects.isNull(firstSeatedDateTime)
+            ? 1L
+            : ChronoUnit.DAYS.between(firstSeatedDateTime.toLocalDate(), LocalDate.now()) + 1L;
+        return new OrderTableUtilization(
+            occupancy.getOrderTableId(),
+            seatings,
+            seatings == 0L ? 0L : occupancy.getTotalDwellMillis() / seatings,
+            seatings == 0L ? 0.0 : (double) occupancy.getTotalGuests() / seatings,
+            (double) seatings / days,
+            occupancy.getSeatedDateTime()
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.common.event.DomainEventHandler;
+import kitchenpos.eatinorders.domain.OrderCompletedEvent;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableEventType;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.NoSuchElementException;
+
+@Component
+public class OrderTableReleaseHandler implements DomainEventHandler<OrderCompletedEvent> {
+    private final OrderTableRepository orderTableRepository;
+    private final OrderRepository orderRepository;
+    private final OrderTableEventRecorder orderTableEventRecorder;
+
+    public OrderTableReleaseHandler(
+        final OrderTableRepository orderTableRepository,
+        final OrderRepository orderRepository,
+        final OrderTableEventRecorder orderTableEventRecorder
+    ) {
+        this.orderTableRepository = orderTableRepository;
+        this.orderRepository = orderRepository;
+        this.orderTableEventRecorder = orderTableEventRecorder;
+    }
+
+    @Override
+    public Class<OrderCompletedEvent> eventType() {
+        return OrderCompletedEvent.class;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public void handle(final OrderCompletedEvent event) {
+        if (event.type() != OrderType.EAT_IN) {
+            return;
+        }
+        final OrderTable orderTable = orderTableRepository.findByIdForUpdate(event.orderTableId())
+            .orElseThrow(NoSuchElementException::new);
+        if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+            orderTable.setNumberOfGuests(0);
+            orderTable.setOccupied(false);
+            orderTableEventRecorder.record(orderTable, OrderTableEventType.CLEARED);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package kitchenpos.eatinorders.application;
 import kitchenpos.eatinorders.domain.OrderRepository;
 import kitchenpos.eatinorders.domain.OrderStatus;
 import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableEventType;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,10 +17,16 @@ import java.util.UUID;
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
     private final OrderRepository orderRepository;
+    private final OrderTableEventRecorder orderTableEventRecorder;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(
+        final OrderTableRepository orderTableRepository,
+        final OrderRepository orderRepository,
+        final OrderTableEventRecorder orderTableEventRecorder
+    ) {
         this.orderTableRepository = orderTableRepository;
         this.orderRepository = orderRepository;
+        this.orderTableEventRecorder = orderTableEventRecorder;
     }
 
     @Transactional
@@ -38,21 +45,23 @@ public class OrderTableService {
 
     @Transactional
     public OrderTable sit(final UUID orderTableId) {
-        final OrderTable orderTable = orderTableRepository.findById(orderTableId)
+        final OrderTable orderTable = orderTableRepository.findByIdForUpdate(orderTableId)
             .orElseThrow(NoSuchElementException::new);
         orderTable.setOccupied(true);
+        orderTableEventRecorder.record(orderTable, OrderTableEventType.SAT);
         return orderTable;
     }
 
     @Transactional
     public OrderTable clear(final UUID orderTableId) {
-        final OrderTable orderTable = orderTableRepository.findById(orderTableId)
+        final OrderTable orderTable = orderTableRepository.findByIdForUpdate(orderTableId)
             .orElseThrow(NoSuchElementException::new);
         if (orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
             throw new IllegalStateException();
         }
         orderTable.setNumberOfGuests(0);
         orderTable.setOccupied(false);
+        orderTableEventRecorder.record(orderTable, OrderTableEventType.CLEARED);
         return orderTable;
     }
 
@@ -62,12 +71,13 @@ public class OrderTableService {
         if (numberOfGuests < 0) {
             throw new IllegalArgumentException();
         }
-        final OrderTable orderTable = orderTableRepository.findById(orderTableId)
+        final OrderTable orderTable = orderTableRepository.findByIdForUpdate(orderTableId)
             .orElseThrow(NoSuchElementException::new);
         if (!orderTable.isOccupied()) {
             throw new IllegalStateException();
         }
         orderTable.setNumberOfGuests(numberOfGuests);
+        orderTableEventRecorder.record(orderTable, OrderTableEventType.GUESTS_CHANGED);
         return orderTable;
     }
 
@@ -0,0 +1,14 @@
+package kitchenpos.eatinorders.application;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderTableUtilization(
+    UUID orderTableId,
+    long seatings,
+    long averageDwellMillis,
+    double averageGuests,
+    double turnsPerDay,
+    LocalDateTime occupiedSince
+) {
+}
@@ -0,0 +1,120 @@
+package kitchenpos.eatinorders.domain;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Table(name = "archived_order")
+@Entity
+public class ArchivedOrder {
+    @Column(name = "id", columnDefinition = "binary(16)")
+    @Id
+    private UUID id;
+
+    @Column(name = "type", nullable = false, columnDefinition = "varchar(255)")
+    @Enumerated(EnumType.STRING)
+    private OrderType type;
+
+    @Column(name = "order_date_time", nullable = false)
+    private LocalDateTime orderDateTime;
+
+    @Column(name = "completed_date_time")
+    private LocalDateTime completedDateTime;
+
+    @Column(name = "archived_date_time", nullable = false)
+    private LocalDateTime archivedDateTime;
+
+    @Column(name = "delivery_address")
+    private String deliveryAddress;
+
+    @Column(name = "order_table_id", columnDefinition = "binary(16)")
+    private UUID orderTableId;
+
+    @ElementCollection
+    @CollectionTable(
+        name = "archived_order_line_item",
+        joinColumns = @JoinColumn(name = "archived_order_id", columnDefinition = "binary(16)"),
+        foreignKey = @ForeignKey(name = "fk_archived_order_line_item_to_archived_order")
+    )
+    @OrderColumn(name = "seq")
+    private List<ArchivedOrderLineItem> orderLineItems;
+
+    public ArchivedOrder() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(final UUID id) {
+        this.id = id;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public void setType(final OrderType type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getOrderDateTime() {
+        return orderDateTime;
+    }
+
+    public void setOrderDateTime(final LocalDateTime orderDateTime) {
+        this.orderDateTime = orderDateTime;
+    }
+
+    public LocalDateTime getCompletedDateTime() {
+        return completedDateTime;
+    }
+
+    public void setCompletedDateTime(final LocalDateTime completedDateTime) {
+        this.completedDateTime = completedDateTime;
+    }
+
+    public LocalDateTime getArchivedDateTime() {
+        return archivedDateTime;
+    }
+
+    public void setArchivedDateTime(final LocalDateTime archivedDateTime) {
+        this.archivedDateTime = archivedDateTime;
+    }
+
+    public String getDeliveryAddress() {
+        return deliveryAddress;
+    }
+
+    public void setDeliveryAddress(final String deliveryAddress) {
+        this.deliveryAddress = deliveryAddress;
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final UUID orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public List<ArchivedOrderLineItem> getOrderLineItems() {
+        return orderLineItems;
+    }
+
+    public void setOrderLineItems(final List<ArchivedOrderLineItem> orderLineItems) {
+        this.orderLineItems = orderLineItems;
+    }
+}
@@ -0,0 +1,57 @@
+package kitchenpos.eatinorders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import kitchenpos.common.domain.Money;
+
+import java.util.UUID;
+
+@Embeddable
+public class ArchivedOrderLineItem {
+    @Column(name = "menu_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID menuId;
+
+    @Column(name = "menu_name", nullable = false)
+    private String menuName;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "price", nullable = false)
+    private Money price;
+
+    public ArchivedOrderLineItem() {
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public void setMenuId(final UUID menuId) {
+        this.menuId = menuId;
+    }
+
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public void setMenuName(final String menuName) {
+        this.menuName = menuName;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public void setPrice(final Money price) {
+        this.price = price;
+    }
+}
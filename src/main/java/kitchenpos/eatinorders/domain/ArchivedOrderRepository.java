@@ -0,0 +1,16 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ArchivedOrderRepository {
+    <S extends ArchivedOrder> List<S> saveAll(Iterable<S> archivedOrders);
+
+    Optional<ArchivedOrder> findById(UUID id);
+
+    List<ArchivedOrder> findAllByOrderDateTimeBetween(LocalDateTime from, LocalDateTime to);
+
+    List<ArchivedOrder> findAllByCompletedDateTimeBetween(LocalDateTime from, LocalDateTime to);
+}
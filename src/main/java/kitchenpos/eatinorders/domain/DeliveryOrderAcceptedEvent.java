@@ -0,0 +1,9 @@
+package kitchenpos.eatinorders.domain;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.DomainEvent;
+
+import java.util.UUID;
+
+public record DeliveryOrderAcceptedEvent(UUID orderId, Money amount, String deliveryAddress) implements DomainEvent {
+}
@@ -0,0 +1,8 @@
+package kitchenpos.eatinorders.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface JpaArchivedOrderRepository extends ArchivedOrderRepository, JpaRepository<ArchivedOrder, UUID> {
+}
@@ -0,0 +1,29 @@
+package kitchenpos.eatinorders.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JpaOrderIdempotencyKeyRepository extends OrderIdempotencyKeyRepository, JpaRepository<OrderIdempotencyKey, String> {
+    @Modifying
+    @Query(
+        value = "insert into order_idempotency_key (idempotency_key, order_id, request_hash, expires_date_time) "
+            + "values (:#{#key.idempotencyKey}, :#{#key.orderId}, :#{#key.requestHash}, :#{#key.expiresDateTime})",
+        nativeQuery = true
+    )
+    @Override
+    void insert(@Param("key") OrderIdempotencyKey orderIdempotencyKey);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.idempotencyKey = :idempotencyKey and k.expiresDateTime <= :dateTime")
+    @Override
+    int deleteExpired(@Param("idempotencyKey") String idempotencyKey, @Param("dateTime") LocalDateTime dateTime);
+
+    @Modifying
+    @Query("delete from OrderIdempotencyKey k where k.expiresDateTime < :dateTime")
+    @Override
+    int deleteAllByExpiresDateTimeBefore(@Param("dateTime") LocalDateTime dateTime);
+}
@@ -0,0 +1,17 @@
+package kitchenpos.eatinorders.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface JpaOrderLatencySnapshotRepository extends OrderLatencySnapshotRepository, JpaRepository<OrderLatencySnapshot, String> {
+    @Transactional
+    @Modifying
+    @Query("delete from OrderLatencySnapshot s where s.updatedDateTime < :dateTime")
+    @Override
+    int deleteAllByUpdatedDateTimeBefore(@Param("dateTime") LocalDateTime dateTime);
+}
@@ -1,8 +1,38 @@
 package kitchenpos.eatinorders.domain;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, UUID> {
+    @EntityGraph("Order.detail")
+    @Override
+    Optional<Order> findById(UUID id);
+
+    @EntityGraph("Order.detail")
+    @Override
+    List<Order> findAll();
+
+    @EntityGraph("Order.detail")
+    @Override
+    List<Order> findAllByIdIn(List<UUID> ids);
+
+    @Query("select o.id from Order o where o.status = :status and o.orderDateTime < :dateTime")
+    @Override
+    List<UUID> findAllIdsByStatusAndOrderDateTimeBefore(
+        @Param("status") OrderStatus status,
+        @Param("dateTime") LocalDateTime dateTime,
+        Pageable pageable
+    );
+
+    @Query("select distinct o from Order o left join fetch o.orderLineItems where o.status <> :status")
+    @Override
+    List<Order> findAllByStatusNot(@Param("status") OrderStatus status);
 }
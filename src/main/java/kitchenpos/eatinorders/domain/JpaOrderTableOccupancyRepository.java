@@ -0,0 +1,8 @@
+package kitchenpos.eatinorders.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface JpaOrderTableOccupancyRepository extends OrderTableOccupancyRepository, JpaRepository<OrderTableOccupancy, UUID> {
+}
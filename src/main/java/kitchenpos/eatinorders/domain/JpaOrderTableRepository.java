@@ -1,8 +1,23 @@
 package kitchenpos.eatinorders.domain;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaOrderTableRepository extends OrderTableRepository, JpaRepository<OrderTable, UUID> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from OrderTable t where t.id = :id")
+    @Override
+    Optional<OrderTable> findByIdForUpdate(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t from OrderTable t where t.id in :ids order by t.id")
+    @Override
+    List<OrderTable> findAllByIdInForUpdate(@Param("ids") List<UUID> ids);
 }
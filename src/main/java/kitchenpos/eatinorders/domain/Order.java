@@ -9,6 +9,8 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
@@ -17,6 +19,10 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+@NamedEntityGraph(
+    name = "Order.detail",
+    attributeNodes = {@NamedAttributeNode("orderTable"), @NamedAttributeNode("orderLineItems")}
+)
 @Table(name = "orders")
 @Entity
 public class Order {
@@ -35,7 +41,10 @@ public class Order {
     @Column(name = "order_date_time", nullable = false)
     private LocalDateTime orderDateTime;
 
-    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @Column(name = "status_changed_date_time")
+    private LocalDateTime statusChangedDateTime;
+
+    @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE})
     @JoinColumn(
         name = "order_id",
         nullable = false,
@@ -93,6 +102,14 @@ public class Order {
         this.orderDateTime = orderDateTime;
     }
 
+    public LocalDateTime getStatusChangedDateTime() {
+        return statusChangedDateTime;
+    }
+
+    public void setStatusChangedDateTime(final LocalDateTime statusChangedDateTime) {
+        this.statusChangedDateTime = statusChangedDateTime;
+    }
+
     public List<OrderLineItem> getOrderLineItems() {
         return orderLineItems;
     }
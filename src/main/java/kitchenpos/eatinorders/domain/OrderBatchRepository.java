@@ -0,0 +1,14 @@
+package kitchenpos.eatinorders.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderBatchRepository {
+    List<UUID> findAllIdsByIdIn(List<UUID> ids);
+
+    void saveAll(List<Order> orders);
+
+    void updateAll(List<Order> orders);
+
+    void deleteAllByIdIn(List<UUID> ids);
+}
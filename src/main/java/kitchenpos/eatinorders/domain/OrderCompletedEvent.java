@@ -0,0 +1,8 @@
+package kitchenpos.eatinorders.domain;
+
+import kitchenpos.common.event.DomainEvent;
+
+import java.util.UUID;
+
+public record OrderCompletedEvent(UUID orderId, OrderType type, UUID orderTableId) implements DomainEvent {
+}
@@ -0,0 +1,9 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+
+public interface OrderEngineLeaseRepository {
+    boolean acquire(String name, String owner, LocalDateTime now, LocalDateTime expiresDateTime);
+
+    void release(String name, String owner);
+}
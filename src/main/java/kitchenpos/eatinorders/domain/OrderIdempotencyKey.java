@@ -0,0 +1,69 @@
+package kitchenpos.eatinorders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "order_idempotency_key")
+@Entity
+public class OrderIdempotencyKey {
+    @Column(name = "idempotency_key")
+    @Id
+    private String idempotencyKey;
+
+    @Column(name = "order_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID orderId;
+
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    @Column(name = "expires_date_time", nullable = false)
+    private LocalDateTime expiresDateTime;
+
+    public OrderIdempotencyKey() {
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(final String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    public void setOrderId(final UUID orderId) {
+        this.orderId = orderId;
+    }
+
+    public String getRequestHash() {
+        return requestHash;
+    }
+
+    public void setRequestHash(final String requestHash) {
+        this.requestHash = requestHash;
+    }
+
+    public LocalDateTime getExpiresDateTime() {
+        return expiresDateTime;
+    }
+
+    public void setExpiresDateTime(final LocalDateTime expiresDateTime) {
+        this.expiresDateTime = expiresDateTime;
+    }
+
+    public boolean isExpired(final LocalDateTime now) {
+        return !expiresDateTime.isAfter(now);
+    }
+
+    public boolean matches(final String requestHash) {
+        return this.requestHash.isEmpty() || this.requestHash.equals(requestHash);
+    }
+}
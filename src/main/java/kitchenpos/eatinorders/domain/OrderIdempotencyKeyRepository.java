@@ -0,0 +1,15 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface OrderIdempotencyKeyRepository {
+    void insert(OrderIdempotencyKey orderIdempotencyKey);
+
+    Optional<OrderIdempotencyKey> findById(String idempotencyKey);
+
+    int deleteExpired(String idempotencyKey, LocalDateTime dateTime);
+
+    int deleteAllByExpiresDateTimeBefore(LocalDateTime dateTime);
+}
+
@@ -0,0 +1,118 @@
+package kitchenpos.eatinorders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+
+@Table(name = "order_latency_snapshot")
+@Entity
+public class OrderLatencySnapshot {
+    @Column(name = "id")
+    @Id
+    private String id;
+
+    @Column(name = "instance_id", nullable = false)
+    private String instanceId;
+
+    @Column(name = "type", nullable = false, columnDefinition = "varchar(255)")
+    @Enumerated(EnumType.STRING)
+    private OrderType type;
+
+    @Column(name = "status", nullable = false, columnDefinition = "varchar(255)")
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(name = "counts", nullable = false, columnDefinition = "varbinary(4096)")
+    private byte[] counts;
+
+    @Column(name = "total_millis", nullable = false)
+    private long totalMillis;
+
+    @Column(name = "max_millis", nullable = false)
+    private long maxMillis;
+
+    @Column(name = "updated_date_time", nullable = false)
+    private LocalDateTime updatedDateTime;
+
+    public OrderLatencySnapshot() {
+    }
+
+    public static String idOf(final String instanceId, final OrderType type, final OrderStatus status) {
+        return instanceId + ":" + type.name() + ":" + status.name();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public void setInstanceId(final String instanceId) {
+        this.instanceId = instanceId;
+    }
+
+    public OrderType getType() {
+        return type;
+    }
+
+    public void setType(final OrderType type) {
+        this.type = type;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final OrderStatus status) {
+        this.status = status;
+    }
+
+    public long[] getCounts() {
+        final ByteBuffer buffer = ByteBuffer.wrap(counts);
+        final long[] values = new long[counts.length / Long.BYTES];
+        buffer.asLongBuffer().get(values);
+        return values;
+    }
+
+    public void setCounts(final long[] counts) {
+        final ByteBuffer buffer = ByteBuffer.allocate(counts.length * Long.BYTES);
+        buffer.asLongBuffer().put(counts);
+        this.counts = buffer.array();
+    }
+
+    public long getTotalMillis() {
+        return totalMillis;
+    }
+
+    public void setTotalMillis(final long totalMillis) {
+        this.totalMillis = totalMillis;
+    }
+
+    public long getMaxMillis() {
+        return maxMillis;
+    }
+
+    public void setMaxMillis(final long maxMillis) {
+        this.maxMillis = maxMillis;
+    }
+
+    public LocalDateTime getUpdatedDateTime() {
+        return updatedDateTime;
+    }
+
+    public void setUpdatedDateTime(final LocalDateTime updatedDateTime) {
+        this.updatedDateTime = updatedDateTime;
+    }
+}
@@ -0,0 +1,12 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderLatencySnapshotRepository {
+    OrderLatencySnapshot save(OrderLatencySnapshot snapshot);
+
+    List<OrderLatencySnapshot> findAll();
+
+    int deleteAllByUpdatedDateTimeBefore(LocalDateTime dateTime);
+}
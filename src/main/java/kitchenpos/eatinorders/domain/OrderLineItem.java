@@ -1,7 +1,9 @@
 package kitchenpos.eatinorders.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -9,10 +11,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Table(name = "order_line_item")
@@ -23,7 +24,8 @@ public class OrderLineItem {
     @Id
     private Long seq;
 
-    @ManyToOne(optional = false)
+    @JsonIgnore
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
     @JoinColumn(
         name = "menu_id",
         columnDefinition = "binary(16)",
@@ -34,11 +36,14 @@ public class OrderLineItem {
     @Column(name = "quantity", nullable = false)
     private long quantity;
 
-    @Transient
+    @Column(name = "menu_id", columnDefinition = "binary(16)", insertable = false, updatable = false)
     private UUID menuId;
 
-    @Transient
-    private BigDecimal price;
+    @Column(name = "menu_name", nullable = false)
+    private String menuName;
+
+    @Column(name = "price", nullable = false)
+    private Money price;
 
     public OrderLineItem() {
     }
@@ -75,11 +80,19 @@ public class OrderLineItem {
         this.menuId = menuId;
     }
 
-    public BigDecimal getPrice() {
+    public String getMenuName() {
+        return menuName;
+    }
+
+    public void setMenuName(final String menuName) {
+        this.menuName = menuName;
+    }
+
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 }
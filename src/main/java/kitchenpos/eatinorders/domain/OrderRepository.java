@@ -1,5 +1,8 @@
 package kitchenpos.eatinorders.domain;
 
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +14,16 @@ public interface OrderRepository {
 
     List<Order> findAll();
 
+    List<Order> findAllByStatusNot(OrderStatus status);
+
     boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+
+    List<Order> findAllByIdIn(List<UUID> ids);
+
+    List<UUID> findAllIdsByStatusAndOrderDateTimeBefore(OrderStatus status, LocalDateTime dateTime, Pageable pageable);
+
+    List<Order> findAllByStatusAndStatusChangedDateTimeBetween(OrderStatus status, LocalDateTime from, LocalDateTime to);
+
+    void deleteAll(Iterable<? extends Order> orders);
 }
 
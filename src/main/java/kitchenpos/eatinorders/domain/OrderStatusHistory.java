@@ -0,0 +1,16 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderStatusHistory(
+    long seq,
+    UUID orderId,
+    UUID orderTableId,
+    OrderType type,
+    OrderStatus fromStatus,
+    OrderStatus toStatus,
+    LocalDateTime changedDateTime,
+    String deliveryAddress
+) {
+}
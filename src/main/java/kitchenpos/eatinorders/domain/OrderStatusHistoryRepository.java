@@ -0,0 +1,20 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderStatusHistoryRepository {
+    void saveAll(List<OrderStatusHistory> histories);
+
+    List<OrderStatusHistory> findAllByOrderId(UUID orderId);
+
+    List<OrderStatusHistory> findAllByOrderTableIdAndChangedDateTimeBetween(
+        UUID orderTableId,
+        LocalDateTime from,
+        LocalDateTime to,
+        int limit
+    );
+
+    List<OrderStatusHistory> findAllByChangedDateTimeBetween(LocalDateTime from, LocalDateTime to, long afterSeq, int limit);
+}
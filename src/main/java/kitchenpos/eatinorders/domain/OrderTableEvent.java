@@ -0,0 +1,12 @@
+package kitchenpos.eatinorders.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderTableEvent(
+    UUID orderTableId,
+    OrderTableEventType type,
+    int numberOfGuests,
+    LocalDateTime occurredDateTime
+) {
+}
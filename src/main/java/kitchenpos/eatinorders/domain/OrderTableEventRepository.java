@@ -0,0 +1,7 @@
+package kitchenpos.eatinorders.domain;
+
+import java.util.List;
+
+public interface OrderTableEventRepository {
+    void saveAll(List<OrderTableEvent> events);
+}
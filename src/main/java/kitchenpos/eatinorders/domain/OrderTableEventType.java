@@ -0,0 +1,5 @@
+package kitchenpos.eatinorders.domain;
+
+public enum OrderTableEventType {
+    SAT, GUESTS_CHANGED, CLEARED
+}
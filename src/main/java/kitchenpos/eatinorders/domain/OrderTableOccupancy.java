@@ -0,0 +1,94 @@
+package kitchenpos.eatinorders.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Table(name = "order_table_occupancy")
+@Entity
+public class OrderTableOccupancy {
+    @Column(name = "order_table_id", columnDefinition = "binary(16)")
+    @Id
+    private UUID orderTableId;
+
+    @Column(name = "seatings", nullable = false)
+    private long seatings;
+
+    @Column(name = "total_dwell_millis", nullable = false)
+    private long totalDwellMillis;
+
+    @Column(name = "total_guests", nullable = false)
+    private long totalGuests;
+
+    @Column(name = "first_seated_date_time")
+    private LocalDateTime firstSeatedDateTime;
+
+    @Column(name = "seated_date_time")
+    private LocalDateTime seatedDateTime;
+
+    @Column(name = "current_guests", nullable = false)
+    private int currentGuests;
+
+    public OrderTableOccupancy() {
+    }
+
+    public UUID getOrderTableId() {
+        return orderTableId;
+    }
+
+    public void setOrderTableId(final UUID orderTableId) {
+        this.orderTableId = orderTableId;
+    }
+
+    public long getSeatings() {
+        return seatings;
+    }
+
+    public void setSeatings(final long seatings) {
+        this.seatings = seatings;
+    }
+
+    public long getTotalDwellMillis() {
+        return totalDwellMillis;
+    }
+
+    public void setTotalDwellMillis(final long totalDwellMillis) {
+        this.totalDwellMillis = totalDwellMillis;
+    }
+
+    public long getTotalGuests() {
+        return totalGuests;
+    }
+
+    public void setTotalGuests(final long totalGuests) {
+        this.totalGuests = totalGuests;
+    }
+
+    public LocalDateTime getFirstSeatedDateTime() {
+        return firstSeatedDateTime;
+    }
+
+    public void setFirstSeatedDateTime(final LocalDateTime firstSeatedDateTime) {
+        this.firstSeatedDateTime = firstSeatedDateTime;
+    }
+
+    public LocalDateTime getSeatedDateTime() {
+        return seatedDateTime;
+    }
+
+    public void setSeatedDateTime(final LocalDateTime seatedDateTime) {
+        this.seatedDateTime = seatedDateTime;
+    }
+
+    public int getCurrentGuests() {
+        return currentGuests;
+    }
+
+    public void setCurrentGuests(final int currentGuests) {
+        this.currentGuests = currentGuests;
+    }
+}
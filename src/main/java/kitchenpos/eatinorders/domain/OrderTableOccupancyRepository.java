@@ -0,0 +1,15 @@
+package kitchenpos.eatinorders.domain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderTableOccupancyRepository {
+    <S extends OrderTableOccupancy> List<S> saveAll(Iterable<S> orderTableOccupancies);
+
+    Optional<OrderTableOccupancy> findById(UUID orderTableId);
+
+    List<OrderTableOccupancy> findAll();
+
+    List<OrderTableOccupancy> findAllByOrderTableIdIn(List<UUID> orderTableIds);
+}
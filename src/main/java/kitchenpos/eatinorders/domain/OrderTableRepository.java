@@ -9,6 +9,12 @@ public interface OrderTableRepository {
 
     Optional<OrderTable> findById(UUID id);
 
+    Optional<OrderTable> findByIdForUpdate(UUID id);
+
     List<OrderTable> findAll();
+
+    List<OrderTable> findAllByIdIn(List<UUID> ids);
+
+    List<OrderTable> findAllByIdInForUpdate(List<UUID> ids);
 }
 
@@ -0,0 +1,100 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.common.infra.Uuids;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderBatchRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class JdbcOrderBatchRepository implements OrderBatchRepository {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_ORDER_SQL = "insert into orders "
+        + "(id, type, status, order_date_time, status_changed_date_time, delivery_address, order_table_id) "
+        + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ORDER_LINE_ITEM_SQL = "insert into order_line_item "
+        + "(order_id, menu_id, menu_name, quantity, price) values (?, ?, ?, ?, ?)";
+    private static final String UPDATE_ORDER_STATUS_SQL = "update orders "
+        + "set status = ?, status_changed_date_time = ? where id = ?";
+    private static final String SELECT_IDS_SQL = "select id from orders where id in (%s)";
+    private static final String DELETE_ORDER_LINE_ITEMS_SQL = "delete from order_line_item where order_id in (%s)";
+    private static final String DELETE_ORDERS_SQL = "delete from orders where id in (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderBatchRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<UUID> findAllIdsByIdIn(final List<UUID> ids) {
+        final List<UUID> found = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            final List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            found.addAll(jdbcTemplate.query(
+                SELECT_IDS_SQL.formatted(String.join(", ", Collections.nCopies(chunk.size(), "?"))),
+                (resultSet, rowNum) -> Uuids.fromBytes(resultSet.getBytes("id")),
+                chunk.stream()
+                    .map(Uuids::toBytes)
+                    .toArray()
+            ));
+        }
+        return found;
+    }
+
+    @Override
+    public void saveAll(final List<Order> orders) {
+        jdbcTemplate.batchUpdate(INSERT_ORDER_SQL, orders, BATCH_SIZE, (statement, order) -> {
+            statement.setBytes(1, Uuids.toBytes(order.getId()));
+            statement.setString(2, order.getType().name());
+            statement.setString(3, order.getStatus().name());
+            statement.setTimestamp(4, Timestamp.valueOf(order.getOrderDateTime()));
+            statement.setTimestamp(5, Timestamp.valueOf(order.getStatusChangedDateTime()));
+            statement.setString(6, order.getDeliveryAddress());
+            statement.setBytes(7, Objects.isNull(order.getOrderTable()) ? null : Uuids.toBytes(order.getOrderTable().getId()));
+        });
+        final List<Map.Entry<UUID, OrderLineItem>> orderLineItems = orders.stream()
+            .flatMap(order -> order.getOrderLineItems()
+                .stream()
+                .map(orderLineItem -> Map.entry(order.getId(), orderLineItem)))
+            .toList();
+        jdbcTemplate.batchUpdate(INSERT_ORDER_LINE_ITEM_SQL, orderLineItems, BATCH_SIZE, (statement, entry) -> {
+            statement.setBytes(1, Uuids.toBytes(entry.getKey()));
+            statement.setBytes(2, Uuids.toBytes(entry.getValue().getMenuId()));
+            statement.setString(3, entry.getValue().getMenuName());
+            statement.setLong(4, entry.getValue().getQuantity());
+            statement.setBigDecimal(5, entry.getValue().getPrice().toBigDecimal());
+        });
+    }
+
+    @Override
+    public void updateAll(final List<Order> orders) {
+        jdbcTemplate.batchUpdate(UPDATE_ORDER_STATUS_SQL, orders, BATCH_SIZE, (statement, order) -> {
+            statement.setString(1, order.getStatus().name());
+            statement.setTimestamp(2, Timestamp.valueOf(order.getStatusChangedDateTime()));
+            statement.setBytes(3, Uuids.toBytes(order.getId()));
+        });
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<UUID> ids) {
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            final List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            final String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+            final Object[] args = chunk.stream()
+                .map(Uuids::toBytes)
+                .toArray();
+            jdbcTemplate.update(DELETE_ORDER_LINE_ITEMS_SQL.formatted(placeholders), args);
+            jdbcTemplate.update(DELETE_ORDERS_SQL.formatted(placeholders), args);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.eatinorders.domain.OrderEngineLeaseRepository;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+public class JdbcOrderEngineLeaseRepository implements OrderEngineLeaseRepository {
+    private static final String RENEW_SQL = "update order_engine_lease set owner = ?, expires_date_time = ? "
+        + "where name = ? and (owner = ? or expires_date_time < ?)";
+    private static final String INSERT_SQL = "insert into order_engine_lease "
+        + "(name, owner, expires_date_time) values (?, ?, ?)";
+    private static final String DELETE_SQL = "delete from order_engine_lease where name = ? and owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderEngineLeaseRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean acquire(final String name, final String owner, final LocalDateTime now, final LocalDateTime expiresDateTime) {
+        final int renewed = jdbcTemplate.update(
+            RENEW_SQL, owner, Timestamp.valueOf(expiresDateTime), name, owner, Timestamp.valueOf(now)
+        );
+        if (renewed > 0) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, owner, Timestamp.valueOf(expiresDateTime)) > 0;
+        } catch (final DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public void release(final String name, final String owner) {
+        jdbcTemplate.update(DELETE_SQL, name, owner);
+    }
+}
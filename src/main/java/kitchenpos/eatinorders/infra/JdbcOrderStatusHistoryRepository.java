@@ -0,0 +1,113 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.common.infra.Uuids;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Repository
+public class JdbcOrderStatusHistoryRepository implements OrderStatusHistoryRepository {
+    private static final OrderType[] TYPES = OrderType.values();
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final int BATCH_SIZE = 500;
+    private static final String COLUMNS = "seq, order_id, order_table_id, type, from_status, to_status, "
+        + "changed_date_time, delivery_address";
+    private static final String INSERT_SQL = "insert into order_status_history "
+        + "(order_id, order_table_id, type, from_status, to_status, changed_date_time, delivery_address) "
+        + "values (?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BY_ORDER_SQL = "select " + COLUMNS + " from order_status_history "
+        + "where order_id = ? order by seq";
+    private static final String SELECT_BY_ORDER_TABLE_SQL = "select " + COLUMNS + " from order_status_history "
+        + "where order_table_id = ? and changed_date_time between ? and ? order by changed_date_time, seq limit ?";
+    private static final String SELECT_BY_CHANGED_DATE_TIME_SQL = "select " + COLUMNS + " from order_status_history "
+        + "where changed_date_time between ? and ? and (changed_date_time > ? or seq > ?) "
+        + "order by changed_date_time, seq limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RowMapper<OrderStatusHistory> rowMapper = (resultSet, rowNum) -> new OrderStatusHistory(
+        resultSet.getLong("seq"),
+        Uuids.fromBytes(resultSet.getBytes("order_id")),
+        Uuids.fromBytes(resultSet.getBytes("order_table_id")),
+        TYPES[resultSet.getByte("type")],
+        statusOf(resultSet.getObject("from_status", Integer.class)),
+        STATUSES[resultSet.getByte("to_status")],
+        resultSet.getTimestamp("changed_date_time").toLocalDateTime(),
+        resultSet.getString("delivery_address")
+    );
+
+    public JdbcOrderStatusHistoryRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void saveAll(final List<OrderStatusHistory> histories) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, histories, BATCH_SIZE, (statement, history) -> {
+            statement.setBytes(1, Uuids.toBytes(history.orderId()));
+            statement.setBytes(2, Uuids.toBytes(history.orderTableId()));
+            statement.setByte(3, (byte) history.type().ordinal());
+            if (Objects.isNull(history.fromStatus())) {
+                statement.setNull(4, Types.TINYINT);
+            } else {
+                statement.setByte(4, (byte) history.fromStatus().ordinal());
+            }
+            statement.setByte(5, (byte) history.toStatus().ordinal());
+            statement.setTimestamp(6, Timestamp.valueOf(history.changedDateTime()));
+            statement.setString(7, history.deliveryAddress());
+        });
+    }
+
+    @Override
+    public List<OrderStatusHistory> findAllByOrderId(final UUID orderId) {
+        return jdbcTemplate.query(SELECT_BY_ORDER_SQL, rowMapper, (Object) Uuids.toBytes(orderId));
+    }
+
+    @Override
+    public List<OrderStatusHistory> findAllByOrderTableIdAndChangedDateTimeBetween(
+        final UUID orderTableId,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final int limit
+    ) {
+        return jdbcTemplate.query(
+            SELECT_BY_ORDER_TABLE_SQL,
+            rowMapper,
+            Uuids.toBytes(orderTableId),
+            Timestamp.valueOf(from),
+            Timestamp.valueOf(to),
+            limit
+        );
+    }
+
+    @Override
+    public List<OrderStatusHistory> findAllByChangedDateTimeBetween(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final long afterSeq,
+        final int limit
+    ) {
+        return jdbcTemplate.query(
+            SELECT_BY_CHANGED_DATE_TIME_SQL,
+            rowMapper,
+            Timestamp.valueOf(from),
+            Timestamp.valueOf(to),
+            Timestamp.valueOf(from),
+            afterSeq,
+            limit
+        );
+    }
+
+    private static OrderStatus statusOf(final Integer code) {
+        return Objects.isNull(code) ? null : STATUSES[code];
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.common.infra.Uuids;
+import kitchenpos.eatinorders.domain.OrderTableEvent;
+import kitchenpos.eatinorders.domain.OrderTableEventRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+public class JdbcOrderTableEventRepository implements OrderTableEventRepository {
+    private static final String INSERT_SQL = "insert into order_table_event "
+        + "(order_table_id, type, number_of_guests, occurred_date_time) values (?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcOrderTableEventRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void saveAll(final List<OrderTableEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, BATCH_SIZE, (statement, event) -> {
+            statement.setBytes(1, Uuids.toBytes(event.orderTableId()));
+            statement.setString(2, event.type().name());
+            statement.setInt(3, event.numberOfGuests());
+            statement.setTimestamp(4, Timestamp.valueOf(event.occurredDateTime()));
+        });
+    }
+}
@@ -0,0 +1,362 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+public class OrderJournal implements AutoCloseable {
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final int MAX_RECORD_BYTES = 1 << 20;
+    private static final byte SAVED = 1;
+    private static final byte DELETED = 2;
+    private static final byte SAVED_WITH_SNAPSHOT = 3;
+
+    private final Path path;
+    private final int maxBatch;
+    private final BlockingQueue<PendingAppend> queue = new LinkedBlockingQueue<>();
+    private final Object channelLock = new Object();
+    private final List<OrderJournalEntry> recovered;
+    private final Thread writer;
+    private FileChannel channel;
+    private long sequence;
+    private long entries;
+    private volatile boolean running = true;
+
+    public OrderJournal(final Path path, final int maxBatch) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.path = path;
+        this.maxBatch = maxBatch;
+        try {
+            if (Objects.nonNull(path.getParent())) {
+                Files.createDirectories(path.getParent());
+            }
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.recovered = read(channel);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.entries = recovered.size();
+        this.sequence = recovered.size();
+        this.writer = new Thread(this::run, "order-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public List<OrderJournalEntry> recovered() {
+        return recovered;
+    }
+
+    public long append(final List<OrderJournalEntry> entries) {
+        final PendingAppend pending = new PendingAppend(encode(entries), entries.size(), new CompletableFuture<>());
+        final long appended;
+        synchronized (queue) {
+            if (!running) {
+                throw new IllegalStateException("Order journal is closed");
+            }
+            sequence += entries.size();
+            appended = sequence;
+            queue.add(pending);
+        }
+        try {
+            pending.done().join();
+        } catch (final CompletionException e) {
+            throw new IllegalStateException("Failed to append to the order journal", e.getCause());
+        }
+        return appended;
+    }
+
+    public void rewrite(final List<OrderJournalEntry> entries) {
+        final Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        synchronized (channelLock) {
+            try (FileChannel target = FileChannel.open(
+                compacted,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE
+            )) {
+                writeFully(target, encode(entries));
+                target.force(true);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            try {
+                channel.close();
+                Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                channel.position(channel.size());
+                this.entries = entries.size();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    public long entries() {
+        synchronized (channelLock) {
+            return entries;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (queue) {
+            running = false;
+        }
+        writer.join(TimeUnit.SECONDS.toMillis(10L));
+        synchronized (channelLock) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void run() {
+        final List<PendingAppend> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                final PendingAppend first = queue.poll(100L, TimeUnit.MILLISECONDS);
+                if (Objects.isNull(first)) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, maxBatch - 1);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(final List<PendingAppend> batch) {
+        synchronized (channelLock) {
+            long start = -1L;
+            try {
+                start = channel.position();
+                for (final PendingAppend pending : batch) {
+                    writeFully(channel, pending.bytes());
+                }
+                channel.force(false);
+                for (final PendingAppend pending : batch) {
+                    entries += pending.entries();
+                    pending.done().complete(null);
+                }
+            } catch (final IOException e) {
+                rollback(start);
+                for (final PendingAppend pending : batch) {
+                    pending.done().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void rollback(final long start) {
+        if (start < 0L) {
+            return;
+        }
+        try {
+            channel.truncate(start);
+            channel.position(start);
+        } catch (final IOException ignored) {
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final byte[] bytes) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static List<OrderJournalEntry> read(final FileChannel channel) throws IOException {
+        final List<OrderJournalEntry> entries = new ArrayList<>();
+        final long size = channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        long position = 0L;
+        while (size - position >= HEADER_BYTES) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            final int length = header.getInt();
+            final int checksum = header.getInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES || size - position - HEADER_BYTES < length) {
+                break;
+            }
+            final ByteBuffer payload = ByteBuffer.allocate(length);
+            readFully(channel, payload, position + HEADER_BYTES);
+            final CRC32 crc = new CRC32();
+            crc.update(payload.array());
+            if ((int) crc.getValue() != checksum) {
+                break;
+            }
+            entries.add(decode(payload.array()));
+            position += HEADER_BYTES + length;
+        }
+        channel.truncate(position);
+        channel.position(position);
+        return entries;
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+    }
+
+    private static byte[] encode(final List<OrderJournalEntry> entries) {
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream output = new DataOutputStream(bytes);
+            for (final OrderJournalEntry entry : entries) {
+                final byte[] payload = encode(entry);
+                final CRC32 crc = new CRC32();
+                crc.update(payload);
+                output.writeInt(payload.length);
+                output.writeInt((int) crc.getValue());
+                output.write(payload);
+            }
+            return bytes.toByteArray();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] encode(final OrderJournalEntry entry) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(bytes);
+        if (entry.isDeleted()) {
+            output.writeByte(DELETED);
+            writeUuid(output, entry.orderId());
+            return bytes.toByteArray();
+        }
+        final Order order = entry.order();
+        output.writeByte(SAVED_WITH_SNAPSHOT);
+        writeUuid(output, order.getId());
+        output.writeUTF(order.getType().name());
+        output.writeUTF(order.getStatus().name());
+        writeDateTime(output, order.getOrderDateTime());
+        output.writeBoolean(Objects.nonNull(order.getStatusChangedDateTime()));
+        if (Objects.nonNull(order.getStatusChangedDateTime())) {
+            writeDateTime(output, order.getStatusChangedDateTime());
+        }
+        output.writeBoolean(Objects.nonNull(order.getDeliveryAddress()));
+        if (Objects.nonNull(order.getDeliveryAddress())) {
+            output.writeUTF(order.getDeliveryAddress());
+        }
+        output.writeBoolean(Objects.nonNull(order.getOrderTable()));
+        if (Objects.nonNull(order.getOrderTable())) {
+            writeUuid(output, order.getOrderTable().getId());
+        }
+        output.writeInt(order.getOrderLineItems().size());
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            output.writeBoolean(Objects.nonNull(orderLineItem.getSeq()));
+            if (Objects.nonNull(orderLineItem.getSeq())) {
+                output.writeLong(orderLineItem.getSeq());
+            }
+            writeUuid(output, orderLineItem.getMenuId());
+            output.writeUTF(orderLineItem.getMenuName());
+            output.writeLong(orderLineItem.getPrice().getAmount());
+            output.writeLong(orderLineItem.getQuantity());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static OrderJournalEntry decode(final byte[] payload) throws IOException {
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+        final byte kind = input.readByte();
+        final UUID orderId = readUuid(input);
+        if (kind == DELETED) {
+            return OrderJournalEntry.deleted(orderId);
+        }
+        if (kind != SAVED && kind != SAVED_WITH_SNAPSHOT) {
+            throw new IllegalStateException("Unknown order journal entry kind " + kind);
+        }
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setType(OrderType.valueOf(input.readUTF()));
+        order.setStatus(OrderStatus.valueOf(input.readUTF()));
+        order.setOrderDateTime(readDateTime(input));
+        if (input.readBoolean()) {
+            order.setStatusChangedDateTime(readDateTime(input));
+        }
+        if (input.readBoolean()) {
+            order.setDeliveryAddress(input.readUTF());
+        }
+        if (input.readBoolean()) {
+            order.setOrderTableId(readUuid(input));
+        }
+        final int size = input.readInt();
+        final List<OrderLineItem> orderLineItems = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            if (input.readBoolean()) {
+                orderLineItem.setSeq(input.readLong());
+            }
+            orderLineItem.setMenuId(readUuid(input));
+            if (kind == SAVED_WITH_SNAPSHOT) {
+                orderLineItem.setMenuName(input.readUTF());
+                orderLineItem.setPrice(Money.of(input.readLong()));
+            }
+            orderLineItem.setQuantity(input.readLong());
+            orderLineItems.add(orderLineItem);
+        }
+        order.setOrderLineItems(orderLineItems);
+        return OrderJournalEntry.saved(order);
+    }
+
+    private static void writeUuid(final DataOutputStream output, final UUID uuid) throws IOException {
+        output.writeLong(uuid.getMostSignificantBits());
+        output.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(final DataInputStream input) throws IOException {
+        return new UUID(input.readLong(), input.readLong());
+    }
+
+    private static void writeDateTime(final DataOutputStream output, final LocalDateTime dateTime) throws IOException {
+        output.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        output.writeInt(dateTime.getNano());
+    }
+
+    private static LocalDateTime readDateTime(final DataInputStream input) throws IOException {
+        return LocalDateTime.ofEpochSecond(input.readLong(), input.readInt(), ZoneOffset.UTC);
+    }
+
+    private record PendingAppend(byte[] bytes, int entries, CompletableFuture<Void> done) {
+    }
+}
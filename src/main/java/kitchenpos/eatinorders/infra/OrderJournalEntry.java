@@ -0,0 +1,20 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.eatinorders.domain.Order;
+
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderJournalEntry(UUID orderId, Order order) {
+    public static OrderJournalEntry saved(final Order order) {
+        return new OrderJournalEntry(order.getId(), order);
+    }
+
+    public static OrderJournalEntry deleted(final UUID orderId) {
+        return new OrderJournalEntry(orderId, null);
+    }
+
+    public boolean isDeleted() {
+        return Objects.isNull(order);
+    }
+}
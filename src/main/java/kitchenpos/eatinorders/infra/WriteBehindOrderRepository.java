@@ -0,0 +1,594 @@
+package kitchenpos.eatinorders.infra;
+
+import jakarta.annotation.PreDestroy;
+import kitchenpos.eatinorders.domain.JpaOrderRepository;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderBatchRepository;
+import kitchenpos.eatinorders.domain.OrderEngineLeaseRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Primary
+@ConditionalOnProperty(name = "kitchenpos.order-engine.enabled", havingValue = "true")
+@Repository
+public class WriteBehindOrderRepository implements OrderRepository, OrderBatchRepository {
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindOrderRepository.class);
+    private static final String LEASE_NAME = "order-engine";
+
+    private final OrderRepository orderRepository;
+    private final OrderBatchRepository orderBatchRepository;
+    private final OrderJournal journal;
+    private final long compactionThreshold;
+    private final OrderEngineLeaseRepository leaseRepository;
+    private final String leaseOwner;
+    private final Duration leaseTtl;
+    private final Map<UUID, ActiveOrder> orders = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> dirty = new ConcurrentHashMap<>();
+    private final Map<UUID, Long> compensated = new ConcurrentHashMap<>();
+    private final Object completion = new Object();
+    private final ReadWriteLock compaction = new ReentrantReadWriteLock();
+    private volatile boolean leased;
+
+    @Autowired
+    public WriteBehindOrderRepository(
+        final JpaOrderRepository orderRepository,
+        final JdbcOrderBatchRepository orderBatchRepository,
+        final MenuRepository menuRepository,
+        final OrderTableRepository orderTableRepository,
+        final JdbcOrderEngineLeaseRepository leaseRepository,
+        @Value("${kitchenpos.order-engine.journal-path:data/orders.journal}") final Path journalPath,
+        @Value("${kitchenpos.order-engine.max-fsync-batch:256}") final int maxFsyncBatch,
+        @Value("${kitchenpos.order-engine.compaction-threshold:10000}") final long compactionThreshold,
+        @Value("${kitchenpos.instance-id:${HOSTNAME:local}}") final String instanceId,
+        @Value("${kitchenpos.order-engine.lease-ttl:PT30S}") final Duration leaseTtl
+    ) {
+        this(
+            orderRepository,
+            orderBatchRepository,
+            menuRepository,
+            orderTableRepository,
+            new OrderJournal(journalPath, maxFsyncBatch),
+            compactionThreshold,
+            leaseRepository,
+            instanceId + "/" + ProcessHandle.current().pid(),
+            leaseTtl
+        );
+    }
+
+    WriteBehindOrderRepository(
+        final OrderRepository orderRepository,
+        final OrderBatchRepository orderBatchRepository,
+        final MenuRepository menuRepository,
+        final OrderTableRepository orderTableRepository,
+        final OrderJournal journal,
+        final long compactionThreshold,
+        final OrderEngineLeaseRepository leaseRepository,
+        final String leaseOwner,
+        final Duration leaseTtl
+    ) {
+        this.orderRepository = orderRepository;
+        this.orderBatchRepository = orderBatchRepository;
+        this.journal = journal;
+        this.compactionThreshold = compactionThreshold;
+        this.leaseRepository = leaseRepository;
+        this.leaseOwner = leaseOwner;
+        this.leaseTtl = leaseTtl;
+        if (!renewLease()) {
+            try {
+                journal.close();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException(
+                "The order engine lease is held by another instance, kitchenpos.order-engine.enabled must be set on one instance only"
+            );
+        }
+        for (final Order order : orderRepository.findAllByStatusNot(OrderStatus.COMPLETED)) {
+            orders.put(order.getId(), new ActiveOrder(copyOf(order), 0L));
+        }
+        recover(journal.recovered(), menuRepository, orderTableRepository);
+    }
+
+    @Override
+    public Order save(final Order order) {
+        requireLease();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(List.of(copyOf(order)));
+            return order;
+        }
+        pending().put(order.getId(), order);
+        return order;
+    }
+
+    @Override
+    public void saveAll(final List<Order> orders) {
+        requireLease();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            write(orders.stream()
+                .map(WriteBehindOrderRepository::copyOf)
+                .toList());
+            return;
+        }
+        final Map<UUID, Order> pending = pending();
+        for (final Order order : orders) {
+            pending.put(order.getId(), order);
+        }
+    }
+
+    @Override
+    public void updateAll(final List<Order> orders) {
+        saveAll(orders);
+    }
+
+    @Override
+    public Optional<Order> findById(final UUID id) {
+        final Order pending = pendingOrNull(id);
+        if (Objects.nonNull(pending)) {
+            return Optional.of(pending);
+        }
+        final ActiveOrder active = orders.get(id);
+        if (Objects.nonNull(active)) {
+            return Optional.of(copyOf(active.order()));
+        }
+        return orderRepository.findById(id);
+    }
+
+    @Override
+    public List<UUID> findAllIdsByIdIn(final List<UUID> ids) {
+        final Map<UUID, Order> pending = pendingOrEmpty();
+        final Set<UUID> found = ids.stream()
+            .filter(id -> pending.containsKey(id) || orders.containsKey(id))
+            .collect(Collectors.toCollection(HashSet::new));
+        found.addAll(orderBatchRepository.findAllIdsByIdIn(
+            ids.stream()
+                .filter(id -> !found.contains(id))
+                .toList()
+        ));
+        return new ArrayList<>(found);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return merge(orderRepository.findAll(), order -> true);
+    }
+
+    @Override
+    public List<Order> findAllByStatusNot(final OrderStatus status) {
+        if (status == OrderStatus.COMPLETED) {
+            return active(order -> order.getStatus() != status).toList();
+        }
+        return merge(orderRepository.findAllByStatusNot(status), order -> order.getStatus() != status);
+    }
+
+    @Override
+    public boolean existsByOrderTableAndStatusNot(final OrderTable orderTable, final OrderStatus status) {
+        final boolean active = active(order -> order.getStatus() != status)
+            .anyMatch(order -> Objects.nonNull(order.getOrderTable()) && order.getOrderTable().getId().equals(orderTable.getId()));
+        if (active || status == OrderStatus.COMPLETED) {
+            return active;
+        }
+        return orderRepository.existsByOrderTableAndStatusNot(orderTable, status);
+    }
+
+    @Override
+    public List<Order> findAllByIdIn(final List<UUID> ids) {
+        final Set<UUID> requested = new HashSet<>(ids);
+        return merge(orderRepository.findAllByIdIn(ids), order -> requested.contains(order.getId()));
+    }
+
+    @Override
+    public List<UUID> findAllIdsByStatusAndOrderDateTimeBefore(
+        final OrderStatus status,
+        final LocalDateTime dateTime,
+        final Pageable pageable
+    ) {
+        if (status == OrderStatus.COMPLETED) {
+            return orderRepository.findAllIdsByStatusAndOrderDateTimeBefore(status, dateTime, pageable);
+        }
+        return active(order -> order.getStatus() == status && order.getOrderDateTime().isBefore(dateTime))
+            .sorted(Comparator.comparing(Order::getOrderDateTime))
+            .limit(pageable.getPageSize())
+            .map(Order::getId)
+            .toList();
+    }
+
+    @Override
+    public List<Order> findAllByStatusAndStatusChangedDateTimeBetween(
+        final OrderStatus status,
+        final LocalDateTime from,
+        final LocalDateTime to
+    ) {
+        final Predicate<Order> predicate = order -> order.getStatus() == status
+            && Objects.nonNull(order.getStatusChangedDateTime())
+            && !order.getStatusChangedDateTime().isBefore(from)
+            && !order.getStatusChangedDateTime().isAfter(to);
+        if (status != OrderStatus.COMPLETED) {
+            return active(predicate).toList();
+        }
+        return merge(orderRepository.findAllByStatusAndStatusChangedDateTimeBetween(status, from, to), predicate);
+    }
+
+    @Override
+    public void deleteAll(final Iterable<? extends Order> orders) {
+        final List<UUID> ids = new ArrayList<>();
+        for (final Order order : orders) {
+            ids.add(order.getId());
+        }
+        forget(ids);
+        orderRepository.deleteAll(orders);
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<UUID> ids) {
+        forget(ids);
+        orderBatchRepository.deleteAllByIdIn(ids);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order-engine.flush-interval:PT1S}")
+    @Transactional
+    public void flush() {
+        if (!renewLease()) {
+            log.error("Lost the order engine lease to another instance, stopped flushing {} orders", dirty.size());
+            return;
+        }
+        final Map<UUID, Long> flushing = Map.copyOf(dirty);
+        if (!flushing.isEmpty()) {
+            final List<Order> snapshots = flushing.keySet()
+                .stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .map(ActiveOrder::order)
+                .toList();
+            final Set<UUID> stored = new HashSet<>(orderBatchRepository.findAllIdsByIdIn(
+                snapshots.stream()
+                    .map(Order::getId)
+                    .toList()
+            ));
+            final Map<Boolean, List<Order>> partitioned = snapshots.stream()
+                .collect(Collectors.partitioningBy(order -> stored.contains(order.getId())));
+            orderBatchRepository.saveAll(partitioned.get(false));
+            orderBatchRepository.updateAll(partitioned.get(true));
+            flushing.forEach(dirty::remove);
+            evictCompleted(flushing.keySet());
+            compensated.keySet().removeIf(id -> !orders.containsKey(id));
+        }
+        if (journal.entries() > Math.max(compactionThreshold, 2L * orders.size())) {
+            compact();
+        }
+    }
+
+    public int unflushed() {
+        return dirty.size();
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        journal.close();
+        if (leased) {
+            leased = false;
+            leaseRepository.release(LEASE_NAME, leaseOwner);
+        }
+    }
+
+    private boolean renewLease() {
+        final LocalDateTime now = LocalDateTime.now();
+        leased = leaseRepository.acquire(LEASE_NAME, leaseOwner, now, now.plus(leaseTtl));
+        return leased;
+    }
+
+    private void requireLease() {
+        if (!leased) {
+            throw new IllegalStateException();
+        }
+    }
+
+    private void write(final List<Order> snapshots) {
+        final List<OrderJournalEntry> entries = snapshots.stream()
+            .map(OrderJournalEntry::saved)
+            .toList();
+        compaction.readLock().lock();
+        try {
+            final long sequence = journal.append(entries);
+            for (final Order snapshot : snapshots) {
+                apply(snapshot, sequence);
+            }
+        } finally {
+            compaction.readLock().unlock();
+        }
+    }
+
+    private void commit(final List<Order> snapshots, final long sequence) {
+        synchronized (completion) {
+            final List<Order> overwritten = snapshots.stream()
+                .filter(snapshot -> compensated.getOrDefault(snapshot.getId(), 0L) > sequence)
+                .toList();
+            final long reappended = overwritten.isEmpty() ? sequence : journal.append(overwritten.stream()
+                .map(OrderJournalEntry::saved)
+                .toList());
+            for (final Order snapshot : snapshots) {
+                apply(snapshot, overwritten.contains(snapshot) ? reappended : sequence);
+            }
+        }
+    }
+
+    private void compensate(final List<Order> snapshots) {
+        synchronized (completion) {
+            final List<OrderJournalEntry> entries = new ArrayList<>(snapshots.size());
+            for (final Order snapshot : snapshots) {
+                final ActiveOrder committed = orders.get(snapshot.getId());
+                entries.add(Objects.isNull(committed)
+                    ? OrderJournalEntry.deleted(snapshot.getId())
+                    : OrderJournalEntry.saved(committed.order()));
+            }
+            try {
+                final long sequence = journal.append(entries);
+                for (final OrderJournalEntry entry : entries) {
+                    compensated.merge(entry.orderId(), sequence, Math::max);
+                }
+            } catch (final RuntimeException e) {
+                log.error("Failed to journal the rollback of {} orders, recovery may replay them", entries.size(), e);
+            }
+        }
+    }
+
+    private void apply(final Order snapshot, final long sequence) {
+        orders.merge(
+            snapshot.getId(),
+            new ActiveOrder(snapshot, sequence),
+            (current, next) -> next.sequence() > current.sequence() ? next : current
+        );
+        dirty.merge(snapshot.getId(), sequence, Math::max);
+    }
+
+    private void forget(final List<UUID> ids) {
+        requireLease();
+        final List<OrderJournalEntry> entries = new ArrayList<>();
+        for (final UUID id : ids) {
+            if (orders.containsKey(id)) {
+                entries.add(OrderJournalEntry.deleted(id));
+            }
+        }
+        if (!entries.isEmpty()) {
+            compaction.readLock().lock();
+            try {
+                journal.append(entries);
+                for (final OrderJournalEntry entry : entries) {
+                    orders.remove(entry.orderId());
+                    dirty.remove(entry.orderId());
+                    compensated.remove(entry.orderId());
+                }
+            } finally {
+                compaction.readLock().unlock();
+            }
+        }
+    }
+
+    private void evictCompleted(final Collection<UUID> ids) {
+        for (final UUID id : ids) {
+            final ActiveOrder active = orders.get(id);
+            if (Objects.nonNull(active) && active.order().getStatus() == OrderStatus.COMPLETED && !dirty.containsKey(id)) {
+                orders.remove(id, active);
+            }
+        }
+    }
+
+    private void compact() {
+        compaction.writeLock().lock();
+        try {
+            journal.rewrite(orders.values()
+                .stream()
+                .map(active -> OrderJournalEntry.saved(active.order()))
+                .toList());
+        } finally {
+            compaction.writeLock().unlock();
+        }
+    }
+
+    private void recover(
+        final List<OrderJournalEntry> entries,
+        final MenuRepository menuRepository,
+        final OrderTableRepository orderTableRepository
+    ) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        final Map<UUID, Menu> menusById = menuRepository.findAllByIdIn(
+                entries.stream()
+                    .filter(entry -> !entry.isDeleted())
+                    .flatMap(entry -> entry.order().getOrderLineItems().stream())
+                    .map(OrderLineItem::getMenuId)
+                    .distinct()
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        final Map<UUID, OrderTable> orderTablesById = orderTableRepository.findAllByIdIn(
+                entries.stream()
+                    .filter(entry -> !entry.isDeleted())
+                    .map(entry -> entry.order().getOrderTableId())
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(OrderTable::getId, Function.identity()));
+        long sequence = 0L;
+        for (final OrderJournalEntry entry : entries) {
+            sequence++;
+            if (entry.isDeleted()) {
+                orders.remove(entry.orderId());
+                dirty.remove(entry.orderId());
+                continue;
+            }
+            final Order order = entry.order();
+            order.setOrderTable(orderTablesById.get(order.getOrderTableId()));
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                final Menu menu = menusById.get(orderLineItem.getMenuId());
+                orderLineItem.setMenu(menu);
+                if (Objects.isNull(orderLineItem.getPrice()) && Objects.nonNull(menu)) {
+                    orderLineItem.setMenuName(menu.getName());
+                    orderLineItem.setPrice(menu.getPrice());
+                }
+            }
+            orders.put(order.getId(), new ActiveOrder(order, sequence));
+            dirty.put(order.getId(), sequence);
+        }
+        log.info("Recovered {} orders from {} journal entries", dirty.size(), entries.size());
+    }
+
+    private Stream<Order> active(final Predicate<Order> predicate) {
+        final Map<UUID, Order> pending = pendingOrEmpty();
+        return Stream.concat(
+                pending.values().stream(),
+                orders.values()
+                    .stream()
+                    .map(ActiveOrder::order)
+                    .filter(order -> !pending.containsKey(order.getId()))
+                    .map(WriteBehindOrderRepository::copyOf)
+            )
+            .filter(predicate);
+    }
+
+    private List<Order> merge(final List<Order> stored, final Predicate<Order> predicate) {
+        final List<Order> merged = active(predicate).collect(Collectors.toCollection(ArrayList::new));
+        final Set<UUID> ids = merged.stream()
+            .map(Order::getId)
+            .collect(Collectors.toSet());
+        for (final Order order : stored) {
+            if (!ids.contains(order.getId()) && !orders.containsKey(order.getId())) {
+                merged.add(order);
+            }
+        }
+        return merged;
+    }
+
+    private Order pendingOrNull(final UUID id) {
+        return pendingOrEmpty().get(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Order> pendingOrEmpty() {
+        final Map<UUID, Order> bound = (Map<UUID, Order>) TransactionSynchronizationManager.getResource(this);
+        return Objects.isNull(bound) ? Map.of() : bound;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Order> pending() {
+        final Map<UUID, Order> bound = (Map<UUID, Order>) TransactionSynchronizationManager.getResource(this);
+        if (Objects.nonNull(bound)) {
+            return bound;
+        }
+        final Map<UUID, Order> pending = new LinkedHashMap<>();
+        TransactionSynchronizationManager.bindResource(this, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private List<Order> journaled = List.of();
+            private long sequence;
+
+            @Override
+            public void beforeCommit(final boolean readOnly) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                final List<Order> snapshots = pending.values()
+                    .stream()
+                    .map(WriteBehindOrderRepository::copyOf)
+                    .toList();
+                compaction.readLock().lock();
+                try {
+                    sequence = journal.append(snapshots.stream()
+                        .map(OrderJournalEntry::saved)
+                        .toList());
+                } catch (final RuntimeException e) {
+                    compaction.readLock().unlock();
+                    throw e;
+                }
+                journaled = snapshots;
+            }
+
+            @Override
+            public void afterCompletion(final int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WriteBehindOrderRepository.this);
+                if (journaled.isEmpty()) {
+                    return;
+                }
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        commit(journaled, sequence);
+                    } else {
+                        compensate(journaled);
+                    }
+                } finally {
+                    compaction.readLock().unlock();
+                }
+            }
+        });
+        return pending;
+    }
+
+    private static Order copyOf(final Order order) {
+        final Order copy = new Order();
+        copy.setId(order.getId());
+        copy.setType(order.getType());
+        copy.setStatus(order.getStatus());
+        copy.setOrderDateTime(order.getOrderDateTime());
+        copy.setStatusChangedDateTime(order.getStatusChangedDateTime());
+        copy.setDeliveryAddress(order.getDeliveryAddress());
+        copy.setOrderTable(order.getOrderTable());
+        copy.setOrderTableId(order.getOrderTableId());
+        final List<OrderLineItem> orderLineItems = new ArrayList<>(order.getOrderLineItems().size());
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            final OrderLineItem lineItemCopy = new OrderLineItem();
+            lineItemCopy.setSeq(orderLineItem.getSeq());
+            lineItemCopy.setMenu(orderLineItem.getMenu());
+            lineItemCopy.setQuantity(orderLineItem.getQuantity());
+            lineItemCopy.setMenuId(orderLineItem.getMenuId());
+            lineItemCopy.setMenuName(orderLineItem.getMenuName());
+            lineItemCopy.setPrice(orderLineItem.getPrice());
+            orderLineItems.add(lineItemCopy);
+        }
+        copy.setOrderLineItems(orderLineItems);
+        return copy;
+    }
+
+    private record ActiveOrder(Order order, long sequence) {
+    }
+}
@@ -0,0 +1,38 @@
+package kitchenpos.eatinorders.ui;
+
+import kitchenpos.eatinorders.application.OrderArchiveService;
+import kitchenpos.eatinorders.domain.ArchivedOrder;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequestMapping("/api/archived-orders")
+@RestController
+public class ArchivedOrderRestController {
+    private final OrderArchiveService orderArchiveService;
+
+    public ArchivedOrderRestController(final OrderArchiveService orderArchiveService) {
+        this.orderArchiveService = orderArchiveService;
+    }
+
+    @GetMapping("/{archivedOrderId}")
+    public ResponseEntity<ArchivedOrder> findById(@PathVariable final UUID archivedOrderId) {
+        return ResponseEntity.ok(orderArchiveService.findById(archivedOrderId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchivedOrder>> findAll(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return ResponseEntity.ok(orderArchiveService.findAll(from, to));
+    }
+}
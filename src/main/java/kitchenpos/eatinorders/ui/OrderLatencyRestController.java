@@ -0,0 +1,25 @@
+package kitchenpos.eatinorders.ui;
+
+import kitchenpos.eatinorders.application.OrderLatency;
+import kitchenpos.eatinorders.application.OrderLatencyRecorder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RequestMapping("/api/order-latencies")
+@RestController
+public class OrderLatencyRestController {
+    private final OrderLatencyRecorder orderLatencyRecorder;
+
+    public OrderLatencyRestController(final OrderLatencyRecorder orderLatencyRecorder) {
+        this.orderLatencyRecorder = orderLatencyRecorder;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<OrderLatency>> findAll() {
+        return ResponseEntity.ok(orderLatencyRecorder.findAll());
+    }
+}
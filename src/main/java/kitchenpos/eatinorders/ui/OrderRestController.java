@@ -1,5 +1,8 @@
 package kitchenpos.eatinorders.ui;
 
+import kitchenpos.eatinorders.application.OrderBatchOutcome;
+import kitchenpos.eatinorders.application.OrderBatchService;
+import kitchenpos.eatinorders.application.OrderIdempotencyService;
 import kitchenpos.eatinorders.application.OrderService;
 import kitchenpos.eatinorders.domain.Order;
 import org.springframework.http.ResponseEntity;
@@ -8,6 +11,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -19,18 +23,34 @@ import java.util.UUID;
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderBatchService orderBatchService;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderIdempotencyService orderIdempotencyService,
+        final OrderBatchService orderBatchService
+    ) {
         this.orderService = orderService;
+        this.orderIdempotencyService = orderIdempotencyService;
+        this.orderBatchService = orderBatchService;
     }
 
     @PostMapping
-    public ResponseEntity<Order> create(@RequestBody final Order request) {
-        final Order response = orderService.create(request);
+    public ResponseEntity<Order> create(
+        @RequestHeader(name = "Idempotency-Key", required = false) final String idempotencyKey,
+        @RequestBody final Order request
+    ) {
+        final Order response = orderIdempotencyService.create(idempotencyKey, request);
         return ResponseEntity.created(URI.create("/api/orders/" + response.getId()))
             .body(response);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<OrderBatchOutcome>> createAll(@RequestBody final List<Order> requests) {
+        return ResponseEntity.ok(orderBatchService.createAll(requests));
+    }
+
     @PutMapping("/{orderId}/accept")
     public ResponseEntity<Order> accept(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.accept(orderId));
@@ -0,0 +1,56 @@
+package kitchenpos.eatinorders.ui;
+
+import kitchenpos.eatinorders.application.OrderStatusHistoryService;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@RequestMapping("/api/order-status-histories")
+@RestController
+public class OrderStatusHistoryRestController {
+    private final OrderStatusHistoryService orderStatusHistoryService;
+
+    public OrderStatusHistoryRestController(final OrderStatusHistoryService orderStatusHistoryService) {
+        this.orderStatusHistoryService = orderStatusHistoryService;
+    }
+
+    @GetMapping("/orders/{orderId}")
+    public ResponseEntity<List<OrderStatusHistory>> findAllByOrderId(@PathVariable final UUID orderId) {
+        return ResponseEntity.ok(orderStatusHistoryService.findAllByOrderId(orderId));
+    }
+
+    @GetMapping("/orders/{orderId}/current")
+    public ResponseEntity<Order> reconstruct(@PathVariable final UUID orderId) {
+        return ResponseEntity.ok(orderStatusHistoryService.reconstruct(orderId));
+    }
+
+    @GetMapping("/order-tables/{orderTableId}")
+    public ResponseEntity<List<OrderStatusHistory>> findAllByOrderTableId(
+        @PathVariable final UUID orderTableId,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate date,
+        @RequestParam(defaultValue = "1000") final int limit
+    ) {
+        return ResponseEntity.ok(orderStatusHistoryService.findAllByOrderTableId(orderTableId, date, limit));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<OrderStatusHistory>> findAll(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(defaultValue = "0") final long afterSeq,
+        @RequestParam(defaultValue = "1000") final int limit
+    ) {
+        return ResponseEntity.ok(orderStatusHistoryService.findAll(from, to, afterSeq, limit));
+    }
+}
@@ -1,6 +1,8 @@
 package kitchenpos.eatinorders.ui;
 
+import kitchenpos.eatinorders.application.OrderTableOccupancyService;
 import kitchenpos.eatinorders.application.OrderTableService;
+import kitchenpos.eatinorders.application.OrderTableUtilization;
 import kitchenpos.eatinorders.domain.OrderTable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,9 +21,14 @@ import java.util.UUID;
 @RestController
 public class OrderTableRestController {
     private final OrderTableService orderTableService;
+    private final OrderTableOccupancyService orderTableOccupancyService;
 
-    public OrderTableRestController(final OrderTableService orderTableService) {
+    public OrderTableRestController(
+        final OrderTableService orderTableService,
+        final OrderTableOccupancyService orderTableOccupancyService
+    ) {
         this.orderTableService = orderTableService;
+        this.orderTableOccupancyService = orderTableOccupancyService;
     }
 
     @PostMapping
@@ -53,4 +60,14 @@ public class OrderTableRestController {
     public ResponseEntity<List<OrderTable>> findAll() {
         return ResponseEntity.ok(orderTableService.findAll());
     }
+
+    @GetMapping("/occupancy")
+    public ResponseEntity<List<OrderTableUtilization>> findAllOccupancy() {
+        return ResponseEntity.ok(orderTableOccupancyService.findAll());
+    }
+
+    @GetMapping("/{orderTableId}/occupancy")
+    public ResponseEntity<OrderTableUtilization> findOccupancy(@PathVariable final UUID orderTableId) {
+        return ResponseEntity.ok(orderTableOccupancyService.findById(orderTableId));
+    }
 }
@@ -0,0 +1,55 @@
+package kitchenpos.exports.application;
+
+import kitchenpos.exports.infra.ColumnarWriter;
+import kitchenpos.exports.infra.JdbcColumnarExporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Service
+public class ExportService {
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private final JdbcColumnarExporter jdbcColumnarExporter;
+    private final int rowsPerChunk;
+    private final int compressionLevel;
+
+    public ExportService(
+        final JdbcColumnarExporter jdbcColumnarExporter,
+        @Value("${kitchenpos.export.rows-per-chunk:65536}") final int rowsPerChunk,
+        @Value("${kitchenpos.export.compression-level:1}") final int compressionLevel
+    ) {
+        this.jdbcColumnarExporter = jdbcColumnarExporter;
+        this.rowsPerChunk = rowsPerChunk;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Transactional(readOnly = true)
+    public void exportCatalog(final OutputStream output) {
+        final long startedAt = System.nanoTime();
+        final ColumnarWriter writer = new ColumnarWriter(output, rowsPerChunk, compressionLevel);
+        jdbcColumnarExporter.exportCatalog(writer);
+        writer.finish();
+        log.info("Exported catalog: {} rows, {} bytes in {} ms",
+            writer.rows(), writer.bytes(), (System.nanoTime() - startedAt) / 1_000_000L);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportOrders(final OutputStream output, final LocalDateTime from, final LocalDateTime to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        final long startedAt = System.nanoTime();
+        final ColumnarWriter writer = new ColumnarWriter(output, rowsPerChunk, compressionLevel);
+        jdbcColumnarExporter.exportOrders(writer, from, to);
+        writer.finish();
+        log.info("Exported orders from {} to {}: {} rows, {} bytes in {} ms",
+            from, to, writer.rows(), writer.bytes(), (System.nanoTime() - startedAt) / 1_000_000L);
+    }
+}
@@ -0,0 +1,63 @@
+package kitchenpos.exports.infra;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+final class ColumnBuffer {
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private byte[] bytes;
+    private int size;
+
+    ColumnBuffer(final int capacity) {
+        this.bytes = new byte[Math.max(capacity, 16)];
+    }
+
+    void putByte(final int value) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) value;
+    }
+
+    void putInt(final int value) {
+        ensureCapacity(Integer.BYTES);
+        INT.set(bytes, size, value);
+        size += Integer.BYTES;
+    }
+
+    void putLong(final long value) {
+        ensureCapacity(Long.BYTES);
+        LONG.set(bytes, size, value);
+        size += Long.BYTES;
+    }
+
+    void putBytes(final byte[] source, final int offset, final int length) {
+        ensureCapacity(length);
+        System.arraycopy(source, offset, bytes, size, length);
+        size += length;
+    }
+
+    void putBuffer(final ColumnBuffer source) {
+        putBytes(source.bytes, 0, source.size);
+    }
+
+    byte[] array() {
+        return bytes;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    private void ensureCapacity(final int additional) {
+        if (size + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + additional));
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package kitchenpos.exports.infra;
+
+public enum ColumnType {
+    UUID,
+    DICTIONARY,
+    INT64,
+    MONEY,
+    TIMESTAMP,
+    BOOLEAN,
+    STRING
+}
@@ -0,0 +1,190 @@
+package kitchenpos.exports.infra;
+
+import kitchenpos.common.domain.Money;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public class ColumnarReader {
+    private final DataInputStream input;
+    private final Inflater inflater = new Inflater();
+    private final List<String> tableNames = new ArrayList<>();
+    private final List<List<ExportColumn>> tableColumns = new ArrayList<>();
+    private final Map<String, List<UUID>> dictionaries = new HashMap<>();
+    private byte[] compressed = new byte[1 << 16];
+    private int table;
+    private ByteBuffer[] columns = new ByteBuffer[0];
+    private int remaining;
+    private long rows;
+    private boolean ended;
+
+    public ColumnarReader(final InputStream input) {
+        this.input = new DataInputStream(input);
+        try {
+            if (this.input.readInt() != ColumnarWriter.MAGIC || this.input.readInt() != ColumnarWriter.FORMAT) {
+                throw new IllegalArgumentException("Not a columnar export");
+            }
+        } catch (final EOFException e) {
+            throw new IllegalArgumentException("Not a columnar export", e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public ColumnarRow read() {
+        while (remaining == 0) {
+            if (ended) {
+                return null;
+            }
+            readFrame();
+        }
+        remaining--;
+        rows++;
+        final List<ExportColumn> schema = tableColumns.get(table);
+        final Object[] values = new Object[schema.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value(schema.get(i), columns[i]);
+        }
+        return new ColumnarRow(tableNames.get(table), schema, Arrays.asList(values));
+    }
+
+    private Object value(final ExportColumn column, final ByteBuffer buffer) {
+        return switch (column.type()) {
+            case UUID -> {
+                final UUID id = new UUID(buffer.getLong(), buffer.getLong());
+                yield id.getMostSignificantBits() == 0L && id.getLeastSignificantBits() == 0L ? null : id;
+            }
+            case DICTIONARY -> {
+                final int code = buffer.getInt();
+                yield code == ColumnarWriter.NULL_CODE ? null : dictionaries.get(column.dictionary()).get(code);
+            }
+            case INT64 -> buffer.getLong();
+            case MONEY -> Money.of(buffer.getLong());
+            case TIMESTAMP -> {
+                final long micros = buffer.getLong();
+                if (micros == ColumnarWriter.NULL_TIMESTAMP) {
+                    yield null;
+                }
+                yield LocalDateTime.ofEpochSecond(
+                    Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000,
+                    ZoneOffset.UTC
+                );
+            }
+            case BOOLEAN -> buffer.get() != 0;
+            case STRING -> getString(buffer);
+        };
+    }
+
+    private void readFrame() {
+        final byte kind;
+        final ByteBuffer frame;
+        try {
+            kind = input.readByte();
+            final int length = input.readInt();
+            final int compressedLength = input.readInt();
+            if (compressed.length < compressedLength) {
+                compressed = new byte[compressedLength];
+            }
+            input.readFully(compressed, 0, compressedLength);
+            final byte[] raw = new byte[length];
+            inflater.reset();
+            inflater.setInput(compressed, 0, compressedLength);
+            if (inflater.inflate(raw) != length) {
+                throw new IllegalStateException("Corrupt columnar export");
+            }
+            frame = ByteBuffer.wrap(raw);
+        } catch (final EOFException e) {
+            throw new IllegalStateException("Truncated columnar export", e);
+        } catch (final DataFormatException e) {
+            throw new IllegalStateException("Corrupt columnar export", e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        switch (kind) {
+            case ColumnarWriter.SCHEMA_FRAME -> readSchema(frame);
+            case ColumnarWriter.DICTIONARY_FRAME -> readDictionary(frame);
+            case ColumnarWriter.CHUNK_FRAME -> readChunk(frame);
+            case ColumnarWriter.END_FRAME -> readEnd(frame);
+            default -> throw new IllegalStateException("Corrupt columnar export");
+        }
+    }
+
+    private void readSchema(final ByteBuffer frame) {
+        tableNames.add(getString(frame));
+        final int count = frame.getInt();
+        final List<ExportColumn> schema = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final String name = getString(frame);
+            final ColumnType type = ColumnType.values()[frame.get()];
+            schema.add(new ExportColumn(name, type, getString(frame)));
+        }
+        tableColumns.add(List.copyOf(schema));
+    }
+
+    private void readDictionary(final ByteBuffer frame) {
+        final List<UUID> dictionary = dictionaries.computeIfAbsent(getString(frame), name -> new ArrayList<>());
+        if (frame.getInt() != dictionary.size()) {
+            throw new IllegalStateException("Corrupt columnar export");
+        }
+        final int count = frame.getInt();
+        for (int i = 0; i < count; i++) {
+            dictionary.add(new UUID(frame.getLong(), frame.getLong()));
+        }
+    }
+
+    private void readChunk(final ByteBuffer frame) {
+        table = frame.getInt();
+        remaining = frame.getInt();
+        columns = new ByteBuffer[tableColumns.get(table).size()];
+        for (int i = 0; i < columns.length; i++) {
+            final int length = frame.getInt();
+            columns[i] = frame.slice(frame.position(), length);
+            frame.position(frame.position() + length);
+        }
+    }
+
+    private void readEnd(final ByteBuffer frame) {
+        if (frame.getLong() != rows + remaining) {
+            throw new IllegalStateException("Truncated columnar export");
+        }
+        ended = true;
+        inflater.end();
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length == ColumnarWriter.NULL_CODE) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static List<ColumnarRow> readAll(final InputStream input) {
+        final ColumnarReader reader = new ColumnarReader(input);
+        final List<ColumnarRow> rows = new ArrayList<>();
+        ColumnarRow row;
+        while (Objects.nonNull(row = reader.read())) {
+            rows.add(row);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,15 @@
+package kitchenpos.exports.infra;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public record ColumnarRow(String table, List<ExportColumn> columns, List<Object> values) {
+    public Object get(final String column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(column)) {
+                return values.get(i);
+            }
+        }
+        throw new NoSuchElementException(column);
+    }
+}
@@ -0,0 +1,276 @@
+package kitchenpos.exports.infra;
+
+import kitchenpos.common.domain.Money;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+public class ColumnarWriter {
+    static final int MAGIC = 0x4B504358;
+    static final int FORMAT = 1;
+    static final byte SCHEMA_FRAME = 1;
+    static final byte DICTIONARY_FRAME = 2;
+    static final byte CHUNK_FRAME = 3;
+    static final byte END_FRAME = 4;
+    static final int NULL_CODE = -1;
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private final DataOutputStream output;
+    private final int rowsPerChunk;
+    private final Deflater deflater;
+    private final ColumnBuffer frame = new ColumnBuffer(1 << 16);
+    private final Map<String, Dictionary> dictionaries = new LinkedHashMap<>();
+    private final List<Table> tables = new ArrayList<>();
+    private byte[] compressed = new byte[1 << 16];
+    private long rows;
+    private long bytes;
+    private boolean finished;
+
+    public ColumnarWriter(final OutputStream output, final int rowsPerChunk, final int compressionLevel) {
+        if (rowsPerChunk <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.output = new DataOutputStream(output);
+        this.rowsPerChunk = rowsPerChunk;
+        this.deflater = new Deflater(compressionLevel);
+        try {
+            this.output.writeInt(MAGIC);
+            this.output.writeInt(FORMAT);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.bytes = Integer.BYTES * 2;
+    }
+
+    public Table table(final String name, final List<ExportColumn> columns) {
+        if (finished || Objects.isNull(columns) || columns.isEmpty()) {
+            throw new IllegalStateException();
+        }
+        frame.clear();
+        putString(frame, name);
+        frame.putInt(columns.size());
+        for (final ExportColumn column : columns) {
+            putString(frame, column.name());
+            frame.putByte(column.type().ordinal());
+            putString(frame, column.dictionary());
+            if (column.type() == ColumnType.DICTIONARY) {
+                dictionaries.computeIfAbsent(column.dictionary(), Dictionary::new);
+            }
+        }
+        writeFrame(SCHEMA_FRAME);
+        final Table table = new Table(tables.size(), List.copyOf(columns));
+        tables.add(table);
+        return table;
+    }
+
+    public void finish() {
+        if (finished) {
+            return;
+        }
+        for (final Table table : tables) {
+            table.flush();
+        }
+        frame.clear();
+        frame.putLong(rows);
+        writeFrame(END_FRAME);
+        finished = true;
+        deflater.end();
+        try {
+            output.flush();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    private void writeDictionaries() {
+        for (final Dictionary dictionary : dictionaries.values()) {
+            if (dictionary.pending.isEmpty()) {
+                continue;
+            }
+            frame.clear();
+            putString(frame, dictionary.name);
+            frame.putInt(dictionary.codes.size() - dictionary.pending.size());
+            frame.putInt(dictionary.pending.size());
+            for (final UUID id : dictionary.pending) {
+                frame.putLong(id.getMostSignificantBits());
+                frame.putLong(id.getLeastSignificantBits());
+            }
+            dictionary.pending.clear();
+            writeFrame(DICTIONARY_FRAME);
+        }
+    }
+
+    private void writeFrame(final byte kind) {
+        deflater.reset();
+        deflater.setInput(frame.array(), 0, frame.size());
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        try {
+            output.writeByte(kind);
+            output.writeInt(frame.size());
+            output.writeInt(length);
+            output.write(compressed, 0, length);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        bytes += 1 + Integer.BYTES * 2 + length;
+    }
+
+    private static void putString(final ColumnBuffer buffer, final String value) {
+        if (Objects.isNull(value)) {
+            buffer.putInt(NULL_CODE);
+            return;
+        }
+        final byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(encoded.length);
+        buffer.putBytes(encoded, 0, encoded.length);
+    }
+
+    public final class Table {
+        private final int index;
+        private final List<ExportColumn> columns;
+        private final ColumnBuffer[] buffers;
+        private final Dictionary[] columnDictionaries;
+        private int column;
+        private int rowCount;
+
+        private Table(final int index, final List<ExportColumn> columns) {
+            this.index = index;
+            this.columns = columns;
+            this.buffers = new ColumnBuffer[columns.size()];
+            this.columnDictionaries = new Dictionary[columns.size()];
+            for (int i = 0; i < columns.size(); i++) {
+                buffers[i] = new ColumnBuffer(rowsPerChunk * Long.BYTES);
+                columnDictionaries[i] = dictionaries.get(columns.get(i).dictionary());
+            }
+        }
+
+        public Table uuid(final UUID value) {
+            final ColumnBuffer buffer = next(ColumnType.UUID);
+            buffer.putLong(Objects.isNull(value) ? 0L : value.getMostSignificantBits());
+            buffer.putLong(Objects.isNull(value) ? 0L : value.getLeastSignificantBits());
+            return this;
+        }
+
+        public Table dictionary(final UUID value) {
+            final Dictionary dictionary = columnDictionaries[column];
+            next(ColumnType.DICTIONARY).putInt(Objects.isNull(value) ? NULL_CODE : dictionary.code(value));
+            return this;
+        }
+
+        public Table int64(final long value) {
+            next(ColumnType.INT64).putLong(value);
+            return this;
+        }
+
+        public Table money(final Money value) {
+            next(ColumnType.MONEY).putLong(value.getAmount());
+            return this;
+        }
+
+        public Table timestamp(final LocalDateTime value) {
+            final ColumnBuffer buffer = next(ColumnType.TIMESTAMP);
+            if (Objects.isNull(value)) {
+                buffer.putLong(NULL_TIMESTAMP);
+                return this;
+            }
+            buffer.putLong(value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000L);
+            return this;
+        }
+
+        public Table bool(final boolean value) {
+            next(ColumnType.BOOLEAN).putByte(value ? 1 : 0);
+            return this;
+        }
+
+        public Table string(final String value) {
+            putString(next(ColumnType.STRING), value);
+            return this;
+        }
+
+        public void endRow() {
+            if (column != columns.size()) {
+                throw new IllegalStateException();
+            }
+            column = 0;
+            rowCount++;
+            rows++;
+            if (rowCount == rowsPerChunk) {
+                flush();
+            }
+        }
+
+        private ColumnBuffer next(final ColumnType type) {
+            if (finished || column >= columns.size() || columns.get(column).type() != type) {
+                throw new IllegalStateException();
+            }
+            return buffers[column++];
+        }
+
+        private void flush() {
+            if (rowCount == 0) {
+                return;
+            }
+            writeDictionaries();
+            frame.clear();
+            frame.putInt(index);
+            frame.putInt(rowCount);
+            for (final ColumnBuffer buffer : buffers) {
+                frame.putInt(buffer.size());
+                frame.putBuffer(buffer);
+                buffer.clear();
+            }
+            writeFrame(CHUNK_FRAME);
+            rowCount = 0;
+        }
+    }
+
+    private static final class Dictionary {
+        private final String name;
+        private final Map<UUID, Integer> codes = new HashMap<>();
+        private final List<UUID> pending = new ArrayList<>();
+
+        private Dictionary(final String name) {
+            this.name = name;
+        }
+
+        private int code(final UUID id) {
+            final Integer code = codes.get(id);
+            if (Objects.nonNull(code)) {
+                return code;
+            }
+            final int next = codes.size();
+            codes.put(id, next);
+            pending.add(id);
+            return next;
+        }
+    }
+}
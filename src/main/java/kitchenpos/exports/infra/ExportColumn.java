@@ -0,0 +1,11 @@
+package kitchenpos.exports.infra;
+
+public record ExportColumn(String name, ColumnType type, String dictionary) {
+    public static ExportColumn of(final String name, final ColumnType type) {
+        return new ExportColumn(name, type, "");
+    }
+
+    public static ExportColumn dictionary(final String name, final String dictionary) {
+        return new ExportColumn(name, ColumnType.DICTIONARY, dictionary);
+    }
+}
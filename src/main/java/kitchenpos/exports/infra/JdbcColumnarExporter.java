@@ -0,0 +1,176 @@
+package kitchenpos.exports.infra;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.infra.Uuids;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+@Repository
+public class JdbcColumnarExporter {
+    private static final String PRODUCT = "product";
+    private static final String MENU_GROUP = "menu_group";
+    private static final String MENU = "menu";
+
+    private static final ExportTable PRODUCTS = new ExportTable(
+        "products",
+        "select id, name, price, change_version from product",
+        List.of(
+            ExportColumn.dictionary("id", PRODUCT),
+            ExportColumn.of("name", ColumnType.STRING),
+            ExportColumn.of("price", ColumnType.MONEY),
+            ExportColumn.of("change_version", ColumnType.INT64)
+        )
+    );
+    private static final ExportTable MENU_GROUPS = new ExportTable(
+        "menu_groups",
+        "select id, name, change_version from menu_group",
+        List.of(
+            ExportColumn.dictionary("id", MENU_GROUP),
+            ExportColumn.of("name", ColumnType.STRING),
+            ExportColumn.of("change_version", ColumnType.INT64)
+        )
+    );
+    private static final ExportTable MENUS = new ExportTable(
+        "menus",
+        "select id, name, price, displayed, menu_group_id, change_version from menu",
+        List.of(
+            ExportColumn.dictionary("id", MENU),
+            ExportColumn.of("name", ColumnType.STRING),
+            ExportColumn.of("price", ColumnType.MONEY),
+            ExportColumn.of("displayed", ColumnType.BOOLEAN),
+            ExportColumn.dictionary("menu_group_id", MENU_GROUP),
+            ExportColumn.of("change_version", ColumnType.INT64)
+        )
+    );
+    private static final ExportTable MENU_PRODUCTS = new ExportTable(
+        "menu_products",
+        "select menu_id, product_id, quantity from menu_product",
+        List.of(
+            ExportColumn.dictionary("menu_id", MENU),
+            ExportColumn.dictionary("product_id", PRODUCT),
+            ExportColumn.of("quantity", ColumnType.INT64)
+        )
+    );
+    private static final ExportTable ORDERS = new ExportTable(
+        "orders",
+        "select id, type, status, order_date_time, status_changed_date_time, delivery_address, order_table_id "
+            + "from orders where order_date_time >= ? and order_date_time < ?",
+        List.of(
+            ExportColumn.of("id", ColumnType.UUID),
+            ExportColumn.of("type", ColumnType.STRING),
+            ExportColumn.of("status", ColumnType.STRING),
+            ExportColumn.of("order_date_time", ColumnType.TIMESTAMP),
+            ExportColumn.of("status_changed_date_time", ColumnType.TIMESTAMP),
+            ExportColumn.of("delivery_address", ColumnType.STRING),
+            ExportColumn.of("order_table_id", ColumnType.UUID)
+        )
+    );
+    private static final ExportTable ORDER_LINE_ITEMS = new ExportTable(
+        "order_line_items",
+        "select oli.order_id, oli.menu_id, oli.menu_name, oli.quantity, oli.price from order_line_item oli "
+            + "join orders o on o.id = oli.order_id where o.order_date_time >= ? and o.order_date_time < ?",
+        List.of(
+            ExportColumn.of("order_id", ColumnType.UUID),
+            ExportColumn.dictionary("menu_id", MENU),
+            ExportColumn.of("menu_name", ColumnType.STRING),
+            ExportColumn.of("quantity", ColumnType.INT64),
+            ExportColumn.of("price", ColumnType.MONEY)
+        )
+    );
+    private static final ExportTable ARCHIVED_ORDERS = new ExportTable(
+        "archived_orders",
+        "select id, type, order_date_time, completed_date_time, delivery_address, order_table_id "
+            + "from archived_order where order_date_time >= ? and order_date_time < ?",
+        List.of(
+            ExportColumn.of("id", ColumnType.UUID),
+            ExportColumn.of("type", ColumnType.STRING),
+            ExportColumn.of("order_date_time", ColumnType.TIMESTAMP),
+            ExportColumn.of("completed_date_time", ColumnType.TIMESTAMP),
+            ExportColumn.of("delivery_address", ColumnType.STRING),
+            ExportColumn.of("order_table_id", ColumnType.UUID)
+        )
+    );
+    private static final ExportTable ARCHIVED_ORDER_LINE_ITEMS = new ExportTable(
+        "archived_order_line_items",
+        "select aoli.archived_order_id, aoli.menu_id, aoli.menu_name, aoli.quantity, aoli.price "
+            + "from archived_order_line_item aoli "
+            + "join archived_order ao on ao.id = aoli.archived_order_id "
+            + "where ao.order_date_time >= ? and ao.order_date_time < ?",
+        List.of(
+            ExportColumn.of("order_id", ColumnType.UUID),
+            ExportColumn.dictionary("menu_id", MENU),
+            ExportColumn.of("menu_name", ColumnType.STRING),
+            ExportColumn.of("quantity", ColumnType.INT64),
+            ExportColumn.of("price", ColumnType.MONEY)
+        )
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcColumnarExporter(
+        final DataSource dataSource,
+        @Value("${kitchenpos.export.fetch-size:-2147483648}") final int fetchSize
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    public void exportCatalog(final ColumnarWriter writer) {
+        export(writer, PRODUCTS);
+        export(writer, MENU_GROUPS);
+        export(writer, MENUS);
+        export(writer, MENU_PRODUCTS);
+    }
+
+    public void exportOrders(final ColumnarWriter writer, final LocalDateTime from, final LocalDateTime to) {
+        final Timestamp fromTimestamp = Timestamp.valueOf(from);
+        final Timestamp toTimestamp = Timestamp.valueOf(to);
+        export(writer, ORDERS, fromTimestamp, toTimestamp);
+        export(writer, ORDER_LINE_ITEMS, fromTimestamp, toTimestamp);
+        export(writer, ARCHIVED_ORDERS, fromTimestamp, toTimestamp);
+        export(writer, ARCHIVED_ORDER_LINE_ITEMS, fromTimestamp, toTimestamp);
+    }
+
+    private void export(final ColumnarWriter writer, final ExportTable exportTable, final Object... args) {
+        final ColumnarWriter.Table table = writer.table(exportTable.name(), exportTable.columns());
+        final List<ExportColumn> columns = exportTable.columns();
+        jdbcTemplate.query(exportTable.sql(), resultSet -> {
+            for (int i = 0; i < columns.size(); i++) {
+                write(table, columns.get(i).type(), resultSet, i + 1);
+            }
+            table.endRow();
+        }, args);
+    }
+
+    private static void write(
+        final ColumnarWriter.Table table,
+        final ColumnType type,
+        final ResultSet resultSet,
+        final int index
+    ) throws SQLException {
+        switch (type) {
+            case UUID -> table.uuid(Uuids.fromBytes(resultSet.getBytes(index)));
+            case DICTIONARY -> table.dictionary(Uuids.fromBytes(resultSet.getBytes(index)));
+            case INT64 -> table.int64(resultSet.getLong(index));
+            case MONEY -> table.money(Money.from(resultSet.getBigDecimal(index)));
+            case TIMESTAMP -> {
+                final Timestamp timestamp = resultSet.getTimestamp(index);
+                table.timestamp(Objects.isNull(timestamp) ? null : timestamp.toLocalDateTime());
+            }
+            case BOOLEAN -> table.bool(resultSet.getBoolean(index));
+            case STRING -> table.string(resultSet.getString(index));
+        }
+    }
+
+    private record ExportTable(String name, String sql, List<ExportColumn> columns) {
+    }
+}
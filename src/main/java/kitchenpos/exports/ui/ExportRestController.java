@@ -0,0 +1,47 @@
+package kitchenpos.exports.ui;
+
+import kitchenpos.exports.application.ExportService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+
+@RequestMapping("/api/exports")
+@RestController
+public class ExportRestController {
+    private final ExportService exportService;
+
+    public ExportRestController(final ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/catalog")
+    public ResponseEntity<StreamingResponseBody> exportCatalog() {
+        return attachment("catalog.kpcx", exportService::exportCatalog);
+    }
+
+    @GetMapping("/orders")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to
+    ) {
+        return attachment("orders.kpcx", output -> exportService.exportOrders(output, from, to));
+    }
+
+    private static ResponseEntity<StreamingResponseBody> attachment(
+        final String filename,
+        final StreamingResponseBody body
+    ) {
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_OCTET_STREAM)
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+            .body(body);
+    }
+}
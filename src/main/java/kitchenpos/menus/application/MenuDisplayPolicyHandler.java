@@ -0,0 +1,61 @@
+package kitchenpos.menus.application;
+
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.DomainEventHandler;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.ProductPriceChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Component
+public class MenuDisplayPolicyHandler implements DomainEventHandler<ProductPriceChangedEvent> {
+    private final MenuRepository menuRepository;
+    private final CatalogVersionService catalogVersionService;
+
+    public MenuDisplayPolicyHandler(
+        final MenuRepository menuRepository,
+        final CatalogVersionService catalogVersionService
+    ) {
+        this.menuRepository = menuRepository;
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    @Override
+    public Class<ProductPriceChangedEvent> eventType() {
+        return ProductPriceChangedEvent.class;
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    @Transactional
+    @Override
+    public void handle(final ProductPriceChangedEvent event) {
+        final List<Menu> menus = menuRepository.findAllByProductId(event.productId());
+        long changeVersion = 0L;
+        for (final Menu menu : menus) {
+            Money sum = Money.ZERO;
+            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
+                sum = sum.plus(
+                    menuProduct.getProduct()
+                        .getPrice()
+                        .times(menuProduct.getQuantity())
+                );
+            }
+            if (menu.isDisplayed() && menu.getPrice().isGreaterThan(sum)) {
+                if (changeVersion == 0L) {
+                    changeVersion = catalogVersionService.next();
+                }
+                menu.setDisplayed(false);
+                menu.setChangeVersion(changeVersion);
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.catalog.application.CatalogVersionService;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
 import org.springframework.stereotype.Service;
@@ -12,9 +13,14 @@ import java.util.UUID;
 @Service
 public class MenuGroupService {
     private final MenuGroupRepository menuGroupRepository;
+    private final CatalogVersionService catalogVersionService;
 
-    public MenuGroupService(final MenuGroupRepository menuGroupRepository) {
+    public MenuGroupService(
+        final MenuGroupRepository menuGroupRepository,
+        final CatalogVersionService catalogVersionService
+    ) {
         this.menuGroupRepository = menuGroupRepository;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @Transactional
@@ -26,6 +32,7 @@ public class MenuGroupService {
         final MenuGroup menuGroup = new MenuGroup();
         menuGroup.setId(UUID.randomUUID());
         menuGroup.setName(name);
+        menuGroup.setChangeVersion(catalogVersionService.next());
         return menuGroupRepository.save(menuGroup);
     }
 
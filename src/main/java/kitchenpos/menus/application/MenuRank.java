@@ -0,0 +1,11 @@
+package kitchenpos.menus.application;
+
+import java.util.UUID;
+
+public record MenuRank(
+    UUID menuId,
+    String menuName,
+    long quantity,
+    long maxOvercount
+) {
+}
@@ -0,0 +1,69 @@
+package kitchenpos.menus.application;
+
+import kitchenpos.common.metrics.HeavyHitter;
+import kitchenpos.common.metrics.SlidingHeavyHitters;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuSalesRanking {
+    private final MenuRepository menuRepository;
+    private final SlidingHeavyHitters<UUID> heavyHitters;
+    private final int capacity;
+
+    public MenuSalesRanking(
+        final MenuRepository menuRepository,
+        @Value("${kitchenpos.menu-ranking.window:PT1H}") final Duration window,
+        @Value("${kitchenpos.menu-ranking.slots:12}") final int slots,
+        @Value("${kitchenpos.menu-ranking.capacity:256}") final int capacity
+    ) {
+        this.menuRepository = menuRepository;
+        this.heavyHitters = new SlidingHeavyHitters<>(window, slots, capacity);
+        this.capacity = capacity;
+    }
+
+    public void record(final UUID menuId, final long quantity) {
+        if (Objects.isNull(menuId) || quantity <= 0L) {
+            return;
+        }
+        heavyHitters.add(menuId, quantity, System.currentTimeMillis());
+    }
+
+    @Transactional(readOnly = true)
+    public List<MenuRank> findTop(final int limit) {
+        if (limit <= 0 || limit > capacity) {
+            throw new IllegalArgumentException();
+        }
+        final List<HeavyHitter<UUID>> heavyHitters = this.heavyHitters.top(limit, System.currentTimeMillis());
+        if (heavyHitters.isEmpty()) {
+            return List.of();
+        }
+        final Map<UUID, Menu> menusById = menuRepository.findAllByIdIn(
+                heavyHitters.stream()
+                    .map(HeavyHitter::key)
+                    .toList()
+            )
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        return heavyHitters.stream()
+            .filter(heavyHitter -> menusById.containsKey(heavyHitter.key()))
+            .map(heavyHitter -> new MenuRank(
+                heavyHitter.key(),
+                menusById.get(heavyHitter.key()).getName(),
+                heavyHitter.count(),
+                heavyHitter.error()
+            ))
+            .toList();
+    }
+}
@@ -1,5 +1,7 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
@@ -11,12 +13,14 @@ import kitchenpos.products.infra.PurgomalumClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class MenuService {
@@ -24,23 +28,26 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
     private final PurgomalumClient purgomalumClient;
+    private final CatalogVersionService catalogVersionService;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final CatalogVersionService catalogVersionService
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
         this.purgomalumClient = purgomalumClient;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @Transactional
     public Menu create(final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
@@ -57,25 +64,29 @@ public class MenuService {
         if (products.size() != menuProductRequests.size()) {
             throw new IllegalArgumentException();
         }
+        final Map<UUID, Product> productsById = products.stream()
+            .collect(Collectors.toMap(Product::getId, Function.identity()));
         final List<MenuProduct> menuProducts = new ArrayList<>();
-        BigDecimal sum = BigDecimal.ZERO;
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProductRequest : menuProductRequests) {
             final long quantity = menuProductRequest.getQuantity();
             if (quantity < 0) {
                 throw new IllegalArgumentException();
             }
-            final Product product = productRepository.findById(menuProductRequest.getProductId())
-                .orElseThrow(NoSuchElementException::new);
-            sum = sum.add(
+            final Product product = productsById.get(menuProductRequest.getProductId());
+            if (Objects.isNull(product)) {
+                throw new NoSuchElementException();
+            }
+            sum = sum.plus(
                 product.getPrice()
-                    .multiply(BigDecimal.valueOf(quantity))
+                    .times(quantity)
             );
             final MenuProduct menuProduct = new MenuProduct();
             menuProduct.setProduct(product);
             menuProduct.setQuantity(quantity);
             menuProducts.add(menuProduct);
         }
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -89,29 +100,31 @@ public class MenuService {
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
+        menu.setChangeVersion(catalogVersionService.next());
         return menuRepository.save(menu);
     }
 
     @Transactional
     public Menu changePrice(final UUID menuId, final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
+            sum = sum.plus(
                 menuProduct.getProduct()
                     .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
+                    .times(menuProduct.getQuantity())
             );
         }
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        menu.setChangeVersion(catalogVersionService.next());
         return menu;
     }
 
@@ -119,18 +132,19 @@ public class MenuService {
     public Menu display(final UUID menuId) {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
+            sum = sum.plus(
                 menuProduct.getProduct()
                     .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
+                    .times(menuProduct.getQuantity())
             );
         }
-        if (menu.getPrice().compareTo(sum) > 0) {
+        if (menu.getPrice().isGreaterThan(sum)) {
             throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        menu.setChangeVersion(catalogVersionService.next());
         return menu;
     }
 
@@ -139,6 +153,7 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        menu.setChangeVersion(catalogVersionService.next());
         return menu;
     }
 
@@ -1,14 +1,33 @@
 package kitchenpos.menus.domain;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaMenuRepository extends MenuRepository, JpaRepository<Menu, UUID> {
+    @EntityGraph("Menu.detail")
+    @Override
+    Optional<Menu> findById(UUID id);
+
+    @EntityGraph("Menu.detail")
+    @Override
+    List<Menu> findAll();
+
+    @EntityGraph("Menu.summary")
+    @Override
+    List<Menu> findAllForOrderByIdIn(List<UUID> ids);
+
+    @EntityGraph("Menu.detail")
     @Query("select m from Menu m join m.menuProducts mp where mp.product.id = :productId")
     @Override
     List<Menu> findAllByProductId(@Param("productId") UUID productId);
+
+    @EntityGraph("Menu.detail")
+    @Override
+    List<Menu> findAllByChangeVersionBetween(long from, long to);
 }
@@ -7,14 +7,29 @@ import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedEntityGraphs;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import kitchenpos.common.domain.Money;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+@NamedEntityGraphs({
+    @NamedEntityGraph(name = "Menu.summary"),
+    @NamedEntityGraph(
+        name = "Menu.detail",
+        attributeNodes = {
+            @NamedAttributeNode("menuGroup"),
+            @NamedAttributeNode(value = "menuProducts", subgraph = "menuProducts")
+        },
+        subgraphs = @NamedSubgraph(name = "menuProducts", attributeNodes = @NamedAttributeNode("product"))
+    )
+})
 @Table(name = "menu")
 @Entity
 public class Menu {
@@ -26,7 +41,7 @@ public class Menu {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
 
     @ManyToOne(optional = false)
     @JoinColumn(
@@ -39,6 +54,9 @@ public class Menu {
     @Column(name = "displayed", nullable = false)
     private boolean displayed;
 
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "menu_id",
@@ -70,11 +88,11 @@ public class Menu {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 
@@ -109,4 +127,12 @@ public class Menu {
     public void setMenuGroupId(final UUID menuGroupId) {
         this.menuGroupId = menuGroupId;
     }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(final long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
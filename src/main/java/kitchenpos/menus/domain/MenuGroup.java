@@ -17,6 +17,9 @@ public class MenuGroup {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
+
     public MenuGroup() {
     }
 
@@ -35,4 +38,12 @@ public class MenuGroup {
     public void setName(final String name) {
         this.name = name;
     }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(final long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
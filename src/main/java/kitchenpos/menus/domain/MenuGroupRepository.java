@@ -10,5 +10,9 @@ public interface MenuGroupRepository {
     Optional<MenuGroup> findById(UUID id);
 
     List<MenuGroup> findAll();
+
+    List<MenuGroup> findAllByIdIn(List<UUID> ids);
+
+    List<MenuGroup> findAllByChangeVersionBetween(long from, long to);
 }
 
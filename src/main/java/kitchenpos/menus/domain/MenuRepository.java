@@ -13,6 +13,10 @@ public interface MenuRepository {
 
     List<Menu> findAllByIdIn(List<UUID> ids);
 
+    List<Menu> findAllForOrderByIdIn(List<UUID> ids);
+
     List<Menu> findAllByProductId(UUID productId);
+
+    List<Menu> findAllByChangeVersionBetween(long from, long to);
 }
 
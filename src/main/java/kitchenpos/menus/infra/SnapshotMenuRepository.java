@@ -0,0 +1,93 @@
+package kitchenpos.menus.infra;
+
+import kitchenpos.catalog.infra.CatalogSnapshot;
+import kitchenpos.catalog.infra.CatalogSnapshotManager;
+import kitchenpos.menus.domain.JpaMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Primary
+@ConditionalOnProperty(name = "kitchenpos.catalog-snapshot.enabled", havingValue = "true")
+@Repository
+public class SnapshotMenuRepository implements MenuRepository {
+    private final MenuRepository menuRepository;
+    private final CatalogSnapshotManager catalogSnapshotManager;
+
+    @Autowired
+    public SnapshotMenuRepository(
+        final JpaMenuRepository menuRepository,
+        final CatalogSnapshotManager catalogSnapshotManager
+    ) {
+        this((MenuRepository) menuRepository, catalogSnapshotManager);
+    }
+
+    SnapshotMenuRepository(final MenuRepository menuRepository, final CatalogSnapshotManager catalogSnapshotManager) {
+        this.menuRepository = menuRepository;
+        this.catalogSnapshotManager = catalogSnapshotManager;
+    }
+
+    @Override
+    public Menu save(final Menu menu) {
+        return menuRepository.save(menu);
+    }
+
+    @Override
+    public Optional<Menu> findById(final UUID id) {
+        return menuRepository.findById(id);
+    }
+
+    @Override
+    public List<Menu> findAll() {
+        return menuRepository.findAll();
+    }
+
+    @Override
+    public List<Menu> findAllByIdIn(final List<UUID> ids) {
+        final CatalogSnapshot snapshot = catalogSnapshotManager.current();
+        if (Objects.isNull(snapshot)) {
+            return menuRepository.findAllByIdIn(ids);
+        }
+        return findAll(snapshot, ids);
+    }
+
+    @Override
+    public List<Menu> findAllForOrderByIdIn(final List<UUID> ids) {
+        final CatalogSnapshot snapshot = catalogSnapshotManager.current();
+        if (Objects.isNull(snapshot)) {
+            return menuRepository.findAllForOrderByIdIn(ids);
+        }
+        return findAll(snapshot, ids);
+    }
+
+    @Override
+    public List<Menu> findAllByProductId(final UUID productId) {
+        return menuRepository.findAllByProductId(productId);
+    }
+
+    @Override
+    public List<Menu> findAllByChangeVersionBetween(final long from, final long to) {
+        return menuRepository.findAllByChangeVersionBetween(from, to);
+    }
+
+    private static List<Menu> findAll(final CatalogSnapshot snapshot, final List<UUID> ids) {
+        final List<Menu> menus = new ArrayList<>(ids.size());
+        for (final UUID id : new LinkedHashSet<>(ids)) {
+            final Menu menu = snapshot.findMenu(id);
+            if (Objects.nonNull(menu)) {
+                menus.add(menu);
+            }
+        }
+        return menus;
+    }
+}
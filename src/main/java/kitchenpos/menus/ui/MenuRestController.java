@@ -1,5 +1,7 @@
 package kitchenpos.menus.ui;
 
+import kitchenpos.menus.application.MenuRank;
+import kitchenpos.menus.application.MenuSalesRanking;
 import kitchenpos.menus.application.MenuService;
 import kitchenpos.menus.domain.Menu;
 import org.springframework.http.ResponseEntity;
@@ -9,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -19,9 +22,11 @@ import java.util.UUID;
 @RestController
 public class MenuRestController {
     private final MenuService menuService;
+    private final MenuSalesRanking menuSalesRanking;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(final MenuService menuService, final MenuSalesRanking menuSalesRanking) {
         this.menuService = menuService;
+        this.menuSalesRanking = menuSalesRanking;
     }
 
     @PostMapping
@@ -50,4 +55,9 @@ public class MenuRestController {
     public ResponseEntity<List<Menu>> findAll() {
         return ResponseEntity.ok(menuService.findAll());
     }
+
+    @GetMapping("/top")
+    public ResponseEntity<List<MenuRank>> findTop(@RequestParam(defaultValue = "20") final int limit) {
+        return ResponseEntity.ok(menuSalesRanking.findTop(limit));
+    }
 }
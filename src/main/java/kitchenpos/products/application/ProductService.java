@@ -1,15 +1,15 @@
 package kitchenpos.products.application;
 
-import kitchenpos.menus.domain.Menu;
-import kitchenpos.menus.domain.MenuProduct;
-import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.DomainEventPublisher;
 import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductPriceChangedEvent;
 import kitchenpos.products.domain.ProductRepository;
 import kitchenpos.products.infra.PurgomalumClient;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -18,23 +18,26 @@ import java.util.UUID;
 @Service
 public class ProductService {
     private final ProductRepository productRepository;
-    private final MenuRepository menuRepository;
     private final PurgomalumClient purgomalumClient;
+    private final DomainEventPublisher domainEventPublisher;
+    private final CatalogVersionService catalogVersionService;
 
     public ProductService(
         final ProductRepository productRepository,
-        final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final DomainEventPublisher domainEventPublisher,
+        final CatalogVersionService catalogVersionService
     ) {
         this.productRepository = productRepository;
-        this.menuRepository = menuRepository;
         this.purgomalumClient = purgomalumClient;
+        this.domainEventPublisher = domainEventPublisher;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @Transactional
     public Product create(final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -45,32 +48,21 @@ public class ProductService {
         product.setId(UUID.randomUUID());
         product.setName(name);
         product.setPrice(price);
+        product.setChangeVersion(catalogVersionService.next());
         return productRepository.save(product);
     }
 
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final Product product = productRepository.findById(productId)
             .orElseThrow(NoSuchElementException::new);
         product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
-        for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = sum.add(
-                    menuProduct.getProduct()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-                );
-            }
-            if (menu.getPrice().compareTo(sum) > 0) {
-                menu.setDisplayed(false);
-            }
-        }
+        product.setChangeVersion(catalogVersionService.next());
+        domainEventPublisher.publish(new ProductPriceChangedEvent(productId, price));
         return product;
     }
 
@@ -4,8 +4,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import kitchenpos.common.domain.Money;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Table(name = "product")
@@ -19,7 +19,10 @@ public class Product {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
+
+    @Column(name = "change_version", nullable = false)
+    private long changeVersion;
 
     public Product() {
     }
@@ -40,11 +43,19 @@ public class Product {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(final long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
 }
@@ -0,0 +1,9 @@
+package kitchenpos.products.domain;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.DomainEvent;
+
+import java.util.UUID;
+
+public record ProductPriceChangedEvent(UUID productId, Money price) implements DomainEvent {
+}
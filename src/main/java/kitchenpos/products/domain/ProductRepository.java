@@ -12,5 +12,7 @@ public interface ProductRepository {
     List<Product> findAll();
 
     List<Product> findAllByIdIn(List<UUID> ids);
+
+    List<Product> findAllByChangeVersionBetween(long from, long to);
 }
 
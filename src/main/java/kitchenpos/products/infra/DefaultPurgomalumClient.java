@@ -6,9 +6,17 @@ import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 @Component
 public class DefaultPurgomalumClient implements PurgomalumClient {
+    private static final String SEPARATOR = " . ";
+    private static final int MAX_BATCH_LENGTH = 1_500;
+
     private final RestTemplate restTemplate;
 
     public DefaultPurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
@@ -23,4 +31,37 @@ public class DefaultPurgomalumClient implements PurgomalumClient {
             .toUri();
         return Boolean.parseBoolean(restTemplate.getForObject(url, String.class));
     }
+
+    @Override
+    public Set<String> findProfanities(final List<String> texts) {
+        final Set<String> profanities = new HashSet<>();
+        List<String> batch = new ArrayList<>();
+        int length = 0;
+        for (final String text : new LinkedHashSet<>(texts)) {
+            if (!batch.isEmpty() && length + text.length() > MAX_BATCH_LENGTH) {
+                collectProfanities(batch, profanities);
+                batch = new ArrayList<>();
+                length = 0;
+            }
+            batch.add(text);
+            length += text.length() + SEPARATOR.length();
+        }
+        if (!batch.isEmpty()) {
+            collectProfanities(batch, profanities);
+        }
+        return profanities;
+    }
+
+    private void collectProfanities(final List<String> texts, final Set<String> profanities) {
+        if (!containsProfanity(String.join(SEPARATOR, texts))) {
+            return;
+        }
+        if (texts.size() == 1) {
+            profanities.add(texts.get(0));
+            return;
+        }
+        final int middle = texts.size() / 2;
+        collectProfanities(texts.subList(0, middle), profanities);
+        collectProfanities(texts.subList(middle, texts.size()), profanities);
+    }
 }
@@ -1,5 +1,10 @@
 package kitchenpos.products.infra;
 
+import java.util.List;
+import java.util.Set;
+
 public interface PurgomalumClient {
     boolean containsProfanity(String text);
+
+    Set<String> findProfanities(List<String> texts);
 }
@@ -0,0 +1,38 @@
+package kitchenpos.sales.application;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+@Component
+public class SalesRollupRebuildJob {
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupRebuildJob.class);
+
+    private final SalesRollupService salesRollupService;
+
+    public SalesRollupRebuildJob(final SalesRollupService salesRollupService) {
+        this.salesRollupService = salesRollupService;
+    }
+
+    @Scheduled(cron = "${kitchenpos.sales.rebuild-cron:0 30 3 * * *}")
+    public void rebuildYesterday() {
+        final LocalDate yesterday = LocalDate.now().minusDays(1L);
+        rebuild(yesterday, yesterday);
+    }
+
+    public int rebuild(final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        int rebuilt = 0;
+        for (LocalDate salesDate = from; !salesDate.isAfter(to); salesDate = salesDate.plusDays(1L)) {
+            rebuilt += salesRollupService.rebuild(salesDate).size();
+        }
+        log.info("Rebuilt {} daily sales rows from {} to {}", rebuilt, from, to);
+        return rebuilt;
+    }
+}
@@ -0,0 +1,207 @@
+package kitchenpos.sales.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.eatinorders.domain.ArchivedOrder;
+import kitchenpos.eatinorders.domain.ArchivedOrderLineItem;
+import kitchenpos.eatinorders.domain.ArchivedOrderRepository;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.sales.domain.DailySales;
+import kitchenpos.sales.domain.DailySalesRepository;
+import kitchenpos.sales.domain.SalesDimension;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+public class SalesRollupService {
+    private final DailySalesRepository dailySalesRepository;
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final MenuRepository menuRepository;
+
+    public SalesRollupService(
+        final DailySalesRepository dailySalesRepository,
+        final OrderRepository orderRepository,
+        final ArchivedOrderRepository archivedOrderRepository,
+        final MenuRepository menuRepository
+    ) {
+        this.dailySalesRepository = dailySalesRepository;
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    @Transactional
+    public void record(final Order order) {
+        if (order.getStatus() != OrderStatus.COMPLETED) {
+            throw new IllegalStateException();
+        }
+        final LocalDate salesDate = order.getStatusChangedDateTime().toLocalDate();
+        final Map<UUID, Menu> menusById = menusOf(order.getOrderLineItems()
+            .stream()
+            .map(OrderLineItem::getMenuId));
+        for (final DailySales dailySales : rollup(salesDate, order.getType(), salesLines(order, menusById)).values()) {
+            dailySalesRepository.accumulate(
+                dailySales.getId(),
+                dailySales.getSalesDate(),
+                dailySales.getDimension().name(),
+                dailySales.getDimensionKey(),
+                dailySales.getRevenue().toBigDecimal(),
+                dailySales.getQuantity(),
+                dailySales.getOrderCount()
+            );
+        }
+    }
+
+    @Transactional
+    public List<DailySales> rebuild(final LocalDate salesDate) {
+        if (Objects.isNull(salesDate)) {
+            throw new IllegalArgumentException();
+        }
+        final LocalDateTime from = salesDate.atStartOfDay();
+        final LocalDateTime to = salesDate.atTime(LocalTime.MAX);
+        final List<Order> orders = orderRepository.findAllByStatusAndStatusChangedDateTimeBetween(OrderStatus.COMPLETED, from, to);
+        final List<ArchivedOrder> archivedOrders = archivedOrderRepository.findAllByCompletedDateTimeBetween(from, to);
+        final Map<UUID, Menu> menusById = menusOf(Stream.concat(
+            orders.stream()
+                .flatMap(order -> order.getOrderLineItems().stream())
+                .map(OrderLineItem::getMenuId),
+            archivedOrders.stream()
+                .flatMap(archivedOrder -> archivedOrder.getOrderLineItems().stream())
+                .map(ArchivedOrderLineItem::getMenuId)
+        ));
+        final Map<String, DailySales> rollups = new LinkedHashMap<>();
+        for (final Order order : orders) {
+            merge(rollups, rollup(salesDate, order.getType(), salesLines(order, menusById)));
+        }
+        for (final ArchivedOrder archivedOrder : archivedOrders) {
+            merge(rollups, rollup(salesDate, archivedOrder.getType(), salesLines(archivedOrder, menusById)));
+        }
+        dailySalesRepository.deleteAllBySalesDate(salesDate);
+        return dailySalesRepository.saveAll(new ArrayList<>(rollups.values()));
+    }
+
+    @Transactional(readOnly = true)
+    public List<DailySales> findAll(final SalesDimension dimension, final LocalDate from, final LocalDate to) {
+        if (Objects.isNull(dimension) || Objects.isNull(from) || Objects.isNull(to) || from.isAfter(to)) {
+            throw new IllegalArgumentException();
+        }
+        return dailySalesRepository.findAllByDimensionAndSalesDateBetween(dimension, from, to);
+    }
+
+    private List<SalesLine> salesLines(final Order order, final Map<UUID, Menu> menusById) {
+        final List<SalesLine> salesLines = new ArrayList<>();
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            final Menu menu = menusById.get(orderLineItem.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new NoSuchElementException();
+            }
+            salesLines.add(new SalesLine(
+                orderLineItem.getMenuId(),
+                menu.getMenuGroup().getId(),
+                orderLineItem.getPrice(),
+                orderLineItem.getQuantity()
+            ));
+        }
+        return salesLines;
+    }
+
+    private List<SalesLine> salesLines(final ArchivedOrder archivedOrder, final Map<UUID, Menu> menusById) {
+        final List<SalesLine> salesLines = new ArrayList<>();
+        for (final ArchivedOrderLineItem orderLineItem : archivedOrder.getOrderLineItems()) {
+            final Menu menu = menusById.get(orderLineItem.getMenuId());
+            if (Objects.isNull(menu)) {
+                throw new NoSuchElementException();
+            }
+            salesLines.add(new SalesLine(
+                menu.getId(),
+                menu.getMenuGroup().getId(),
+                orderLineItem.getPrice(),
+                orderLineItem.getQuantity()
+            ));
+        }
+        return salesLines;
+    }
+
+    private Map<UUID, Menu> menusOf(final Stream<UUID> menuIds) {
+        final List<UUID> distinctMenuIds = menuIds.distinct()
+            .toList();
+        if (distinctMenuIds.isEmpty()) {
+            return Map.of();
+        }
+        return menuRepository.findAllForOrderByIdIn(distinctMenuIds)
+            .stream()
+            .collect(Collectors.toMap(Menu::getId, Function.identity()));
+    }
+
+    private Map<String, DailySales> rollup(final LocalDate salesDate, final OrderType type, final List<SalesLine> salesLines) {
+        final Map<String, DailySales> rollups = new LinkedHashMap<>();
+        for (final SalesLine salesLine : salesLines) {
+            final Money revenue = salesLine.price().times(salesLine.quantity());
+            accumulate(rollups, salesDate, SalesDimension.MENU, salesLine.menuId().toString(), revenue, salesLine.quantity(), 0L);
+            accumulate(rollups, salesDate, SalesDimension.MENU_GROUP, salesLine.menuGroupId().toString(), revenue, salesLine.quantity(), 0L);
+            accumulate(rollups, salesDate, SalesDimension.ORDER_TYPE, type.name(), revenue, salesLine.quantity(), 0L);
+        }
+        rollups.values().forEach(dailySales -> dailySales.setOrderCount(1L));
+        return rollups;
+    }
+
+    private void merge(final Map<String, DailySales> rollups, final Map<String, DailySales> orderRollups) {
+        for (final DailySales dailySales : orderRollups.values()) {
+            accumulate(
+                rollups,
+                dailySales.getSalesDate(),
+                dailySales.getDimension(),
+                dailySales.getDimensionKey(),
+                dailySales.getRevenue(),
+                dailySales.getQuantity(),
+                dailySales.getOrderCount()
+            );
+        }
+    }
+
+    private void accumulate(
+        final Map<String, DailySales> rollups,
+        final LocalDate salesDate,
+        final SalesDimension dimension,
+        final String dimensionKey,
+        final Money revenue,
+        final long quantity,
+        final long orderCount
+    ) {
+        final DailySales dailySales = rollups.computeIfAbsent(DailySales.idOf(salesDate, dimension, dimensionKey), id -> {
+            final DailySales created = new DailySales();
+            created.setId(id);
+            created.setSalesDate(salesDate);
+            created.setDimension(dimension);
+            created.setDimensionKey(dimensionKey);
+            created.setRevenue(Money.ZERO);
+            return created;
+        });
+        dailySales.setRevenue(dailySales.getRevenue().plus(revenue));
+        dailySales.setQuantity(Math.addExact(dailySales.getQuantity(), quantity));
+        dailySales.setOrderCount(dailySales.getOrderCount() + orderCount);
+    }
+
+    private record SalesLine(UUID menuId, UUID menuGroupId, Money price, long quantity) {
+    }
+}
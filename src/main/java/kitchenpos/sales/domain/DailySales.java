@@ -0,0 +1,101 @@
+package kitchenpos.sales.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import kitchenpos.common.domain.Money;
+
+import java.time.LocalDate;
+
+@Table(name = "daily_sales")
+@Entity
+public class DailySales {
+    @Column(name = "id")
+    @Id
+    private String id;
+
+    @Column(name = "sales_date", nullable = false)
+    private LocalDate salesDate;
+
+    @Column(name = "dimension", nullable = false, columnDefinition = "varchar(255)")
+    @Enumerated(EnumType.STRING)
+    private SalesDimension dimension;
+
+    @Column(name = "dimension_key", nullable = false)
+    private String dimensionKey;
+
+    @Column(name = "revenue", nullable = false)
+    private Money revenue;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    @Column(name = "order_count", nullable = false)
+    private long orderCount;
+
+    public DailySales() {
+    }
+
+    public static String idOf(final LocalDate salesDate, final SalesDimension dimension, final String dimensionKey) {
+        return salesDate + ":" + dimension.name() + ":" + dimensionKey;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public LocalDate getSalesDate() {
+        return salesDate;
+    }
+
+    public void setSalesDate(final LocalDate salesDate) {
+        this.salesDate = salesDate;
+    }
+
+    public SalesDimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(final SalesDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getDimensionKey() {
+        return dimensionKey;
+    }
+
+    public void setDimensionKey(final String dimensionKey) {
+        this.dimensionKey = dimensionKey;
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(final Money revenue) {
+        this.revenue = revenue;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public void setQuantity(final long quantity) {
+        this.quantity = quantity;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public void setOrderCount(final long orderCount) {
+        this.orderCount = orderCount;
+    }
+}
@@ -0,0 +1,23 @@
+package kitchenpos.sales.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailySalesRepository {
+    <S extends DailySales> List<S> saveAll(Iterable<S> dailySales);
+
+    List<DailySales> findAllByDimensionAndSalesDateBetween(SalesDimension dimension, LocalDate from, LocalDate to);
+
+    void accumulate(
+        String id,
+        LocalDate salesDate,
+        String dimension,
+        String dimensionKey,
+        BigDecimal revenue,
+        long quantity,
+        long orderCount
+    );
+
+    int deleteAllBySalesDate(LocalDate salesDate);
+}
@@ -0,0 +1,35 @@
+package kitchenpos.sales.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public interface JpaDailySalesRepository extends DailySalesRepository, JpaRepository<DailySales, String> {
+    @Modifying
+    @Query(
+        value = "insert into daily_sales (id, sales_date, dimension, dimension_key, revenue, quantity, order_count) "
+            + "values (:id, :salesDate, :dimension, :dimensionKey, :revenue, :quantity, :orderCount) "
+            + "on duplicate key update revenue = revenue + :revenue, quantity = quantity + :quantity, "
+            + "order_count = order_count + :orderCount",
+        nativeQuery = true
+    )
+    @Override
+    void accumulate(
+        @Param("id") String id,
+        @Param("salesDate") LocalDate salesDate,
+        @Param("dimension") String dimension,
+        @Param("dimensionKey") String dimensionKey,
+        @Param("revenue") BigDecimal revenue,
+        @Param("quantity") long quantity,
+        @Param("orderCount") long orderCount
+    );
+
+    @Modifying
+    @Query("delete from DailySales s where s.salesDate = :salesDate")
+    @Override
+    int deleteAllBySalesDate(@Param("salesDate") LocalDate salesDate);
+}
@@ -0,0 +1,5 @@
+package kitchenpos.sales.domain;
+
+public enum SalesDimension {
+    MENU, MENU_GROUP, ORDER_TYPE
+}
@@ -0,0 +1,48 @@
+package kitchenpos.sales.ui;
+
+import kitchenpos.sales.application.SalesRollupRebuildJob;
+import kitchenpos.sales.application.SalesRollupService;
+import kitchenpos.sales.domain.DailySales;
+import kitchenpos.sales.domain.SalesDimension;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RequestMapping("/api/sales/daily")
+@RestController
+public class SalesRestController {
+    private final SalesRollupService salesRollupService;
+    private final SalesRollupRebuildJob salesRollupRebuildJob;
+
+    public SalesRestController(
+        final SalesRollupService salesRollupService,
+        final SalesRollupRebuildJob salesRollupRebuildJob
+    ) {
+        this.salesRollupService = salesRollupService;
+        this.salesRollupRebuildJob = salesRollupRebuildJob;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<DailySales>> findAll(
+        @RequestParam final SalesDimension dimension,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to
+    ) {
+        return ResponseEntity.ok(salesRollupService.findAll(dimension, from, to));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Integer> rebuild(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) final LocalDate to
+    ) {
+        return ResponseEntity.ok(salesRollupRebuildJob.rebuild(from, to));
+    }
+}
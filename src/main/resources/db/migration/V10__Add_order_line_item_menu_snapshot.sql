@@ -0,0 +1,28 @@
+alter table order_line_item
+    add column menu_name varchar(255);
+
+alter table order_line_item
+    add column price decimal(19, 2);
+
+update order_line_item
+set menu_name = (select m.name from menu m where m.id = order_line_item.menu_id),
+    price     = (select m.price from menu m where m.id = order_line_item.menu_id);
+
+alter table order_line_item
+    modify column menu_name varchar(255) not null;
+
+alter table order_line_item
+    modify column price decimal(19, 2) not null;
+
+alter table archived_order_line_item
+    add column menu_name varchar(255);
+
+update archived_order_line_item
+set menu_name = (select m.name from menu m where m.id = archived_order_line_item.menu_id);
+
+update archived_order_line_item
+set menu_name = ''
+where menu_name is null;
+
+alter table archived_order_line_item
+    modify column menu_name varchar(255) not null;
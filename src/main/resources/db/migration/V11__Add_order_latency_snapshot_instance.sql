@@ -0,0 +1,2 @@
+alter table order_latency_snapshot
+    add column instance_id varchar(255) not null default '';
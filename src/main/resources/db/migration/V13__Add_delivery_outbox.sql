@@ -0,0 +1,10 @@
+create table delivery_outbox
+(
+    order_id          binary(16)     not null,
+    amount            decimal(19, 2) not null,
+    delivery_address  varchar(255)   not null,
+    created_date_time datetime(6)    not null,
+    primary key (order_id)
+) engine = InnoDB;
+
+create index ix_delivery_outbox_created_date_time on delivery_outbox (created_date_time);
@@ -0,0 +1,4 @@
+alter table delivery_outbox
+    add column status varchar(255) not null default 'PENDING';
+
+create index ix_delivery_outbox_status_created_date_time on delivery_outbox (status, created_date_time);
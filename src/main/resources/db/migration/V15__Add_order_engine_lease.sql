@@ -0,0 +1,7 @@
+create table order_engine_lease
+(
+    name              varchar(255) not null,
+    owner             varchar(255) not null,
+    expires_date_time datetime(6)  not null,
+    primary key (name)
+) engine = InnoDB;
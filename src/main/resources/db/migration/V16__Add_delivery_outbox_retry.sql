@@ -0,0 +1,18 @@
+alter table delivery_outbox
+    add column attempts int not null default 0;
+
+alter table delivery_outbox
+    add column next_attempt_date_time datetime(6) null;
+
+alter table delivery_outbox
+    add column claimed_by varchar(255) null;
+
+update delivery_outbox
+set status                 = 'PENDING',
+    next_attempt_date_time = created_date_time;
+
+alter table delivery_outbox
+    modify column next_attempt_date_time datetime(6) not null;
+
+create index ix_delivery_outbox_next_attempt_date_time on delivery_outbox (next_attempt_date_time);
+create index ix_delivery_outbox_claimed_by on delivery_outbox (claimed_by);
@@ -0,0 +1,10 @@
+alter table order_latency_snapshot
+    add column updated_date_time datetime(6) null;
+
+update order_latency_snapshot
+set updated_date_time = current_timestamp(6);
+
+alter table order_latency_snapshot
+    modify column updated_date_time datetime(6) not null;
+
+create index ix_order_latency_snapshot_updated_date_time on order_latency_snapshot (updated_date_time);
@@ -0,0 +1,13 @@
+alter table orders
+    add column status_changed_date_time datetime(6);
+
+create table order_latency_snapshot
+(
+    id           varchar(255)    not null,
+    type         varchar(255)    not null,
+    status       varchar(255)    not null,
+    counts       varbinary(4096) not null,
+    total_millis bigint          not null,
+    max_millis   bigint          not null,
+    primary key (id)
+) engine = InnoDB;
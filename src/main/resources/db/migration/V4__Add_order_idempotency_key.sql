@@ -0,0 +1,9 @@
+create table order_idempotency_key
+(
+    idempotency_key   varchar(255) not null,
+    order_id          binary(16)   not null,
+    expires_date_time datetime(6)  not null,
+    primary key (idempotency_key)
+) engine = InnoDB;
+
+create index ix_order_idempotency_key_expires_date_time on order_idempotency_key (expires_date_time);
@@ -0,0 +1,32 @@
+create table archived_order
+(
+    id                  binary(16)   not null,
+    type                varchar(255) not null,
+    order_date_time     datetime(6)  not null,
+    completed_date_time datetime(6),
+    archived_date_time  datetime(6)  not null,
+    delivery_address    varchar(255),
+    order_table_id      binary(16),
+    primary key (id)
+) engine = InnoDB;
+
+create table archived_order_line_item
+(
+    archived_order_id binary(16)     not null,
+    seq               integer        not null,
+    menu_id           binary(16)     not null,
+    quantity          bigint         not null,
+    price             decimal(19, 2) not null,
+    primary key (archived_order_id, seq)
+) engine = InnoDB;
+
+alter table archived_order_line_item
+    add constraint fk_archived_order_line_item_to_archived_order
+        foreign key (archived_order_id)
+            references archived_order (id);
+
+create index ix_archived_order_order_date_time on archived_order (order_date_time);
+
+create index ix_orders_order_table_id_status on orders (order_table_id, status);
+
+create index ix_orders_status_order_date_time on orders (status, order_date_time);
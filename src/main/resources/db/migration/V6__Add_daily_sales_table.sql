@@ -0,0 +1,13 @@
+create table daily_sales
+(
+    id            varchar(255)   not null,
+    sales_date    date           not null,
+    dimension     varchar(255)   not null,
+    dimension_key varchar(255)   not null,
+    revenue       decimal(19, 2) not null,
+    quantity      bigint         not null,
+    order_count   bigint         not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index ix_daily_sales_dimension_sales_date on daily_sales (dimension, sales_date);
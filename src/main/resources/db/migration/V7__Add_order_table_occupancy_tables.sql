@@ -0,0 +1,24 @@
+create table order_table_event
+(
+    seq                bigint      not null auto_increment,
+    order_table_id     binary(16)  not null,
+    type               varchar(20) not null,
+    number_of_guests   integer     not null,
+    occurred_date_time datetime(6) not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_order_table_event_order_table_id_occurred_date_time
+    on order_table_event (order_table_id, occurred_date_time);
+
+create table order_table_occupancy
+(
+    order_table_id         binary(16)  not null,
+    seatings               bigint      not null,
+    total_dwell_millis     bigint      not null,
+    total_guests           bigint      not null,
+    first_seated_date_time datetime(6),
+    seated_date_time       datetime(6),
+    current_guests         integer     not null,
+    primary key (order_table_id)
+) engine = InnoDB;
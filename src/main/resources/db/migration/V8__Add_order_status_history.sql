@@ -0,0 +1,19 @@
+create table order_status_history
+(
+    seq               bigint       not null auto_increment,
+    order_id          binary(16)   not null,
+    order_table_id    binary(16),
+    type              tinyint      not null,
+    from_status       tinyint,
+    to_status         tinyint      not null,
+    changed_date_time datetime(6)  not null,
+    delivery_address  varchar(255),
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_order_status_history_order_id on order_status_history (order_id);
+
+create index ix_order_status_history_order_table_id_changed_date_time
+    on order_status_history (order_table_id, changed_date_time);
+
+create index ix_order_status_history_changed_date_time on order_status_history (changed_date_time);
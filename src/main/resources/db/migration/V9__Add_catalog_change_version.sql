@@ -0,0 +1,31 @@
+create table catalog_version
+(
+    id      int    not null,
+    version bigint not null,
+    primary key (id)
+) engine = InnoDB;
+
+insert into catalog_version (id, version)
+values (1, 1);
+
+alter table product
+    add column change_version bigint not null default 0;
+
+alter table menu_group
+    add column change_version bigint not null default 0;
+
+alter table menu
+    add column change_version bigint not null default 0;
+
+update product
+set change_version = 1;
+
+update menu_group
+set change_version = 1;
+
+update menu
+set change_version = 1;
+
+create index ix_product_change_version on product (change_version);
+create index ix_menu_group_change_version on menu_group (change_version);
+create index ix_menu_change_version on menu (change_version);
@@ -0,0 +1,7 @@
+create table if not exists perf_data_run
+(
+    seed                bigint      not null,
+    orders              int         not null,
+    completed_date_time datetime(6) not null,
+    primary key (seed)
+) engine = InnoDB;
@@ -1,5 +1,6 @@
 package kitchenpos;
 
+import kitchenpos.common.domain.Money;
 import kitchenpos.eatinorders.domain.Order;
 import kitchenpos.eatinorders.domain.OrderLineItem;
 import kitchenpos.eatinorders.domain.OrderStatus;
@@ -10,7 +11,6 @@ import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuProduct;
 import kitchenpos.products.domain.Product;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Random;
@@ -31,7 +31,7 @@ public class Fixtures {
         final Menu menu = new Menu();
         menu.setId(UUID.randomUUID());
         menu.setName("후라이드+후라이드");
-        menu.setPrice(BigDecimal.valueOf(price));
+        menu.setPrice(Money.of(price));
         menu.setMenuGroup(menuGroup());
         menu.setDisplayed(displayed);
         menu.setMenuProducts(Arrays.asList(menuProducts));
@@ -100,7 +100,11 @@ public class Fixtures {
     public static OrderLineItem orderLineItem() {
         final OrderLineItem orderLineItem = new OrderLineItem();
         orderLineItem.setSeq(new Random().nextLong());
-        orderLineItem.setMenu(menu());
+        final Menu menu = menu();
+        orderLineItem.setMenu(menu);
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setMenuName(menu.getName());
+        orderLineItem.setPrice(menu.getPrice());
         return orderLineItem;
     }
 
@@ -125,7 +129,7 @@ public class Fixtures {
         final Product product = new Product();
         product.setId(UUID.randomUUID());
         product.setName(name);
-        product.setPrice(BigDecimal.valueOf(price));
+        product.setPrice(Money.of(price));
         return product;
     }
 }
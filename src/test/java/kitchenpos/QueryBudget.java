@@ -0,0 +1,53 @@
+package kitchenpos;
+
+import kitchenpos.common.infra.QueryCounter;
+import kitchenpos.common.infra.QueryStatistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+public class QueryBudget {
+    public static <T> T assertQueryCountAtMost(final long budget, final Supplier<T> action) {
+        final QueryStatistics statistics = QueryCounter.start();
+        final T result;
+        try {
+            result = action.get();
+        } finally {
+            QueryCounter.stop();
+        }
+        assertThat(statistics.getStatements())
+            .as("executed statements (most repeated: %s)", statistics.mostRepeatedStatement())
+            .isLessThanOrEqualTo(budget);
+        return result;
+    }
+
+    public static void assertQueryCountGrowthAtMost(
+        final long reads,
+        final long writes,
+        final Runnable smaller,
+        final Runnable larger
+    ) {
+        final QueryStatistics small = measure(smaller);
+        final QueryStatistics large = measure(larger);
+        assertAll(
+            () -> assertThat(large.getReads() - small.getReads())
+                .as("reads grew from %d to %d (most repeated: %s)", small.getReads(), large.getReads(), large.mostRepeatedStatement())
+                .isLessThanOrEqualTo(reads),
+            () -> assertThat(large.getWrites() - small.getWrites())
+                .as("writes grew from %d to %d (most repeated: %s)", small.getWrites(), large.getWrites(), large.mostRepeatedStatement())
+                .isLessThanOrEqualTo(writes)
+        );
+    }
+
+    public static QueryStatistics measure(final Runnable action) {
+        final QueryStatistics statistics = QueryCounter.start();
+        try {
+            action.run();
+        } finally {
+            QueryCounter.stop();
+        }
+        return statistics;
+    }
+}
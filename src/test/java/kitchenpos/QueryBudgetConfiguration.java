@@ -0,0 +1,61 @@
+package kitchenpos;
+
+import kitchenpos.catalog.application.CatalogImportService;
+import kitchenpos.catalog.application.CatalogImporter;
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.catalog.infra.JdbcCatalogImportRepository;
+import kitchenpos.common.event.DomainEventPublisher;
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.common.infra.QueryCountingDataSourcePostProcessor;
+import kitchenpos.deliveryorders.application.DeliveryOutboxHandler;
+import kitchenpos.eatinorders.application.OrderBatchService;
+import kitchenpos.eatinorders.application.OrderLatencyRecorder;
+import kitchenpos.eatinorders.application.OrderService;
+import kitchenpos.eatinorders.application.OrderStatusHistoryRecorder;
+import kitchenpos.eatinorders.infra.JdbcOrderBatchRepository;
+import kitchenpos.eatinorders.infra.JdbcOrderStatusHistoryRepository;
+import kitchenpos.menus.application.MenuDisplayPolicyHandler;
+import kitchenpos.menus.application.MenuSalesRanking;
+import kitchenpos.menus.application.MenuService;
+import kitchenpos.products.application.FakePurgomalumClient;
+import kitchenpos.products.application.ProductService;
+import kitchenpos.products.infra.PurgomalumClient;
+import kitchenpos.sales.application.SalesRollupService;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+@TestConfiguration
+@Import({
+    QueryCountingDataSourcePostProcessor.class,
+    CatalogVersionService.class,
+    ProductService.class,
+    MenuService.class,
+    MenuDisplayPolicyHandler.class,
+    DeliveryOutboxHandler.class,
+    MenuSalesRanking.class,
+    OrderService.class,
+    OrderBatchService.class,
+    OrderLatencyRecorder.class,
+    OrderStatusHistoryRecorder.class,
+    SalesRollupService.class,
+    JdbcOrderBatchRepository.class,
+    JdbcOrderStatusHistoryRepository.class,
+    CatalogImporter.class,
+    CatalogImportService.class,
+    JdbcCatalogImportRepository.class
+})
+public class QueryBudgetConfiguration {
+    @Bean
+    public PurgomalumClient purgomalumClient() {
+        return new FakePurgomalumClient();
+    }
+
+    @Bean
+    public DomainEventPublisher domainEventPublisher(
+        final MenuDisplayPolicyHandler menuDisplayPolicyHandler,
+        final DeliveryOutboxHandler deliveryOutboxHandler
+    ) {
+        return new FakeDomainEventPublisher(menuDisplayPolicyHandler, deliveryOutboxHandler);
+    }
+}
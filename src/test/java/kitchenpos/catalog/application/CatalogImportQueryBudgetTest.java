@@ -0,0 +1,41 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.JpaQueryBudgetTest;
+import kitchenpos.catalog.infra.CsvCatalogImportReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.StringJoiner;
+
+import static kitchenpos.QueryBudget.assertQueryCountGrowthAtMost;
+
+@JpaQueryBudgetTest
+class CatalogImportQueryBudgetTest {
+    private static final String HEADER = "type,id,name,price,menuGroupId,displayed,menuProducts";
+
+    @Autowired
+    private CatalogImporter catalogImporter;
+
+    @DisplayName("한 청크 안에서는 행 수와 관계없이 정해진 수의 쿼리로 가져온다.")
+    @Test
+    void importAll() {
+        assertQueryCountGrowthAtMost(
+            0L,
+            0L,
+            () -> catalogImporter.importAll(products(100)),
+            () -> catalogImporter.importAll(products(200))
+        );
+    }
+
+    private static CatalogImportReader products(final int count) {
+        final StringJoiner lines = new StringJoiner("\n");
+        lines.add(HEADER);
+        for (int i = 0; i < count; i++) {
+            lines.add("PRODUCT,,상품" + i + ",1000,,,");
+        }
+        return new CsvCatalogImportReader(new BufferedReader(new StringReader(lines.toString())));
+    }
+}
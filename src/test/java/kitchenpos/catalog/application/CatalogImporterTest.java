@@ -0,0 +1,242 @@
+package kitchenpos.catalog.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.catalog.infra.CsvCatalogImportReader;
+import kitchenpos.catalog.infra.NdjsonCatalogImportReader;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.application.InMemoryMenuGroupRepository;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.application.FakePurgomalumClient;
+import kitchenpos.products.application.InMemoryProductRepository;
+import kitchenpos.products.domain.ProductRepository;
+import kitchenpos.products.infra.PurgomalumClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CatalogImporterTest {
+    private static final String HEADER = "type,id,name,price,menuGroupId,displayed,menuProducts";
+    private static final UUID MENU_GROUP_ID = UUID.fromString("4d2a3c1e-5b7f-4a9e-8c6d-1f2e3a4b5c6d");
+    private static final UUID FRIED_ID = UUID.fromString("9a8b7c6d-5e4f-4a3b-9c2d-1e0f9a8b7c6d");
+    private static final UUID SEASONED_ID = UUID.fromString("6c5b4a39-2817-4f6e-9d5c-4b3a29180f7e");
+    private static final UUID MENU_ID = UUID.fromString("2f1e0d9c-8b7a-4c6d-9e5f-4a3b2c1d0e9f");
+
+    private ProductRepository productRepository;
+    private MenuGroupRepository menuGroupRepository;
+    private MenuRepository menuRepository;
+    private CountingPurgomalumClient purgomalumClient;
+    private CatalogImportService catalogImportService;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new InMemoryProductRepository();
+        menuGroupRepository = new InMemoryMenuGroupRepository();
+        menuRepository = new InMemoryMenuRepository();
+        purgomalumClient = new CountingPurgomalumClient();
+        catalogImportService = new CatalogImportService(
+            new InMemoryCatalogImportRepository(productRepository, menuGroupRepository, menuRepository),
+            productRepository,
+            menuGroupRepository,
+            purgomalumClient,
+            new CatalogVersionService(new InMemoryCatalogVersionRepository())
+        );
+    }
+
+    @DisplayName("CSV 파일로 메뉴 그룹, 상품, 메뉴를 한 번에 등록할 수 있다.")
+    @Test
+    void importCsv() {
+        final CatalogImportResult actual = importer(500, 1_000).importAll(csv(
+            HEADER,
+            "MENU_GROUP," + MENU_GROUP_ID + ",두마리메뉴,,,,",
+            "PRODUCT," + FRIED_ID + ",후라이드,16000,,,",
+            "PRODUCT," + SEASONED_ID + ",\"양념치킨, 매운맛\",17000,,,",
+            "MENU," + MENU_ID + ",후라이드+양념," + "32000," + MENU_GROUP_ID + ",true,"
+                + FRIED_ID + ":1;" + SEASONED_ID + ":1"
+        ));
+        final Menu menu = menuRepository.findById(MENU_ID).orElseThrow();
+        assertAll(
+            () -> assertThat(actual.created()).isEqualTo(4L),
+            () -> assertThat(actual.rejected()).isZero(),
+            () -> assertThat(productRepository.findById(SEASONED_ID).orElseThrow().getName()).isEqualTo("양념치킨, 매운맛"),
+            () -> assertThat(menu.getPrice()).isEqualTo(Money.of(32_000L)),
+            () -> assertThat(menu.getMenuGroup().getId()).isEqualTo(MENU_GROUP_ID),
+            () -> assertThat(menu.isDisplayed()).isTrue(),
+            () -> assertThat(menu.getMenuProducts()).hasSize(2),
+            () -> assertThat(menu.getChangeVersion()).isPositive()
+        );
+    }
+
+    @DisplayName("NDJSON 파일로도 등록할 수 있다.")
+    @Test
+    void importNdjson() {
+        final String ndjson = String.join("\n",
+            "{\"type\": \"MENU_GROUP\", \"id\": \"" + MENU_GROUP_ID + "\", \"name\": \"한마리메뉴\"}",
+            "{\"type\": \"PRODUCT\", \"id\": \"" + FRIED_ID + "\", \"name\": \"후라이드\", \"price\": 16000}",
+            "{\"type\": \"MENU\", \"id\": \"" + MENU_ID + "\", \"name\": \"후라이드치킨\", \"price\": 16000, "
+                + "\"menuGroupId\": \"" + MENU_GROUP_ID + "\", \"displayed\": true, "
+                + "\"menuProducts\": [{\"productId\": \"" + FRIED_ID + "\", \"quantity\": 1}]}"
+        );
+        final CatalogImportResult actual = importer(500, 1_000).importAll(
+            new NdjsonCatalogImportReader(new BufferedReader(new StringReader(ndjson)), new ObjectMapper())
+        );
+        assertAll(
+            () -> assertThat(actual.created()).isEqualTo(3L),
+            () -> assertThat(menuRepository.findById(MENU_ID)).isPresent()
+        );
+    }
+
+    @DisplayName("올바르지 않은 행은 줄 번호와 함께 보고하고 나머지 행은 등록한다.")
+    @Test
+    void reportRejectedRows() {
+        final UUID unknownMenuGroupId = UUID.randomUUID();
+        final CatalogImportResult actual = importer(500, 1_000).importAll(csv(
+            HEADER,
+            "MENU_GROUP," + MENU_GROUP_ID + ",두마리메뉴,,,,",
+            "PRODUCT," + FRIED_ID + ",후라이드,16000,,,",
+            "PRODUCT,,비속어치킨,16000,,,",
+            "PRODUCT,,양념치킨,만원,,,",
+            "PRODUCT,,간장치킨,-1,,,",
+            "MENU,,후라이드,17000," + MENU_GROUP_ID + ",true," + FRIED_ID + ":1",
+            "MENU,,양념,16000," + MENU_GROUP_ID + ",true," + SEASONED_ID + ":1",
+            "MENU,,후라이드," + "16000," + unknownMenuGroupId + ",true," + FRIED_ID + ":1",
+            "MENU," + MENU_ID + ",후라이드,16000," + MENU_GROUP_ID + ",true," + FRIED_ID + ":1"
+        ));
+        assertAll(
+            () -> assertThat(actual.created()).isEqualTo(3L),
+            () -> assertThat(actual.rejected()).isEqualTo(6L),
+            () -> assertThat(actual.errors()).hasSize(6),
+            () -> assertThat(actual.errors().stream().map(CatalogImportOutcome::line).toList())
+                .containsExactlyInAnyOrder(4L, 5L, 6L, 7L, 8L, 9L),
+            () -> assertThat(actual.errors().stream().filter(error -> error.line() != 5L).map(CatalogImportOutcome::reason).toList())
+                .containsExactlyInAnyOrder(
+                    "Profane name",
+                    "Negative price -1",
+                    "Price 17000 is above the product sum 16000",
+                    "Unknown product " + SEASONED_ID,
+                    "Unknown menu group " + unknownMenuGroupId
+                ),
+            () -> assertThat(productRepository.findAll()).hasSize(1),
+            () -> assertThat(menuRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("머리글에 type 열이 없으면 한 행도 등록하지 않고 가져오기 전체를 실패한다.")
+    @Test
+    void rejectHeaderWithoutType() {
+        final CatalogImportReader reader = csv(
+            "id,name,price",
+            "PRODUCT," + FRIED_ID + ",후라이드,16000,,,",
+            "PRODUCT," + SEASONED_ID + ",양념치킨,17000,,,"
+        );
+        assertAll(
+            () -> assertThatThrownBy(() -> importer(500, 1_000).importAll(reader))
+                .isInstanceOf(IllegalStateException.class),
+            () -> assertThat(productRepository.findAll()).isEmpty()
+        );
+    }
+
+    @DisplayName("이미 등록된 항목은 중복으로 건너뛰므로 같은 파일을 다시 가져올 수 있다.")
+    @Test
+    void skipDuplicates() {
+        final String[] lines = {
+            HEADER,
+            "MENU_GROUP," + MENU_GROUP_ID + ",두마리메뉴,,,,",
+            "PRODUCT," + FRIED_ID + ",후라이드,16000,,,",
+            "MENU," + MENU_ID + ",후라이드,16000," + MENU_GROUP_ID + ",true," + FRIED_ID + ":1"
+        };
+        importer(500, 1_000).importAll(csv(lines));
+        final CatalogImportResult actual = importer(500, 1_000).importAll(csv(lines));
+        assertAll(
+            () -> assertThat(actual.created()).isZero(),
+            () -> assertThat(actual.duplicates()).isEqualTo(3L),
+            () -> assertThat(menuRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("앞선 청크에서 등록한 상품을 메뉴에서 참조할 수 있다.")
+    @Test
+    void referenceEarlierChunk() {
+        final CatalogImportResult actual = importer(2, 1_000).importAll(csv(
+            HEADER,
+            "MENU_GROUP," + MENU_GROUP_ID + ",두마리메뉴,,,,",
+            "PRODUCT," + FRIED_ID + ",후라이드,16000,,,",
+            "PRODUCT," + SEASONED_ID + ",양념치킨,17000,,,",
+            "MENU," + MENU_ID + ",후라이드+양념,33000," + MENU_GROUP_ID + ",true," + FRIED_ID + ":1;" + SEASONED_ID + ":1"
+        ));
+        assertAll(
+            () -> assertThat(actual.created()).isEqualTo(4L),
+            () -> assertThat(menuRepository.findById(MENU_ID)).isPresent()
+        );
+    }
+
+    @DisplayName("비속어 검사와 저장은 행 단위가 아니라 청크 단위로 처리한다.")
+    @Test
+    void importInChunks() {
+        final String[] lines = new String[201];
+        lines[0] = HEADER;
+        for (int i = 1; i < lines.length; i++) {
+            lines[i] = "PRODUCT,,상품" + i + ",1000,,,";
+        }
+        final CatalogImportResult actual = importer(100, 1_000).importAll(csv(lines));
+        assertAll(
+            () -> assertThat(actual.created()).isEqualTo(200L),
+            () -> assertThat(purgomalumClient.batches.get()).isEqualTo(2),
+            () -> assertThat(purgomalumClient.singles.get()).isZero()
+        );
+    }
+
+    @DisplayName("보고하는 오류의 수는 제한되지만 거부된 행의 수는 모두 센다.")
+    @Test
+    void limitReportedErrors() {
+        final String[] lines = new String[11];
+        lines[0] = HEADER;
+        for (int i = 1; i < lines.length; i++) {
+            lines[i] = "PRODUCT,,상품" + i + ",-1,,,";
+        }
+        final CatalogImportResult actual = importer(500, 3).importAll(csv(lines));
+        assertAll(
+            () -> assertThat(actual.rejected()).isEqualTo(10L),
+            () -> assertThat(actual.errors()).hasSize(3)
+        );
+    }
+
+    private CatalogImporter importer(final int chunkSize, final int maxReportedErrors) {
+        return new CatalogImporter(catalogImportService, chunkSize, maxReportedErrors);
+    }
+
+    private static CatalogImportReader csv(final String... lines) {
+        return new CsvCatalogImportReader(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+
+    private static class CountingPurgomalumClient implements PurgomalumClient {
+        private final PurgomalumClient purgomalumClient = new FakePurgomalumClient();
+        private final AtomicInteger singles = new AtomicInteger();
+        private final AtomicInteger batches = new AtomicInteger();
+
+        @Override
+        public boolean containsProfanity(final String text) {
+            singles.incrementAndGet();
+            return purgomalumClient.containsProfanity(text);
+        }
+
+        @Override
+        public Set<String> findProfanities(final List<String> texts) {
+            batches.incrementAndGet();
+            return purgomalumClient.findProfanities(texts);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.menus.application.InMemoryMenuGroupRepository;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.application.MenuDisplayPolicyHandler;
+import kitchenpos.menus.application.MenuGroupService;
+import kitchenpos.menus.application.MenuService;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.application.FakePurgomalumClient;
+import kitchenpos.products.application.InMemoryProductRepository;
+import kitchenpos.products.application.ProductService;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CatalogSyncServiceTest {
+    private ProductService productService;
+    private MenuGroupService menuGroupService;
+    private MenuService menuService;
+    private CatalogSyncService catalogSyncService;
+    private Product product;
+    private MenuGroup menuGroup;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        final ProductRepository productRepository = new InMemoryProductRepository();
+        final MenuGroupRepository menuGroupRepository = new InMemoryMenuGroupRepository();
+        final MenuRepository menuRepository = new InMemoryMenuRepository();
+        final FakePurgomalumClient purgomalumClient = new FakePurgomalumClient();
+        final CatalogVersionService catalogVersionService = new CatalogVersionService(new InMemoryCatalogVersionRepository());
+        productService = new ProductService(
+            productRepository,
+            purgomalumClient,
+            new FakeDomainEventPublisher(new MenuDisplayPolicyHandler(menuRepository, catalogVersionService)),
+            catalogVersionService
+        );
+        menuGroupService = new MenuGroupService(menuGroupRepository, catalogVersionService);
+        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, purgomalumClient, catalogVersionService);
+        catalogSyncService = new CatalogSyncService(catalogVersionService, productRepository, menuGroupRepository, menuRepository);
+        product = productService.create(productRequest(16_000L));
+        menuGroup = menuGroupService.create(menuGroupRequest());
+        menu = menuService.create(menuRequest(product, menuGroup));
+    }
+
+    @DisplayName("처음 동기화하면 카탈로그 전체를 돌려준다.")
+    @Test
+    void findAll() {
+        final CatalogChanges actual = catalogSyncService.findChangesSince(0L);
+        assertAll(
+            () -> assertThat(actual.version()).isEqualTo(3L),
+            () -> assertThat(actual.products().stream().map(Product::getId).toList()).containsExactly(product.getId()),
+            () -> assertThat(actual.menuGroups().stream().map(MenuGroup::getId).toList()).containsExactly(menuGroup.getId()),
+            () -> assertThat(actual.menus().stream().map(Menu::getId).toList()).containsExactly(menu.getId()),
+            () -> assertThat(actual.hiddenMenuIds()).isEmpty()
+        );
+    }
+
+    @DisplayName("마지막으로 받은 버전 이후에 바뀐 항목만 돌려준다.")
+    @Test
+    void findChangesSince() {
+        final long version = catalogSyncService.findChangesSince(0L).version();
+        menuService.changePrice(menu.getId(), menuPriceRequest(30_000L));
+        final CatalogChanges actual = catalogSyncService.findChangesSince(version);
+        assertAll(
+            () -> assertThat(actual.version()).isEqualTo(version + 1L),
+            () -> assertThat(actual.products()).isEmpty(),
+            () -> assertThat(actual.menuGroups()).isEmpty(),
+            () -> assertThat(actual.menus().stream().map(Menu::getId).toList()).containsExactly(menu.getId())
+        );
+    }
+
+    @DisplayName("바뀐 항목이 없으면 빈 결과를 돌려준다.")
+    @Test
+    void findNoChanges() {
+        final long version = catalogSyncService.findChangesSince(0L).version();
+        final CatalogChanges actual = catalogSyncService.findChangesSince(version);
+        assertAll(
+            () -> assertThat(actual.version()).isEqualTo(version),
+            () -> assertThat(actual.products()).isEmpty(),
+            () -> assertThat(actual.menuGroups()).isEmpty(),
+            () -> assertThat(actual.menus()).isEmpty(),
+            () -> assertThat(actual.hiddenMenuIds()).isEmpty()
+        );
+    }
+
+    @DisplayName("상품 가격 변경으로 숨겨진 메뉴는 식별자만 돌려준다.")
+    @Test
+    void findHiddenMenus() {
+        final long version = catalogSyncService.findChangesSince(0L).version();
+        productService.changePrice(product.getId(), productRequest(1_000L));
+        final CatalogChanges actual = catalogSyncService.findChangesSince(version);
+        assertAll(
+            () -> assertThat(actual.products().stream().map(Product::getId).toList()).containsExactly(product.getId()),
+            () -> assertThat(actual.menus()).isEmpty(),
+            () -> assertThat(actual.hiddenMenuIds()).containsExactly(menu.getId())
+        );
+    }
+
+    @DisplayName("서버보다 앞선 버전으로 요청하면 카탈로그 전체를 돌려준다.")
+    @Test
+    void findChangesSinceUnknownVersion() {
+        final CatalogChanges actual = catalogSyncService.findChangesSince(100L);
+        assertAll(
+            () -> assertThat(actual.version()).isEqualTo(3L),
+            () -> assertThat(actual.products()).hasSize(1),
+            () -> assertThat(actual.menus()).hasSize(1)
+        );
+    }
+
+    @DisplayName("버전은 0 이상이어야 한다.")
+    @Test
+    void findChangesSinceNegativeVersion() {
+        assertThatThrownBy(() -> catalogSyncService.findChangesSince(-1L))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Product productRequest(final long price) {
+        final Product request = new Product();
+        request.setName("후라이드");
+        request.setPrice(Money.of(price));
+        return request;
+    }
+
+    private MenuGroup menuGroupRequest() {
+        final MenuGroup request = new MenuGroup();
+        request.setName("두마리메뉴");
+        return request;
+    }
+
+    private Menu menuRequest(final Product product, final MenuGroup menuGroup) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(2L);
+        final Menu request = new Menu();
+        request.setName("후라이드+후라이드");
+        request.setPrice(Money.of(19_000L));
+        request.setMenuGroupId(menuGroup.getId());
+        request.setDisplayed(true);
+        request.setMenuProducts(List.of(menuProduct));
+        return request;
+    }
+
+    private Menu menuPriceRequest(final long price) {
+        final Menu request = new Menu();
+        request.setPrice(Money.of(price));
+        return request;
+    }
+}
@@ -0,0 +1,42 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.catalog.domain.CatalogImportRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public class InMemoryCatalogImportRepository implements CatalogImportRepository {
+    private final ProductRepository productRepository;
+    private final MenuGroupRepository menuGroupRepository;
+    private final MenuRepository menuRepository;
+
+    public InMemoryCatalogImportRepository(
+        final ProductRepository productRepository,
+        final MenuGroupRepository menuGroupRepository,
+        final MenuRepository menuRepository
+    ) {
+        this.productRepository = productRepository;
+        this.menuGroupRepository = menuGroupRepository;
+        this.menuRepository = menuRepository;
+    }
+
+    @Override
+    public List<UUID> findAllMenuIdsByIdIn(final List<UUID> ids) {
+        return ids.stream()
+            .filter(id -> menuRepository.findById(id).isPresent())
+            .toList();
+    }
+
+    @Override
+    public void saveAll(final List<Product> products, final List<MenuGroup> menuGroups, final List<Menu> menus) {
+        products.forEach(productRepository::save);
+        menuGroups.forEach(menuGroupRepository::save);
+        menus.forEach(menuRepository::save);
+    }
+}
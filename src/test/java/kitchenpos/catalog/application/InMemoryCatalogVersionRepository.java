@@ -0,0 +1,25 @@
+package kitchenpos.catalog.application;
+
+import kitchenpos.catalog.domain.CatalogVersion;
+import kitchenpos.catalog.domain.CatalogVersionRepository;
+
+import java.util.Optional;
+
+public class InMemoryCatalogVersionRepository implements CatalogVersionRepository {
+    private final CatalogVersion catalogVersion = new CatalogVersion();
+
+    public InMemoryCatalogVersionRepository() {
+        catalogVersion.setId(CatalogVersionService.CATALOG_VERSION_ID);
+    }
+
+    @Override
+    public Optional<CatalogVersion> findById(final Integer id) {
+        return Optional.of(catalogVersion)
+            .filter(version -> version.getId().equals(id));
+    }
+
+    @Override
+    public Optional<CatalogVersion> findByIdForUpdate(final Integer id) {
+        return findById(id);
+    }
+}
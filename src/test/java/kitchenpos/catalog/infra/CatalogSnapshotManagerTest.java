@@ -0,0 +1,107 @@
+package kitchenpos.catalog.infra;
+
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.catalog.application.InMemoryCatalogVersionRepository;
+import kitchenpos.menus.application.InMemoryMenuGroupRepository;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.application.InMemoryProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static kitchenpos.Fixtures.menu;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CatalogSnapshotManagerTest {
+    @TempDir
+    Path directory;
+
+    private Path path;
+    private InMemoryCatalogVersionRepository catalogVersionRepository;
+    private CatalogVersionService catalogVersionService;
+    private MenuRepository menuRepository;
+    private Menu menu;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("catalog.snapshot");
+        catalogVersionRepository = new InMemoryCatalogVersionRepository();
+        catalogVersionService = new CatalogVersionService(catalogVersionRepository);
+        menuRepository = new InMemoryMenuRepository();
+        menu = menuRepository.save(menu());
+        catalogVersionService.next();
+    }
+
+    @DisplayName("스냅샷이 없으면 쓰지 않고, 갱신하면 만들어서 사용한다.")
+    @Test
+    void refresh() {
+        final CatalogSnapshotManager manager = manager();
+        assertThat(manager.current()).isNull();
+        manager.refresh();
+        assertAll(
+            () -> assertThat(Files.exists(path)).isTrue(),
+            () -> assertThat(manager.current().version()).isEqualTo(1L),
+            () -> assertThat(manager.current().findMenu(menu.getId())).isNotNull()
+        );
+    }
+
+    @DisplayName("시작할 때 카탈로그 버전이 같은 스냅샷을 바로 사용한다.")
+    @Test
+    void warmStart() {
+        manager().refresh();
+        assertThat(manager().current().findMenu(menu.getId())).isNotNull();
+    }
+
+    @DisplayName("카탈로그 버전이 다른 스냅샷은 사용하지 않는다.")
+    @Test
+    void stale() {
+        manager().refresh();
+        catalogVersionService.next();
+        assertThat(manager().current()).isNull();
+    }
+
+    @DisplayName("카탈로그가 바뀌면 다시 만들기 전까지 스냅샷을 사용하지 않는다.")
+    @Test
+    void invalidate() {
+        final CatalogSnapshotManager manager = manager();
+        manager.refresh();
+        catalogVersionService.next();
+        assertThat(manager.current()).isNull();
+        manager.refresh();
+        assertThat(manager.current().version()).isEqualTo(2L);
+    }
+
+    @DisplayName("다른 인스턴스가 카탈로그를 바꾸면 갱신 주기를 기다리지 않고 바로 스냅샷을 쓰지 않는다.")
+    @Test
+    void changedByOtherInstance() {
+        final CatalogSnapshotManager manager = manager();
+        manager.refresh();
+        catalogVersionRepository.findById(1).get().setVersion(2L);
+        assertThat(manager.current()).isNull();
+    }
+
+    @DisplayName("읽을 수 없는 스냅샷은 무시한다.")
+    @Test
+    void unreadable() throws IOException {
+        Files.write(path, new byte[]{1, 2, 3});
+        assertThat(manager().current()).isNull();
+    }
+
+    private CatalogSnapshotManager manager() {
+        return new CatalogSnapshotManager(
+            catalogVersionService,
+            new InMemoryProductRepository(),
+            new InMemoryMenuGroupRepository(),
+            menuRepository,
+            path
+        );
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.catalog.infra;
+
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuProduct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static kitchenpos.Fixtures.INVALID_ID;
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.product;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CatalogSnapshotTest {
+    @TempDir
+    Path directory;
+
+    @DisplayName("스냅샷에 기록한 메뉴를 그대로 읽는다.")
+    @Test
+    void findMenu() {
+        final Path path = directory.resolve("catalog.snapshot");
+        final Menu displayed = menu(19_000L, true, menuProduct(), menuProduct());
+        final Menu hidden = menu(32_000L, false, menuProduct());
+        CatalogSnapshot.write(path, 7L, List.of(product()), List.of(menuGroup()), List.of(displayed, hidden));
+
+        final CatalogSnapshot snapshot = CatalogSnapshot.open(path);
+        final Menu actual = snapshot.findMenu(displayed.getId());
+        final MenuProduct menuProduct = actual.getMenuProducts().get(1);
+        assertAll(
+            () -> assertThat(snapshot.version()).isEqualTo(7L),
+            () -> assertThat(snapshot.menuCount()).isEqualTo(2),
+            () -> assertThat(actual.getName()).isEqualTo(displayed.getName()),
+            () -> assertThat(actual.getPrice()).isEqualTo(displayed.getPrice()),
+            () -> assertThat(actual.isDisplayed()).isTrue(),
+            () -> assertThat(actual.getMenuGroup().getId()).isEqualTo(displayed.getMenuGroup().getId()),
+            () -> assertThat(actual.getMenuGroup().getName()).isEqualTo(displayed.getMenuGroup().getName()),
+            () -> assertThat(menuProduct.getProduct().getId()).isEqualTo(displayed.getMenuProducts().get(1).getProduct().getId()),
+            () -> assertThat(menuProduct.getProduct().getPrice()).isEqualTo(displayed.getMenuProducts().get(1).getProduct().getPrice()),
+            () -> assertThat(menuProduct.getQuantity()).isEqualTo(2L),
+            () -> assertThat(snapshot.findMenu(hidden.getId()).isDisplayed()).isFalse(),
+            () -> assertThat(snapshot.findMenu(INVALID_ID)).isNull()
+        );
+    }
+
+    @DisplayName("손상된 스냅샷은 열 수 없다.")
+    @Test
+    void corrupt() throws IOException {
+        final Path path = directory.resolve("catalog.snapshot");
+        CatalogSnapshot.write(path, 1L, List.of(), List.of(), List.of(menu()));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), channel.size() - 1L);
+        }
+        assertThatThrownBy(() -> CatalogSnapshot.open(path))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
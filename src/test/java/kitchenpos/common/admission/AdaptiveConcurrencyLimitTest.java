@@ -0,0 +1,64 @@
+package kitchenpos.common.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimitTest {
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1L);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    @DisplayName("지연 시간이 안정적이면 한도를 늘린다.")
+    @Test
+    void increase() {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 10);
+        sample(limit, FAST, 50);
+        assertThat(limit.limit()).isGreaterThan(10);
+    }
+
+    @DisplayName("지연 시간이 늘어나면 한도를 줄인다.")
+    @Test
+    void decrease() {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 10);
+        sample(limit, FAST, 20);
+        final int before = limit.limit();
+        sample(limit, SLOW, 20);
+        assertThat(limit.limit()).isLessThan(before / 2);
+    }
+
+    @DisplayName("한도의 절반도 사용하지 않으면 한도를 늘리지 않는다.")
+    @Test
+    void applicationLimited() {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 1, 100, 10);
+        for (int i = 0; i < 500; i++) {
+            limit.onSample(FAST, 1);
+        }
+        assertThat(limit.limit()).isEqualTo(10);
+    }
+
+    @DisplayName("한도는 최솟값 아래로 내려가지 않는다.")
+    @Test
+    void minLimit() {
+        final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(10, 5, 100, 10);
+        sample(limit, FAST, 1);
+        sample(limit, SLOW * 100L, 100);
+        assertThat(limit.limit()).isEqualTo(5);
+    }
+
+    @DisplayName("초기 한도는 최솟값과 최댓값 사이여야 한다.")
+    @Test
+    void invalidLimit() {
+        assertThatThrownBy(() -> new AdaptiveConcurrencyLimit(1, 5, 100, 10))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void sample(final AdaptiveConcurrencyLimit limit, final long rttNanos, final int windows) {
+        for (int i = 0; i < windows * 10; i++) {
+            limit.onSample(rttNanos, limit.limit());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package kitchenpos.common.admission;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class AdmissionControllerTest {
+    private static final Duration SHORT_WAIT = Duration.ofMillis(50L);
+    private static final Duration LONG_WAIT = Duration.ofSeconds(5L);
+
+    @DisplayName("한도 안에서는 바로 받아들인다.")
+    @Test
+    void admit() {
+        final AdmissionController admissionController = admissionController(4, SHORT_WAIT);
+        final AdmissionController.Permit permit = admissionController.tryAcquire(AdmissionPriority.LOW);
+        assertAll(
+            () -> assertThat(permit).isNotNull(),
+            () -> assertThat(admissionController.metrics().inFlight()).isEqualTo(1)
+        );
+        permit.release();
+        assertThat(admissionController.metrics().inFlight()).isEqualTo(0);
+    }
+
+    @DisplayName("상태 변경 요청을 위해 남겨 둔 자리는 신규 주문이 사용할 수 없다.")
+    @Test
+    void reserve() {
+        final AdmissionController admissionController = admissionController(4, SHORT_WAIT);
+        final AdmissionController.Permit low = admissionController.tryAcquire(AdmissionPriority.LOW);
+        assertAll(
+            () -> assertThat(admissionController.tryAcquire(AdmissionPriority.LOW)).isNull(),
+            () -> assertThat(admissionController.tryAcquire(AdmissionPriority.HIGH)).isNotNull(),
+            () -> assertThat(admissionController.metrics().rejected()).isEqualTo(1L)
+        );
+        low.release();
+    }
+
+    @DisplayName("대기열이 가득 차면 기다리지 않고 거절한다.")
+    @Test
+    void queueFull() throws Exception {
+        final AdmissionController admissionController = admissionController(1, LONG_WAIT);
+        final AdmissionController.Permit high = admissionController.tryAcquire(AdmissionPriority.HIGH);
+        final AdmissionController.Permit other = admissionController.tryAcquire(AdmissionPriority.HIGH);
+        final List<CompletableFuture<AdmissionController.Permit>> waiters = new ArrayList<>();
+        waiters.add(acquireAsync(admissionController, AdmissionPriority.HIGH));
+        awaitMetrics(admissionController, metrics -> metrics.queuedHigh() == 1);
+        final long start = System.nanoTime();
+        final AdmissionController.Permit rejected = admissionController.tryAcquire(AdmissionPriority.HIGH);
+        final long elapsed = System.nanoTime() - start;
+        high.release();
+        other.release();
+        assertAll(
+            () -> assertThat(rejected).isNull(),
+            () -> assertThat(elapsed).isLessThan(TimeUnit.MILLISECONDS.toNanos(500L)),
+            () -> assertThat(waiters.get(0).get(1L, TimeUnit.SECONDS)).isNotNull()
+        );
+    }
+
+    @DisplayName("자리가 나면 상태 변경 요청을 신규 주문보다 먼저 받아들인다.")
+    @Test
+    void priority() throws Exception {
+        final AdmissionController admissionController = admissionController(4, LONG_WAIT);
+        final AdmissionController.Permit first = admissionController.tryAcquire(AdmissionPriority.HIGH);
+        final AdmissionController.Permit second = admissionController.tryAcquire(AdmissionPriority.HIGH);
+        final CompletableFuture<AdmissionController.Permit> low = acquireAsync(admissionController, AdmissionPriority.LOW);
+        awaitMetrics(admissionController, metrics -> metrics.queuedLow() == 1);
+        final CompletableFuture<AdmissionController.Permit> high = acquireAsync(admissionController, AdmissionPriority.HIGH);
+        awaitMetrics(admissionController, metrics -> metrics.queuedHigh() == 1);
+        first.release();
+        final AdmissionController.Permit admitted = high.get(1L, TimeUnit.SECONDS);
+        assertAll(
+            () -> assertThat(admitted).isNotNull(),
+            () -> assertThat(low.isDone()).isFalse()
+        );
+        second.release();
+        admitted.release();
+        assertThat(low.get(1L, TimeUnit.SECONDS)).isNotNull();
+    }
+
+    @DisplayName("정해진 시간 안에 자리가 나지 않으면 거절한다.")
+    @Test
+    void timeout() {
+        final AdmissionController admissionController = admissionController(2, SHORT_WAIT);
+        final AdmissionController.Permit permit = admissionController.tryAcquire(AdmissionPriority.HIGH);
+        admissionController.tryAcquire(AdmissionPriority.HIGH);
+        assertAll(
+            () -> assertThat(admissionController.tryAcquire(AdmissionPriority.HIGH)).isNull(),
+            () -> assertThat(admissionController.metrics().queuedHigh()).isEqualTo(0)
+        );
+        permit.release();
+    }
+
+    private AdmissionController admissionController(final int queueCapacity, final Duration maxWait) {
+        return new AdmissionController(2, 1, 2, 1_000, 0.5, queueCapacity, maxWait);
+    }
+
+    private CompletableFuture<AdmissionController.Permit> acquireAsync(
+        final AdmissionController admissionController,
+        final AdmissionPriority priority
+    ) {
+        return CompletableFuture.supplyAsync(() -> admissionController.tryAcquire(priority));
+    }
+
+    private void awaitMetrics(
+        final AdmissionController admissionController,
+        final Predicate<AdmissionMetrics> condition
+    ) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1L);
+        while (!condition.test(admissionController.metrics()) && System.nanoTime() < deadline) {
+            Thread.sleep(1L);
+        }
+    }
+}
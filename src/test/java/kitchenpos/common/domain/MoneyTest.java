@@ -0,0 +1,48 @@
+package kitchenpos.common.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class MoneyTest {
+    @DisplayName("금액을 더하고 수량을 곱할 수 있다.")
+    @Test
+    void arithmetic() {
+        final Money actual = Money.of(16_000L).times(2L).plus(Money.of(1_000L));
+        assertThat(actual).isEqualTo(Money.of(33_000L));
+    }
+
+    @DisplayName("계산 결과가 표현 범위를 넘으면 예외가 발생한다.")
+    @Test
+    void overflow() {
+        assertAll(
+            () -> assertThatThrownBy(() -> Money.of(Long.MAX_VALUE).plus(Money.of(1L)))
+                .isInstanceOf(ArithmeticException.class),
+            () -> assertThatThrownBy(() -> Money.of(Long.MAX_VALUE / 2 + 1).times(2L))
+                .isInstanceOf(ArithmeticException.class)
+        );
+    }
+
+    @DisplayName("원 단위 아래의 금액은 만들 수 없다.")
+    @Test
+    void fraction() {
+        assertThatThrownBy(() -> Money.from(new BigDecimal("16000.50")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("decimal(19, 2) 컬럼과 상호 변환할 수 있다.")
+    @Test
+    void convert() {
+        final MoneyConverter converter = new MoneyConverter();
+        assertAll(
+            () -> assertThat(converter.convertToDatabaseColumn(Money.of(16_000L))).isEqualTo(new BigDecimal("16000.00")),
+            () -> assertThat(converter.convertToEntityAttribute(new BigDecimal("16000.00"))).isEqualTo(Money.of(16_000L)),
+            () -> assertThat(converter.convertToDatabaseColumn(null)).isNull()
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package kitchenpos.common.event;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DomainEventRingBufferTest {
+    @DisplayName("용량은 2의 거듭제곱이어야 한다.")
+    @ValueSource(ints = {0, 3, 100})
+    @ParameterizedTest
+    void capacity(final int capacity) {
+        assertThatThrownBy(() -> new DomainEventRingBuffer(capacity))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("발행한 순서대로 꺼낸다.")
+    @Test
+    void poll() {
+        final DomainEventRingBuffer ringBuffer = new DomainEventRingBuffer(4);
+        ringBuffer.offer(new SampleEvent(1));
+        ringBuffer.offer(new SampleEvent(2));
+        ringBuffer.offer(new SampleEvent(3));
+        final List<DomainEvent> actual = drain(ringBuffer);
+        assertAll(
+            () -> assertThat(actual).containsExactly(new SampleEvent(1), new SampleEvent(2), new SampleEvent(3)),
+            () -> assertThat(ringBuffer.backlog()).isEqualTo(0L),
+            () -> assertThat(ringBuffer.poll((event, publishedNanos) -> { })).isFalse()
+        );
+    }
+
+    @DisplayName("버퍼가 가득 차면 더 이상 받지 않는다.")
+    @Test
+    void full() {
+        final DomainEventRingBuffer ringBuffer = new DomainEventRingBuffer(2);
+        assertAll(
+            () -> assertThat(ringBuffer.offer(new SampleEvent(1))).isTrue(),
+            () -> assertThat(ringBuffer.offer(new SampleEvent(2))).isTrue(),
+            () -> assertThat(ringBuffer.offer(new SampleEvent(3))).isFalse(),
+            () -> assertThat(ringBuffer.backlog()).isEqualTo(2L)
+        );
+    }
+
+    @DisplayName("꺼낸 자리는 다시 사용한다.")
+    @Test
+    void wrapAround() {
+        final DomainEventRingBuffer ringBuffer = new DomainEventRingBuffer(2);
+        final List<DomainEvent> actual = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            assertThat(ringBuffer.offer(new SampleEvent(i))).isTrue();
+            if (i % 2 == 1) {
+                actual.addAll(drain(ringBuffer));
+            }
+        }
+        assertThat(actual).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(actual.get(i)).isEqualTo(new SampleEvent(i));
+        }
+    }
+
+    private List<DomainEvent> drain(final DomainEventRingBuffer ringBuffer) {
+        final List<DomainEvent> events = new ArrayList<>();
+        while (ringBuffer.poll((event, publishedNanos) -> events.add(event))) {
+        }
+        return events;
+    }
+
+    private record SampleEvent(int value) implements DomainEvent {
+    }
+}
@@ -0,0 +1,25 @@
+package kitchenpos.common.event;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class FakeDomainEventPublisher implements DomainEventPublisher {
+    private final DomainEventHandlers handlers;
+    private final List<DomainEvent> published = new CopyOnWriteArrayList<>();
+
+    public FakeDomainEventPublisher(final DomainEventHandler<?>... handlers) {
+        this.handlers = new DomainEventHandlers(Arrays.asList(handlers));
+    }
+
+    @Override
+    public void publish(final DomainEvent event) {
+        published.add(event);
+        handlers.dispatch(event, true);
+        handlers.dispatch(event, false);
+    }
+
+    public List<DomainEvent> getPublished() {
+        return published;
+    }
+}
@@ -0,0 +1,82 @@
+package kitchenpos.common.event;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RingBufferDomainEventPublisherTest {
+    private RecordingHandler transactionalHandler;
+    private RecordingHandler asyncHandler;
+    private RingBufferDomainEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        transactionalHandler = new RecordingHandler(true);
+        asyncHandler = new RecordingHandler(false);
+        publisher = new RingBufferDomainEventPublisher(List.of(transactionalHandler, asyncHandler), 16, Duration.ofSeconds(1L));
+        publisher.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        publisher.stop();
+    }
+
+    @DisplayName("트랜잭션 핸들러는 발행한 스레드에서 바로 처리하고 나머지는 디스패처 스레드에서 처리한다.")
+    @Test
+    void publish() throws Exception {
+        publisher.publish(new SampleEvent(false));
+        assertAll(
+            () -> assertThat(transactionalHandler.thread.getNow(null)).isSameAs(Thread.currentThread()),
+            () -> assertThat(asyncHandler.thread.get(1L, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread())
+        );
+    }
+
+    @DisplayName("트랜잭션 핸들러가 실패하면 발행한 쪽으로 예외를 던지고 나머지 핸들러에 전달하지 않는다.")
+    @Test
+    void publishFailed() {
+        assertThatThrownBy(() -> publisher.publish(new SampleEvent(true)))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(publisher.metrics().published()).isZero();
+    }
+
+    private record SampleEvent(boolean failing) implements DomainEvent {
+    }
+
+    private static class RecordingHandler implements DomainEventHandler<SampleEvent> {
+        private final boolean transactional;
+        private final CompletableFuture<Thread> thread = new CompletableFuture<>();
+
+        private RecordingHandler(final boolean transactional) {
+            this.transactional = transactional;
+        }
+
+        @Override
+        public Class<SampleEvent> eventType() {
+            return SampleEvent.class;
+        }
+
+        @Override
+        public boolean isTransactional() {
+            return transactional;
+        }
+
+        @Override
+        public void handle(final SampleEvent event) {
+            if (event.failing()) {
+                throw new IllegalStateException();
+            }
+            thread.complete(Thread.currentThread());
+        }
+    }
+}
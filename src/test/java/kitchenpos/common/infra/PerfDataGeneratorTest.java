@@ -0,0 +1,77 @@
+package kitchenpos.common.infra;
+
+import kitchenpos.eatinorders.application.OrderService;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.menus.application.MenuService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@ActiveProfiles("perf")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:perf;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+    "kitchenpos.perf-data.products=20",
+    "kitchenpos.perf-data.menu-groups=3",
+    "kitchenpos.perf-data.menus=100",
+    "kitchenpos.perf-data.order-tables=10",
+    "kitchenpos.perf-data.orders=1000"
+})
+class PerfDataGeneratorTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PerfDataGenerator perfDataGenerator;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @DisplayName("Flyway로 만든 스키마에 메뉴와 주문 데이터를 생성한다.")
+    @Test
+    void generate() {
+        final List<Order> orders = orderService.findAll();
+        assertAll(
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from flyway_schema_history where success = true", Long.class))
+                .isGreaterThanOrEqualTo(10L),
+            () -> assertThat(menuService.findAll()).hasSizeGreaterThanOrEqualTo(100),
+            () -> assertThat(orders).hasSizeGreaterThanOrEqualTo(1_000),
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from order_line_item where menu_name is null", Long.class))
+                .isZero(),
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from menu where change_version <> 1", Long.class))
+                .isZero(),
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from perf_data_run", Long.class))
+                .isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("완료 기록이 있으면 다시 생성하지 않는다.")
+    @Test
+    void skipCompleted() {
+        final Long before = jdbcTemplate.queryForObject("select count(*) from orders", Long.class);
+        perfDataGenerator.run(null);
+        assertThat(jdbcTemplate.queryForObject("select count(*) from orders", Long.class)).isEqualTo(before);
+    }
+
+    @DisplayName("완료 기록 없이 중단된 데이터가 남아 있으면 지우고 다시 생성한다.")
+    @Test
+    void regenerateIncomplete() {
+        jdbcTemplate.update("delete from perf_data_run");
+        perfDataGenerator.run(null);
+        assertAll(
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from orders", Long.class)).isEqualTo(1_000L),
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from menu", Long.class)).isEqualTo(100L),
+            () -> assertThat(jdbcTemplate.queryForObject("select count(*) from perf_data_run", Long.class)).isEqualTo(1L)
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package kitchenpos.common.metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SlidingHeavyHittersTest {
+    private static final Duration WINDOW = Duration.ofHours(1L);
+    private static final long SLOT_MILLIS = WINDOW.toMillis() / 12;
+
+    @DisplayName("용량보다 적은 키는 정확하게 센다.")
+    @Test
+    void exactUnderCapacity() {
+        final SlidingHeavyHitters<String> heavyHitters = new SlidingHeavyHitters<>(WINDOW, 12, 8);
+        heavyHitters.add("후라이드", 3L, 0L);
+        heavyHitters.add("양념치킨", 1L, 0L);
+        heavyHitters.add("후라이드", 2L, SLOT_MILLIS);
+        final List<HeavyHitter<String>> actual = heavyHitters.top(2, SLOT_MILLIS);
+        assertAll(
+            () -> assertThat(actual.get(0).key()).isEqualTo("후라이드"),
+            () -> assertThat(actual.get(0).count()).isEqualTo(5L),
+            () -> assertThat(actual.get(0).error()).isEqualTo(0L),
+            () -> assertThat(actual.get(1).count()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("윈도우를 벗어난 집계는 제외한다.")
+    @Test
+    void slide() {
+        final SlidingHeavyHitters<String> heavyHitters = new SlidingHeavyHitters<>(WINDOW, 12, 8);
+        heavyHitters.add("후라이드", 3L, 0L);
+        heavyHitters.add("양념치킨", 1L, WINDOW.toMillis());
+        final List<HeavyHitter<String>> actual = heavyHitters.top(20, WINDOW.toMillis());
+        assertAll(
+            () -> assertThat(actual).hasSize(1),
+            () -> assertThat(actual.get(0).key()).isEqualTo("양념치킨")
+        );
+    }
+
+    @DisplayName("제한된 용량에서도 자주 팔린 키를 찾는다.")
+    @Test
+    void heavyHittersUnderSkew() {
+        final SlidingHeavyHitters<Integer> heavyHitters = new SlidingHeavyHitters<>(WINDOW, 12, 200);
+        final Map<Integer, Long> exact = new HashMap<>();
+        final Random random = new Random(42L);
+        for (int i = 0; i < 200_000; i++) {
+            final int key = zipf(random, 10_000);
+            heavyHitters.add(key, 1L, (long) i * WINDOW.toMillis() / 200_000);
+            exact.merge(key, 1L, Long::sum);
+        }
+        final Set<Integer> expected = exact.entrySet()
+            .stream()
+            .sorted(Map.Entry.<Integer, Long>comparingByValue().reversed())
+            .limit(20)
+            .map(Map.Entry::getKey)
+            .collect(Collectors.toSet());
+        final Set<Integer> actual = heavyHitters.top(20, WINDOW.toMillis() - 1L)
+            .stream()
+            .map(HeavyHitter::key)
+            .collect(Collectors.toSet());
+        actual.retainAll(expected);
+        assertThat(actual.size()).isGreaterThanOrEqualTo(18);
+    }
+
+    private static int zipf(final Random random, final int size) {
+        return (int) Math.min(size - 1, Math.floor(Math.pow(size, random.nextDouble())) - 1);
+    }
+}
@@ -0,0 +1,74 @@
+package kitchenpos.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class RateLimiterTest {
+    private static final String NUMBER_OF_GUESTS = "PUT /api/order-tables/{orderTableId}/number-of-guests";
+    private static final String ORDERS = "POST /api/orders";
+
+    private final AtomicLong now = new AtomicLong();
+
+    @DisplayName("단말마다 따로 제한한다.")
+    @Test
+    void perTerminal() {
+        final RateLimiter rateLimiter = rateLimiter(100);
+        rateLimiter.tryAcquire("terminal-1", ORDERS);
+        rateLimiter.tryAcquire("terminal-1", ORDERS);
+        assertAll(
+            () -> assertThat(rateLimiter.tryAcquire("terminal-1", ORDERS)).isGreaterThan(0L),
+            () -> assertThat(rateLimiter.tryAcquire("terminal-2", ORDERS)).isEqualTo(0L)
+        );
+    }
+
+    @DisplayName("엔드포인트별 허용량을 따로 적용한다.")
+    @Test
+    void perEndpoint() {
+        final RateLimiter rateLimiter = rateLimiter(100);
+        assertAll(
+            () -> assertThat(rateLimiter.tryAcquire("terminal-1", NUMBER_OF_GUESTS)).isEqualTo(0L),
+            () -> assertThat(rateLimiter.tryAcquire("terminal-1", NUMBER_OF_GUESTS)).isGreaterThan(0L),
+            () -> assertThat(rateLimiter.tryAcquire("terminal-1", ORDERS)).isEqualTo(0L)
+        );
+    }
+
+    @DisplayName("가득 찬 버킷은 정리한다.")
+    @Test
+    void purge() {
+        final RateLimiter rateLimiter = rateLimiter(100);
+        rateLimiter.tryAcquire("terminal-1", ORDERS);
+        rateLimiter.tryAcquire("terminal-2", ORDERS);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1L));
+        rateLimiter.purge();
+        assertThat(rateLimiter.size()).isEqualTo(0);
+    }
+
+    @DisplayName("단말 수가 한도를 넘으면 새 단말은 공용 버킷을 나눠 쓴다.")
+    @Test
+    void overflow() {
+        final RateLimiter rateLimiter = rateLimiter(1);
+        rateLimiter.tryAcquire("terminal-1", ORDERS);
+        rateLimiter.tryAcquire("terminal-2", ORDERS);
+        rateLimiter.tryAcquire("terminal-3", ORDERS);
+        assertAll(
+            () -> assertThat(rateLimiter.size()).isEqualTo(1),
+            () -> assertThat(rateLimiter.tryAcquire("terminal-4", ORDERS)).isGreaterThan(0L)
+        );
+    }
+
+    private RateLimiter rateLimiter(final int maxKeys) {
+        return new RateLimiter(
+            new RateLimit(10.0, 2),
+            Map.of(NUMBER_OF_GUESTS, new RateLimit(1.0, 1)),
+            maxKeys,
+            now::get
+        );
+    }
+}
@@ -0,0 +1,60 @@
+package kitchenpos.common.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class TokenBucketTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    @DisplayName("버스트 크기만큼은 한꺼번에 허용한다.")
+    @Test
+    void burst() {
+        final TokenBucket bucket = new TokenBucket(new RateLimit(10.0, 5), 0L);
+        for (int i = 0; i < 5; i++) {
+            assertThat(bucket.tryAcquire(0L)).isEqualTo(0L);
+        }
+        assertThat(bucket.tryAcquire(0L)).isEqualTo(SECOND / 10);
+    }
+
+    @DisplayName("시간이 지나면 초당 허용량만큼 다시 채운다.")
+    @Test
+    void refill() {
+        final TokenBucket bucket = new TokenBucket(new RateLimit(10.0, 1), 0L);
+        assertAll(
+            () -> assertThat(bucket.tryAcquire(0L)).isEqualTo(0L),
+            () -> assertThat(bucket.tryAcquire(SECOND / 20)).isEqualTo(SECOND / 20),
+            () -> assertThat(bucket.tryAcquire(SECOND / 10)).isEqualTo(0L)
+        );
+    }
+
+    @DisplayName("오래 쉬어도 버스트 크기보다 많이 쌓이지 않는다.")
+    @Test
+    void cap() {
+        final TokenBucket bucket = new TokenBucket(new RateLimit(10.0, 2), 0L);
+        int acquired = 0;
+        while (bucket.tryAcquire(60L * SECOND) == 0L) {
+            acquired++;
+        }
+        assertAll(
+            () -> assertThat(bucket.isFull(60L * SECOND)).isFalse(),
+            () -> assertThat(bucket.isFull(61L * SECOND)).isTrue()
+        );
+        assertThat(acquired).isEqualTo(2);
+    }
+
+    @DisplayName("허용량이 올바르지 않으면 만들 수 없다.")
+    @ValueSource(strings = {"0:1", "1:0", "-1:5", "10", "a:b"})
+    @ParameterizedTest
+    void parse(final String value) {
+        assertThatThrownBy(() -> RateLimit.parse(value))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,108 @@
+package kitchenpos.common.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(10L);
+
+    private AtomicLong clock;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        circuitBreaker = new CircuitBreaker(10, 4, 0.5, OPEN_DURATION, 2, clock::get);
+    }
+
+    @DisplayName("최소 호출 수에 도달하기 전에는 실패해도 열리지 않는다.")
+    @Test
+    void minimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @DisplayName("실패율이 임계값을 넘으면 열리고 즉시 거절한다.")
+    @Test
+    void open() {
+        fail(2);
+        succeed(2);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreakerState.CLOSED);
+        fail(1);
+        assertAll(
+            () -> assertThat(circuitBreaker.state()).isEqualTo(CircuitBreakerState.OPEN),
+            () -> assertThat(circuitBreaker.tryAcquire()).isFalse()
+        );
+    }
+
+    @DisplayName("열린 시간이 지나면 정해진 수만큼 시험 호출을 허용한다.")
+    @Test
+    void halfOpen() {
+        fail(4);
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        assertAll(
+            () -> assertThat(circuitBreaker.tryAcquire()).isTrue(),
+            () -> assertThat(circuitBreaker.state()).isEqualTo(CircuitBreakerState.HALF_OPEN),
+            () -> assertThat(circuitBreaker.tryAcquire()).isTrue(),
+            () -> assertThat(circuitBreaker.tryAcquire()).isFalse()
+        );
+    }
+
+    @DisplayName("시험 호출이 모두 성공하면 닫힌다.")
+    @Test
+    void close() {
+        fail(4);
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        succeed(2);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @DisplayName("시험 호출이 하나라도 실패하면 다시 열린다.")
+    @Test
+    void reopen() {
+        fail(4);
+        clock.addAndGet(OPEN_DURATION.toNanos());
+        succeed(1);
+        fail(1);
+        assertAll(
+            () -> assertThat(circuitBreaker.state()).isEqualTo(CircuitBreakerState.OPEN),
+            () -> assertThat(circuitBreaker.tryAcquire()).isFalse()
+        );
+    }
+
+    @DisplayName("설정값이 올바르지 않으면 생성할 수 없다.")
+    @Test
+    void invalid() {
+        assertAll(
+            () -> assertThatThrownBy(() -> new CircuitBreaker(10, 11, 0.5, OPEN_DURATION, 1, clock::get))
+                .isInstanceOf(IllegalArgumentException.class),
+            () -> assertThatThrownBy(() -> new CircuitBreaker(10, 5, 1.5, OPEN_DURATION, 1, clock::get))
+                .isInstanceOf(IllegalArgumentException.class)
+        );
+    }
+
+    private void fail(final int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void succeed(final int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onSuccess();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package kitchenpos.deliveryorders.application;
+
+import kitchenpos.deliveryorders.domain.DeliveryOutboxEntry;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxStatus;
+import kitchenpos.deliveryorders.infra.DeliveryRequest;
+import kitchenpos.deliveryorders.infra.DeliveryResult;
+import kitchenpos.deliveryorders.infra.KitchenridersClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class DeliveryBatchDispatcherTest {
+    private static final Duration WINDOW = Duration.ofMillis(200L);
+    private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(1L);
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1L);
+
+    private AtomicLong clock;
+    private RecordingKitchenridersClient kitchenridersClient;
+    private InMemoryDeliveryOutboxRepository deliveryOutboxRepository;
+    private DeliveryBatchDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong();
+        kitchenridersClient = new RecordingKitchenridersClient();
+        deliveryOutboxRepository = new InMemoryDeliveryOutboxRepository();
+        dispatcher = new DeliveryBatchDispatcher(
+            kitchenridersClient, deliveryOutboxRepository, 3, WINDOW, CLAIM_TIMEOUT, RETRY_BACKOFF, Duration.ofMinutes(5L),
+            clock::get, Runnable::run
+        );
+    }
+
+    @DisplayName("묶음 크기에 도달하면 한 번에 배달을 요청한다.")
+    @Test
+    void dispatchFull() {
+        dispatcher.add(outboxed(deliveryRequest()));
+        dispatcher.add(outboxed(deliveryRequest()));
+        assertThat(kitchenridersClient.batches).isEmpty();
+        dispatcher.add(outboxed(deliveryRequest()));
+        assertAll(
+            () -> assertThat(kitchenridersClient.batches).hasSize(1),
+            () -> assertThat(kitchenridersClient.batches.get(0)).hasSize(3),
+            () -> assertThat(dispatcher.pending()).isZero()
+        );
+    }
+
+    @DisplayName("대기 시간이 지나면 모인 만큼 배달을 요청한다.")
+    @Test
+    void dispatchExpired() {
+        dispatcher.add(outboxed(deliveryRequest()));
+        dispatcher.add(outboxed(deliveryRequest()));
+        clock.addAndGet(WINDOW.toNanos() - 1L);
+        dispatcher.dispatchExpired();
+        assertThat(kitchenridersClient.batches).isEmpty();
+        clock.addAndGet(1L);
+        dispatcher.dispatchExpired();
+        final DeliveryBatchMetrics metrics = dispatcher.metrics();
+        assertAll(
+            () -> assertThat(kitchenridersClient.batches).hasSize(1),
+            () -> assertThat(metrics.delivered()).isEqualTo(2L),
+            () -> assertThat(metrics.maxBatchSize()).isEqualTo(2L),
+            () -> assertThat(metrics.maxAddedLatencyMicros()).isGreaterThanOrEqualTo(WINDOW.toMillis() * 900L)
+        );
+    }
+
+    @DisplayName("배달이 접수된 주문만 아웃박스에서 지운다.")
+    @Test
+    void forgetAccepted() {
+        final DeliveryRequest accepted = outboxed(deliveryRequest());
+        final DeliveryRequest rejected = outboxed(deliveryRequest());
+        kitchenridersClient.rejected.add(rejected.orderId());
+        dispatcher.add(accepted);
+        dispatcher.add(rejected);
+        clock.addAndGet(WINDOW.toNanos());
+        dispatcher.dispatchExpired();
+        assertAll(
+            () -> assertThat(deliveryOutboxRepository.existsByOrderId(accepted.orderId())).isFalse(),
+            () -> assertThat(deliveryOutboxRepository.existsByOrderId(rejected.orderId())).isTrue()
+        );
+    }
+
+    @DisplayName("거절된 주문은 아웃박스에 대기 상태로 남기고 물러난 시간이 지난 뒤 주기적인 점검에서 다시 요청한다.")
+    @Test
+    void retryRejected() {
+        final DeliveryRequest rejected = outboxed(deliveryRequest());
+        kitchenridersClient.rejected.add(rejected.orderId());
+        final LocalDateTime before = LocalDateTime.now();
+        dispatcher.add(rejected);
+        clock.addAndGet(WINDOW.toNanos());
+        dispatcher.dispatchExpired();
+        final DeliveryOutboxEntry entry = deliveryOutboxRepository.findByOrderId(rejected.orderId());
+        assertAll(
+            () -> assertThat(entry.getStatus()).isEqualTo(DeliveryOutboxStatus.PENDING),
+            () -> assertThat(entry.getClaimedBy()).isNull(),
+            () -> assertThat(entry.getAttempts()).isEqualTo(1),
+            () -> assertThat(entry.getNextAttemptDateTime()).isAfterOrEqualTo(before.plus(RETRY_BACKOFF))
+        );
+        kitchenridersClient.rejected.clear();
+        dispatcher.sweep();
+        assertThat(kitchenridersClient.batches).hasSize(1);
+        entry.setNextAttemptDateTime(LocalDateTime.now().minusSeconds(1L));
+        dispatcher.sweep();
+        final DeliveryBatchMetrics metrics = dispatcher.metrics();
+        assertAll(
+            () -> assertThat(kitchenridersClient.batches).hasSize(2),
+            () -> assertThat(kitchenridersClient.batches.get(1).get(0).orderId()).isEqualTo(rejected.orderId()),
+            () -> assertThat(deliveryOutboxRepository.existsByOrderId(rejected.orderId())).isFalse(),
+            () -> assertThat(metrics.retried()).isEqualTo(1L),
+            () -> assertThat(metrics.swept()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("요청이 계속 실패해도 포기하지 않고 시도할 때마다 다음 시도까지의 간격을 두 배로 늘린다.")
+    @Test
+    void backoff() {
+        kitchenridersClient.failing = true;
+        final DeliveryRequest request = outboxed(deliveryRequest());
+        dispatcher.add(request);
+        clock.addAndGet(WINDOW.toNanos());
+        dispatcher.dispatchExpired();
+        final DeliveryOutboxEntry entry = deliveryOutboxRepository.findByOrderId(request.orderId());
+        entry.setNextAttemptDateTime(LocalDateTime.now().minusSeconds(1L));
+        final LocalDateTime before = LocalDateTime.now();
+        dispatcher.sweep();
+        assertAll(
+            () -> assertThat(kitchenridersClient.batches).hasSize(2),
+            () -> assertThat(entry.getStatus()).isEqualTo(DeliveryOutboxStatus.PENDING),
+            () -> assertThat(entry.getAttempts()).isEqualTo(2),
+            () -> assertThat(entry.getNextAttemptDateTime()).isAfterOrEqualTo(before.plus(RETRY_BACKOFF.multipliedBy(2L))),
+            () -> assertThat(entry.getNextAttemptDateTime()).isBefore(before.plus(RETRY_BACKOFF.multipliedBy(3L)))
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 가져가 보내는 중인 요청은 점유 시간이 끝나기 전까지 보내지 않는다.")
+    @Test
+    void skipClaimed() throws InterruptedException {
+        final DeliveryRequest due = outboxed(deliveryRequest());
+        final DeliveryRequest inFlight = claimedElsewhere(outboxed(deliveryRequest()), LocalDateTime.now().plus(CLAIM_TIMEOUT));
+        final DeliveryRequest abandoned = claimedElsewhere(outboxed(deliveryRequest()), LocalDateTime.now().minusSeconds(1L));
+        dispatcher.add(inFlight);
+        dispatcher.dispatchAll();
+        assertThat(kitchenridersClient.batches).isEmpty();
+        dispatcher.sweep();
+        assertAll(
+            () -> assertThat(kitchenridersClient.batches).hasSize(1),
+            () -> assertThat(kitchenridersClient.batches.get(0).stream().map(DeliveryRequest::orderId).toList())
+                .containsExactlyInAnyOrder(due.orderId(), abandoned.orderId()),
+            () -> assertThat(deliveryOutboxRepository.existsByOrderId(inFlight.orderId())).isTrue()
+        );
+    }
+
+    private DeliveryRequest outboxed(final DeliveryRequest request) {
+        final LocalDateTime createdDateTime = LocalDateTime.now().minusSeconds(1L);
+        final DeliveryOutboxEntry entry = new DeliveryOutboxEntry();
+        entry.setOrderId(request.orderId());
+        entry.setAmount(request.amount());
+        entry.setDeliveryAddress(request.deliveryAddress());
+        entry.setStatus(DeliveryOutboxStatus.PENDING);
+        entry.setNextAttemptDateTime(createdDateTime);
+        entry.setCreatedDateTime(createdDateTime);
+        deliveryOutboxRepository.insert(entry);
+        return request;
+    }
+
+    private DeliveryRequest claimedElsewhere(final DeliveryRequest request, final LocalDateTime claimedUntil) {
+        deliveryOutboxRepository.claim(List.of(request.orderId()), LocalDateTime.now(), "other", claimedUntil);
+        return request;
+    }
+
+    private DeliveryRequest deliveryRequest() {
+        return new DeliveryRequest(UUID.randomUUID(), BigDecimal.valueOf(19_000L), "서울시 송파구 위례성대로 2");
+    }
+
+    private static class RecordingKitchenridersClient implements KitchenridersClient {
+        private final List<List<DeliveryRequest>> batches = new ArrayList<>();
+        private final Set<UUID> rejected = new HashSet<>();
+        private boolean failing;
+
+        @Override
+        public void requestDelivery(final UUID orderId, final BigDecimal amount, final String deliveryAddress) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<DeliveryResult> requestDeliveries(final List<DeliveryRequest> requests) {
+            batches.add(List.copyOf(requests));
+            if (failing) {
+                throw new IllegalStateException("Kitchenriders responded 503");
+            }
+            return requests.stream()
+                .map(request -> new DeliveryResult(request.orderId(), !rejected.contains(request.orderId())))
+                .toList();
+        }
+    }
+}
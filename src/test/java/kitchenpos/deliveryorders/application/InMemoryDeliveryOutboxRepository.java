@@ -0,0 +1,102 @@
+package kitchenpos.deliveryorders.application;
+
+import kitchenpos.deliveryorders.domain.DeliveryOutboxEntry;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxRepository;
+import kitchenpos.deliveryorders.domain.DeliveryOutboxStatus;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryDeliveryOutboxRepository implements DeliveryOutboxRepository {
+    private final Map<UUID, DeliveryOutboxEntry> entries = new ConcurrentHashMap<>();
+
+    @Override
+    public void insert(final DeliveryOutboxEntry deliveryOutboxEntry) {
+        if (Objects.nonNull(entries.putIfAbsent(deliveryOutboxEntry.getOrderId(), deliveryOutboxEntry))) {
+            throw new DuplicateKeyException(deliveryOutboxEntry.getOrderId().toString());
+        }
+    }
+
+    @Override
+    public List<UUID> findAllOrderIdsByNextAttemptDateTimeNotAfter(final LocalDateTime dateTime, final Pageable pageable) {
+        return entries.values()
+            .stream()
+            .filter(entry -> !entry.getNextAttemptDateTime().isAfter(dateTime))
+            .sorted(Comparator.comparing(DeliveryOutboxEntry::getNextAttemptDateTime))
+            .limit(pageable.getPageSize())
+            .map(DeliveryOutboxEntry::getOrderId)
+            .toList();
+    }
+
+    @Override
+    public List<DeliveryOutboxEntry> findAllByClaimedBy(final String claimedBy) {
+        return entries.values()
+            .stream()
+            .filter(entry -> claimedBy.equals(entry.getClaimedBy()))
+            .toList();
+    }
+
+    @Override
+    public synchronized int claim(
+        final Collection<UUID> orderIds,
+        final LocalDateTime now,
+        final String claimedBy,
+        final LocalDateTime claimedUntil
+    ) {
+        int claimed = 0;
+        for (final UUID orderId : orderIds) {
+            final DeliveryOutboxEntry entry = entries.get(orderId);
+            if (Objects.nonNull(entry) && !entry.getNextAttemptDateTime().isAfter(now)) {
+                entry.setStatus(DeliveryOutboxStatus.CLAIMED);
+                entry.setClaimedBy(claimedBy);
+                entry.setNextAttemptDateTime(claimedUntil);
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public synchronized int release(
+        final Collection<UUID> orderIds,
+        final String claimedBy,
+        final int attempts,
+        final LocalDateTime nextAttemptDateTime
+    ) {
+        int released = 0;
+        for (final UUID orderId : orderIds) {
+            final DeliveryOutboxEntry entry = entries.get(orderId);
+            if (Objects.nonNull(entry) && claimedBy.equals(entry.getClaimedBy())) {
+                entry.setStatus(DeliveryOutboxStatus.PENDING);
+                entry.setClaimedBy(null);
+                entry.setAttempts(attempts);
+                entry.setNextAttemptDateTime(nextAttemptDateTime);
+                released++;
+            }
+        }
+        return released;
+    }
+
+    @Override
+    public int deleteAllByOrderIdIn(final Collection<UUID> orderIds) {
+        final int size = entries.size();
+        entries.keySet().removeAll(orderIds);
+        return size - entries.size();
+    }
+
+    public boolean existsByOrderId(final UUID orderId) {
+        return entries.containsKey(orderId);
+    }
+
+    public DeliveryOutboxEntry findByOrderId(final UUID orderId) {
+        return entries.get(orderId);
+    }
+}
@@ -0,0 +1,18 @@
+package kitchenpos.deliveryorders.application;
+
+import kitchenpos.deliveryorders.domain.DeliveryOutboxRepository;
+import kitchenpos.deliveryorders.infra.KitchenridersClient;
+
+import java.time.Duration;
+
+public class InlineDeliveryBatchDispatcher extends DeliveryBatchDispatcher {
+    public InlineDeliveryBatchDispatcher(
+        final KitchenridersClient kitchenridersClient,
+        final DeliveryOutboxRepository deliveryOutboxRepository
+    ) {
+        super(
+            kitchenridersClient, deliveryOutboxRepository, 1, Duration.ZERO, Duration.ofMinutes(1L), Duration.ofSeconds(1L),
+            Duration.ofMinutes(5L), System::nanoTime, Runnable::run
+        );
+    }
+}
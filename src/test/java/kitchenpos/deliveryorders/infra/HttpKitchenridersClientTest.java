@@ -0,0 +1,180 @@
+package kitchenpos.deliveryorders.infra;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import kitchenpos.common.resilience.CircuitBreakerState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class HttpKitchenridersClientTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private HttpServer server;
+    private ExecutorService executor;
+    private final AtomicInteger status = new AtomicInteger(201);
+    private final AtomicLong delayMillis = new AtomicLong();
+    private final AtomicInteger received = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/api/deliveries", exchange -> {
+            received.incrementAndGet();
+            exchange.getRequestBody().readAllBytes();
+            try {
+                Thread.sleep(delayMillis.get());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(status.get(), -1);
+            exchange.close();
+        });
+        server.createContext("/api/deliveries/batch", exchange -> {
+            received.incrementAndGet();
+            final DeliveryRequest[] requests = objectMapper.readValue(exchange.getRequestBody().readAllBytes(), DeliveryRequest[].class);
+            final byte[] response = objectMapper.writeValueAsBytes(
+                Arrays.stream(requests).map(request -> new DeliveryResult(request.orderId(), true)).toList()
+            );
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            exchange.getResponseBody().write(response);
+            exchange.close();
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    @DisplayName("배달을 요청할 수 있다.")
+    @Test
+    void requestDelivery() {
+        final HttpKitchenridersClient client = client(Duration.ofSeconds(2L), 20);
+        requestDelivery(client);
+        final KitchenridersMetrics metrics = client.metrics();
+        assertAll(
+            () -> assertThat(metrics.succeeded()).isEqualTo(1L),
+            () -> assertThat(metrics.circuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED),
+            () -> assertThat(received.get()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("여러 배달을 한 번에 요청하고 주문별 결과를 받는다.")
+    @Test
+    void requestDeliveries() {
+        final HttpKitchenridersClient client = client(Duration.ofSeconds(2L), 20);
+        final UUID orderId = UUID.randomUUID();
+        final List<DeliveryResult> results = client.requestDeliveries(
+            List.of(new DeliveryRequest(orderId, BigDecimal.valueOf(19_000L), "서울시 송파구 위례성대로 2"))
+        );
+        assertAll(
+            () -> assertThat(results).containsExactly(new DeliveryResult(orderId, true)),
+            () -> assertThat(received.get()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("서버 오류가 이어지면 회로가 열리고 서버를 호출하지 않고 실패한다.")
+    @Test
+    void openCircuit() {
+        status.set(503);
+        final HttpKitchenridersClient client = client(Duration.ofSeconds(2L), 20);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> requestDelivery(client)).isInstanceOf(IllegalStateException.class);
+        }
+        assertThatThrownBy(() -> requestDelivery(client)).isInstanceOf(IllegalStateException.class);
+        final KitchenridersMetrics metrics = client.metrics();
+        assertAll(
+            () -> assertThat(metrics.circuitBreakerState()).isEqualTo(CircuitBreakerState.OPEN),
+            () -> assertThat(metrics.failed()).isEqualTo(4L),
+            () -> assertThat(metrics.rejectedByCircuitBreaker()).isEqualTo(1L),
+            () -> assertThat(received.get()).isEqualTo(4)
+        );
+    }
+
+    @DisplayName("클라이언트 오류로는 회로가 열리지 않는다.")
+    @Test
+    void clientError() {
+        status.set(400);
+        final HttpKitchenridersClient client = client(Duration.ofSeconds(2L), 20);
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> requestDelivery(client)).isInstanceOf(IllegalStateException.class);
+        }
+        assertThat(client.metrics().circuitBreakerState()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @DisplayName("응답이 제한 시간을 넘기면 시간 초과로 실패한다.")
+    @Test
+    void timeout() {
+        delayMillis.set(500L);
+        final HttpKitchenridersClient client = client(Duration.ofMillis(100L), 20);
+        assertThatThrownBy(() -> requestDelivery(client)).isInstanceOf(IllegalStateException.class);
+        assertThat(client.metrics().timedOut()).isEqualTo(1L);
+    }
+
+    @DisplayName("동시 호출 수를 넘으면 기다리지 않고 거절한다.")
+    @Test
+    void bulkhead() throws Exception {
+        delayMillis.set(500L);
+        final HttpKitchenridersClient client = client(Duration.ofSeconds(2L), 1);
+        final CountDownLatch started = new CountDownLatch(1);
+        final Future<?> first = executor.submit(() -> {
+            started.countDown();
+            requestDelivery(client);
+        });
+        started.await();
+        while (received.get() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThatThrownBy(() -> requestDelivery(client)).isInstanceOf(IllegalStateException.class);
+        first.get(5L, TimeUnit.SECONDS);
+        assertAll(
+            () -> assertThat(client.metrics().rejectedByBulkhead()).isEqualTo(1L),
+            () -> assertThat(client.metrics().succeeded()).isEqualTo(1L)
+        );
+    }
+
+    private HttpKitchenridersClient client(final Duration requestTimeout, final int maxConcurrentCalls) {
+        return new HttpKitchenridersClient(
+            objectMapper,
+            "http://127.0.0.1:" + server.getAddress().getPort(),
+            Duration.ofSeconds(1L),
+            requestTimeout,
+            maxConcurrentCalls,
+            Duration.ofMillis(10L),
+            10,
+            4,
+            0.5,
+            Duration.ofSeconds(10L),
+            2
+        );
+    }
+
+    private void requestDelivery(final HttpKitchenridersClient client) {
+        client.requestDelivery(UUID.randomUUID(), BigDecimal.valueOf(19_000L), "서울시 송파구 위례성대로 2");
+    }
+}
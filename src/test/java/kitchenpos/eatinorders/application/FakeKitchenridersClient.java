@@ -1,8 +1,11 @@
 package kitchenpos.eatinorders.application;
 
+import kitchenpos.deliveryorders.infra.DeliveryRequest;
+import kitchenpos.deliveryorders.infra.DeliveryResult;
 import kitchenpos.deliveryorders.infra.KitchenridersClient;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.UUID;
 
 public class FakeKitchenridersClient implements KitchenridersClient {
@@ -17,6 +20,16 @@ public class FakeKitchenridersClient implements KitchenridersClient {
         this.deliveryAddress = deliveryAddress;
     }
 
+    @Override
+    public List<DeliveryResult> requestDeliveries(final List<DeliveryRequest> requests) {
+        return requests.stream()
+            .map(request -> {
+                requestDelivery(request.orderId(), request.amount(), request.deliveryAddress());
+                return new DeliveryResult(request.orderId(), true);
+            })
+            .toList();
+    }
+
     public UUID getOrderId() {
         return orderId;
     }
@@ -0,0 +1,21 @@
+package kitchenpos.eatinorders.application;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+public class FakeTransactionManager implements PlatformTransactionManager {
+    @Override
+    public TransactionStatus getTransaction(final TransactionDefinition definition) {
+        return new SimpleTransactionStatus();
+    }
+
+    @Override
+    public void commit(final TransactionStatus status) {
+    }
+
+    @Override
+    public void rollback(final TransactionStatus status) {
+    }
+}
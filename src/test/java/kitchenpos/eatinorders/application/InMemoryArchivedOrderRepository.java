@@ -0,0 +1,49 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.ArchivedOrder;
+import kitchenpos.eatinorders.domain.ArchivedOrderRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InMemoryArchivedOrderRepository implements ArchivedOrderRepository {
+    private final Map<UUID, ArchivedOrder> archivedOrders = new HashMap<>();
+
+    @Override
+    public <S extends ArchivedOrder> List<S> saveAll(final Iterable<S> archivedOrders) {
+        final List<S> saved = new ArrayList<>();
+        for (final S archivedOrder : archivedOrders) {
+            this.archivedOrders.put(archivedOrder.getId(), archivedOrder);
+            saved.add(archivedOrder);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<ArchivedOrder> findById(final UUID id) {
+        return Optional.ofNullable(archivedOrders.get(id));
+    }
+
+    @Override
+    public List<ArchivedOrder> findAllByOrderDateTimeBetween(final LocalDateTime from, final LocalDateTime to) {
+        return archivedOrders.values()
+            .stream()
+            .filter(order -> !order.getOrderDateTime().isBefore(from) && !order.getOrderDateTime().isAfter(to))
+            .toList();
+    }
+
+    @Override
+    public List<ArchivedOrder> findAllByCompletedDateTimeBetween(final LocalDateTime from, final LocalDateTime to) {
+        return archivedOrders.values()
+            .stream()
+            .filter(order -> Objects.nonNull(order.getCompletedDateTime()))
+            .filter(order -> !order.getCompletedDateTime().isBefore(from) && !order.getCompletedDateTime().isAfter(to))
+            .toList();
+    }
+}
@@ -0,0 +1,38 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderBatchRepository;
+import kitchenpos.eatinorders.domain.OrderRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+public class InMemoryOrderBatchRepository implements OrderBatchRepository {
+    private final OrderRepository orderRepository;
+
+    public InMemoryOrderBatchRepository(final OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public List<UUID> findAllIdsByIdIn(final List<UUID> ids) {
+        return ids.stream()
+            .filter(id -> orderRepository.findById(id).isPresent())
+            .toList();
+    }
+
+    @Override
+    public void saveAll(final List<Order> orders) {
+        orders.forEach(orderRepository::save);
+    }
+
+    @Override
+    public void updateAll(final List<Order> orders) {
+        orders.forEach(orderRepository::save);
+    }
+
+    @Override
+    public void deleteAllByIdIn(final List<UUID> ids) {
+        orderRepository.deleteAll(orderRepository.findAllByIdIn(ids));
+    }
+}
@@ -0,0 +1,35 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderEngineLeaseRepository;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+public class InMemoryOrderEngineLeaseRepository implements OrderEngineLeaseRepository {
+    private final Map<String, Lease> leases = new HashMap<>();
+
+    @Override
+    public synchronized boolean acquire(
+        final String name,
+        final String owner,
+        final LocalDateTime now,
+        final LocalDateTime expiresDateTime
+    ) {
+        final Lease lease = leases.get(name);
+        if (Objects.nonNull(lease) && !lease.owner().equals(owner) && !lease.expiresDateTime().isBefore(now)) {
+            return false;
+        }
+        leases.put(name, new Lease(owner, expiresDateTime));
+        return true;
+    }
+
+    @Override
+    public synchronized void release(final String name, final String owner) {
+        leases.computeIfPresent(name, (key, lease) -> lease.owner().equals(owner) ? null : lease);
+    }
+
+    private record Lease(String owner, LocalDateTime expiresDateTime) {
+    }
+}
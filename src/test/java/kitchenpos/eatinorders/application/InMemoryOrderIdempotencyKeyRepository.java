@@ -0,0 +1,44 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryOrderIdempotencyKeyRepository implements OrderIdempotencyKeyRepository {
+    private final Map<String, OrderIdempotencyKey> keys = new ConcurrentHashMap<>();
+
+    @Override
+    public void insert(final OrderIdempotencyKey orderIdempotencyKey) {
+        if (Objects.nonNull(keys.putIfAbsent(orderIdempotencyKey.getIdempotencyKey(), orderIdempotencyKey))) {
+            throw new DuplicateKeyException(orderIdempotencyKey.getIdempotencyKey());
+        }
+    }
+
+    @Override
+    public Optional<OrderIdempotencyKey> findById(final String idempotencyKey) {
+        return Optional.ofNullable(keys.get(idempotencyKey));
+    }
+
+    @Override
+    public int deleteExpired(final String idempotencyKey, final LocalDateTime dateTime) {
+        final OrderIdempotencyKey key = keys.get(idempotencyKey);
+        if (Objects.isNull(key) || key.getExpiresDateTime().isAfter(dateTime)) {
+            return 0;
+        }
+        keys.remove(idempotencyKey);
+        return 1;
+    }
+
+    @Override
+    public int deleteAllByExpiresDateTimeBefore(final LocalDateTime dateTime) {
+        final int size = keys.size();
+        keys.values().removeIf(key -> key.getExpiresDateTime().isBefore(dateTime));
+        return size - keys.size();
+    }
+}
@@ -0,0 +1,32 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderLatencySnapshot;
+import kitchenpos.eatinorders.domain.OrderLatencySnapshotRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class InMemoryOrderLatencySnapshotRepository implements OrderLatencySnapshotRepository {
+    private final Map<String, OrderLatencySnapshot> snapshots = new HashMap<>();
+
+    @Override
+    public OrderLatencySnapshot save(final OrderLatencySnapshot snapshot) {
+        snapshots.put(snapshot.getId(), snapshot);
+        return snapshot;
+    }
+
+    @Override
+    public List<OrderLatencySnapshot> findAll() {
+        return new ArrayList<>(snapshots.values());
+    }
+
+    @Override
+    public int deleteAllByUpdatedDateTimeBefore(final LocalDateTime dateTime) {
+        final int size = snapshots.size();
+        snapshots.values().removeIf(snapshot -> snapshot.getUpdatedDateTime().isBefore(dateTime));
+        return size - snapshots.size();
+    }
+}
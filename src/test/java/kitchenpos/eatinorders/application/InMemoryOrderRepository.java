@@ -4,16 +4,20 @@ import kitchenpos.eatinorders.domain.Order;
 import kitchenpos.eatinorders.domain.OrderRepository;
 import kitchenpos.eatinorders.domain.OrderStatus;
 import kitchenpos.eatinorders.domain.OrderTable;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class InMemoryOrderRepository implements OrderRepository {
-    private final Map<UUID, Order> orders = new HashMap<>();
+    private final Map<UUID, Order> orders = new ConcurrentHashMap<>();
 
     @Override
     public Order save(final Order order) {
@@ -31,10 +35,61 @@ public class InMemoryOrderRepository implements OrderRepository {
         return new ArrayList<>(orders.values());
     }
 
+    @Override
+    public List<Order> findAllByStatusNot(final OrderStatus status) {
+        return orders.values()
+            .stream()
+            .filter(order -> order.getStatus() != status)
+            .toList();
+    }
+
     @Override
     public boolean existsByOrderTableAndStatusNot(final OrderTable orderTable, final OrderStatus status) {
         return orders.values()
             .stream()
             .anyMatch(order -> order.getOrderTable().equals(orderTable) && order.getStatus() != status);
     }
+
+    @Override
+    public List<Order> findAllByIdIn(final List<UUID> ids) {
+        return ids.stream()
+            .map(orders::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public List<UUID> findAllIdsByStatusAndOrderDateTimeBefore(
+        final OrderStatus status,
+        final LocalDateTime dateTime,
+        final Pageable pageable
+    ) {
+        return orders.values()
+            .stream()
+            .filter(order -> order.getStatus() == status && order.getOrderDateTime().isBefore(dateTime))
+            .sorted(Comparator.comparing(Order::getOrderDateTime))
+            .limit(pageable.getPageSize())
+            .map(Order::getId)
+            .toList();
+    }
+
+    @Override
+    public List<Order> findAllByStatusAndStatusChangedDateTimeBetween(
+        final OrderStatus status,
+        final LocalDateTime from,
+        final LocalDateTime to
+    ) {
+        return orders.values()
+            .stream()
+            .filter(order -> order.getStatus() == status && Objects.nonNull(order.getStatusChangedDateTime()))
+            .filter(order -> !order.getStatusChangedDateTime().isBefore(from) && !order.getStatusChangedDateTime().isAfter(to))
+            .toList();
+    }
+
+    @Override
+    public void deleteAll(final Iterable<? extends Order> orders) {
+        for (final Order order : orders) {
+            this.orders.remove(order.getId());
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+public class InMemoryOrderStatusHistoryRepository implements OrderStatusHistoryRepository {
+    private final List<OrderStatusHistory> histories = new ArrayList<>();
+
+    @Override
+    public synchronized void saveAll(final List<OrderStatusHistory> histories) {
+        for (final OrderStatusHistory history : histories) {
+            this.histories.add(new OrderStatusHistory(
+                this.histories.size() + 1L,
+                history.orderId(),
+                history.orderTableId(),
+                history.type(),
+                history.fromStatus(),
+                history.toStatus(),
+                history.changedDateTime(),
+                history.deliveryAddress()
+            ));
+        }
+    }
+
+    @Override
+    public synchronized List<OrderStatusHistory> findAllByOrderId(final UUID orderId) {
+        return histories.stream()
+            .filter(history -> history.orderId().equals(orderId))
+            .toList();
+    }
+
+    @Override
+    public synchronized List<OrderStatusHistory> findAllByOrderTableIdAndChangedDateTimeBetween(
+        final UUID orderTableId,
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final int limit
+    ) {
+        return histories.stream()
+            .filter(history -> orderTableId.equals(history.orderTableId()))
+            .filter(history -> !history.changedDateTime().isBefore(from) && !history.changedDateTime().isAfter(to))
+            .sorted(Comparator.comparing(OrderStatusHistory::changedDateTime).thenComparingLong(OrderStatusHistory::seq))
+            .limit(limit)
+            .toList();
+    }
+
+    @Override
+    public synchronized List<OrderStatusHistory> findAllByChangedDateTimeBetween(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final long afterSeq,
+        final int limit
+    ) {
+        return histories.stream()
+            .filter(history -> !history.changedDateTime().isBefore(from) && !history.changedDateTime().isAfter(to))
+            .filter(history -> history.changedDateTime().isAfter(from) || history.seq() > afterSeq)
+            .sorted(Comparator.comparing(OrderStatusHistory::changedDateTime).thenComparingLong(OrderStatusHistory::seq))
+            .limit(limit)
+            .toList();
+    }
+}
@@ -0,0 +1,20 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderTableEvent;
+import kitchenpos.eatinorders.domain.OrderTableEventRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class InMemoryOrderTableEventRepository implements OrderTableEventRepository {
+    private final List<OrderTableEvent> events = new ArrayList<>();
+
+    @Override
+    public void saveAll(final List<OrderTableEvent> events) {
+        this.events.addAll(events);
+    }
+
+    public List<OrderTableEvent> findAll() {
+        return new ArrayList<>(events);
+    }
+}
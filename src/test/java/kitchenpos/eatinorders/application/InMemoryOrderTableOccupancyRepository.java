@@ -0,0 +1,43 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderTableOccupancy;
+import kitchenpos.eatinorders.domain.OrderTableOccupancyRepository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InMemoryOrderTableOccupancyRepository implements OrderTableOccupancyRepository {
+    private final Map<UUID, OrderTableOccupancy> occupancies = new HashMap<>();
+
+    @Override
+    public <S extends OrderTableOccupancy> List<S> saveAll(final Iterable<S> orderTableOccupancies) {
+        final List<S> saved = new ArrayList<>();
+        for (final S occupancy : orderTableOccupancies) {
+            occupancies.put(occupancy.getOrderTableId(), occupancy);
+            saved.add(occupancy);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<OrderTableOccupancy> findById(final UUID orderTableId) {
+        return Optional.ofNullable(occupancies.get(orderTableId));
+    }
+
+    @Override
+    public List<OrderTableOccupancy> findAll() {
+        return new ArrayList<>(occupancies.values());
+    }
+
+    @Override
+    public List<OrderTableOccupancy> findAllByOrderTableIdIn(final List<UUID> orderTableIds) {
+        return orderTableIds.stream()
+            .map(occupancies::get)
+            .filter(occupancy -> occupancy != null)
+            .toList();
+    }
+}
@@ -4,14 +4,17 @@ import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class InMemoryOrderTableRepository implements OrderTableRepository {
-    private final Map<UUID, OrderTable> orderTables = new HashMap<>();
+    private final Map<UUID, OrderTable> orderTables = new ConcurrentHashMap<>();
+    private final Map<UUID, ReentrantLock> locks = new ConcurrentHashMap<>();
+    private final ThreadLocal<List<ReentrantLock>> held = ThreadLocal.withInitial(ArrayList::new);
 
     @Override
     public OrderTable save(final OrderTable orderTable) {
@@ -24,8 +27,42 @@ public class InMemoryOrderTableRepository implements OrderTableRepository {
         return Optional.ofNullable(orderTables.get(id));
     }
 
+    @Override
+    public Optional<OrderTable> findByIdForUpdate(final UUID id) {
+        final ReentrantLock lock = locks.computeIfAbsent(id, key -> new ReentrantLock());
+        lock.lock();
+        held.get().add(lock);
+        return findById(id);
+    }
+
+    public void releaseLocks() {
+        final List<ReentrantLock> locks = held.get();
+        for (int i = locks.size() - 1; i >= 0; i--) {
+            locks.get(i).unlock();
+        }
+        locks.clear();
+    }
+
     @Override
     public List<OrderTable> findAll() {
         return new ArrayList<>(orderTables.values());
     }
+
+    @Override
+    public List<OrderTable> findAllByIdIn(final List<UUID> ids) {
+        return orderTables.values()
+            .stream()
+            .filter(orderTable -> ids.contains(orderTable.getId()))
+            .toList();
+    }
+
+    @Override
+    public List<OrderTable> findAllByIdInForUpdate(final List<UUID> ids) {
+        return ids.stream()
+            .distinct()
+            .sorted()
+            .map(this::findByIdForUpdate)
+            .flatMap(Optional::stream)
+            .toList();
+    }
 }
@@ -0,0 +1,102 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.ArchivedOrder;
+import kitchenpos.eatinorders.domain.ArchivedOrderRepository;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.order;
+import static kitchenpos.Fixtures.orderTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderArchiveServiceTest {
+    private static final LocalDateTime BEFORE = LocalDateTime.of(2021, 1, 1, 0, 0);
+
+    private OrderRepository orderRepository;
+    private ArchivedOrderRepository archivedOrderRepository;
+    private OrderArchiveService orderArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        archivedOrderRepository = new InMemoryArchivedOrderRepository();
+        orderArchiveService = new OrderArchiveService(
+            orderRepository,
+            new InMemoryOrderBatchRepository(orderRepository),
+            archivedOrderRepository
+        );
+    }
+
+    @DisplayName("기준 시각 이전에 완료된 주문을 보관 저장소로 옮긴다.")
+    @Test
+    void archive() {
+        final Order order = orderRepository.save(order(OrderStatus.COMPLETED, orderTable()));
+        final int actual = orderArchiveService.archive(BEFORE, 100);
+        final ArchivedOrder archivedOrder = archivedOrderRepository.findById(order.getId()).get();
+        assertAll(
+            () -> assertThat(actual).isEqualTo(1),
+            () -> assertThat(orderRepository.findById(order.getId())).isEmpty(),
+            () -> assertThat(archivedOrder.getType()).isEqualTo(order.getType()),
+            () -> assertThat(archivedOrder.getOrderTableId()).isEqualTo(order.getOrderTable().getId()),
+            () -> assertThat(archivedOrder.getOrderLineItems()).hasSize(1)
+        );
+    }
+
+    @DisplayName("완료되지 않은 주문은 보관하지 않는다.")
+    @Test
+    void archiveNotCompletedOrder() {
+        final Order order = orderRepository.save(order(OrderStatus.SERVED, orderTable()));
+        final int actual = orderArchiveService.archive(BEFORE, 100);
+        assertAll(
+            () -> assertThat(actual).isZero(),
+            () -> assertThat(orderRepository.findById(order.getId())).isPresent()
+        );
+    }
+
+    @DisplayName("기준 시각 이후의 주문은 보관하지 않는다.")
+    @Test
+    void archiveRecentOrder() {
+        orderRepository.save(order(OrderStatus.COMPLETED));
+        final int actual = orderArchiveService.archive(LocalDateTime.of(2019, 1, 1, 0, 0), 100);
+        assertThat(actual).isZero();
+    }
+
+    @DisplayName("한 번에 배치 크기만큼만 보관한다.")
+    @Test
+    void archiveInBatches() {
+        for (int i = 0; i < 5; i++) {
+            orderRepository.save(order(OrderStatus.COMPLETED));
+        }
+        assertAll(
+            () -> assertThat(orderArchiveService.archive(BEFORE, 2)).isEqualTo(2),
+            () -> assertThat(orderArchiveService.archive(BEFORE, 2)).isEqualTo(2),
+            () -> assertThat(orderArchiveService.archive(BEFORE, 2)).isEqualTo(1),
+            () -> assertThat(orderRepository.findAll()).isEmpty()
+        );
+    }
+
+    @DisplayName("보관된 주문을 조회할 수 있다.")
+    @Test
+    void findAll() {
+        orderRepository.save(order(OrderStatus.COMPLETED));
+        orderArchiveService.archive(BEFORE, 100);
+        assertThat(orderArchiveService.findAll(LocalDateTime.of(2020, 1, 1, 0, 0), BEFORE)).hasSize(1);
+    }
+
+    @DisplayName("보관되지 않은 주문은 조회할 수 없다.")
+    @Test
+    void findByIdNotArchived() {
+        assertThatThrownBy(() -> orderArchiveService.findById(UUID.randomUUID()))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -0,0 +1,146 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.application.MenuSalesRanking;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.sales.application.InMemoryDailySalesRepository;
+import kitchenpos.sales.application.SalesRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.orderTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderBatchServiceTest {
+    private OrderRepository orderRepository;
+    private OrderBatchService orderBatchService;
+    private UUID menuId;
+    private UUID orderTableId;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        final MenuRepository menuRepository = new InMemoryMenuRepository();
+        final OrderTableRepository orderTableRepository = new InMemoryOrderTableRepository();
+        final OrderService orderService = new OrderService(
+            orderRepository,
+            menuRepository,
+            orderTableRepository,
+            new OrderLatencyRecorder(new InMemoryOrderLatencySnapshotRepository(), "test", Duration.ofHours(1L)),
+            new SalesRollupService(
+                new InMemoryDailySalesRepository(), orderRepository, new InMemoryArchivedOrderRepository(), menuRepository
+            ),
+            new MenuSalesRanking(menuRepository, Duration.ofHours(1L), 12, 256),
+            new OrderStatusHistoryRecorder(new InMemoryOrderStatusHistoryRepository()),
+            new FakeDomainEventPublisher()
+        );
+        orderBatchService = new OrderBatchService(
+            orderService,
+            new InMemoryOrderBatchRepository(orderRepository),
+            menuRepository,
+            orderTableRepository,
+            100
+        );
+        menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+    }
+
+    @DisplayName("여러 주문을 한 번에 등록할 수 있다.")
+    @Test
+    void createAll() {
+        final Order takeout = createOrderRequest(UUID.randomUUID(), OrderType.TAKEOUT, null);
+        final Order eatIn = createOrderRequest(UUID.randomUUID(), OrderType.EAT_IN, orderTableId);
+        final List<OrderBatchOutcome> actual = orderBatchService.createAll(Arrays.asList(takeout, eatIn));
+        assertAll(
+            () -> assertThat(actual).containsExactly(
+                new OrderBatchOutcome(takeout.getId(), OrderBatchStatus.CREATED, null),
+                new OrderBatchOutcome(eatIn.getId(), OrderBatchStatus.CREATED, null)
+            ),
+            () -> assertThat(orderRepository.findById(takeout.getId())).isPresent(),
+            () -> assertThat(orderRepository.findById(eatIn.getId()).get().getOrderTable().getId()).isEqualTo(orderTableId)
+        );
+    }
+
+    @DisplayName("이미 등록된 주문 식별자는 다시 등록하지 않는다.")
+    @Test
+    void createAllDuplicate() {
+        final UUID orderId = UUID.randomUUID();
+        orderBatchService.createAll(List.of(createOrderRequest(orderId, OrderType.TAKEOUT, null)));
+        final List<OrderBatchOutcome> actual = orderBatchService.createAll(List.of(createOrderRequest(orderId, OrderType.TAKEOUT, null)));
+        assertThat(actual).containsExactly(new OrderBatchOutcome(orderId, OrderBatchStatus.DUPLICATE, null));
+    }
+
+    @DisplayName("한 요청 안에서 같은 주문 식별자는 한 번만 등록한다.")
+    @Test
+    void createAllDuplicateInBatch() {
+        final UUID orderId = UUID.randomUUID();
+        final List<OrderBatchOutcome> actual = orderBatchService.createAll(List.of(
+            createOrderRequest(orderId, OrderType.TAKEOUT, null),
+            createOrderRequest(orderId, OrderType.TAKEOUT, null)
+        ));
+        assertThat(actual).containsExactly(
+            new OrderBatchOutcome(orderId, OrderBatchStatus.CREATED, null),
+            new OrderBatchOutcome(orderId, OrderBatchStatus.DUPLICATE, null)
+        );
+    }
+
+    @DisplayName("올바르지 않은 주문은 거절하고 나머지는 등록한다.")
+    @Test
+    void createAllRejected() {
+        final Order invalid = createOrderRequest(UUID.randomUUID(), OrderType.EAT_IN, UUID.randomUUID());
+        final Order valid = createOrderRequest(UUID.randomUUID(), OrderType.TAKEOUT, null);
+        final Order withoutId = createOrderRequest(null, OrderType.TAKEOUT, null);
+        final List<OrderBatchOutcome> actual = orderBatchService.createAll(List.of(invalid, valid, withoutId));
+        assertAll(
+            () -> assertThat(actual.get(0)).isEqualTo(
+                new OrderBatchOutcome(invalid.getId(), OrderBatchStatus.REJECTED, "NoSuchElementException")
+            ),
+            () -> assertThat(actual.get(1).status()).isEqualTo(OrderBatchStatus.CREATED),
+            () -> assertThat(actual.get(2).status()).isEqualTo(OrderBatchStatus.REJECTED),
+            () -> assertThat(orderRepository.findById(invalid.getId())).isEmpty(),
+            () -> assertThat(orderRepository.findById(valid.getId())).isPresent()
+        );
+    }
+
+    @DisplayName("한 번에 등록할 수 있는 주문 수는 제한된다.")
+    @Test
+    void createAllTooLarge() {
+        final List<Order> requests = new ArrayList<>();
+        for (int i = 0; i < 101; i++) {
+            requests.add(createOrderRequest(UUID.randomUUID(), OrderType.TAKEOUT, null));
+        }
+        assertThatThrownBy(() -> orderBatchService.createAll(requests))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order createOrderRequest(final UUID orderId, final OrderType type, final UUID orderTableId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(Money.of(19_000L));
+        orderLineItem.setQuantity(1L);
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setType(type);
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(List.of(orderLineItem));
+        return order;
+    }
+}
@@ -0,0 +1,174 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKey;
+import kitchenpos.eatinorders.domain.OrderIdempotencyKeyRepository;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.application.MenuSalesRanking;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.sales.application.InMemoryDailySalesRepository;
+import kitchenpos.sales.application.SalesRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderIdempotencyServiceTest {
+    private OrderRepository orderRepository;
+    private MenuRepository menuRepository;
+    private OrderIdempotencyKeyRepository orderIdempotencyKeyRepository;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository = new InMemoryOrderRepository();
+        menuRepository = new InMemoryMenuRepository();
+        orderIdempotencyKeyRepository = new InMemoryOrderIdempotencyKeyRepository();
+        orderService = new OrderService(
+            orderRepository,
+            menuRepository,
+            new InMemoryOrderTableRepository(),
+            new OrderLatencyRecorder(new InMemoryOrderLatencySnapshotRepository(), "test", Duration.ofHours(1L)),
+            new SalesRollupService(
+                new InMemoryDailySalesRepository(), orderRepository, new InMemoryArchivedOrderRepository(), menuRepository
+            ),
+            new MenuSalesRanking(menuRepository, Duration.ofHours(1L), 12, 256),
+            new OrderStatusHistoryRecorder(new InMemoryOrderStatusHistoryRepository()),
+            new FakeDomainEventPublisher()
+        );
+    }
+
+    @DisplayName("같은 멱등 키로 다시 요청하면 처음 등록한 주문을 돌려준다.")
+    @Test
+    void createWithSameKey() {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ofHours(1L));
+        final Order request = createOrderRequest();
+        final Order expected = orderIdempotencyService.create("terminal-1:0001", request);
+        final Order actual = orderIdempotencyService.create("terminal-1:0001", request);
+        assertAll(
+            () -> assertThat(actual.getId()).isEqualTo(expected.getId()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("같은 멱등 키로 다른 내용의 주문을 요청하면 등록할 수 없다.")
+    @Test
+    void createWithSameKeyAndDifferentRequest() {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ofHours(1L));
+        orderIdempotencyService.create("terminal-1:0001", createOrderRequest());
+        assertThatThrownBy(() -> orderIdempotencyService.create("terminal-1:0001", createOrderRequest()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("조회 뒤에 다른 인스턴스가 같은 멱등 키를 먼저 저장했으면 그 주문을 돌려준다.")
+    @Test
+    void createWithKeyInsertedConcurrently() {
+        final AtomicInteger lookups = new AtomicInteger();
+        orderIdempotencyKeyRepository = new InMemoryOrderIdempotencyKeyRepository() {
+            @Override
+            public Optional<OrderIdempotencyKey> findById(final String idempotencyKey) {
+                if (lookups.incrementAndGet() == 2) {
+                    return Optional.empty();
+                }
+                return super.findById(idempotencyKey);
+            }
+        };
+        final Order request = createOrderRequest();
+        final Order expected = orderIdempotencyService(Duration.ofHours(1L)).create("terminal-1:0001", request);
+        final Order actual = orderIdempotencyService(Duration.ofHours(1L)).create("terminal-1:0001", request);
+        assertAll(
+            () -> assertThat(actual.getId()).isEqualTo(expected.getId()),
+            () -> assertThat(orderRepository.findAll()).hasSize(1)
+        );
+    }
+
+    @DisplayName("다른 멱등 키로 요청하면 새 주문을 등록한다.")
+    @Test
+    void createWithDifferentKey() {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ofHours(1L));
+        final Order request = createOrderRequest();
+        orderIdempotencyService.create("terminal-1:0001", request);
+        orderIdempotencyService.create("terminal-1:0002", request);
+        assertThat(orderRepository.findAll()).hasSize(2);
+    }
+
+    @DisplayName("멱등 키가 없으면 매번 새 주문을 등록한다.")
+    @Test
+    void createWithoutKey() {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ofHours(1L));
+        final Order request = createOrderRequest();
+        orderIdempotencyService.create(null, request);
+        orderIdempotencyService.create(null, request);
+        assertThat(orderRepository.findAll()).hasSize(2);
+    }
+
+    @DisplayName("만료된 멱등 키로 요청하면 새 주문을 등록한다.")
+    @Test
+    void createWithExpiredKey() {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ZERO);
+        final Order request = createOrderRequest();
+        final Order expected = orderIdempotencyService.create("terminal-1:0001", request);
+        final Order actual = orderIdempotencyService.create("terminal-1:0001", request);
+        assertThat(actual.getId()).isNotEqualTo(expected.getId());
+    }
+
+    @DisplayName("멱등 키가 올바르지 않으면 등록할 수 없다.")
+    @ValueSource(strings = {"", " "})
+    @ParameterizedTest
+    void createWithInvalidKey(final String idempotencyKey) {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ofHours(1L));
+        assertThatThrownBy(() -> orderIdempotencyService.create(idempotencyKey, createOrderRequest()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("만료된 멱등 키를 정리한다.")
+    @Test
+    void purgeExpired() {
+        final OrderIdempotencyService orderIdempotencyService = orderIdempotencyService(Duration.ZERO);
+        orderIdempotencyService.create("terminal-1:0001", createOrderRequest());
+        orderIdempotencyService.purgeExpired();
+        assertThat(orderIdempotencyKeyRepository.findById("terminal-1:0001")).isEmpty();
+    }
+
+    private OrderIdempotencyService orderIdempotencyService(final Duration ttl) {
+        return new OrderIdempotencyService(
+            orderService,
+            orderRepository,
+            orderIdempotencyKeyRepository,
+            new TransactionTemplate(new FakeTransactionManager()),
+            ttl,
+            100
+        );
+    }
+
+    private Order createOrderRequest() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menuId);
+        orderLineItem.setPrice(Money.of(19_000L));
+        orderLineItem.setQuantity(1L);
+        final Order order = new Order();
+        order.setType(OrderType.TAKEOUT);
+        order.setOrderLineItems(Arrays.asList(orderLineItem));
+        return order;
+    }
+}
@@ -0,0 +1,109 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderLatencySnapshotRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderLatencyRecorderTest {
+    private static final LocalDateTime ENTERED_AT = LocalDateTime.of(2020, 1, 1, 12, 0);
+    private static final Duration STALE_AFTER = Duration.ofHours(1L);
+
+    private OrderLatencySnapshotRepository orderLatencySnapshotRepository;
+    private OrderLatencyRecorder orderLatencyRecorder;
+
+    @BeforeEach
+    void setUp() {
+        orderLatencySnapshotRepository = new InMemoryOrderLatencySnapshotRepository();
+        orderLatencyRecorder = new OrderLatencyRecorder(orderLatencySnapshotRepository, "pos-1", STALE_AFTER);
+    }
+
+    @DisplayName("주문 유형과 상태별로 머문 시간의 백분위수를 조회할 수 있다.")
+    @Test
+    void findAll() {
+        for (int seconds = 1; seconds <= 100; seconds++) {
+            orderLatencyRecorder.record(OrderType.EAT_IN, OrderStatus.ACCEPTED, ENTERED_AT, ENTERED_AT.plusSeconds(seconds));
+        }
+        orderLatencyRecorder.record(OrderType.DELIVERY, OrderStatus.WAITING, ENTERED_AT, ENTERED_AT.plusMinutes(1L));
+        final List<OrderLatency> actual = orderLatencyRecorder.findAll();
+        final OrderLatency eatIn = actual.stream()
+            .filter(latency -> latency.type() == OrderType.EAT_IN)
+            .findFirst()
+            .orElseThrow();
+        assertAll(
+            () -> assertThat(actual).hasSize(2),
+            () -> assertThat(eatIn.count()).isEqualTo(100L),
+            () -> assertThat(eatIn.p50Millis()).isBetween(50_000L, 50_000L * 9 / 8),
+            () -> assertThat(eatIn.p99Millis()).isBetween(99_000L, 100_000L),
+            () -> assertThat(eatIn.maxMillis()).isEqualTo(100_000L)
+        );
+    }
+
+    @DisplayName("상태 변경 시각을 모르면 기록하지 않는다.")
+    @Test
+    void recordWithoutEnteredAt() {
+        orderLatencyRecorder.record(OrderType.TAKEOUT, OrderStatus.SERVED, null, ENTERED_AT);
+        assertThat(orderLatencyRecorder.findAll()).isEmpty();
+    }
+
+    @DisplayName("저장된 히스토그램은 재시작 후에도 유지된다.")
+    @Test
+    void load() {
+        orderLatencyRecorder.record(OrderType.TAKEOUT, OrderStatus.SERVED, ENTERED_AT, ENTERED_AT.plusSeconds(30L));
+        orderLatencyRecorder.flush();
+        final OrderLatencyRecorder restarted = new OrderLatencyRecorder(orderLatencySnapshotRepository, "pos-1", STALE_AFTER);
+        restarted.load();
+        final List<OrderLatency> actual = restarted.findAll();
+        assertAll(
+            () -> assertThat(actual).hasSize(1),
+            () -> assertThat(actual.get(0).count()).isEqualTo(1L),
+            () -> assertThat(actual.get(0).maxMillis()).isEqualTo(30_000L)
+        );
+    }
+
+    @DisplayName("여러 인스턴스의 히스토그램은 덮어쓰지 않고 합쳐서 조회한다.")
+    @Test
+    void flushFromSeveralInstances() {
+        final OrderLatencyRecorder other = new OrderLatencyRecorder(orderLatencySnapshotRepository, "pos-2", STALE_AFTER);
+        orderLatencyRecorder.record(OrderType.TAKEOUT, OrderStatus.SERVED, ENTERED_AT, ENTERED_AT.plusSeconds(30L));
+        other.record(OrderType.TAKEOUT, OrderStatus.SERVED, ENTERED_AT, ENTERED_AT.plusSeconds(90L));
+        other.record(OrderType.TAKEOUT, OrderStatus.SERVED, ENTERED_AT, ENTERED_AT.plusSeconds(60L));
+        orderLatencyRecorder.flush();
+        other.flush();
+        orderLatencyRecorder.flush();
+        final List<OrderLatency> actual = orderLatencyRecorder.findAll();
+        assertAll(
+            () -> assertThat(orderLatencySnapshotRepository.findAll()).hasSize(2),
+            () -> assertThat(actual).hasSize(1),
+            () -> assertThat(actual.get(0).count()).isEqualTo(3L),
+            () -> assertThat(actual.get(0).maxMillis()).isEqualTo(90_000L)
+        );
+    }
+
+    @DisplayName("한동안 저장하지 않은 인스턴스의 히스토그램은 합치지 않고 지운다.")
+    @Test
+    void expireStaleInstances() {
+        final OrderLatencyRecorder stale = new OrderLatencyRecorder(orderLatencySnapshotRepository, "pos-2", STALE_AFTER);
+        stale.record(OrderType.TAKEOUT, OrderStatus.SERVED, ENTERED_AT, ENTERED_AT.plusSeconds(90L));
+        stale.flush();
+        orderLatencySnapshotRepository.findAll()
+            .forEach(snapshot -> snapshot.setUpdatedDateTime(LocalDateTime.now().minus(STALE_AFTER).minusMinutes(1L)));
+        orderLatencyRecorder.record(OrderType.TAKEOUT, OrderStatus.SERVED, ENTERED_AT, ENTERED_AT.plusSeconds(30L));
+        orderLatencyRecorder.flush();
+        final List<OrderLatency> actual = orderLatencyRecorder.findAll();
+        assertAll(
+            () -> assertThat(orderLatencySnapshotRepository.findAll()).hasSize(1),
+            () -> assertThat(actual.get(0).count()).isEqualTo(1L),
+            () -> assertThat(actual.get(0).maxMillis()).isEqualTo(30_000L)
+        );
+    }
+}
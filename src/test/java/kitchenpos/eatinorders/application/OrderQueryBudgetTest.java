@@ -0,0 +1,170 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.JpaQueryBudgetTest;
+import kitchenpos.common.domain.Money;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.orderTable;
+import static kitchenpos.Fixtures.product;
+import static kitchenpos.QueryBudget.assertQueryCountAtMost;
+import static kitchenpos.QueryBudget.assertQueryCountGrowthAtMost;
+
+@JpaQueryBudgetTest
+class OrderQueryBudgetTest {
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @DisplayName("주문 등록은 주문 항목 수와 관계없이 정해진 수의 조회로 처리한다.")
+    @Test
+    void create() {
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        final Order smaller = createOrderRequest(null, orderTableId, menus(1));
+        final Order larger = createOrderRequest(null, orderTableId, menus(5));
+        assertQueryCountGrowthAtMost(
+            0L,
+            8L,
+            () -> orderService.create(smaller),
+            () -> orderService.create(larger)
+        );
+    }
+
+    @DisplayName("주문 일괄 등록은 주문 수와 관계없이 정해진 수의 쿼리로 처리한다.")
+    @Test
+    void createAll() {
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        final List<Menu> menus = menus(1);
+        final List<Order> smaller = createOrderRequests(1, orderTableId, menus);
+        final List<Order> larger = createOrderRequests(100, orderTableId, menus);
+        assertQueryCountGrowthAtMost(
+            0L,
+            0L,
+            () -> orderBatchService.createAll(smaller),
+            () -> orderBatchService.createAll(larger)
+        );
+    }
+
+    @DisplayName("배달 주문 접수는 주문 항목 수와 관계없이 정해진 수의 쿼리로 처리한다.")
+    @Test
+    void accept() {
+        final Order smaller = orderService.create(createDeliveryOrderRequest(menus(1)));
+        final Order larger = orderService.create(createDeliveryOrderRequest(menus(5)));
+        assertQueryCountGrowthAtMost(
+            0L,
+            0L,
+            () -> orderService.accept(smaller.getId()),
+            () -> orderService.accept(larger.getId())
+        );
+    }
+
+    @DisplayName("주문 완료는 주문 항목 수와 관계없이 정해진 수의 조회로 처리하고 메뉴와 메뉴 그룹 매출만 항목마다 쌓는다.")
+    @Test
+    void complete() {
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        final UUID smallerId = served(createOrderRequest(null, orderTableId, menus(1)));
+        final UUID largerId = served(createOrderRequest(null, orderTableId, menus(5)));
+        assertQueryCountGrowthAtMost(
+            0L,
+            8L,
+            () -> orderService.complete(smallerId),
+            () -> orderService.complete(largerId)
+        );
+    }
+
+    @DisplayName("주문 목록은 주문 테이블과 주문 항목까지 한 번의 조회로 가져온다.")
+    @Test
+    void findAll() {
+        final UUID orderTableId = orderTableRepository.save(orderTable(true, 4)).getId();
+        orderService.create(createOrderRequest(null, orderTableId, menus(1)));
+        orderService.create(createDeliveryOrderRequest(menus(3)));
+        assertQueryCountAtMost(1L, orderService::findAll);
+    }
+
+    private UUID served(final Order request) {
+        final UUID orderId = orderService.create(request).getId();
+        orderService.accept(orderId);
+        orderService.serve(orderId);
+        return orderId;
+    }
+
+    private List<Menu> menus(final int count) {
+        final List<Menu> menus = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final MenuProduct menuProduct = menuProduct(productRepository.save(product("후라이드", 16_000L)), 1L);
+            menuProduct.setSeq(null);
+            final Menu menu = menu(16_000L, true, menuProduct);
+            menu.setMenuGroup(menuGroupRepository.save(menuGroup()));
+            menus.add(menuRepository.save(menu));
+        }
+        return menus;
+    }
+
+    private List<Order> createOrderRequests(final int count, final UUID orderTableId, final List<Menu> menus) {
+        final List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            orders.add(createOrderRequest(UUID.randomUUID(), orderTableId, menus));
+        }
+        return orders;
+    }
+
+    private Order createOrderRequest(final UUID orderId, final UUID orderTableId, final List<Menu> menus) {
+        final Order order = new Order();
+        order.setId(orderId);
+        order.setType(OrderType.EAT_IN);
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(createOrderLineItemRequests(menus));
+        return order;
+    }
+
+    private Order createDeliveryOrderRequest(final List<Menu> menus) {
+        final Order order = new Order();
+        order.setType(OrderType.DELIVERY);
+        order.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        order.setOrderLineItems(createOrderLineItemRequests(menus));
+        return order;
+    }
+
+    private List<OrderLineItem> createOrderLineItemRequests(final List<Menu> menus) {
+        final List<OrderLineItem> orderLineItems = new ArrayList<>();
+        for (final Menu menu : menus) {
+            final OrderLineItem orderLineItem = new OrderLineItem();
+            orderLineItem.setMenuId(menu.getId());
+            orderLineItem.setPrice(Money.of(16_000L));
+            orderLineItem.setQuantity(1L);
+            orderLineItems.add(orderLineItem);
+        }
+        return orderLineItems;
+    }
+}
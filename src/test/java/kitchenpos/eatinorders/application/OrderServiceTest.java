@@ -1,14 +1,29 @@
 package kitchenpos.eatinorders.application;
 
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.deliveryorders.application.DeliveryOutboxHandler;
+import kitchenpos.deliveryorders.application.DeliveryRequestHandler;
+import kitchenpos.deliveryorders.application.InMemoryDeliveryOutboxRepository;
+import kitchenpos.deliveryorders.application.InlineDeliveryBatchDispatcher;
+import kitchenpos.eatinorders.domain.DeliveryOrderAcceptedEvent;
 import kitchenpos.eatinorders.domain.Order;
 import kitchenpos.eatinorders.domain.OrderLineItem;
 import kitchenpos.eatinorders.domain.OrderRepository;
 import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
 import kitchenpos.eatinorders.domain.OrderTable;
 import kitchenpos.eatinorders.domain.OrderTableRepository;
 import kitchenpos.eatinorders.domain.OrderType;
 import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.application.MenuSalesRanking;
+import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.sales.application.InMemoryDailySalesRepository;
+import kitchenpos.sales.application.SalesRollupService;
+import kitchenpos.sales.domain.DailySalesRepository;
+import kitchenpos.sales.domain.SalesDimension;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,8 +34,12 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -42,6 +61,13 @@ class OrderServiceTest {
     private MenuRepository menuRepository;
     private OrderTableRepository orderTableRepository;
     private FakeKitchenridersClient kitchenridersClient;
+    private OrderLatencyRecorder orderLatencyRecorder;
+    private DailySalesRepository dailySalesRepository;
+    private MenuSalesRanking menuSalesRanking;
+    private OrderTableEventRecorder orderTableEventRecorder;
+    private OrderStatusHistoryRepository orderStatusHistoryRepository;
+    private InMemoryDeliveryOutboxRepository deliveryOutboxRepository;
+    private FakeDomainEventPublisher domainEventPublisher;
     private OrderService orderService;
 
     @BeforeEach
@@ -50,7 +76,29 @@ class OrderServiceTest {
         menuRepository = new InMemoryMenuRepository();
         orderTableRepository = new InMemoryOrderTableRepository();
         kitchenridersClient = new FakeKitchenridersClient();
-        orderService = new OrderService(orderRepository, menuRepository, orderTableRepository, kitchenridersClient);
+        orderLatencyRecorder = new OrderLatencyRecorder(new InMemoryOrderLatencySnapshotRepository(), "test", Duration.ofHours(1L));
+        dailySalesRepository = new InMemoryDailySalesRepository();
+        final SalesRollupService salesRollupService = new SalesRollupService(
+            dailySalesRepository, orderRepository, new InMemoryArchivedOrderRepository(), menuRepository
+        );
+        orderTableEventRecorder = new OrderTableEventRecorder(
+            new OrderTableOccupancyService(new InMemoryOrderTableEventRepository(), new InMemoryOrderTableOccupancyRepository()),
+            100,
+            10
+        );
+        menuSalesRanking = new MenuSalesRanking(menuRepository, Duration.ofHours(1L), 12, 256);
+        orderStatusHistoryRepository = new InMemoryOrderStatusHistoryRepository();
+        deliveryOutboxRepository = new InMemoryDeliveryOutboxRepository();
+        domainEventPublisher = new FakeDomainEventPublisher(
+            new DeliveryOutboxHandler(deliveryOutboxRepository),
+            new DeliveryRequestHandler(new InlineDeliveryBatchDispatcher(kitchenridersClient, deliveryOutboxRepository)),
+            new OrderTableReleaseHandler(orderTableRepository, orderRepository, orderTableEventRecorder)
+        );
+        orderService = new OrderService(
+            orderRepository, menuRepository, orderTableRepository, orderLatencyRecorder,
+            salesRollupService, menuSalesRanking, new OrderStatusHistoryRecorder(orderStatusHistoryRepository),
+            domainEventPublisher
+        );
     }
 
     @DisplayName("1개 이상의 등록된 메뉴로 배달 주문을 등록할 수 있다.")
@@ -88,6 +136,46 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("주문을 등록하면 인기 메뉴 순위에 반영한다.")
+    @Test
+    void createRecordsMenuRanking() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        orderService.create(createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(menuId, 19_000L, 3L)));
+        assertAll(
+            () -> assertThat(menuSalesRanking.findTop(20)).hasSize(1),
+            () -> assertThat(menuSalesRanking.findTop(20).get(0).quantity()).isEqualTo(3L)
+        );
+    }
+
+    @DisplayName("주문 등록이 커밋된 뒤에만 인기 메뉴 순위에 반영한다.")
+    @Test
+    void createRecordsMenuRankingAfterCommit() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final Order request = createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(menuId, 19_000L, 3L));
+        complete(() -> orderService.create(request), TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(menuSalesRanking.findTop(20)).isEmpty();
+        complete(() -> orderService.create(request), TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(menuSalesRanking.findTop(20).get(0).quantity()).isEqualTo(3L);
+    }
+
+    @DisplayName("주문의 등록과 상태 변경을 이력으로 남긴다.")
+    @Test
+    void recordStatusHistory() {
+        final UUID menuId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final Order order = orderService.create(
+            createOrderRequest(OrderType.TAKEOUT, createOrderLineItemRequest(menuId, 19_000L, 3L))
+        );
+        orderService.accept(order.getId());
+        final List<OrderStatusHistory> actual = orderStatusHistoryRepository.findAllByOrderId(order.getId());
+        assertAll(
+            () -> assertThat(actual).hasSize(2),
+            () -> assertThat(actual.get(0).fromStatus()).isNull(),
+            () -> assertThat(actual.get(0).toStatus()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(actual.get(1).fromStatus()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(actual.get(1).toStatus()).isEqualTo(OrderStatus.ACCEPTED)
+        );
+    }
+
     @DisplayName("1개 이상의 등록된 메뉴로 매장 주문을 등록할 수 있다.")
     @Test
     void createEatInOrder() {
@@ -228,6 +316,50 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("배달 주문이 접수되면 모든 주문 항목의 가격과 수량을 곱한 합계로 배달을 요청한다.")
+    @Test
+    void acceptDeliveryOrderAmount() {
+        final UUID friedId = menuRepository.save(menu(19_000L, true, menuProduct())).getId();
+        final UUID seasonedId = menuRepository.save(menu(17_000L, true, menuProduct())).getId();
+        final Order order = orderService.create(createOrderRequest(
+            OrderType.DELIVERY, "서울시 송파구 위례성대로 2",
+            createOrderLineItemRequest(friedId, 19_000L, 3L),
+            createOrderLineItemRequest(seasonedId, 17_000L, 2L)
+        ));
+        orderService.accept(order.getId());
+        final List<DeliveryOrderAcceptedEvent> events = domainEventPublisher.getPublished()
+            .stream()
+            .filter(DeliveryOrderAcceptedEvent.class::isInstance)
+            .map(DeliveryOrderAcceptedEvent.class::cast)
+            .toList();
+        assertAll(
+            () -> assertThat(events).hasSize(1),
+            () -> assertThat(events.get(0).orderId()).isEqualTo(order.getId()),
+            () -> assertThat(events.get(0).amount()).isEqualTo(Money.of(91_000L)),
+            () -> assertThat(kitchenridersClient.getAmount()).isEqualByComparingTo(Money.of(91_000L).toBigDecimal()),
+            () -> assertThat(deliveryOutboxRepository.existsByOrderId(order.getId())).isFalse()
+        );
+    }
+
+    @DisplayName("주문 후 메뉴의 이름과 가격이 바뀌어도 주문 항목은 주문 당시의 값을 유지한다.")
+    @Test
+    void acceptWithMenuSnapshot() {
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct()));
+        final Order order = orderService.create(createOrderRequest(
+            OrderType.DELIVERY, "서울시 송파구 위례성대로 2", createOrderLineItemRequest(menu.getId(), 19_000L, 3L)
+        ));
+        final String menuName = menu.getName();
+        menu.setName("후라이드+후라이드 특가");
+        menu.setPrice(Money.of(15_000L));
+        orderService.accept(order.getId());
+        final OrderLineItem orderLineItem = orderRepository.findById(order.getId()).get().getOrderLineItems().get(0);
+        assertAll(
+            () -> assertThat(kitchenridersClient.getAmount()).isEqualByComparingTo(Money.of(57_000L).toBigDecimal()),
+            () -> assertThat(orderLineItem.getMenuName()).isEqualTo(menuName),
+            () -> assertThat(orderLineItem.getPrice()).isEqualTo(Money.of(19_000L))
+        );
+    }
+
     @DisplayName("주문을 서빙한다.")
     @Test
     void serve() {
@@ -295,6 +427,16 @@ class OrderServiceTest {
         assertThat(actual.getStatus()).isEqualTo(OrderStatus.COMPLETED);
     }
 
+    @DisplayName("주문을 완료하면 일별 매출에 집계한다.")
+    @Test
+    void completeRecordsSales() {
+        final Order expected = orderRepository.save(order(OrderStatus.DELIVERED, "서울시 송파구 위례성대로 2"));
+        orderService.complete(expected.getId());
+        final LocalDate today = LocalDate.now();
+        assertThat(dailySalesRepository.findAllByDimensionAndSalesDateBetween(SalesDimension.ORDER_TYPE, today, today))
+            .hasSize(1);
+    }
+
     @DisplayName("배달 주문의 경우 배달 완료된 주문만 완료할 수 있다.")
     @EnumSource(value = OrderStatus.class, names = "DELIVERED", mode = EnumSource.Mode.EXCLUDE)
     @ParameterizedTest
@@ -326,6 +468,15 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("매장 주문 완료로 빈 테이블이 되면 테이블 정리 이벤트를 남긴다.")
+    @Test
+    void completeEatInOrderRecordsTableCleared() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        final Order expected = orderRepository.save(order(OrderStatus.SERVED, orderTable));
+        orderService.complete(expected.getId());
+        assertThat(orderTableEventRecorder.pending()).isEqualTo(1);
+    }
+
     @DisplayName("완료되지 않은 매장 주문이 있는 주문 테이블은 빈 테이블로 설정하지 않는다.")
     @Test
     void completeNotTable() {
@@ -340,6 +491,22 @@ class OrderServiceTest {
         );
     }
 
+    @DisplayName("주문 상태가 바뀌면 이전 상태에 머문 시간이 기록된다.")
+    @Test
+    void recordLatency() {
+        final Order expected = orderRepository.save(order(OrderStatus.WAITING));
+        expected.setStatusChangedDateTime(LocalDateTime.now().minusMinutes(3L));
+        orderService.accept(expected.getId());
+        final List<OrderLatency> actual = orderLatencyRecorder.findAll();
+        assertThat(actual).hasSize(1);
+        assertAll(
+            () -> assertThat(actual.get(0).type()).isEqualTo(OrderType.TAKEOUT),
+            () -> assertThat(actual.get(0).status()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(actual.get(0).p50Millis()).isGreaterThanOrEqualTo(180_000L),
+            () -> assertThat(expected.getStatusChangedDateTime()).isAfter(LocalDateTime.now().minusMinutes(1L))
+        );
+    }
+
     @DisplayName("주문의 목록을 조회할 수 있다.")
     @Test
     void findAll() {
@@ -350,6 +517,27 @@ class OrderServiceTest {
         assertThat(actual).hasSize(2);
     }
 
+    private void complete(final Runnable work, final int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                for (final TransactionSynchronization synchronization : synchronizations) {
+                    synchronization.beforeCommit(false);
+                }
+                for (final TransactionSynchronization synchronization : synchronizations) {
+                    synchronization.afterCommit();
+                }
+            }
+            for (final TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     private Order createOrderRequest(
         final OrderType type,
         final String deliveryAddress,
@@ -389,7 +577,7 @@ class OrderServiceTest {
         final OrderLineItem orderLineItem = new OrderLineItem();
         orderLineItem.setSeq(new Random().nextLong());
         orderLineItem.setMenuId(menuId);
-        orderLineItem.setPrice(BigDecimal.valueOf(price));
+        orderLineItem.setPrice(Money.of(price));
         orderLineItem.setQuantity(quantity);
         return orderLineItem;
     }
@@ -0,0 +1,104 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusHistory;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import kitchenpos.eatinorders.domain.OrderType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderStatusHistoryServiceTest {
+    private static final LocalDateTime ORDERED = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    private OrderStatusHistoryRepository orderStatusHistoryRepository;
+    private OrderStatusHistoryService orderStatusHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        orderStatusHistoryRepository = new InMemoryOrderStatusHistoryRepository();
+        orderStatusHistoryService = new OrderStatusHistoryService(orderStatusHistoryRepository);
+    }
+
+    @DisplayName("상태 이력으로 현재 주문을 복원한다.")
+    @Test
+    void reconstruct() {
+        final UUID orderId = UUID.randomUUID();
+        final UUID orderTableId = UUID.randomUUID();
+        saveEatInHistories(orderId, orderTableId);
+        final Order actual = orderStatusHistoryService.reconstruct(orderId);
+        assertAll(
+            () -> assertThat(actual.getType()).isEqualTo(OrderType.EAT_IN),
+            () -> assertThat(actual.getStatus()).isEqualTo(OrderStatus.SERVED),
+            () -> assertThat(actual.getOrderDateTime()).isEqualTo(ORDERED),
+            () -> assertThat(actual.getStatusChangedDateTime()).isEqualTo(ORDERED.plusMinutes(20L)),
+            () -> assertThat(actual.getOrderTableId()).isEqualTo(orderTableId)
+        );
+    }
+
+    @DisplayName("이력이 없는 주문은 복원할 수 없다.")
+    @Test
+    void reconstructWithoutHistory() {
+        assertThatThrownBy(() -> orderStatusHistoryService.reconstruct(UUID.randomUUID()))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @DisplayName("주문 테이블의 하루 이력을 조회한다.")
+    @Test
+    void findAllByOrderTableId() {
+        final UUID orderTableId = UUID.randomUUID();
+        saveEatInHistories(UUID.randomUUID(), orderTableId);
+        saveEatInHistories(UUID.randomUUID(), UUID.randomUUID());
+        assertThat(orderStatusHistoryService.findAllByOrderTableId(orderTableId, ORDERED.toLocalDate(), 100))
+            .hasSize(3);
+    }
+
+    @DisplayName("기간 내 이력을 이어서 조회한다.")
+    @Test
+    void findAll() {
+        saveEatInHistories(UUID.randomUUID(), UUID.randomUUID());
+        final LocalDateTime to = ORDERED.plusHours(1L);
+        final List<OrderStatusHistory> first = orderStatusHistoryService.findAll(ORDERED, to, 0L, 2);
+        final OrderStatusHistory last = first.get(first.size() - 1);
+        final List<OrderStatusHistory> next = orderStatusHistoryService.findAll(last.changedDateTime(), to, last.seq(), 2);
+        assertAll(
+            () -> assertThat(first).hasSize(2),
+            () -> assertThat(next).hasSize(1),
+            () -> assertThat(next.get(0).toStatus()).isEqualTo(OrderStatus.SERVED)
+        );
+    }
+
+    @DisplayName("조회 개수가 올바르지 않으면 조회할 수 없다.")
+    @ValueSource(ints = {0, 10_001})
+    @ParameterizedTest
+    void findAllInvalidLimit(final int limit) {
+        assertThatThrownBy(() -> orderStatusHistoryService.findAllByOrderTableId(UUID.randomUUID(), LocalDate.now(), limit))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void saveEatInHistories(final UUID orderId, final UUID orderTableId) {
+        orderStatusHistoryRepository.saveAll(Arrays.asList(
+            new OrderStatusHistory(0L, orderId, orderTableId, OrderType.EAT_IN, null, OrderStatus.WAITING, ORDERED, null),
+            new OrderStatusHistory(
+                0L, orderId, orderTableId, OrderType.EAT_IN, OrderStatus.WAITING, OrderStatus.ACCEPTED, ORDERED.plusMinutes(5L), null
+            ),
+            new OrderStatusHistory(
+                0L, orderId, orderTableId, OrderType.EAT_IN, OrderStatus.ACCEPTED, OrderStatus.SERVED, ORDERED.plusMinutes(20L), null
+            )
+        ));
+    }
+}
@@ -0,0 +1,156 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.common.event.DomainEventMetrics;
+import kitchenpos.common.event.RingBufferDomainEventPublisher;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroup;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import kitchenpos.sales.domain.DailySalesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.product;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("stress")
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:stress;MODE=MySQL;DATABASE_TO_LOWER=TRUE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;LOCK_TIMEOUT=10000;DB_CLOSE_DELAY=-1",
+    "spring.flyway.enabled=true",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.datasource.hikari.transaction-isolation=TRANSACTION_REPEATABLE_READ",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+class OrderTableH2StressTest implements OrderTableStressScenario.Target {
+    private static final int ORDER_TABLES = 4;
+    private static final int ITERATIONS_PER_THREAD = 500;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderBatchService orderBatchService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private OrderStatusHistoryRepository orderStatusHistoryRepository;
+
+    @Autowired
+    private DailySalesRepository dailySalesRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private RingBufferDomainEventPublisher domainEventPublisher;
+
+    @DisplayName("MySQL 기본값과 같은 REPEATABLE READ 격리 수준의 H2에서 여러 스레드가 같은 테이블에 착석, 주문, 정리, 인원 변경을 동시에 해도 불변식이 깨지지 않는다.")
+    @ValueSource(ints = {1, 2, 4, 8})
+    @ParameterizedTest
+    void stress(final int threads, final TestReporter testReporter) throws InterruptedException {
+        final Product product = productRepository.save(product());
+        final MenuGroup menuGroup = menuGroupRepository.save(menuGroup());
+        final MenuProduct menuProduct = menuProduct(product, 2L);
+        menuProduct.setSeq(null);
+        final Menu menu = menu(19_000L, true, menuProduct);
+        menu.setMenuGroup(menuGroup);
+        menuRepository.save(menu);
+        final List<UUID> orderTableIds = new ArrayList<>();
+        for (int i = 0; i < ORDER_TABLES; i++) {
+            final OrderTable request = new OrderTable();
+            request.setName((i + 1) + "번");
+            orderTableIds.add(orderTableService.create(request).getId());
+        }
+        final OrderTableStressScenario.Result result = new OrderTableStressScenario(this, orderTableIds, menu)
+            .run(threads, ITERATIONS_PER_THREAD);
+        testReporter.publishEntry(result.report("h2"));
+        assertThat(result.violations()).isEmpty();
+    }
+
+    @Override
+    public OrderTableService orderTableService() {
+        return orderTableService;
+    }
+
+    @Override
+    public OrderService orderService() {
+        return orderService;
+    }
+
+    @Override
+    public OrderBatchService orderBatchService() {
+        return orderBatchService;
+    }
+
+    @Override
+    public OrderRepository orderRepository() {
+        return orderRepository;
+    }
+
+    @Override
+    public OrderStatusHistoryRepository orderStatusHistoryRepository() {
+        return orderStatusHistoryRepository;
+    }
+
+    @Override
+    public DailySalesRepository dailySalesRepository() {
+        return dailySalesRepository;
+    }
+
+    @Override
+    public OrderTable findOrderTable(final UUID orderTableId) {
+        return orderTableRepository.findById(orderTableId).orElseThrow();
+    }
+
+    @Override
+    public <T> T call(final Supplier<T> operation) {
+        return operation.get();
+    }
+
+    @Override
+    public void awaitQuiescence() {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+        DomainEventMetrics metrics = domainEventPublisher.metrics();
+        while (metrics.dispatched() < metrics.published() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+            metrics = domainEventPublisher.metrics();
+        }
+    }
+}
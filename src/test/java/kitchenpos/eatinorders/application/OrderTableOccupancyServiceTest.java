@@ -0,0 +1,72 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.OrderTableEvent;
+import kitchenpos.eatinorders.domain.OrderTableEventType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderTableOccupancyServiceTest {
+    private static final LocalDateTime SEATED = LocalDateTime.of(2020, 1, 1, 12, 0);
+
+    private InMemoryOrderTableEventRepository orderTableEventRepository;
+    private OrderTableOccupancyService orderTableOccupancyService;
+
+    @BeforeEach
+    void setUp() {
+        orderTableEventRepository = new InMemoryOrderTableEventRepository();
+        orderTableOccupancyService = new OrderTableOccupancyService(
+            orderTableEventRepository, new InMemoryOrderTableOccupancyRepository()
+        );
+    }
+
+    @DisplayName("착석부터 정리까지의 이벤트로 테이블 이용 지표를 갱신한다.")
+    @Test
+    void append() {
+        final UUID orderTableId = UUID.randomUUID();
+        orderTableOccupancyService.append(Arrays.asList(
+            new OrderTableEvent(orderTableId, OrderTableEventType.SAT, 0, SEATED),
+            new OrderTableEvent(orderTableId, OrderTableEventType.GUESTS_CHANGED, 4, SEATED.plusMinutes(1L)),
+            new OrderTableEvent(orderTableId, OrderTableEventType.CLEARED, 0, SEATED.plusMinutes(60L))
+        ));
+        orderTableOccupancyService.append(Arrays.asList(
+            new OrderTableEvent(orderTableId, OrderTableEventType.SAT, 0, SEATED.plusMinutes(90L)),
+            new OrderTableEvent(orderTableId, OrderTableEventType.GUESTS_CHANGED, 2, SEATED.plusMinutes(91L)),
+            new OrderTableEvent(orderTableId, OrderTableEventType.CLEARED, 0, SEATED.plusMinutes(120L))
+        ));
+        final OrderTableUtilization actual = orderTableOccupancyService.findById(orderTableId);
+        assertAll(
+            () -> assertThat(orderTableEventRepository.findAll()).hasSize(6),
+            () -> assertThat(actual.seatings()).isEqualTo(2L),
+            () -> assertThat(actual.averageDwellMillis()).isEqualTo(45L * 60_000L),
+            () -> assertThat(actual.averageGuests()).isEqualTo(3.0),
+            () -> assertThat(actual.occupiedSince()).isNull()
+        );
+    }
+
+    @DisplayName("착석하지 않은 테이블의 정리는 집계하지 않는다.")
+    @Test
+    void appendClearWithoutSeating() {
+        final UUID orderTableId = UUID.randomUUID();
+        orderTableOccupancyService.append(Arrays.asList(
+            new OrderTableEvent(orderTableId, OrderTableEventType.CLEARED, 0, SEATED)
+        ));
+        assertThat(orderTableOccupancyService.findById(orderTableId).seatings()).isZero();
+    }
+
+    @DisplayName("이용 기록이 없는 테이블의 지표는 조회할 수 없다.")
+    @Test
+    void findByIdWithoutEvents() {
+        assertThatThrownBy(() -> orderTableOccupancyService.findById(UUID.randomUUID()))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+}
@@ -10,8 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 import static kitchenpos.Fixtures.order;
@@ -23,13 +26,19 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 class OrderTableServiceTest {
     private OrderTableRepository orderTableRepository;
     private OrderRepository orderRepository;
+    private OrderTableOccupancyService orderTableOccupancyService;
+    private OrderTableEventRecorder orderTableEventRecorder;
     private OrderTableService orderTableService;
 
     @BeforeEach
     void setUp() {
         orderTableRepository = new InMemoryOrderTableRepository();
         orderRepository = new InMemoryOrderRepository();
-        orderTableService = new OrderTableService(orderTableRepository, orderRepository);
+        orderTableOccupancyService = new OrderTableOccupancyService(
+            new InMemoryOrderTableEventRepository(), new InMemoryOrderTableOccupancyRepository()
+        );
+        orderTableEventRecorder = new OrderTableEventRecorder(orderTableOccupancyService, 100, 10);
+        orderTableService = new OrderTableService(orderTableRepository, orderRepository, orderTableEventRecorder);
     }
 
     @DisplayName("주문 테이블을 등록할 수 있다.")
@@ -74,6 +83,59 @@ class OrderTableServiceTest {
         );
     }
 
+    @DisplayName("착석과 정리를 테이블 이용 지표에 반영한다.")
+    @Test
+    void recordOccupancy() {
+        final UUID orderTableId = orderTableRepository.save(orderTable(false, 0)).getId();
+        orderTableService.sit(orderTableId);
+        orderTableService.changeNumberOfGuests(orderTableId, changeNumberOfGuestsRequest(4));
+        orderTableService.clear(orderTableId);
+        orderTableEventRecorder.flush();
+        final OrderTableUtilization actual = orderTableOccupancyService.findById(orderTableId);
+        assertAll(
+            () -> assertThat(orderTableEventRecorder.pending()).isZero(),
+            () -> assertThat(actual.seatings()).isEqualTo(1L),
+            () -> assertThat(actual.averageGuests()).isEqualTo(4.0)
+        );
+    }
+
+    @DisplayName("커밋된 뒤에만 테이블 이용 지표에 반영하고 롤백된 변경은 버린다.")
+    @Test
+    void recordOccupancyAfterCommit() {
+        final UUID committed = orderTableRepository.save(orderTable(false, 0)).getId();
+        final UUID rolledBack = orderTableRepository.save(orderTable(false, 0)).getId();
+        complete(() -> {
+            orderTableService.sit(committed);
+            orderTableService.clear(committed);
+        }, TransactionSynchronization.STATUS_COMMITTED);
+        complete(() -> orderTableService.sit(rolledBack), TransactionSynchronization.STATUS_ROLLED_BACK);
+        orderTableEventRecorder.flush();
+        assertAll(
+            () -> assertThat(orderTableOccupancyService.findById(committed).seatings()).isEqualTo(1L),
+            () -> assertThatThrownBy(() -> orderTableOccupancyService.findById(rolledBack))
+                .isInstanceOf(NoSuchElementException.class)
+        );
+    }
+
+    @DisplayName("대기열이 가득 차면 이벤트를 버리지 않고 같은 트랜잭션에서 반영한다.")
+    @Test
+    void recordOccupancyWhenQueueFull() {
+        orderTableEventRecorder = new OrderTableEventRecorder(orderTableOccupancyService, 1, 10);
+        orderTableService = new OrderTableService(orderTableRepository, orderRepository, orderTableEventRecorder);
+        final UUID orderTableId = orderTableRepository.save(orderTable(false, 0)).getId();
+        complete(() -> {
+            orderTableService.sit(orderTableId);
+            orderTableService.changeNumberOfGuests(orderTableId, changeNumberOfGuestsRequest(4));
+            orderTableService.clear(orderTableId);
+        }, TransactionSynchronization.STATUS_COMMITTED);
+        final OrderTableUtilization actual = orderTableOccupancyService.findById(orderTableId);
+        assertAll(
+            () -> assertThat(orderTableEventRecorder.pending()).isZero(),
+            () -> assertThat(actual.seatings()).isEqualTo(1L),
+            () -> assertThat(actual.averageGuests()).isEqualTo(4.0)
+        );
+    }
+
     @DisplayName("완료되지 않은 주문이 있는 주문 테이블은 빈 테이블로 설정할 수 없다.")
     @Test
     void clearWithUncompletedOrders() {
@@ -120,6 +182,27 @@ class OrderTableServiceTest {
         assertThat(actual).hasSize(1);
     }
 
+    private void complete(final Runnable work, final int status) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                for (final TransactionSynchronization synchronization : synchronizations) {
+                    synchronization.beforeCommit(false);
+                }
+                for (final TransactionSynchronization synchronization : synchronizations) {
+                    synchronization.afterCommit();
+                }
+            }
+            for (final TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     private OrderTable createOrderTableRequest(final String name) {
         final OrderTable orderTable = new OrderTable();
         orderTable.setName(name);
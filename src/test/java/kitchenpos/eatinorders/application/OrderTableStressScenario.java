@@ -0,0 +1,290 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.sales.domain.DailySales;
+import kitchenpos.sales.domain.DailySalesRepository;
+import kitchenpos.sales.domain.SalesDimension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+final class OrderTableStressScenario {
+    private static final int ORDER_STATUS_TRANSITIONS = 4;
+    private static final int BATCH_ORDER_TABLES = 2;
+
+    private final Target target;
+    private final List<UUID> orderTableIds;
+    private final Menu menu;
+
+    OrderTableStressScenario(final Target target, final List<UUID> orderTableIds, final Menu menu) {
+        this.target = target;
+        this.orderTableIds = List.copyOf(orderTableIds);
+        this.menu = menu;
+    }
+
+    Result run(final int threads, final int iterationsPerThread) throws InterruptedException {
+        final long completedBefore = completedEatInOrders();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<Worker>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final Worker worker = new Worker(new Random(31L * i + 7L));
+            futures.add(executor.submit(() -> {
+                start.await();
+                worker.run(iterationsPerThread);
+                return worker;
+            }));
+        }
+        final long started = System.nanoTime();
+        start.countDown();
+        final List<Worker> workers = new ArrayList<>();
+        final List<String> violations = new ArrayList<>();
+        for (final Future<Worker> future : futures) {
+            try {
+                workers.add(future.get());
+            } catch (final ExecutionException e) {
+                violations.add("worker failed: " + e.getCause());
+            }
+        }
+        final long elapsedNanos = System.nanoTime() - started;
+        executor.shutdown();
+        executor.awaitTermination(10L, TimeUnit.SECONDS);
+        target.awaitQuiescence();
+
+        long operations = 0L;
+        long rejected = 0L;
+        final List<UUID> orderIds = new ArrayList<>();
+        for (final Worker worker : workers) {
+            operations += worker.operations;
+            rejected += worker.rejected;
+            orderIds.addAll(worker.orderIds);
+            violations.addAll(worker.violations);
+        }
+        verifyOrders(orderIds, violations);
+        final long completed = completedEatInOrders() - completedBefore;
+        if (completed != orderIds.size()) {
+            violations.add("daily sales counted " + completed + " of " + orderIds.size() + " completed orders");
+        }
+        verifyOrderTables(violations);
+        return new Result(threads, operations, rejected, orderIds.size(), elapsedNanos, violations);
+    }
+
+    private void verifyOrders(final List<UUID> orderIds, final List<String> violations) {
+        final OrderRepository orderRepository = target.orderRepository();
+        final OrderStatusHistoryRepository orderStatusHistoryRepository = target.orderStatusHistoryRepository();
+        for (final UUID orderId : orderIds) {
+            final Order order = orderRepository.findById(orderId).orElse(null);
+            if (Objects.isNull(order) || order.getStatus() != OrderStatus.COMPLETED) {
+                violations.add("order " + orderId + " was not completed");
+                continue;
+            }
+            final int transitions = orderStatusHistoryRepository.findAllByOrderId(orderId).size();
+            if (transitions != ORDER_STATUS_TRANSITIONS) {
+                violations.add("order " + orderId + " recorded " + transitions + " status transitions");
+            }
+        }
+    }
+
+    private void verifyOrderTables(final List<String> violations) {
+        for (final UUID orderTableId : orderTableIds) {
+            final OrderTable orderTable = target.findOrderTable(orderTableId);
+            if (!orderTable.isOccupied() && orderTable.getNumberOfGuests() != 0) {
+                violations.add("empty table " + orderTableId + " has " + orderTable.getNumberOfGuests() + " guests");
+            }
+            try {
+                target.call(() -> target.orderTableService().clear(orderTableId));
+            } catch (final RuntimeException e) {
+                violations.add("table " + orderTableId + " could not be cleared after all orders completed: " + e);
+                continue;
+            }
+            final OrderTable cleared = target.findOrderTable(orderTableId);
+            if (cleared.isOccupied() || cleared.getNumberOfGuests() != 0) {
+                violations.add("table " + orderTableId + " stayed occupied after clear");
+            }
+        }
+    }
+
+    private long completedEatInOrders() {
+        final LocalDate today = LocalDate.now();
+        return target.dailySalesRepository()
+            .findAllByDimensionAndSalesDateBetween(SalesDimension.ORDER_TYPE, today.minusDays(1L), today.plusDays(1L))
+            .stream()
+            .filter(dailySales -> dailySales.getDimensionKey().equals(OrderType.EAT_IN.name()))
+            .mapToLong(DailySales::getOrderCount)
+            .sum();
+    }
+
+    private Order orderRequest(final UUID orderTableId) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(1L);
+        final Order order = new Order();
+        order.setType(OrderType.EAT_IN);
+        order.setOrderTableId(orderTableId);
+        order.setOrderLineItems(List.of(orderLineItem));
+        return order;
+    }
+
+    private static OrderTable numberOfGuestsRequest(final int numberOfGuests) {
+        final OrderTable orderTable = new OrderTable();
+        orderTable.setNumberOfGuests(numberOfGuests);
+        return orderTable;
+    }
+
+    interface Target {
+        OrderTableService orderTableService();
+
+        OrderService orderService();
+
+        OrderBatchService orderBatchService();
+
+        OrderRepository orderRepository();
+
+        OrderStatusHistoryRepository orderStatusHistoryRepository();
+
+        DailySalesRepository dailySalesRepository();
+
+        OrderTable findOrderTable(UUID orderTableId);
+
+        <T> T call(Supplier<T> operation);
+
+        void awaitQuiescence();
+    }
+
+    record Result(int threads, long operations, long rejected, long completedOrders, long elapsedNanos, List<String> violations) {
+        double throughput() {
+            return operations * 1_000_000_000.0 / elapsedNanos;
+        }
+
+        String report(final String name) {
+            return String.format(
+                "%s threads=%d operations=%d rejected=%d completedOrders=%d elapsed=%dms throughput=%.0f ops/s violations=%d",
+                name, threads, operations, rejected, completedOrders,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), throughput(), violations.size()
+            );
+        }
+    }
+
+    private final class Worker {
+        private final Random random;
+        private final List<UUID> orderIds = new ArrayList<>();
+        private final List<String> violations = new ArrayList<>();
+        private long operations;
+        private long rejected;
+
+        private Worker(final Random random) {
+            this.random = random;
+        }
+
+        private void run(final int iterations) {
+            for (int i = 0; i < iterations; i++) {
+                final UUID orderTableId = orderTableIds.get(random.nextInt(orderTableIds.size()));
+                final int dice = random.nextInt(100);
+                if (dice < 35) {
+                    dine(orderTableId);
+                } else if (dice < 45) {
+                    dineInBatch();
+                } else if (dice < 60) {
+                    attempt(() -> target.orderTableService().sit(orderTableId));
+                } else if (dice < 80) {
+                    attempt(() -> target.orderTableService().clear(orderTableId));
+                } else {
+                    final OrderTable request = numberOfGuestsRequest(1 + random.nextInt(8));
+                    attempt(() -> target.orderTableService().changeNumberOfGuests(orderTableId, request));
+                }
+            }
+        }
+
+        private void dine(final UUID orderTableId) {
+            attempt(() -> target.orderTableService().sit(orderTableId));
+            final Order order = attempt(() -> target.orderService().create(orderRequest(orderTableId)));
+            if (Objects.isNull(order)) {
+                return;
+            }
+            serve(orderTableId, order.getId());
+        }
+
+        private void dineInBatch() {
+            final List<UUID> shuffled = new ArrayList<>(orderTableIds);
+            Collections.shuffle(shuffled, random);
+            final List<UUID> batchOrderTableIds = shuffled.subList(0, Math.min(BATCH_ORDER_TABLES, shuffled.size()));
+            final List<Order> requests = new ArrayList<>();
+            for (final UUID orderTableId : batchOrderTableIds) {
+                attempt(() -> target.orderTableService().sit(orderTableId));
+                final Order request = orderRequest(orderTableId);
+                request.setId(UUID.randomUUID());
+                requests.add(request);
+            }
+            final List<OrderBatchOutcome> outcomes = attempt(() -> target.orderBatchService().createAll(requests));
+            if (Objects.isNull(outcomes)) {
+                return;
+            }
+            for (int i = 0; i < outcomes.size(); i++) {
+                final OrderBatchOutcome outcome = outcomes.get(i);
+                if (outcome.status() != OrderBatchStatus.CREATED) {
+                    rejected++;
+                    continue;
+                }
+                serve(batchOrderTableIds.get(i), outcome.orderId());
+            }
+        }
+
+        private void serve(final UUID orderTableId, final UUID orderId) {
+            orderIds.add(orderId);
+            verifyOccupied(orderTableId, orderId);
+            require(() -> target.orderService().accept(orderId));
+            verifyOccupied(orderTableId, orderId);
+            require(() -> target.orderService().serve(orderId));
+            verifyOccupied(orderTableId, orderId);
+            require(() -> target.orderService().complete(orderId));
+        }
+
+        private void verifyOccupied(final UUID orderTableId, final UUID orderId) {
+            if (!target.findOrderTable(orderTableId).isOccupied()) {
+                violations.add("order " + orderId + " is active on empty table " + orderTableId);
+            }
+        }
+
+        private <T> T attempt(final Supplier<T> operation) {
+            operations++;
+            try {
+                return target.call(operation);
+            } catch (final IllegalStateException e) {
+                rejected++;
+                return null;
+            } catch (final RuntimeException e) {
+                violations.add("unexpected failure: " + e);
+                return null;
+            }
+        }
+
+        private void require(final Supplier<?> operation) {
+            operations++;
+            try {
+                target.call(operation);
+            } catch (final RuntimeException e) {
+                violations.add("lost transition: " + e);
+            }
+        }
+    }
+}
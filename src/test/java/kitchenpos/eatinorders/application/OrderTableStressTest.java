@@ -0,0 +1,132 @@
+package kitchenpos.eatinorders.application;
+
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatusHistoryRepository;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.application.MenuSalesRanking;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.sales.application.InMemoryDailySalesRepository;
+import kitchenpos.sales.application.SalesRollupService;
+import kitchenpos.sales.domain.DailySalesRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("stress")
+class OrderTableStressTest {
+    private static final int ORDER_TABLES = 4;
+    private static final int ITERATIONS_PER_THREAD = 2_000;
+
+    @DisplayName("여러 스레드가 같은 테이블에 착석, 주문, 정리, 인원 변경을 동시에 해도 불변식이 깨지지 않는다.")
+    @ValueSource(ints = {1, 2, 4, 8})
+    @ParameterizedTest
+    void stress(final int threads, final TestReporter testReporter) throws InterruptedException {
+        final InMemoryTarget target = new InMemoryTarget();
+        final Menu menu = target.menuRepository.save(menu(19_000L, true, menuProduct()));
+        final List<UUID> orderTableIds = new ArrayList<>();
+        for (int i = 0; i < ORDER_TABLES; i++) {
+            final OrderTable request = new OrderTable();
+            request.setName((i + 1) + "번");
+            orderTableIds.add(target.orderTableService.create(request).getId());
+        }
+        final OrderTableStressScenario.Result result = new OrderTableStressScenario(target, orderTableIds, menu)
+            .run(threads, ITERATIONS_PER_THREAD);
+        testReporter.publishEntry(result.report("in-memory"));
+        assertThat(result.violations()).isEmpty();
+    }
+
+    private static final class InMemoryTarget implements OrderTableStressScenario.Target {
+        private final InMemoryOrderTableRepository orderTableRepository = new InMemoryOrderTableRepository();
+        private final OrderRepository orderRepository = new InMemoryOrderRepository();
+        private final InMemoryMenuRepository menuRepository = new InMemoryMenuRepository();
+        private final OrderStatusHistoryRepository orderStatusHistoryRepository = new InMemoryOrderStatusHistoryRepository();
+        private final DailySalesRepository dailySalesRepository = new InMemoryDailySalesRepository();
+        private final OrderTableService orderTableService;
+        private final OrderService orderService;
+        private final OrderBatchService orderBatchService;
+
+        private InMemoryTarget() {
+            final OrderTableEventRecorder orderTableEventRecorder = new OrderTableEventRecorder(
+                new OrderTableOccupancyService(new InMemoryOrderTableEventRepository(), new InMemoryOrderTableOccupancyRepository()),
+                1_000,
+                100
+            );
+            orderTableService = new OrderTableService(orderTableRepository, orderRepository, orderTableEventRecorder);
+            orderService = new OrderService(
+                orderRepository, menuRepository, orderTableRepository,
+                new OrderLatencyRecorder(new InMemoryOrderLatencySnapshotRepository(), "test", Duration.ofHours(1L)),
+                new SalesRollupService(dailySalesRepository, orderRepository, new InMemoryArchivedOrderRepository(), menuRepository),
+                new MenuSalesRanking(menuRepository, Duration.ofHours(1L), 12, 256),
+                new OrderStatusHistoryRecorder(orderStatusHistoryRepository),
+                new FakeDomainEventPublisher(
+                    new OrderTableReleaseHandler(orderTableRepository, orderRepository, orderTableEventRecorder)
+                )
+            );
+            orderBatchService = new OrderBatchService(
+                orderService, new InMemoryOrderBatchRepository(orderRepository), menuRepository, orderTableRepository, 100
+            );
+        }
+
+        @Override
+        public OrderTableService orderTableService() {
+            return orderTableService;
+        }
+
+        @Override
+        public OrderService orderService() {
+            return orderService;
+        }
+
+        @Override
+        public OrderBatchService orderBatchService() {
+            return orderBatchService;
+        }
+
+        @Override
+        public OrderRepository orderRepository() {
+            return orderRepository;
+        }
+
+        @Override
+        public OrderStatusHistoryRepository orderStatusHistoryRepository() {
+            return orderStatusHistoryRepository;
+        }
+
+        @Override
+        public DailySalesRepository dailySalesRepository() {
+            return dailySalesRepository;
+        }
+
+        @Override
+        public OrderTable findOrderTable(final UUID orderTableId) {
+            return call(() -> orderTableRepository.findByIdForUpdate(orderTableId).orElseThrow());
+        }
+
+        @Override
+        public <T> T call(final Supplier<T> operation) {
+            try {
+                return operation.get();
+            } finally {
+                orderTableRepository.releaseLocks();
+            }
+        }
+
+        @Override
+        public void awaitQuiescence() {
+        }
+    }
+}
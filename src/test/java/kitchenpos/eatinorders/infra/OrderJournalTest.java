@@ -0,0 +1,128 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static kitchenpos.Fixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class OrderJournalTest {
+    @TempDir
+    Path directory;
+
+    @DisplayName("기록한 주문을 다시 열면 순서대로 복구한다.")
+    @Test
+    void recover() throws Exception {
+        final Path path = directory.resolve("orders.journal");
+        final Order order = order(OrderStatus.ACCEPTED, "서울시 송파구 위례성대로 2");
+        order.setStatusChangedDateTime(LocalDateTime.of(2020, 1, 1, 12, 5, 30, 123_000_000));
+        final UUID deletedId = UUID.randomUUID();
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            journal.append(List.of(OrderJournalEntry.saved(order)));
+            journal.append(List.of(OrderJournalEntry.deleted(deletedId)));
+        }
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            final List<OrderJournalEntry> recovered = journal.recovered();
+            final Order actual = recovered.get(0).order();
+            assertAll(
+                () -> assertThat(recovered).hasSize(2),
+                () -> assertThat(actual.getId()).isEqualTo(order.getId()),
+                () -> assertThat(actual.getStatus()).isEqualTo(OrderStatus.ACCEPTED),
+                () -> assertThat(actual.getStatusChangedDateTime()).isEqualTo(order.getStatusChangedDateTime()),
+                () -> assertThat(actual.getDeliveryAddress()).isEqualTo(order.getDeliveryAddress()),
+                () -> assertThat(actual.getOrderLineItems().get(0).getMenuId())
+                    .isEqualTo(order.getOrderLineItems().get(0).getMenu().getId()),
+                () -> assertThat(recovered.get(1).isDeleted()).isTrue(),
+                () -> assertThat(recovered.get(1).orderId()).isEqualTo(deletedId)
+            );
+        }
+    }
+
+    @DisplayName("마지막 기록이 잘려 있으면 그 기록만 버리고 이어서 기록한다.")
+    @Test
+    void tornTail() throws Exception {
+        final Path path = directory.resolve("orders.journal");
+        final Order first = order(OrderStatus.WAITING);
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            journal.append(List.of(OrderJournalEntry.saved(first)));
+            journal.append(List.of(OrderJournalEntry.saved(order(OrderStatus.WAITING))));
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3L);
+        }
+        final Order third = order(OrderStatus.WAITING);
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            assertThat(journal.recovered()).hasSize(1);
+            journal.append(List.of(OrderJournalEntry.saved(third)));
+        }
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            final List<OrderJournalEntry> recovered = journal.recovered();
+            assertAll(
+                () -> assertThat(recovered).hasSize(2),
+                () -> assertThat(recovered.get(0).orderId()).isEqualTo(first.getId()),
+                () -> assertThat(recovered.get(1).orderId()).isEqualTo(third.getId())
+            );
+        }
+    }
+
+    @DisplayName("여러 스레드가 동시에 기록해도 모두 복구한다.")
+    @Test
+    void concurrentAppend() throws Exception {
+        final Path path = directory.resolve("orders.journal");
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (OrderJournal journal = new OrderJournal(path, 64)) {
+            final List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                futures.add(executor.submit(() -> journal.append(List.of(OrderJournalEntry.saved(order(OrderStatus.WAITING))))));
+            }
+            for (final Future<Long> future : futures) {
+                future.get();
+            }
+            assertThat(journal.entries()).isEqualTo(400L);
+        } finally {
+            executor.shutdownNow();
+        }
+        try (OrderJournal journal = new OrderJournal(path, 64)) {
+            assertThat(journal.recovered()).hasSize(400);
+        }
+    }
+
+    @DisplayName("압축하면 주어진 주문만 남긴다.")
+    @Test
+    void rewrite() throws Exception {
+        final Path path = directory.resolve("orders.journal");
+        final Order kept = order(OrderStatus.SERVED);
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(List.of(OrderJournalEntry.saved(order(OrderStatus.COMPLETED))));
+            }
+            journal.rewrite(List.of(OrderJournalEntry.saved(kept)));
+            journal.append(List.of(OrderJournalEntry.deleted(kept.getId())));
+            assertThat(journal.entries()).isEqualTo(2L);
+        }
+        try (OrderJournal journal = new OrderJournal(path, 16)) {
+            assertAll(
+                () -> assertThat(journal.recovered()).hasSize(2),
+                () -> assertThat(journal.recovered().get(0).orderId()).isEqualTo(kept.getId()),
+                () -> assertThat(Files.exists(directory.resolve("orders.journal.compact"))).isFalse()
+            );
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package kitchenpos.eatinorders.infra;
+
+import kitchenpos.eatinorders.application.InMemoryOrderBatchRepository;
+import kitchenpos.eatinorders.application.InMemoryOrderEngineLeaseRepository;
+import kitchenpos.eatinorders.application.InMemoryOrderRepository;
+import kitchenpos.eatinorders.application.InMemoryOrderTableRepository;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderTable;
+import kitchenpos.eatinorders.domain.OrderTableRepository;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.MenuRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static kitchenpos.Fixtures.order;
+import static kitchenpos.Fixtures.orderTable;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class WriteBehindOrderRepositoryTest {
+    @TempDir
+    Path directory;
+
+    private OrderRepository storedOrderRepository;
+    private MenuRepository menuRepository;
+    private OrderTableRepository orderTableRepository;
+    private InMemoryOrderEngineLeaseRepository leaseRepository;
+    private WriteBehindOrderRepository orderRepository;
+
+    @BeforeEach
+    void setUp() {
+        storedOrderRepository = new InMemoryOrderRepository();
+        menuRepository = new InMemoryMenuRepository();
+        orderTableRepository = new InMemoryOrderTableRepository();
+        leaseRepository = new InMemoryOrderEngineLeaseRepository();
+        orderRepository = open(10_000L);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        orderRepository.close();
+    }
+
+    @DisplayName("주문은 메모리에 먼저 반영하고 주기적으로 저장소에 내려쓴다.")
+    @Test
+    void flush() {
+        final Order order = save(order(OrderStatus.WAITING));
+        assertAll(
+            () -> assertThat(orderRepository.findById(order.getId())).isPresent(),
+            () -> assertThat(storedOrderRepository.findById(order.getId())).isEmpty(),
+            () -> assertThat(orderRepository.unflushed()).isEqualTo(1)
+        );
+        orderRepository.flush();
+        assertAll(
+            () -> assertThat(storedOrderRepository.findById(order.getId())).isPresent(),
+            () -> assertThat(orderRepository.unflushed()).isZero()
+        );
+    }
+
+    @DisplayName("조회한 주문을 바꿔도 저장하기 전에는 반영되지 않는다.")
+    @Test
+    void isolated() {
+        final Order order = save(order(OrderStatus.WAITING));
+        orderRepository.findById(order.getId()).get().setStatus(OrderStatus.ACCEPTED);
+        assertThat(orderRepository.findById(order.getId()).get().getStatus()).isEqualTo(OrderStatus.WAITING);
+    }
+
+    @DisplayName("완료된 주문은 내려쓴 뒤 메모리에서 내보낸다.")
+    @Test
+    void evictCompleted() {
+        final Order order = save(order(OrderStatus.SERVED));
+        order.setStatus(OrderStatus.COMPLETED);
+        order.setStatusChangedDateTime(LocalDateTime.of(2020, 1, 1, 13, 0));
+        orderRepository.save(order);
+        orderRepository.flush();
+        assertAll(
+            () -> assertThat(storedOrderRepository.findById(order.getId()).get().getStatus()).isEqualTo(OrderStatus.COMPLETED),
+            () -> assertThat(orderRepository.findAllByStatusNot(OrderStatus.COMPLETED)).isEmpty(),
+            () -> assertThat(orderRepository.findById(order.getId())).isPresent()
+        );
+    }
+
+    @DisplayName("진행 중인 매장 주문이 있는 테이블을 메모리에서 찾는다.")
+    @Test
+    void existsByOrderTableAndStatusNot() {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        save(order(OrderStatus.SERVED, orderTable));
+        assertAll(
+            () -> assertThat(orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)).isTrue(),
+            () -> assertThat(orderRepository.existsByOrderTableAndStatusNot(orderTable(), OrderStatus.COMPLETED)).isFalse()
+        );
+    }
+
+    @DisplayName("내려쓰기 전에 중단되어도 저널에서 마지막 상태를 그대로 복구한다.")
+    @Test
+    void recover() throws InterruptedException {
+        final OrderTable orderTable = orderTableRepository.save(orderTable(true, 4));
+        final Order eatIn = save(order(OrderStatus.WAITING, orderTable));
+        eatIn.setStatus(OrderStatus.ACCEPTED);
+        orderRepository.save(eatIn);
+        final Order deleted = save(order(OrderStatus.COMPLETED));
+        orderRepository.deleteAll(List.of(deleted));
+        orderRepository.close();
+
+        orderRepository = open(10_000L);
+        final Order recovered = orderRepository.findById(eatIn.getId()).get();
+        assertAll(
+            () -> assertThat(recovered.getStatus()).isEqualTo(OrderStatus.ACCEPTED),
+            () -> assertThat(recovered.getOrderTable().getId()).isEqualTo(orderTable.getId()),
+            () -> assertThat(recovered.getOrderLineItems().get(0).getMenu()).isNotNull(),
+            () -> assertThat(orderRepository.findById(deleted.getId())).isEmpty(),
+            () -> assertThat(orderRepository.unflushed()).isEqualTo(1)
+        );
+        orderRepository.flush();
+        assertThat(storedOrderRepository.findById(eatIn.getId()).get().getStatus()).isEqualTo(OrderStatus.ACCEPTED);
+    }
+
+    @DisplayName("저널이 커지면 진행 중인 주문만 남기고 압축한다.")
+    @Test
+    void compact() throws InterruptedException {
+        orderRepository.close();
+        orderRepository = open(2L);
+        final Order active = save(order(OrderStatus.WAITING));
+        for (int i = 0; i < 5; i++) {
+            final Order order = save(order(OrderStatus.SERVED));
+            order.setStatus(OrderStatus.COMPLETED);
+            orderRepository.save(order);
+        }
+        orderRepository.flush();
+        orderRepository.close();
+
+        orderRepository = open(2L);
+        assertAll(
+            () -> assertThat(orderRepository.unflushed()).isEqualTo(1),
+            () -> assertThat(orderRepository.findById(active.getId())).isPresent()
+        );
+    }
+
+    @DisplayName("다른 인스턴스가 주문 엔진을 맡고 있으면 시작할 수 없고, 반납한 뒤에는 시작할 수 있다.")
+    @Test
+    void singleInstance() throws InterruptedException {
+        assertThatThrownBy(() -> open("other.journal", 10_000L, "other"))
+            .isInstanceOf(IllegalStateException.class);
+        orderRepository.close();
+        final WriteBehindOrderRepository other = open("other.journal", 10_000L, "other");
+        other.close();
+    }
+
+    @DisplayName("뒤이은 트랜잭션 동기화가 실패해 롤백되면 주문을 반영하지 않고 복구할 때도 되살리지 않는다.")
+    @Test
+    void rollback() throws InterruptedException {
+        final Order committed = save(order(OrderStatus.WAITING));
+        final Order created = order(OrderStatus.WAITING);
+        rollBack(() -> {
+            final Order changed = orderRepository.findById(committed.getId()).get();
+            changed.setStatus(OrderStatus.ACCEPTED);
+            orderRepository.save(changed);
+            save(created);
+        });
+        assertAll(
+            () -> assertThat(orderRepository.findById(committed.getId()).get().getStatus()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(orderRepository.findById(created.getId())).isEmpty(),
+            () -> assertThat(orderRepository.unflushed()).isEqualTo(1)
+        );
+        orderRepository.close();
+
+        orderRepository = open(10_000L);
+        assertAll(
+            () -> assertThat(orderRepository.findById(committed.getId()).get().getStatus()).isEqualTo(OrderStatus.WAITING),
+            () -> assertThat(orderRepository.findById(created.getId())).isEmpty(),
+            () -> assertThat(orderRepository.unflushed()).isEqualTo(1)
+        );
+    }
+
+    private void rollBack(final Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(final boolean readOnly) {
+                    throw new IllegalStateException();
+                }
+            });
+            final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThatThrownBy(() -> {
+                for (final TransactionSynchronization synchronization : synchronizations) {
+                    synchronization.beforeCommit(false);
+                }
+            }).isInstanceOf(IllegalStateException.class);
+            for (final TransactionSynchronization synchronization : synchronizations) {
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private Order save(final Order order) {
+        for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+            menuRepository.save(orderLineItem.getMenu());
+        }
+        orderRepository.save(order);
+        return order;
+    }
+
+    private WriteBehindOrderRepository open(final long compactionThreshold) {
+        return open("orders.journal", compactionThreshold, "test");
+    }
+
+    private WriteBehindOrderRepository open(final String journal, final long compactionThreshold, final String owner) {
+        return new WriteBehindOrderRepository(
+            storedOrderRepository,
+            new InMemoryOrderBatchRepository(storedOrderRepository),
+            menuRepository,
+            orderTableRepository,
+            new OrderJournal(directory.resolve(journal), 64),
+            compactionThreshold,
+            leaseRepository,
+            owner,
+            Duration.ofSeconds(30L)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+package kitchenpos.exports.infra;
+
+import kitchenpos.common.domain.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class ColumnarWriterTest {
+    private static final List<ExportColumn> ORDER_COLUMNS = List.of(
+        ExportColumn.of("id", ColumnType.UUID),
+        ExportColumn.of("status", ColumnType.STRING),
+        ExportColumn.of("order_date_time", ColumnType.TIMESTAMP),
+        ExportColumn.of("delivery_address", ColumnType.STRING)
+    );
+    private static final List<ExportColumn> LINE_ITEM_COLUMNS = List.of(
+        ExportColumn.of("order_id", ColumnType.UUID),
+        ExportColumn.dictionary("menu_id", "menu"),
+        ExportColumn.of("quantity", ColumnType.INT64),
+        ExportColumn.of("price", ColumnType.MONEY),
+        ExportColumn.of("displayed", ColumnType.BOOLEAN)
+    );
+
+    @DisplayName("여러 테이블의 행을 청크로 나누어 기록하고 그대로 읽는다.")
+    @Test
+    void roundTrip() {
+        final UUID orderId = UUID.randomUUID();
+        final UUID menuId = UUID.randomUUID();
+        final UUID otherMenuId = UUID.randomUUID();
+        final LocalDateTime orderDateTime = LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_000);
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ColumnarWriter writer = new ColumnarWriter(output, 2, Deflater.BEST_SPEED);
+        final ColumnarWriter.Table orders = writer.table("orders", ORDER_COLUMNS);
+        final ColumnarWriter.Table lineItems = writer.table("order_line_items", LINE_ITEM_COLUMNS);
+        orders.uuid(orderId).string("DELIVERED").timestamp(orderDateTime).string("서울시 송파구 위례성대로 2").endRow();
+        orders.uuid(null).string("WAITING").timestamp(null).string(null).endRow();
+        lineItems.uuid(orderId).dictionary(menuId).int64(2L).money(Money.of(16_000L)).bool(true).endRow();
+        lineItems.uuid(orderId).dictionary(otherMenuId).int64(1L).money(Money.of(17_000L)).bool(false).endRow();
+        lineItems.uuid(orderId).dictionary(menuId).int64(3L).money(Money.of(16_000L)).bool(true).endRow();
+        writer.finish();
+
+        final List<ColumnarRow> rows = ColumnarReader.readAll(new ByteArrayInputStream(output.toByteArray()));
+        final List<ColumnarRow> orderRows = rows.stream().filter(row -> row.table().equals("orders")).toList();
+        final List<ColumnarRow> lineItemRows = rows.stream().filter(row -> row.table().equals("order_line_items")).toList();
+        assertAll(
+            () -> assertThat(writer.rows()).isEqualTo(5L),
+            () -> assertThat(writer.bytes()).isEqualTo(output.size()),
+            () -> assertThat(orderRows).hasSize(2),
+            () -> assertThat(orderRows.get(0).get("id")).isEqualTo(orderId),
+            () -> assertThat(orderRows.get(0).get("order_date_time")).isEqualTo(orderDateTime),
+            () -> assertThat(orderRows.get(0).get("delivery_address")).isEqualTo("서울시 송파구 위례성대로 2"),
+            () -> assertThat(orderRows.get(1).values()).containsExactly(null, "WAITING", null, null),
+            () -> assertThat(lineItemRows).hasSize(3),
+            () -> assertThat(lineItemRows.get(1).get("menu_id")).isEqualTo(otherMenuId),
+            () -> assertThat(lineItemRows.get(2).get("menu_id")).isEqualTo(menuId),
+            () -> assertThat(lineItemRows.get(2).get("quantity")).isEqualTo(3L),
+            () -> assertThat(lineItemRows.get(2).get("price")).isEqualTo(Money.of(16_000L)),
+            () -> assertThat(lineItemRows.get(1).get("displayed")).isEqualTo(false)
+        );
+    }
+
+    @DisplayName("반복되는 메뉴 아이디는 사전으로 한 번만 기록한다.")
+    @Test
+    void dictionaryEncoding() {
+        final UUID[] menuIds = new UUID[20];
+        Arrays.setAll(menuIds, i -> UUID.randomUUID());
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ColumnarWriter writer = new ColumnarWriter(output, 4_096, Deflater.NO_COMPRESSION);
+        final ColumnarWriter.Table lineItems = writer.table("order_line_items", LINE_ITEM_COLUMNS);
+        final UUID orderId = UUID.randomUUID();
+        for (int i = 0; i < 10_000; i++) {
+            lineItems.uuid(orderId).dictionary(menuIds[i % menuIds.length]).int64(1L).money(Money.of(16_000L)).bool(true).endRow();
+        }
+        writer.finish();
+
+        final long bytesPerRow = Long.BYTES * 2 + Integer.BYTES + Long.BYTES * 2 + 1;
+        assertThat(writer.bytes()).isLessThan(10_000L * bytesPerRow + 4_096L);
+        assertThat(ColumnarReader.readAll(new ByteArrayInputStream(output.toByteArray())))
+            .hasSize(10_000);
+    }
+
+    @DisplayName("끝 프레임이 없는 파일은 잘린 것으로 본다.")
+    @Test
+    void truncated() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final ColumnarWriter writer = new ColumnarWriter(output, 1, Deflater.BEST_SPEED);
+        final ColumnarWriter.Table orders = writer.table("orders", ORDER_COLUMNS);
+        orders.uuid(UUID.randomUUID()).string("WAITING").timestamp(LocalDateTime.now()).string(null).endRow();
+        writer.finish();
+        final byte[] bytes = output.toByteArray();
+
+        assertThatThrownBy(() -> ColumnarReader.readAll(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 4))))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("열의 형식이나 개수가 스키마와 다르면 기록할 수 없다.")
+    @Test
+    void schemaMismatch() {
+        final ColumnarWriter writer = new ColumnarWriter(new ByteArrayOutputStream(), 16, Deflater.BEST_SPEED);
+        final ColumnarWriter.Table orders = writer.table("orders", ORDER_COLUMNS);
+        assertAll(
+            () -> assertThatThrownBy(() -> orders.string("WAITING"))
+                .isInstanceOf(IllegalStateException.class),
+            () -> assertThatThrownBy(() -> orders.endRow())
+                .isInstanceOf(IllegalStateException.class)
+        );
+    }
+}
@@ -28,4 +28,20 @@ public class InMemoryMenuGroupRepository implements MenuGroupRepository {
     public List<MenuGroup> findAll() {
         return new ArrayList<>(menuGroups.values());
     }
+
+    @Override
+    public List<MenuGroup> findAllByIdIn(final List<UUID> ids) {
+        return menuGroups.values()
+            .stream()
+            .filter(menuGroup -> ids.contains(menuGroup.getId()))
+            .toList();
+    }
+
+    @Override
+    public List<MenuGroup> findAllByChangeVersionBetween(final long from, final long to) {
+        return menuGroups.values()
+            .stream()
+            .filter(menuGroup -> menuGroup.getChangeVersion() >= from && menuGroup.getChangeVersion() <= to)
+            .toList();
+    }
 }
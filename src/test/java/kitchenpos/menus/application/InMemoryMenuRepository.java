@@ -37,6 +37,11 @@ public class InMemoryMenuRepository implements MenuRepository {
             .toList();
     }
 
+    @Override
+    public List<Menu> findAllForOrderByIdIn(final List<UUID> ids) {
+        return findAllByIdIn(ids);
+    }
+
     @Override
     public List<Menu> findAllByProductId(final UUID productId) {
         return menus.values()
@@ -44,4 +49,12 @@ public class InMemoryMenuRepository implements MenuRepository {
             .filter(menu -> menu.getMenuProducts().stream().anyMatch(menuProduct -> menuProduct.getProduct().getId().equals(productId)))
             .toList();
     }
+
+    @Override
+    public List<Menu> findAllByChangeVersionBetween(final long from, final long to) {
+        return menus.values()
+            .stream()
+            .filter(menu -> menu.getChangeVersion() >= from && menu.getChangeVersion() <= to)
+            .toList();
+    }
 }
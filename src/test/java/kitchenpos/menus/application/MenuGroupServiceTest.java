@@ -1,5 +1,7 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.catalog.application.InMemoryCatalogVersionRepository;
 import kitchenpos.menus.domain.MenuGroup;
 import kitchenpos.menus.domain.MenuGroupRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,7 +24,7 @@ class MenuGroupServiceTest {
     @BeforeEach
     void setUp() {
         menuGroupRepository = new InMemoryMenuGroupRepository();
-        menuGroupService = new MenuGroupService(menuGroupRepository);
+        menuGroupService = new MenuGroupService(menuGroupRepository, new CatalogVersionService(new InMemoryCatalogVersionRepository()));
     }
 
     @DisplayName("메뉴 그룹을 등록할 수 있다.")
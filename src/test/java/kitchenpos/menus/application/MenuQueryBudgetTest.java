@@ -0,0 +1,115 @@
+package kitchenpos.menus.application;
+
+import jakarta.persistence.Persistence;
+import jakarta.persistence.PersistenceUtil;
+import kitchenpos.JpaQueryBudgetTest;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.product;
+import static kitchenpos.QueryBudget.assertQueryCountAtMost;
+import static kitchenpos.QueryBudget.assertQueryCountGrowthAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@JpaQueryBudgetTest
+class MenuQueryBudgetTest {
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @DisplayName("메뉴 등록은 상품 수와 관계없이 정해진 수의 조회로 처리한다.")
+    @Test
+    void create() {
+        final UUID menuGroupId = menuGroupRepository.save(menuGroup()).getId();
+        final Menu smaller = createMenuRequest(menuGroupId, 1);
+        final Menu larger = createMenuRequest(menuGroupId, 3);
+        assertQueryCountGrowthAtMost(
+            0L,
+            4L,
+            () -> menuService.create(smaller),
+            () -> menuService.create(larger)
+        );
+    }
+
+    @DisplayName("메뉴 가격 변경은 상품 수와 관계없이 정해진 수의 쿼리로 처리한다.")
+    @Test
+    void changePrice() {
+        final UUID menuGroupId = menuGroupRepository.save(menuGroup()).getId();
+        final UUID smallerId = menuService.create(createMenuRequest(menuGroupId, 1)).getId();
+        final UUID largerId = menuService.create(createMenuRequest(menuGroupId, 3)).getId();
+        final Menu request = new Menu();
+        request.setPrice(Money.of(15_000L));
+        assertQueryCountGrowthAtMost(
+            0L,
+            0L,
+            () -> menuService.changePrice(smallerId, request),
+            () -> menuService.changePrice(largerId, request)
+        );
+    }
+
+    @DisplayName("메뉴 목록은 메뉴 그룹과 상품까지 한 번의 조회로 가져온다.")
+    @Test
+    void findAll() {
+        final UUID menuGroupId = menuGroupRepository.save(menuGroup()).getId();
+        menuService.create(createMenuRequest(menuGroupId, 1));
+        menuService.create(createMenuRequest(menuGroupId, 3));
+        assertQueryCountAtMost(1L, menuService::findAll);
+    }
+
+    @DisplayName("주문용 메뉴 조회는 메뉴만 한 번에 가져오고 메뉴 그룹과 메뉴 상품은 불러오지 않는다.")
+    @Test
+    void findAllForOrderByIdIn() {
+        final UUID menuGroupId = menuGroupRepository.save(menuGroup()).getId();
+        final List<UUID> menuIds = List.of(
+            menuService.create(createMenuRequest(menuGroupId, 1)).getId(),
+            menuService.create(createMenuRequest(menuGroupId, 3)).getId()
+        );
+        final List<Menu> menus = assertQueryCountAtMost(1L, () -> menuRepository.findAllForOrderByIdIn(menuIds));
+        final PersistenceUtil persistenceUtil = Persistence.getPersistenceUtil();
+        assertThat(menus).hasSize(2);
+        for (final Menu menu : menus) {
+            assertAll(
+                () -> assertThat(persistenceUtil.isLoaded(menu, "menuGroup")).isFalse(),
+                () -> assertThat(persistenceUtil.isLoaded(menu, "menuProducts")).isFalse()
+            );
+        }
+    }
+
+    private Menu createMenuRequest(final UUID menuGroupId, final int products) {
+        final List<MenuProduct> menuProducts = new ArrayList<>();
+        for (int i = 0; i < products; i++) {
+            final MenuProduct menuProduct = new MenuProduct();
+            menuProduct.setProductId(productRepository.save(product("후라이드", 16_000L)).getId());
+            menuProduct.setQuantity(1L);
+            menuProducts.add(menuProduct);
+        }
+        final Menu menu = new Menu();
+        menu.setName("후라이드+후라이드");
+        menu.setPrice(Money.of(16_000L));
+        menu.setMenuGroupId(menuGroupId);
+        menu.setDisplayed(true);
+        menu.setMenuProducts(menuProducts);
+        return menu;
+    }
+}
@@ -1,5 +1,8 @@
 package kitchenpos.menus.application;
 
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.catalog.application.InMemoryCatalogVersionRepository;
+import kitchenpos.common.domain.Money;
 import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuGroupRepository;
 import kitchenpos.menus.domain.MenuProduct;
@@ -23,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.UUID;
 
 import static kitchenpos.Fixtures.INVALID_ID;
@@ -49,7 +53,10 @@ class MenuServiceTest {
         menuGroupRepository = new InMemoryMenuGroupRepository();
         productRepository = new InMemoryProductRepository();
         purgomalumClient = new FakePurgomalumClient();
-        menuService = new MenuService(menuRepository, menuGroupRepository, productRepository, purgomalumClient);
+        menuService = new MenuService(
+            menuRepository, menuGroupRepository, productRepository, purgomalumClient,
+            new CatalogVersionService(new InMemoryCatalogVersionRepository())
+        );
         menuGroupId = menuGroupRepository.save(menuGroup()).getId();
         product = productRepository.save(product("후라이드", 16_000L));
     }
@@ -244,7 +251,7 @@ class MenuServiceTest {
     ) {
         final Menu menu = new Menu();
         menu.setName(name);
-        menu.setPrice(price);
+        menu.setPrice(Objects.isNull(price) ? null : Money.from(price));
         menu.setMenuGroupId(menuGroupId);
         menu.setDisplayed(displayed);
         menu.setMenuProducts(menuProducts);
@@ -264,7 +271,7 @@ class MenuServiceTest {
 
     private Menu changePriceRequest(final BigDecimal price) {
         final Menu menu = new Menu();
-        menu.setPrice(price);
+        menu.setPrice(Objects.isNull(price) ? null : Money.from(price));
         return menu;
     }
 }
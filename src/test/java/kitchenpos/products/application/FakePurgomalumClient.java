@@ -4,6 +4,8 @@ import kitchenpos.products.infra.PurgomalumClient;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class FakePurgomalumClient implements PurgomalumClient {
     private static final List<String> profanities;
@@ -17,4 +19,11 @@ public class FakePurgomalumClient implements PurgomalumClient {
         return profanities.stream()
             .anyMatch(profanity -> text.contains(profanity));
     }
+
+    @Override
+    public Set<String> findProfanities(final List<String> texts) {
+        return texts.stream()
+            .filter(this::containsProfanity)
+            .collect(Collectors.toSet());
+    }
 }
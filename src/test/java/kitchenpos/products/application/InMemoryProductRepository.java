@@ -36,4 +36,12 @@ public class InMemoryProductRepository implements ProductRepository {
             .filter(product -> ids.contains(product.getId()))
             .toList();
     }
+
+    @Override
+    public List<Product> findAllByChangeVersionBetween(final long from, final long to) {
+        return products.values()
+            .stream()
+            .filter(product -> product.getChangeVersion() >= from && product.getChangeVersion() <= to)
+            .toList();
+    }
 }
@@ -0,0 +1,78 @@
+package kitchenpos.products.application;
+
+import kitchenpos.JpaQueryBudgetTest;
+import kitchenpos.common.domain.Money;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuGroupRepository;
+import kitchenpos.menus.domain.MenuProduct;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.products.domain.Product;
+import kitchenpos.products.domain.ProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuGroup;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.product;
+import static kitchenpos.QueryBudget.assertQueryCountGrowthAtMost;
+
+@JpaQueryBudgetTest
+class ProductQueryBudgetTest {
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuGroupRepository menuGroupRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @DisplayName("상품의 가격 변경은 메뉴 수와 관계없이 정해진 수의 쿼리로 처리한다.")
+    @Test
+    void changePrice() {
+        final Product smaller = productWithMenus(1);
+        final Product larger = productWithMenus(5);
+        assertQueryCountGrowthAtMost(
+            0L,
+            0L,
+            () -> productService.changePrice(smaller.getId(), changePriceRequest(17_000L)),
+            () -> productService.changePrice(larger.getId(), changePriceRequest(17_000L))
+        );
+    }
+
+    @DisplayName("상품의 가격 변경으로 메뉴가 숨겨질 때 메뉴를 다시 읽지 않는다.")
+    @Test
+    void changePriceHidingMenus() {
+        final Product smaller = productWithMenus(1);
+        final Product larger = productWithMenus(5);
+        assertQueryCountGrowthAtMost(
+            0L,
+            4L,
+            () -> productService.changePrice(smaller.getId(), changePriceRequest(15_000L)),
+            () -> productService.changePrice(larger.getId(), changePriceRequest(15_000L))
+        );
+    }
+
+    private Product productWithMenus(final int count) {
+        final Product product = productRepository.save(product("후라이드", 16_000L));
+        for (int i = 0; i < count; i++) {
+            final MenuProduct menuProduct = menuProduct(product, 1L);
+            menuProduct.setSeq(null);
+            final Menu menu = menu(16_000L, true, menuProduct);
+            menu.setMenuGroup(menuGroupRepository.save(menuGroup()));
+            menuRepository.save(menu);
+        }
+        return product;
+    }
+
+    private Product changePriceRequest(final long price) {
+        final Product product = new Product();
+        product.setPrice(Money.of(price));
+        return product;
+    }
+}
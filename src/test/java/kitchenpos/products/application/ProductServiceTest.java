@@ -1,5 +1,10 @@
 package kitchenpos.products.application;
 
+import kitchenpos.catalog.application.CatalogVersionService;
+import kitchenpos.catalog.application.InMemoryCatalogVersionRepository;
+import kitchenpos.common.domain.Money;
+import kitchenpos.common.event.FakeDomainEventPublisher;
+import kitchenpos.menus.application.MenuDisplayPolicyHandler;
 import kitchenpos.menus.application.InMemoryMenuRepository;
 import kitchenpos.menus.domain.Menu;
 import kitchenpos.menus.domain.MenuRepository;
@@ -15,6 +20,7 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import static kitchenpos.Fixtures.menu;
@@ -35,7 +41,13 @@ class ProductServiceTest {
         productRepository = new InMemoryProductRepository();
         menuRepository = new InMemoryMenuRepository();
         purgomalumClient = new FakePurgomalumClient();
-        productService = new ProductService(productRepository, menuRepository, purgomalumClient);
+        final CatalogVersionService catalogVersionService = new CatalogVersionService(new InMemoryCatalogVersionRepository());
+        productService = new ProductService(
+            productRepository,
+            purgomalumClient,
+            new FakeDomainEventPublisher(new MenuDisplayPolicyHandler(menuRepository, catalogVersionService)),
+            catalogVersionService
+        );
     }
 
     @DisplayName("상품을 등록할 수 있다.")
@@ -116,7 +128,7 @@ class ProductServiceTest {
     private Product createProductRequest(final String name, final BigDecimal price) {
         final Product product = new Product();
         product.setName(name);
-        product.setPrice(price);
+        product.setPrice(Objects.isNull(price) ? null : Money.from(price));
         return product;
     }
 
@@ -126,7 +138,7 @@ class ProductServiceTest {
 
     private Product changePriceRequest(final BigDecimal price) {
         final Product product = new Product();
-        product.setPrice(price);
+        product.setPrice(Objects.isNull(price) ? null : Money.from(price));
         return product;
     }
 }
@@ -0,0 +1,73 @@
+package kitchenpos.sales.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.sales.domain.DailySales;
+import kitchenpos.sales.domain.DailySalesRepository;
+import kitchenpos.sales.domain.SalesDimension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryDailySalesRepository implements DailySalesRepository {
+    private final Map<String, DailySales> dailySales = new ConcurrentHashMap<>();
+
+    @Override
+    public <S extends DailySales> List<S> saveAll(final Iterable<S> dailySales) {
+        final List<S> saved = new ArrayList<>();
+        for (final S each : dailySales) {
+            this.dailySales.put(each.getId(), each);
+            saved.add(each);
+        }
+        return saved;
+    }
+
+    @Override
+    public List<DailySales> findAllByDimensionAndSalesDateBetween(
+        final SalesDimension dimension,
+        final LocalDate from,
+        final LocalDate to
+    ) {
+        return dailySales.values()
+            .stream()
+            .filter(each -> each.getDimension() == dimension)
+            .filter(each -> !each.getSalesDate().isBefore(from) && !each.getSalesDate().isAfter(to))
+            .sorted(Comparator.comparing(DailySales::getSalesDate))
+            .toList();
+    }
+
+    @Override
+    public synchronized void accumulate(
+        final String id,
+        final LocalDate salesDate,
+        final String dimension,
+        final String dimensionKey,
+        final BigDecimal revenue,
+        final long quantity,
+        final long orderCount
+    ) {
+        final DailySales each = dailySales.computeIfAbsent(id, key -> {
+            final DailySales created = new DailySales();
+            created.setId(key);
+            created.setSalesDate(salesDate);
+            created.setDimension(SalesDimension.valueOf(dimension));
+            created.setDimensionKey(dimensionKey);
+            created.setRevenue(Money.ZERO);
+            return created;
+        });
+        each.setRevenue(each.getRevenue().plus(Money.from(revenue)));
+        each.setQuantity(each.getQuantity() + quantity);
+        each.setOrderCount(each.getOrderCount() + orderCount);
+    }
+
+    @Override
+    public int deleteAllBySalesDate(final LocalDate salesDate) {
+        final int size = dailySales.size();
+        dailySales.values().removeIf(each -> each.getSalesDate().equals(salesDate));
+        return size - dailySales.size();
+    }
+}
@@ -0,0 +1,142 @@
+package kitchenpos.sales.application;
+
+import kitchenpos.common.domain.Money;
+import kitchenpos.eatinorders.application.InMemoryArchivedOrderRepository;
+import kitchenpos.eatinorders.application.InMemoryOrderRepository;
+import kitchenpos.eatinorders.domain.ArchivedOrder;
+import kitchenpos.eatinorders.domain.ArchivedOrderLineItem;
+import kitchenpos.eatinorders.domain.ArchivedOrderRepository;
+import kitchenpos.eatinorders.domain.Order;
+import kitchenpos.eatinorders.domain.OrderLineItem;
+import kitchenpos.eatinorders.domain.OrderRepository;
+import kitchenpos.eatinorders.domain.OrderStatus;
+import kitchenpos.eatinorders.domain.OrderType;
+import kitchenpos.menus.application.InMemoryMenuRepository;
+import kitchenpos.menus.domain.Menu;
+import kitchenpos.menus.domain.MenuRepository;
+import kitchenpos.sales.domain.DailySales;
+import kitchenpos.sales.domain.DailySalesRepository;
+import kitchenpos.sales.domain.SalesDimension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static kitchenpos.Fixtures.menu;
+import static kitchenpos.Fixtures.menuProduct;
+import static kitchenpos.Fixtures.order;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+class SalesRollupServiceTest {
+    private static final LocalDate SALES_DATE = LocalDate.of(2020, 1, 1);
+
+    private DailySalesRepository dailySalesRepository;
+    private OrderRepository orderRepository;
+    private ArchivedOrderRepository archivedOrderRepository;
+    private MenuRepository menuRepository;
+    private SalesRollupService salesRollupService;
+
+    @BeforeEach
+    void setUp() {
+        dailySalesRepository = new InMemoryDailySalesRepository();
+        orderRepository = new InMemoryOrderRepository();
+        archivedOrderRepository = new InMemoryArchivedOrderRepository();
+        menuRepository = new InMemoryMenuRepository();
+        salesRollupService = new SalesRollupService(
+            dailySalesRepository, orderRepository, archivedOrderRepository, menuRepository
+        );
+    }
+
+    @DisplayName("완료된 주문을 메뉴, 메뉴 그룹, 주문 유형별 일별 매출에 집계한다.")
+    @Test
+    void record() {
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct()));
+        salesRollupService.record(completedOrder(menu, 2L));
+        salesRollupService.record(completedOrder(menu, 1L));
+        final List<DailySales> menus = salesRollupService.findAll(SalesDimension.MENU, SALES_DATE, SALES_DATE);
+        assertAll(
+            () -> assertThat(menus).hasSize(1),
+            () -> assertThat(menus.get(0).getRevenue()).isEqualTo(Money.of(57_000L)),
+            () -> assertThat(menus.get(0).getQuantity()).isEqualTo(3L),
+            () -> assertThat(menus.get(0).getOrderCount()).isEqualTo(2L),
+            () -> assertThat(salesRollupService.findAll(SalesDimension.MENU_GROUP, SALES_DATE, SALES_DATE)).hasSize(1),
+            () -> assertThat(salesRollupService.findAll(SalesDimension.ORDER_TYPE, SALES_DATE, SALES_DATE)).hasSize(1)
+        );
+    }
+
+    @DisplayName("완료되지 않은 주문은 집계할 수 없다.")
+    @Test
+    void recordNotCompletedOrder() {
+        final Order order = order(OrderStatus.SERVED);
+        assertThatThrownBy(() -> salesRollupService.record(order))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @DisplayName("메뉴를 찾을 수 없는 주문은 집계할 수 없다.")
+    @Test
+    void recordUnknownMenu() {
+        final Order order = completedOrder(menu(19_000L, true, menuProduct()), 1L);
+        order.getOrderLineItems().get(0).setMenu(null);
+        assertThatThrownBy(() -> salesRollupService.record(order))
+            .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @DisplayName("주문과 보관된 주문으로 일별 매출을 다시 만든다.")
+    @Test
+    void rebuild() {
+        final Menu menu = menuRepository.save(menu(19_000L, true, menuProduct()));
+        orderRepository.save(completedOrder(menu, 2L));
+        archivedOrderRepository.saveAll(Arrays.asList(archivedOrder(menu, 1L)));
+        salesRollupService.record(completedOrder(menu, 10L));
+        salesRollupService.rebuild(SALES_DATE);
+        final List<DailySales> orderTypes = salesRollupService.findAll(SalesDimension.ORDER_TYPE, SALES_DATE, SALES_DATE);
+        assertAll(
+            () -> assertThat(orderTypes).hasSize(1),
+            () -> assertThat(orderTypes.get(0).getRevenue()).isEqualTo(Money.of(57_000L)),
+            () -> assertThat(orderTypes.get(0).getOrderCount()).isEqualTo(2L)
+        );
+    }
+
+    @DisplayName("조회 기간이 올바르지 않으면 조회할 수 없다.")
+    @Test
+    void findAllInvalidPeriod() {
+        assertThatThrownBy(() -> salesRollupService.findAll(SalesDimension.MENU, SALES_DATE, SALES_DATE.minusDays(1L)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Order completedOrder(final Menu menu, final long quantity) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenu(menu);
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setMenuName(menu.getName());
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(quantity);
+        final Order order = order(OrderStatus.COMPLETED);
+        order.setStatusChangedDateTime(SALES_DATE.atTime(13, 0));
+        order.setOrderLineItems(Arrays.asList(orderLineItem));
+        return order;
+    }
+
+    private ArchivedOrder archivedOrder(final Menu menu, final long quantity) {
+        final ArchivedOrderLineItem orderLineItem = new ArchivedOrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(quantity);
+        final ArchivedOrder archivedOrder = new ArchivedOrder();
+        archivedOrder.setId(UUID.randomUUID());
+        archivedOrder.setType(OrderType.TAKEOUT);
+        archivedOrder.setOrderDateTime(SALES_DATE.atTime(12, 0));
+        archivedOrder.setCompletedDateTime(SALES_DATE.atTime(12, 30));
+        archivedOrder.setArchivedDateTime(LocalDateTime.now());
+        archivedOrder.setOrderLineItems(Arrays.asList(orderLineItem));
+        return archivedOrder;
+    }
+}